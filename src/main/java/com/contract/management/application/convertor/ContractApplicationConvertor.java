@@ -74,8 +74,14 @@ public interface ContractApplicationConvertor {
                 dto.getCreatedTime(),
                 dto.getUpdatedTime(),
                 dto.getUpdatedBy(),
-                dto.getObjectVersionNumber() != null ? dto.getObjectVersionNumber() : 1L
+                // 未携带版本号时保持为空，由仓储回查当前版本
+                dto.getObjectVersionNumber()
             );
+        } else if (dto.getId() != null) {
+            // 已有合同但未携带创建时间，版本号同样交由仓储回查
+            AuditInfo created = AuditInfo.create(dto.getCreatedBy() != null ? dto.getCreatedBy() : 1L);
+            auditInfo = new AuditInfo(created.getCreatedBy(), created.getCreatedTime(), created.getUpdatedTime(),
+                created.getUpdatedBy(), dto.getObjectVersionNumber());
         } else {
             auditInfo = AuditInfo.create(dto.getCreatedBy() != null ? dto.getCreatedBy() : 1L);
         }
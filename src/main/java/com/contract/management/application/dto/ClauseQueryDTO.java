@@ -100,4 +100,14 @@ public class ClauseQueryDTO {
      * 排序方向（ASC/DESC）
      */
     private String direction = "DESC";
+
+    /**
+     * 游标分页续页令牌，为空时查询第一页
+     */
+    private String cursor;
+
+    /**
+     * 游标分页总数统计方式（EXACT/ESTIMATED/NONE）
+     */
+    private String countMode;
 }
\ No newline at end of file
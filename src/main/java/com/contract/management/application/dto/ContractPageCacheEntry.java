@@ -0,0 +1,45 @@
+package com.contract.management.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 合同分页查询缓存条目
+ * 分页结果类型没有无参构造，缓存时保存为该结构，命中后再还原为分页结果
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractPageCacheEntry {
+
+    /**
+     * 当前页记录
+     */
+    private ArrayList<ContractDTO> content;
+
+    /**
+     * 总记录数，游标分页未统计时为null
+     */
+    private Long total;
+
+    /**
+     * 总记录数是否为精确值
+     */
+    private boolean totalExact;
+
+    /**
+     * 游标分页的下一页令牌
+     */
+    private String nextToken;
+
+    public static ContractPageCacheEntry of(List<ContractDTO> content, Long total, boolean totalExact, String nextToken) {
+        return new ContractPageCacheEntry(new ArrayList<>(content), total, totalExact, nextToken);
+    }
+}
@@ -7,6 +7,9 @@ import com.contract.management.domain.model.Clause;
 import com.contract.management.domain.model.ClauseId;
 import com.contract.management.domain.model.ClauseType;
 import com.contract.management.domain.repository.ClauseFilters;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.domain.service.ClauseDomainService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -135,6 +138,25 @@ public class ClauseApplicationService {
         );
     }
 
+    /**
+     * 游标分页查询条款，按创建时间倒序
+     * 使用查询条件中的cursor、size和countMode，忽略page/sort/direction
+     *
+     * @param queryDTO 查询条件
+     * @return 游标分页结果
+     */
+    public KeysetPage<ClauseDTO> findByCursor(ClauseQueryDTO queryDTO) {
+        ClauseFilters filters = clauseApplicationConvertor.toFilters(queryDTO);
+
+        KeysetPage<Clause> clausePage = clauseDomainService.findByFilters(
+                filters,
+                KeysetCursor.decode(queryDTO.getCursor()),
+                queryDTO.getSize(),
+                CountMode.of(queryDTO.getCountMode()));
+
+        return clausePage.map(clauseApplicationConvertor::toDTO);
+    }
+
     /**
      * 更新条款分析结果
      *
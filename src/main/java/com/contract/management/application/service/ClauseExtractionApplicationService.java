@@ -1,10 +1,12 @@
 package com.contract.management.application.service;
 
+import com.contract.management.domain.event.ClauseExtractionProgressEvent;
 import com.contract.management.domain.model.ClauseExtraction;
 import com.contract.management.domain.model.valueobject.ExtractionId;
 import com.contract.management.domain.model.valueobject.ExtractionStatus;
 import com.contract.management.domain.service.ClauseExtractionDomainService;
-import com.contract.management.infrastructure.service.ClauseExtractionService;
+import com.contract.management.infrastructure.job.ClauseExtractionJobWorker;
+import com.contract.management.infrastructure.messaging.ClauseExtractionProgressPublisher;
 import com.contract.management.interfaces.dto.ClauseExtractionStatusDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,8 +26,9 @@ import java.util.Optional;
 public class ClauseExtractionApplicationService {
 
     private final ClauseExtractionDomainService clauseExtractionDomainService;
-    private final ClauseExtractionService clauseExtractionService;
+    private final ClauseExtractionJobWorker clauseExtractionJobWorker;
     private final ClauseExtractionDtoConvertor dtoConvertor;
+    private final ClauseExtractionProgressPublisher progressPublisher;
 
     /**
      * 根据抽取ID查询条款抽取状态
@@ -82,6 +85,29 @@ public class ClauseExtractionApplicationService {
         }
     }
 
+    /**
+     * 查询抽取任务当前状态，作为进度订阅的首个事件
+     */
+    public Optional<ClauseExtractionProgressEvent> getProgressSnapshot(Long extractionId) {
+        return Optional.ofNullable(clauseExtractionDomainService.getExtractionStatus(ExtractionId.of(extractionId)))
+            .map(this::toProgressEvent);
+    }
+
+    /**
+     * 查询合同当前抽取任务的状态，作为进度订阅的首个事件
+     */
+    public Optional<ClauseExtractionProgressEvent> getProgressSnapshotByContractId(Long contractId) {
+        return Optional.ofNullable(clauseExtractionDomainService.getExtractionStatusByContractId(contractId))
+            .map(this::toProgressEvent);
+    }
+
+    private ClauseExtractionProgressEvent toProgressEvent(ClauseExtraction extraction) {
+        ClauseExtractionProgressEvent event = ClauseExtractionProgressEvent.of(
+            extraction.getId().getValue(), extraction.getContractId(), extraction.getStatus());
+        event.setErrorMessage(extraction.getErrorMessage());
+        return event;
+    }
+
     /**
      * 检查合同是否有活跃的抽取任务
      */
@@ -131,6 +157,8 @@ public class ClauseExtractionApplicationService {
 
             clauseExtractionDomainService.cancelExtraction(ExtractionId.of(extractionId));
             log.info("条款抽取任务已取消: extractionId={}", extractionId);
+            progressPublisher.publish(ClauseExtractionProgressEvent.of(
+                extractionId, extraction.getContractId(), ExtractionStatus.CANCELLED));
             return true;
 
         } catch (Exception e) {
@@ -155,11 +183,12 @@ public class ClauseExtractionApplicationService {
                 log.info("发现可重试的抽取任务，重新触发: contractId={}, extractionId={}, status={}",
                         contractId, existingExtraction.getId(), existingExtraction.getStatus());
 
-                // 重置任务状态为PENDING
-                clauseExtractionDomainService.resetExtractionForRetry(existingExtraction.getId());
+                // 重置任务状态为PENDING，等待工作节点领取
+                clauseExtractionDomainService.resetExtractionForRetry(existingExtraction.getId(), fileUuid);
+                publishPending(existingExtraction);
 
-                // 触发异步抽取
-                clauseExtractionService.extractClausesAsync(existingExtraction.getId(), contractId, fileUuid);
+                // 通知工作节点领取任务
+                clauseExtractionJobWorker.wakeUp();
                 log.info("条款抽取任务重试已触发: extractionId={}", existingExtraction.getId());
                 return;
             } else if (existingExtraction.isInProgress()) {
@@ -175,8 +204,8 @@ public class ClauseExtractionApplicationService {
         // 3. 获取刚创建的抽取任务ID
         ClauseExtraction newExtraction = clauseExtractionDomainService.getExtractionStatusByContractId(contractId);
         if (newExtraction != null && newExtraction.getId() != null) {
-            // 4. 触发异步抽取（基础设施服务）
-            clauseExtractionService.extractClausesAsync(newExtraction.getId(), contractId, fileUuid);
+            // 4. 通知工作节点领取任务（基础设施服务）
+            clauseExtractionJobWorker.wakeUp();
             log.info("条款抽取异步任务已触发: extractionId={}", newExtraction.getId());
         }
     }
@@ -198,8 +227,9 @@ public class ClauseExtractionApplicationService {
             // 如果任务已完成或失败但可以重试，重新触发
             if (existingExtraction.canRetry()) {
                 log.info("重新触发可重试的抽取任务: extractionId={}", existingExtraction.getId());
-                clauseExtractionDomainService.resetExtractionForRetry(existingExtraction.getId());
-                clauseExtractionService.extractClausesAsync(existingExtraction.getId(), contractId, fileUuid);
+                clauseExtractionDomainService.resetExtractionForRetry(existingExtraction.getId(), fileUuid);
+                publishPending(existingExtraction);
+                clauseExtractionJobWorker.wakeUp();
             } else if (existingExtraction.isInProgress()) {
                 log.info("抽取任务正在进行中，直接返回: extractionId={}", existingExtraction.getId());
                 // 任务正在进行中，直接返回
@@ -218,7 +248,7 @@ public class ClauseExtractionApplicationService {
         // 3. 获取刚创建的抽取任务
         ClauseExtraction newExtraction = clauseExtractionDomainService.getExtractionStatusByContractId(contractId);
         if (newExtraction != null) {
-            clauseExtractionService.extractClausesAsync(newExtraction.getId(), contractId, fileUuid);
+            clauseExtractionJobWorker.wakeUp();
             return dtoConvertor.toStatusDTO(newExtraction);
         }
 
@@ -262,13 +292,21 @@ public class ClauseExtractionApplicationService {
         // 3. 获取刚创建的抽取任务
         ClauseExtraction newExtraction = clauseExtractionDomainService.getExtractionStatusByContractId(contractId);
         if (newExtraction != null) {
-            clauseExtractionService.extractClausesAsync(newExtraction.getId(), contractId, fileUuid);
+            clauseExtractionJobWorker.wakeUp();
             return newExtraction;
         }
 
         throw new RuntimeException("创建条款抽取任务失败");
     }
 
+    /**
+     * 任务重置为待处理时通知订阅者，已连接的客户端不必重新订阅即可看到重试进度
+     */
+    private void publishPending(ClauseExtraction extraction) {
+        progressPublisher.publish(ClauseExtractionProgressEvent.of(
+            extraction.getId().getValue(), extraction.getContractId(), ExtractionStatus.PENDING));
+    }
+
     /**
      * 根据合同ID删除条款抽取和对应的条款（软删除）
      */
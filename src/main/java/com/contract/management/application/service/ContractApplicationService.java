@@ -2,19 +2,29 @@ package com.contract.management.application.service;
 
 import com.contract.management.application.convertor.ContractApplicationConvertor;
 import com.contract.management.application.dto.ContractDTO;
+import com.contract.management.application.dto.ContractPageCacheEntry;
 import com.contract.management.application.dto.ContractQueryDTO;
 import com.contract.management.domain.model.Contract;
 import com.contract.management.domain.model.ContractId;
 import com.contract.management.domain.repository.ContractFilters;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.domain.service.ContractDomainService;
 import com.contract.management.domain.service.CosService;
+import com.contract.management.infrastructure.cache.CacheNames;
+import com.contract.management.infrastructure.util.ContentHasher;
 import com.contract.management.infrastructure.util.FileDownloadUtil;
 import com.contractreview.fileapi.client.FileClient;
 import com.contractreview.fileapi.dto.response.FileInfoResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -26,10 +36,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 /**
  * 合同应用服务
  * 负责合同的业务流程编排和DTO转换
+ * 详情、分页列表和统计读取走两级缓存，合同变更事件发布时失效
  *
  * @author SaltyFish
  * @since 1.0.0
@@ -43,6 +55,7 @@ public class ContractApplicationService {
     private final ContractApplicationConvertor contractApplicationConvertor;
     private final FileDownloadUtil fileDownloadUtil;
     private final CosService cosService;
+    private final CacheManager cacheManager;
     @Value("${file.download.type}")
     private String uploadType;
 
@@ -137,6 +150,7 @@ public class ContractApplicationService {
      * @return 合同DTO，如果不存在则返回null
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CONTRACT_DETAIL, key = "#contractId", sync = true)
     public ContractDTO getContractById(Long contractId) {
         log.debug("获取合同详情: {}", contractId);
         
@@ -165,14 +179,45 @@ public class ContractApplicationService {
             Sort.by(Sort.Direction.DESC, "createdTime")
         );
         
-        // 转换查询条件
-        ContractFilters filters = convertToFilters(queryDTO);
-        
-        // 调用仓储层查询
-        Page<Contract> contractPage = contractDomainService.findByFilters(filters, pageable);
+        String cacheKey = "page:" + ContentHasher.sha256(queryDTO + "|" + pageNum + "|" + pageSize);
+        ContractPageCacheEntry entry = getCached(CacheNames.CONTRACT_LIST, cacheKey, () -> {
+            // 转换查询条件
+            ContractFilters filters = convertToFilters(queryDTO);
+
+            // 调用仓储层查询
+            Page<Contract> contractPage = contractDomainService.findByFilters(filters, pageable);
+
+            // 转换为DTO
+            Page<ContractDTO> dtoPage = contractPage.map(contractApplicationConvertor::toDTO);
+            return ContractPageCacheEntry.of(dtoPage.getContent(), dtoPage.getTotalElements(), true, null);
+        });
+        return new PageImpl<>(entry.getContent(), pageable, entry.getTotal());
+    }
+    
+    /**
+     * 游标分页查询合同，按创建时间倒序
+     *
+     * @param queryDTO 查询条件
+     * @param cursor 续页令牌，为空时查询第一页
+     * @param pageSize 每页大小
+     * @param countMode 总数统计方式（EXACT/ESTIMATED/NONE），为空时精确统计
+     * @return 游标分页结果
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<ContractDTO> findContracts(ContractQueryDTO queryDTO, String cursor, int pageSize, String countMode) {
+        log.debug("游标分页查询合同，条件: {}, 游标: {}, 每页: {}", queryDTO, cursor, pageSize);
         
-        // 转换为DTO
-        return contractPage.map(contractApplicationConvertor::toDTO);
+        String cacheKey = "keyset:" + ContentHasher.sha256(queryDTO + "|" + cursor + "|" + pageSize + "|" + countMode);
+        ContractPageCacheEntry entry = getCached(CacheNames.CONTRACT_LIST, cacheKey, () -> {
+            ContractFilters filters = convertToFilters(queryDTO);
+            KeysetPage<Contract> contractPage = contractDomainService.findByFilters(
+                filters, KeysetCursor.decode(cursor), pageSize, CountMode.of(countMode));
+            KeysetPage<ContractDTO> dtoPage = contractPage.map(contractApplicationConvertor::toDTO);
+            return ContractPageCacheEntry.of(dtoPage.getContent(), dtoPage.getTotal(),
+                dtoPage.isTotalExact(), dtoPage.getNextToken());
+        });
+        return new KeysetPage<>(entry.getContent(), KeysetCursor.decode(entry.getNextToken()),
+            entry.getTotal(), entry.isTotalExact());
     }
     
     /**
@@ -218,14 +263,19 @@ public class ContractApplicationService {
     public long countContracts(ContractQueryDTO queryDTO) {
         log.debug("统计合同数量，条件: {}", queryDTO);
         
-        // 转换查询条件
-        ContractFilters filters = convertToFilters(queryDTO);
-        
-        // 创建一个大页面来获取总数（这里可以优化为专门的count查询）
-        Pageable pageable = PageRequest.of(0, 1);
-        Page<Contract> page = contractDomainService.findByFilters(filters, pageable);
-        
-        return page.getTotalElements();
+        String cacheKey = "count:" + ContentHasher.sha256(String.valueOf(queryDTO));
+        // JSON反序列化后数值可能是Integer，统一按Number读取
+        Number count = getCached(CacheNames.CONTRACT_STATS, cacheKey, () -> {
+            // 转换查询条件
+            ContractFilters filters = convertToFilters(queryDTO);
+
+            // 创建一个大页面来获取总数（这里可以优化为专门的count查询）
+            Pageable pageable = PageRequest.of(0, 1);
+            Page<Contract> page = contractDomainService.findByFilters(filters, pageable);
+
+            return page.getTotalElements();
+        });
+        return count.longValue();
     }
     
     /**
@@ -261,6 +311,33 @@ public class ContractApplicationService {
         return contractApplicationConvertor.toDTOList(contracts);
     }
     
+    /**
+     * 读取缓存，未命中时执行查询并写入缓存
+     *
+     * @param cacheName 缓存名称
+     * @param key 缓存键
+     * @param loader 实际查询逻辑
+     * @return 查询结果
+     */
+    private <T> T getCached(String cacheName, String key, Callable<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            try {
+                return loader.call();
+            } catch (Exception e) {
+                throw new IllegalStateException("查询合同失败", e);
+            }
+        }
+        try {
+            return cache.get(key, loader);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+    
     /**
      * 将查询DTO转换为领域过滤器
      *
@@ -7,24 +7,20 @@ import com.contract.management.domain.model.ClassificationResult;
 import com.contract.management.domain.model.Contract;
 import com.contract.management.domain.model.ContractId;
 import com.contract.management.domain.model.valueobject.ClassificationMetadata;
-import com.contract.management.domain.repository.ClassificationRepository;
 import com.contract.management.domain.service.ContractClassificationService;
-import com.contract.management.domain.service.ContractDomainService;
 import com.contract.management.infrastructure.dto.ContractClassificationResult;
 import com.contract.management.infrastructure.service.AIModelService;
-import com.contract.management.infrastructure.service.FileProcessingService;
+import com.contract.management.infrastructure.service.KeywordContractClassifier;
+import com.contract.management.infrastructure.service.TieredContractClassifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -41,20 +37,21 @@ public class ContractClassificationApplicationService {
 
     private final ContractClassificationService contractClassificationService;
     private final AIModelService aiModelService;
-    private final FileProcessingService fileProcessingService;
-    private final ContractDomainService contractDomainService;
-    private final ClassificationRepository classificationRepository;
+    private final ContractClassificationPersistenceService classificationPersistenceService;
     private final CacheManager cacheManager;
+    private final TieredContractClassifier tieredContractClassifier;
 
     /**
      * 通过合同ID获取合同分类信息
+     * 分为三个阶段执行：短读事务加载合同、无事务的文件处理与AI调用、短写事务持久化分类结果，
+     * 避免在数秒级的大模型调用期间占用数据库连接
+     *
      * @param contractId 合同ID
      * @return 合同分类DTO
      * @throws IllegalArgumentException 当contractId无效时
      * @throws com.contract.management.domain.exception.ContractNotFoundException 当合同不存在时
      * @throws com.contract.management.domain.exception.FileProcessingException 当文件处理失败时
      */
-    @Transactional
     @Cacheable(value = "classification", key = "'contract-classification:' + #contractId", unless = "#result == null || !#result.success")
     public ContractClassificationDTO classifyContract(Long contractId) {
         // 参数验证
@@ -62,23 +59,19 @@ public class ContractClassificationApplicationService {
             throw new IllegalArgumentException("合同ID不能为空");
         }
 
-        Optional<Contract> optionalContract = contractDomainService.findById(ContractId.of(contractId));
-        if (optionalContract.isEmpty()) {
-            throw new IllegalArgumentException("合同不存在");
-        }
-        Contract contract = optionalContract.get();
+        // 阶段一：短读事务
+        ContractClassificationPersistenceService.ClassificationSnapshot snapshot =
+            classificationPersistenceService.loadSnapshot(contractId);
+        Contract contract = snapshot.getContract();
 
         // 查询分类记录表是否存在对应数据，如果存在就直接返回，不存在就进行分类
-        Optional<ClassificationResult> existingResult = classificationRepository.findActiveByContractId(ContractId.of(contractId));
-        if (existingResult.isPresent()) {
+        if (snapshot.hasActiveResult()) {
             log.info("合同 {} 已存在分类结果，直接返回", contractId);
-            ClassificationResult result = existingResult.get();
+            ClassificationResult result = snapshot.getActiveResult();
 
             // 如果合同表中的类型与分类结果不一致，更新合同表
             if (!result.getContractType().equals(contract.getContractType())) {
-                contract.setContractType(result.getContractType());
-                contractDomainService.updateContract(contract);
-                log.debug("同步更新合同 {} 的类型为: {}", contractId, result.getContractType());
+                classificationPersistenceService.syncContractType(contract.getId(), result.getContractType());
             }
 
             return ContractClassificationDTO.builder()
@@ -96,6 +89,7 @@ public class ContractClassificationApplicationService {
         try {
             log.debug("开始应用层合同分类流程: {}", contractId);
 
+            // 阶段二：无事务，文件处理与AI调用
             // 1. 调用领域服务进行初步分类
             ContractClassificationService.ContractClassificationResult domainResult =
                 contractClassificationService.classifyContract(new ContractId(contractId));
@@ -108,17 +102,17 @@ public class ContractClassificationApplicationService {
             if ("document".equalsIgnoreCase(domainResult.getFileType()) ||
                 "txt".equalsIgnoreCase(domainResult.getFileType())) {
 
-                // 文档类：提取前2000字，调用大模型对话接口
-                aiResult = aiModelService.classifyByText(domainResult.getExtractedText());
-                classificationMethod = "TEXT_ANALYSIS";
+                // 文档类：先用关键词分类，置信度不足时提取前2000字调用大模型对话接口
+                aiResult = tieredContractClassifier.classifyText(domainResult.getExtractedText());
+                classificationMethod = aiResult.getClassificationMethod();
                 processingStatus = ContractClassificationDTO.FileProcessingStatus.COMPLETED;
 
             } else if ("pdf".equalsIgnoreCase(domainResult.getFileType())) {
 
-                // PDF类：提取前两张图片，再调用大模型文件上传接口
-                List<byte[]> pdfImages = fileProcessingService.extractImagesFromPDF(domainResult.getFileContent());
-                aiResult = aiModelService.classifyByPDFImages(pdfImages);
-                classificationMethod = "PDF_IMAGE_ANALYSIS";
+                // PDF类：文字层可用时依次尝试关键词与文本大模型，置信度不足或无文字层时提取前两页图片调用视觉模型
+                aiResult = tieredContractClassifier.classifyPdf(domainResult.getFileUuid(),
+                    domainResult.getExtractedText(), domainResult.getFileContent());
+                classificationMethod = aiResult.getClassificationMethod();
                 processingStatus = ContractClassificationDTO.FileProcessingStatus.COMPLETED;
 
             } else if ("image".equalsIgnoreCase(domainResult.getFileType())) {
@@ -161,59 +155,48 @@ public class ContractClassificationApplicationService {
                 .fileProcessingStatus(finalStatus)
                 .build();
 
-            contract.setContractType(aiResult.getContractType());
-            contractDomainService.updateContract(contract);
-
-            // 保存分类结果到分类结果表
-            try {
-                // 先停用旧的分类记录（如果有）
-                classificationRepository.deactivateByContractId(ContractId.of(contractId), 1L); // TODO: 获取当前操作用户ID
-
-                // 创建新的分类结果
-                ClassificationMetadata metadata = ClassificationMetadata.builder()
-                    .reason("AI自动分类")
-                    .domainFileUuid(domainResult.getFileUuid())
-                    .domainFileType(domainResult.getFileType())
-                    .classificationTimestamp(System.currentTimeMillis())
-                    .build();
+            // 阶段三：短写事务，合同类型与分类结果在同一事务中写入，失败时整体回滚并返回失败结果
+            // 创建新的分类结果
+            boolean ruleBased = KeywordContractClassifier.METHOD.equals(classificationMethod);
+            ClassificationMetadata metadata = ClassificationMetadata.builder()
+                .reason(ruleBased ? "关键词规则分类" : "AI自动分类")
+                .domainFileUuid(domainResult.getFileUuid())
+                .domainFileType(domainResult.getFileType())
+                .classificationTimestamp(System.currentTimeMillis())
+                .build();
 
-                // 如果有AI原始响应，解析并设置
-                if (aiResult.getAiRawResponse() != null && !aiResult.getAiRawResponse().isEmpty()) {
-                    try {
-                        // aiRawResponse已经是JSON字符串，需要解析为对象
-                        ObjectMapper mapper = new ObjectMapper();
-                        ClassificationMetadata.AIRawResponse aiResponse = mapper.readValue(
-                            aiResult.getAiRawResponse(),
-                            ClassificationMetadata.AIRawResponse.class
-                        );
-                        metadata.setAiRawResponse(aiResponse);
-                    } catch (Exception e) {
-                        log.warn("解析AI原始响应失败: {}", aiResult.getAiRawResponse(), e);
-                    }
+            // 如果有AI原始响应，解析并设置
+            if (aiResult.getAiRawResponse() != null && !aiResult.getAiRawResponse().isEmpty()) {
+                try {
+                    // aiRawResponse已经是JSON字符串，需要解析为对象
+                    ObjectMapper mapper = new ObjectMapper();
+                    ClassificationMetadata.AIRawResponse aiResponse = mapper.readValue(
+                        aiResult.getAiRawResponse(),
+                        ClassificationMetadata.AIRawResponse.class
+                    );
+                    metadata.setAiRawResponse(aiResponse);
+                } catch (Exception e) {
+                    log.warn("解析AI原始响应失败: {}", aiResult.getAiRawResponse(), e);
                 }
-
-                ClassificationResult classificationResult = new ClassificationResult(
-                    ContractId.of(contractId),
-                    aiResult.getContractType(),
-                    ClassificationMethod.AI,
-                    aiResult.getConfidence() != null ? java.math.BigDecimal.valueOf(aiResult.getConfidence()) : null,
-                    "暂未实现", // TODO: 从AI服务获取模型版本
-                    null, // AI分类没有人工操作者
-                    "AI自动分类",
-                    metadata,
-                    1L // TODO: 获取当前操作用户ID
-                );
-
-                // 清除缓存，因为分类结果已更新
-                clearClassificationCache(contractId);
-
-                classificationRepository.save(classificationResult);
-                log.debug("已保存合同 {} 的分类结果到数据库", contractId);
-            } catch (Exception e) {
-                log.error("保存分类结果失败: {}", contractId, e);
-                // 不影响主流程，继续返回结果
             }
 
+            ClassificationResult classificationResult = new ClassificationResult(
+                ContractId.of(contractId),
+                aiResult.getContractType(),
+                ruleBased ? ClassificationMethod.RULE_BASED : ClassificationMethod.AI,
+                aiResult.getConfidence() != null ? java.math.BigDecimal.valueOf(aiResult.getConfidence()) : null,
+                "暂未实现", // TODO: 从AI服务获取模型版本
+                null, // AI分类没有人工操作者
+                ruleBased ? "关键词规则分类" : "AI自动分类",
+                metadata,
+                1L // TODO: 获取当前操作用户ID
+            );
+
+            classificationPersistenceService.saveClassification(classificationResult, 1L); // TODO: 获取当前操作用户ID
+
+            // 清除缓存，因为分类结果已更新
+            clearClassificationCache(contractId);
+
             log.debug("合同分类完成: {} -> {} (置信度: {})",
                      contractId, aiResult.getContractType(), aiResult.getConfidence());
 
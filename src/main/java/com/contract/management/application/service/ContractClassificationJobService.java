@@ -0,0 +1,169 @@
+package com.contract.management.application.service;
+
+import com.contract.management.application.dto.ContractClassificationDTO;
+import com.contract.management.domain.event.ContractClassificationCompletedEvent;
+import com.contract.management.domain.model.ContractId;
+import com.contract.management.domain.model.valueobject.ExtractionStatus;
+import com.contract.management.infrastructure.messaging.ContractEventPublisher;
+import com.contract.management.interfaces.dto.ClassificationJobStatusDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 合同分类任务应用服务
+ * 提供提交/轮询模式的异步合同分类，任务状态保存在Redis中，多节点均可查询
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class ContractClassificationJobService {
+
+    private static final String JOB_KEY_PREFIX = "contract-classification:job:";
+
+    private final ContractClassificationApplicationService classificationApplicationService;
+    private final ContractEventPublisher eventPublisher;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor classificationExecutor;
+
+    @Value("${contract.classification.job-ttl:3600}")
+    private long jobTtlSeconds;
+
+    public ContractClassificationJobService(ContractClassificationApplicationService classificationApplicationService,
+                                            ContractEventPublisher eventPublisher,
+                                            StringRedisTemplate stringRedisTemplate,
+                                            ObjectMapper objectMapper,
+                                            @Qualifier("classificationExecutor") Executor classificationExecutor) {
+        this.classificationApplicationService = classificationApplicationService;
+        this.eventPublisher = eventPublisher;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.classificationExecutor = classificationExecutor;
+    }
+
+    /**
+     * 提交合同分类任务，立即返回任务ID
+     *
+     * @param contractId 合同ID
+     * @return 任务状态
+     * @throws RejectedExecutionException 分类线程池已满时
+     */
+    public ClassificationJobStatusDTO submit(Long contractId) {
+        if (contractId == null) {
+            throw new IllegalArgumentException("合同ID不能为空");
+        }
+
+        String jobId = UUID.randomUUID().toString().replace("-", "");
+        ClassificationJobStatusDTO job = ClassificationJobStatusDTO.builder()
+            .jobId(jobId)
+            .contractId(contractId)
+            .status(ExtractionStatus.PENDING.name())
+            .statusDescription(ExtractionStatus.PENDING.getDescription())
+            .submittedTime(LocalDateTime.now())
+            .build();
+        saveJob(job);
+
+        // 执行线程修改的是独立副本，返回给调用方的状态在序列化时不会被并发修改
+        ClassificationJobStatusDTO running = job.toBuilder().build();
+        try {
+            classificationExecutor.execute(() -> runJob(running));
+        } catch (RejectedExecutionException e) {
+            log.warn("合同分类任务队列已满，拒绝提交: contractId={}", contractId);
+            stringRedisTemplate.delete(JOB_KEY_PREFIX + jobId);
+            throw e;
+        }
+
+        log.info("合同分类任务已提交: jobId={}, contractId={}", jobId, contractId);
+        return job;
+    }
+
+    /**
+     * 查询合同分类任务状态
+     *
+     * @param jobId 任务ID
+     * @return 任务状态，任务不存在或已过期时为空
+     */
+    public Optional<ClassificationJobStatusDTO> getJobStatus(String jobId) {
+        String json = stringRedisTemplate.opsForValue().get(JOB_KEY_PREFIX + jobId);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, ClassificationJobStatusDTO.class));
+        } catch (Exception e) {
+            log.error("解析合同分类任务状态失败: jobId={}", jobId, e);
+            throw new RuntimeException("查询合同分类任务状态失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 在分类线程池中执行任务
+     */
+    private void runJob(ClassificationJobStatusDTO job) {
+        job.setStatus(ExtractionStatus.PROCESSING.name());
+        job.setStatusDescription(ExtractionStatus.PROCESSING.getDescription());
+        saveJob(job);
+
+        try {
+            ContractClassificationDTO result = classificationApplicationService.classifyContract(job.getContractId());
+            ExtractionStatus finalStatus = Boolean.TRUE.equals(result.getSuccess()) ?
+                ExtractionStatus.COMPLETED : ExtractionStatus.FAILED;
+            job.setStatus(finalStatus.name());
+            job.setStatusDescription(finalStatus.getDescription());
+            job.setErrorMessage(result.getErrorMessage());
+            job.setResult(result);
+        } catch (Exception e) {
+            log.error("合同分类任务执行失败: jobId={}, contractId={}", job.getJobId(), job.getContractId(), e);
+            job.setStatus(ExtractionStatus.FAILED.name());
+            job.setStatusDescription(ExtractionStatus.FAILED.getDescription());
+            job.setErrorMessage(e.getMessage());
+        }
+
+        job.setFinishedTime(LocalDateTime.now());
+        saveJob(job);
+        publishCompleted(job);
+    }
+
+    private void publishCompleted(ClassificationJobStatusDTO job) {
+        ContractClassificationDTO result = job.getResult();
+        try {
+            eventPublisher.publishClassificationCompleted(new ContractClassificationCompletedEvent(
+                job.getJobId(),
+                ContractId.of(job.getContractId()),
+                result != null && result.getContractType() != null ? result.getContractType().name() : null,
+                result != null ? result.getConfidence() : null,
+                ExtractionStatus.COMPLETED.name().equals(job.getStatus()),
+                job.getErrorMessage()
+            ));
+        } catch (Exception e) {
+            // 事件发布失败不影响任务结果，客户端仍可通过轮询获取
+            log.warn("合同分类完成事件发布失败: jobId={}", job.getJobId(), e);
+        }
+    }
+
+    private void saveJob(ClassificationJobStatusDTO job) {
+        try {
+            stringRedisTemplate.opsForValue().set(
+                JOB_KEY_PREFIX + job.getJobId(),
+                objectMapper.writeValueAsString(job),
+                Duration.ofSeconds(jobTtlSeconds)
+            );
+        } catch (Exception e) {
+            log.error("保存合同分类任务状态失败: jobId={}", job.getJobId(), e);
+            throw new RuntimeException("保存合同分类任务状态失败: " + e.getMessage(), e);
+        }
+    }
+}
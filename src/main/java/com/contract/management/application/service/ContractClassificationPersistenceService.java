@@ -0,0 +1,105 @@
+package com.contract.management.application.service;
+
+import com.contract.common.constant.ContractType;
+import com.contract.management.domain.model.ClassificationResult;
+import com.contract.management.domain.model.Contract;
+import com.contract.management.domain.model.ContractId;
+import com.contract.management.domain.repository.ClassificationRepository;
+import com.contract.management.domain.service.ContractDomainService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 合同分类持久化服务
+ * 承载合同分类流程中的短事务（读取阶段、写入阶段），
+ * 使AI调用阶段不占用数据库连接
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContractClassificationPersistenceService {
+
+    private final ContractDomainService contractDomainService;
+    private final ClassificationRepository classificationRepository;
+
+    /**
+     * 读取阶段：加载合同及其当前有效的分类结果
+     *
+     * @param contractId 合同ID
+     * @return 分类快照
+     * @throws IllegalArgumentException 当合同不存在时
+     */
+    @Transactional(readOnly = true)
+    public ClassificationSnapshot loadSnapshot(Long contractId) {
+        Contract contract = contractDomainService.findById(ContractId.of(contractId))
+            .orElseThrow(() -> new IllegalArgumentException("合同不存在"));
+
+        Optional<ClassificationResult> activeResult =
+            classificationRepository.findActiveByContractId(ContractId.of(contractId));
+
+        return new ClassificationSnapshot(contract, activeResult.orElse(null));
+    }
+
+    /**
+     * 写入阶段：同步合同类型
+     * 在写事务内重新加载合同，读取阶段的快照可能已被并发修改，直接写回会触发乐观锁冲突
+     *
+     * @param contractId 合同ID
+     * @param contractType 合同类型
+     */
+    @Transactional
+    public void syncContractType(ContractId contractId, ContractType contractType) {
+        Contract contract = loadForUpdate(contractId);
+        contract.setContractType(contractType);
+        contractDomainService.updateContract(contract);
+        log.debug("同步更新合同 {} 的类型为: {}", contractId.getValue(), contractType);
+    }
+
+    /**
+     * 写入阶段：更新合同类型，停用旧分类记录并保存新的分类结果
+     * 在写事务内重新加载合同，AI调用期间合同被编辑时不会因版本号过期而丢失分类结果
+     *
+     * @param classificationResult 新的分类结果
+     * @param operatorId 操作人ID
+     */
+    @Transactional
+    public void saveClassification(ClassificationResult classificationResult, Long operatorId) {
+        ContractId contractId = classificationResult.getContractId();
+        Contract contract = loadForUpdate(contractId);
+        contract.setContractType(classificationResult.getContractType());
+        contractDomainService.updateContract(contract);
+
+        classificationRepository.deactivateByContractId(contractId, operatorId);
+        classificationRepository.save(classificationResult);
+        log.debug("已保存合同 {} 的分类结果到数据库", contractId.getValue());
+    }
+
+    private Contract loadForUpdate(ContractId contractId) {
+        return contractDomainService.findById(contractId)
+            .orElseThrow(() -> new IllegalArgumentException("合同不存在"));
+    }
+
+    /**
+     * 分类快照
+     * 读取阶段的结果，在事务外传递给AI阶段
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ClassificationSnapshot {
+        private final Contract contract;
+        private final ClassificationResult activeResult;
+
+        public boolean hasActiveResult() {
+            return activeResult != null;
+        }
+    }
+}
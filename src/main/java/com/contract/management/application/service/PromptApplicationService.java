@@ -4,6 +4,9 @@ import com.contract.management.application.dto.*;
 import com.contract.management.domain.model.Prompt;
 import com.contract.management.domain.model.PromptId;
 import com.contract.management.domain.model.valueobject.*;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.domain.repository.PromptFilters;
 import com.contract.management.domain.service.PromptDomainService;
 import lombok.RequiredArgsConstructor;
@@ -212,6 +215,24 @@ public class PromptApplicationService {
         return new org.springframework.data.domain.PageImpl<>(promptDTOs, pageable, promptPage.getTotalElements());
     }
 
+    /**
+     * 游标分页查询提示词模板，按创建时间倒序
+     *
+     * @param queryDTO 查询条件
+     * @param cursor 续页令牌，为空时查询第一页
+     * @param pageSize 每页大小
+     * @param countMode 总数统计方式（EXACT/ESTIMATED/NONE），为空时精确统计
+     * @return 游标分页结果
+     */
+    public KeysetPage<PromptDTO> findPrompts(PromptQueryDTO queryDTO, String cursor, int pageSize, String countMode) {
+        log.info("游标分页查询提示词模板，条件: {}, 游标: {}", queryDTO, cursor);
+
+        PromptFilters filters = buildFilters(queryDTO);
+        KeysetPage<Prompt> promptPage = promptDomainService.findByFilters(
+            filters, KeysetCursor.decode(cursor), pageSize, CountMode.of(countMode));
+        return promptPage.map(this::convertToDTO);
+    }
+
     /**
      * 查询提示词模板列表
      *
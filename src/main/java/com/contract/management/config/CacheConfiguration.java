@@ -1,23 +1,42 @@
 package com.contract.management.config;
 
+import com.contract.management.application.dto.ContractClassificationDTO;
+import com.contract.management.application.dto.ContractDTO;
+import com.contract.management.application.dto.ContractPageCacheEntry;
+import com.contract.management.infrastructure.cache.CacheDecodeErrorHandler;
+import com.contract.management.infrastructure.cache.CacheNames;
+import com.contract.management.infrastructure.cache.CompactCacheSerializer;
+import com.contract.management.infrastructure.cache.PromptTemplateCache;
+import com.contract.management.infrastructure.cache.ReviewRuleIndex;
+import com.contract.management.infrastructure.cache.TwoLevelCacheManager;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Redis缓存配置
@@ -27,38 +46,122 @@ import java.time.Duration;
  */
 @Configuration
 @EnableCaching
-public class CacheConfiguration {
+public class CacheConfiguration implements CachingConfigurer {
 
     /**
-     * 配置Redis缓存管理器，使用JSON序列化器
+     * 紧凑格式缓存键的格式标记，与JSON格式的键互不重叠，滚动发布期间旧节点不会读到无法解析的值
      */
-    @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // 创建Jackson2JsonRedisSerializer
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
-        objectMapper.registerModule(new JavaTimeModule());
+    static final String COMPACT_KEY_TAG = "c1";
 
-        @SuppressWarnings("unchecked")
-        Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(Object.class);
-        jackson2JsonRedisSerializer.setObjectMapper(objectMapper);
+    /**
+     * 缓存值无法反序列化时按未命中处理
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheDecodeErrorHandler();
+    }
+
+    /**
+     * 配置两级缓存管理器：本地Caffeine作为L1，Redis作为L2
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             @Value("${contract.cache.contract-detail-ttl:1800}") long contractDetailTtl,
+                                             @Value("${contract.cache.contract-list-ttl:600}") long contractListTtl,
+                                             @Value("${contract.cache.contract-stats-ttl:3600}") long contractStatsTtl,
+                                             @Value("${contract.cache.tags-ttl:7200}") long tagsTtl,
+                                             @Value("${contract.cache.local-max-size:10000}") long localMaxSize,
+                                             @Value("${contract.cache.local-ttl:60}") long localTtl,
+                                             @Value("${contract.cache.double-delete-delay-ms:2000}") long doubleDeleteDelayMs,
+                                             @Value("${contract.cache.serializer:compact}") String serializer,
+                                             @Value("${contract.cache.compression-threshold:1024}") int compressionThreshold) {
+        boolean json = "json".equalsIgnoreCase(serializer);
+        RedisSerializer<Object> valueSerializer = json ? jsonSerializer() : compactSerializer(compressionThreshold);
 
         // 配置缓存
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                // 设置缓存过期时间为24小时
+                // 未单独配置的缓存默认过期时间为24小时
                 .entryTtl(Duration.ofHours(24))
+                // 键前缀带格式标记：JSON沿用原前缀，紧凑格式使用独立前缀，
+                // 旧节点只读写原前缀，不会读到紧凑格式的值。滚动发布期间旧节点的写操作不会删除新前缀下的值，
+                // 这部分值最长在过期时间后失效；不能接受时先以json格式发布，全部升级后再切换
+                .computePrefixWith(cacheName -> json ? cacheName + "::" : cacheName + "::" + COMPACT_KEY_TAG + "::")
                 // 设置key的序列化方式
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 // 设置value的序列化方式
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jackson2JsonRedisSerializer))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer))
                 // 不缓存null值
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
+        // 配置不同缓存的不同过期时间
+        Map<String, Duration> cacheTtls = new HashMap<>();
+        cacheTtls.put(CacheNames.CONTRACT_DETAIL, Duration.ofSeconds(contractDetailTtl));
+        cacheTtls.put(CacheNames.CONTRACT_LIST, Duration.ofSeconds(contractListTtl));
+        cacheTtls.put(CacheNames.CONTRACT_STATS, Duration.ofSeconds(contractStatsTtl));
+        cacheTtls.put(CacheNames.TAGS, Duration.ofSeconds(tagsTtl));
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        cacheTtls.forEach((cacheName, ttl) -> cacheConfigurations.put(cacheName, config.entryTtl(ttl)));
+
+        // 清空缓存时用SCAN分批删除，避免KEYS阻塞Redis
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(1000));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(config)
-                // 配置不同缓存的不同过期时间
-                .transactionAware()
+                .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.initializeCaches();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate,
+                cacheTtls, localMaxSize, Duration.ofSeconds(localTtl), Duration.ofMillis(doubleDeleteDelayMs));
+        // 写入和删除延迟到事务提交后执行
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    /**
+     * 紧凑二进制序列化器，旧版本写入的JSON值仍可读取
+     * 类型编号写入缓存值头部，已发布的编号不可变更或复用
+     */
+    private static CompactCacheSerializer compactSerializer(int compressionThreshold) {
+        return new CompactCacheSerializer(jsonSerializer(), compressionThreshold)
+                .register(1, String.class)
+                .register(2, Long.class)
+                .register(3, Integer.class)
+                .register(4, Boolean.class)
+                .register(10, ContractDTO.class)
+                .register(11, ContractPageCacheEntry.class)
+                .register(12, ContractClassificationDTO.class);
+    }
+
+    /**
+     * 带默认类型信息的JSON序列化器，与紧凑格式之前写入的缓存值格式一致
+     */
+    public static RedisSerializer<Object> jsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        objectMapper.registerModule(new JavaTimeModule());
+
+        @SuppressWarnings("unchecked")
+        Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(Object.class);
+        jackson2JsonRedisSerializer.setObjectMapper(objectMapper);
+        return jackson2JsonRedisSerializer;
+    }
+
+    /**
+     * Redis消息监听容器，用于接收跨节点的本地缓存失效通知
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       PromptTemplateCache promptTemplateCache,
+                                                                       ReviewRuleIndex reviewRuleIndex,
+                                                                       TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(promptTemplateCache, new ChannelTopic(PromptTemplateCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(reviewRuleIndex, new ChannelTopic(ReviewRuleIndex.CHANGE_CHANNEL));
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.contract.management.domain.event;
+
+import com.contract.management.domain.model.valueobject.ExtractionStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 条款抽取进度事件
+ * 任务状态变更及分窗口抽取每完成一个窗口时发布，经消息队列广播到所有节点后推送给订阅该任务的客户端
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClauseExtractionProgressEvent {
+
+    private Long extractionId;
+    private Long contractId;
+
+    /**
+     * 任务状态，取值为ExtractionStatus的名称
+     */
+    private String status;
+
+    /**
+     * 本窗口新增保存的条款数（仅分窗口抽取的进度事件有值）
+     */
+    private Integer newClauses;
+
+    /**
+     * 截至本事件已保存的条款总数
+     */
+    private Integer savedClauses;
+
+    /**
+     * 已完成窗口数与总窗口数（仅分窗口抽取有值）
+     */
+    private Integer completedWindows;
+    private Integer totalWindows;
+
+    private String errorMessage;
+    private LocalDateTime timestamp;
+
+    public static ClauseExtractionProgressEvent of(Long extractionId, Long contractId, ExtractionStatus status) {
+        return ClauseExtractionProgressEvent.builder()
+            .extractionId(extractionId)
+            .contractId(contractId)
+            .status(status.name())
+            .timestamp(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * 是否为终态事件，终态之后不再有后续事件
+     */
+    @JsonIgnore
+    public boolean isFinalState() {
+        return status != null && ExtractionStatus.valueOf(status).isFinalState();
+    }
+}
@@ -0,0 +1,52 @@
+package com.contract.management.domain.event;
+
+import com.contract.management.domain.model.ContractId;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 合同分类完成事件
+ * 异步分类任务结束（成功或失败）时发布
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Getter
+@ToString
+public class ContractClassificationCompletedEvent {
+
+    private final String jobId;
+    private final ContractId contractId;
+    private final String contractType;
+    private final Double confidence;
+    private final Boolean success;
+    private final String errorMessage;
+    private final LocalDateTime timestamp;
+
+    public ContractClassificationCompletedEvent(String jobId, ContractId contractId, String contractType,
+                                                Double confidence, Boolean success, String errorMessage) {
+        this.jobId = jobId;
+        this.contractId = contractId;
+        this.contractType = contractType;
+        this.confidence = confidence;
+        this.success = success;
+        this.errorMessage = errorMessage;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    /**
+     * 获取事件类型
+     */
+    public String getEventType() {
+        return "ContractClassificationCompleted";
+    }
+
+    /**
+     * 获取合同ID的Long值，便于外部访问
+     */
+    public Long getContractId() {
+        return contractId.getValue();
+    }
+}
@@ -25,11 +25,24 @@ public class ClauseExtraction {
     private AuditInfo auditInfo;
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
+    private String fileUuid;
+
+    /**
+     * 已被工作节点领取的次数
+     */
+    private int attempts;
 
     /**
      * 构造函数 - 创建新的条款抽取任务（ID由数据库生成）
      */
     public ClauseExtraction(Long contractId, Long createdBy) {
+        this(contractId, createdBy, null);
+    }
+
+    /**
+     * 构造函数 - 创建指定文件的条款抽取任务（ID由数据库生成）
+     */
+    public ClauseExtraction(Long contractId, Long createdBy, String fileUuid) {
         if (contractId == null || contractId <= 0) {
             throw new IllegalArgumentException("合同ID必须是正数");
         }
@@ -42,6 +55,8 @@ public class ClauseExtraction {
         this.auditInfo = AuditInfo.create(createdBy);
         this.startedAt = LocalDateTime.now();
         this.completedAt = null;
+        this.fileUuid = fileUuid;
+        this.attempts = 0;
     }
 
     
@@ -50,7 +65,8 @@ public class ClauseExtraction {
      */
     public ClauseExtraction(ExtractionId id, Long contractId, ExtractionStatus status,
                            String errorMessage, ClauseExtractionResult result,
-                           AuditInfo auditInfo, LocalDateTime startedAt, LocalDateTime completedAt) {
+                           AuditInfo auditInfo, LocalDateTime startedAt, LocalDateTime completedAt,
+                           String fileUuid, int attempts) {
         this.id = id;
         this.contractId = contractId;
         this.status = status;
@@ -59,6 +75,8 @@ public class ClauseExtraction {
         this.auditInfo = auditInfo;
         this.startedAt = startedAt;
         this.completedAt = completedAt;
+        this.fileUuid = fileUuid;
+        this.attempts = attempts;
     }
 
     /**
@@ -138,6 +156,23 @@ public class ClauseExtraction {
         this.errorMessage = null;
         this.result = null;
         this.completedAt = null;
+        // 重试是新的一轮处理，领取次数重新计算，否则用尽次数的任务不会再被领取
+        this.attempts = 0;
+        this.auditInfo = this.auditInfo.update();
+    }
+
+    /**
+     * 指定待抽取的文件，仅等待处理的任务可以更换文件
+     */
+    public void assignFile(String fileUuid) {
+        if (fileUuid == null || fileUuid.trim().isEmpty()) {
+            throw new IllegalArgumentException("文件UUID不能为空");
+        }
+        if (this.status != ExtractionStatus.PENDING) {
+            throw new IllegalStateException("当前状态不允许更换文件: " + this.status);
+        }
+
+        this.fileUuid = fileUuid;
         this.auditInfo = this.auditInfo.update();
     }
 
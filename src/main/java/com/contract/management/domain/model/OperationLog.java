@@ -106,6 +106,17 @@ public class OperationLog {
         return resourceType == ResourceType.CONTRACT;
     }
 
+    /**
+     * 检查是否为低优先级日志：查询、下载等只读操作及抽取过程中的进行中日志，
+     * 最终结果另有成功/失败日志记录，过载时可以丢弃
+     */
+    public boolean isLowPriority() {
+        return switch (operationType) {
+            case CONTRACT_QUERY, FILE_DOWNLOAD, CLAUSE_EXTRACTION_START, CLAUSE_EXTRACTION_PROCESS -> true;
+            default -> false;
+        };
+    }
+
     /**
      * 检查是否为成功操作
      */
@@ -0,0 +1,40 @@
+package com.contract.management.domain.repository;
+
+import com.contract.management.domain.model.Contract;
+import com.contract.management.domain.model.ContractId;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Singular;
+
+import java.util.List;
+
+/**
+ * 合同批量更新结果
+ * 逐行报告乐观锁冲突，冲突行不会被更新
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Data
+@Builder
+public class ContractBatchUpdateResult {
+
+    /**
+     * 更新成功的合同（版本号已递增）
+     */
+    @Singular
+    private List<Contract> updatedContracts;
+
+    /**
+     * 版本号不匹配或已被删除而未更新的合同ID
+     */
+    @Singular
+    private List<ContractId> conflictedIds;
+
+    /**
+     * 是否存在冲突行
+     */
+    public boolean hasConflicts() {
+        return conflictedIds != null && !conflictedIds.isEmpty();
+    }
+}
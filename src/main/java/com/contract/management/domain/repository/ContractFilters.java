@@ -89,4 +89,26 @@ public class ContractFilters {
      * 是否包含已删除的记录
      */
     private Boolean includeDeleted;
-}
\ No newline at end of file
+
+    /**
+     * 检查过滤器是否为空（所有条件都为null）
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return (contractName == null || contractName.trim().isEmpty()) &&
+               (contractTypes == null || contractTypes.isEmpty()) &&
+               (partyAName == null || partyAName.trim().isEmpty()) &&
+               (partyBName == null || partyBName.trim().isEmpty()) &&
+               minAmount == null &&
+               maxAmount == null &&
+               signDateStart == null &&
+               signDateEnd == null &&
+               effectiveDateStart == null &&
+               effectiveDateEnd == null &&
+               expiryDateStart == null &&
+               expiryDateEnd == null &&
+               createdBy == null &&
+               includeDeleted == null;
+    }
+}
@@ -73,6 +73,17 @@ public interface ContractRepository {
      */
     Page<Contract> findByFilters(ContractFilters filters, Pageable pageable);
     
+    /**
+     * 根据过滤条件游标分页查询合同，按(创建时间, ID)倒序
+     *
+     * @param filters 过滤条件
+     * @param cursor 上一页最后一条记录的位置，为null时查询第一页
+     * @param size 每页大小
+     * @param countMode 总数统计方式，仅第一页生效
+     * @return 游标分页结果
+     */
+    KeysetPage<Contract> findByFilters(ContractFilters filters, KeysetCursor cursor, int size, CountMode countMode);
+    
     /**
      * 根据过滤条件查询合同列表
      *
@@ -175,6 +186,15 @@ public interface ContractRepository {
      * @return 保存后的合同列表
      */
     List<Contract> saveAll(List<Contract> contracts);
+
+    /**
+     * 批量更新合同（乐观锁）
+     * 以合同聚合携带的版本号作为更新条件，冲突逐行报告，不抛出异常
+     *
+     * @param contracts 合同列表（必须已有ID）
+     * @return 批量更新结果
+     */
+    ContractBatchUpdateResult updateAll(List<Contract> contracts);
     
     /**
      * 批量删除合同
@@ -0,0 +1,42 @@
+package com.contract.management.domain.repository;
+
+/**
+ * 游标分页的总数统计方式
+ * 总数只在第一页（无游标）时统计，续页不再重复计算
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+public enum CountMode {
+
+    /**
+     * 精确统计，执行COUNT(*)
+     */
+    EXACT,
+
+    /**
+     * 估算：无过滤条件时读取pg_class.reltuples统计值，有过滤条件时退化为精确统计
+     */
+    ESTIMATED,
+
+    /**
+     * 不统计总数
+     */
+    NONE;
+
+    /**
+     * 解析请求参数，忽略大小写，为空时默认精确统计
+     *
+     * @throws IllegalArgumentException 取值不支持
+     */
+    public static CountMode of(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("不支持的总数统计方式: " + value + "，可选值: EXACT, ESTIMATED, NONE");
+        }
+    }
+}
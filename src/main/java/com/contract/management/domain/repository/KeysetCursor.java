@@ -0,0 +1,75 @@
+package com.contract.management.domain.repository;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 游标分页位置
+ * 按(created_time DESC, id DESC)排序时上一页最后一条记录的键值，对外以不透明的Base64令牌传递
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Getter
+@EqualsAndHashCode
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdTime;
+    private final Long id;
+
+    private KeysetCursor(LocalDateTime createdTime, Long id) {
+        this.createdTime = createdTime;
+        this.id = id;
+    }
+
+    public static KeysetCursor of(LocalDateTime createdTime, Long id) {
+        if (createdTime == null || id == null) {
+            throw new IllegalArgumentException("游标的创建时间和ID不能为空");
+        }
+        return new KeysetCursor(createdTime, id);
+    }
+
+    /**
+     * 编码为续页令牌
+     */
+    public String encode() {
+        String raw = createdTime + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析续页令牌，为空时表示从第一页开始
+     *
+     * @param token 续页令牌
+     * @return 游标，令牌为空时返回null
+     * @throws IllegalArgumentException 令牌格式不正确
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("无效的分页游标: " + token);
+            }
+            return of(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException也是IllegalArgumentException的子类
+            throw new IllegalArgumentException("无效的分页游标: " + token, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor(" + createdTime + ", " + id + ")";
+    }
+}
@@ -0,0 +1,67 @@
+package com.contract.management.domain.repository;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 游标分页结果
+ *
+ * @param <T> 记录类型
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Getter
+public class KeysetPage<T> {
+
+    /**
+     * 当前页记录
+     */
+    private final List<T> content;
+
+    /**
+     * 下一页游标，没有更多数据时为null
+     */
+    private final KeysetCursor nextCursor;
+
+    /**
+     * 总记录数，未统计时为null
+     */
+    private final Long total;
+
+    /**
+     * 总记录数是否为精确值
+     */
+    private final boolean totalExact;
+
+    public KeysetPage(List<T> content, KeysetCursor nextCursor, Long total, boolean totalExact) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.total = total;
+        this.totalExact = totalExact;
+    }
+
+    /**
+     * 是否还有下一页
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * 编码后的下一页令牌
+     */
+    public String getNextToken() {
+        return nextCursor != null ? nextCursor.encode() : null;
+    }
+
+    /**
+     * 转换记录类型，游标与总数保持不变
+     */
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().map(converter).collect(Collectors.toList());
+        return new KeysetPage<>(converted, nextCursor, total, totalExact);
+    }
+}
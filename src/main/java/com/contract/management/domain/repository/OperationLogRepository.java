@@ -19,6 +19,11 @@ public interface OperationLogRepository {
      */
     OperationLog save(OperationLog operationLog);
 
+    /**
+     * 批量新增操作日志，不回填ID
+     */
+    void saveAll(List<OperationLog> operationLogs);
+
     /**
      * 根据ID查找操作日志
      */
@@ -46,6 +51,7 @@ public interface OperationLogRepository {
 
     /**
      * 删除指定时间之前的日志
+     * 按月分区整体删除，只删除全部早于指定时间的月份，返回的删除数为估算值
      */
     int deleteLogsBefore(LocalDateTime beforeTime);
 
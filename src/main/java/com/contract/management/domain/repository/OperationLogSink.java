@@ -0,0 +1,18 @@
+package com.contract.management.domain.repository;
+
+import com.contract.management.domain.model.OperationLog;
+
+/**
+ * 操作日志写入端口
+ * 记录日志的调用方只提交日志，不等待写库；实现负责缓冲、批量写入与过载时的取舍
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+public interface OperationLogSink {
+
+    /**
+     * 提交操作日志，不阻塞调用线程等待写库
+     */
+    void submit(OperationLog operationLog);
+}
@@ -76,4 +76,24 @@ public class PromptFilters {
      * 关键词（搜索名称和备注）
      */
     private String keyword;
-}
\ No newline at end of file
+
+    /**
+     * 检查过滤器是否为空（所有条件都为null）
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return (promptName == null || promptName.trim().isEmpty()) &&
+               promptType == null &&
+               promptRole == null &&
+               enabled == null &&
+               (responseFormat == null || responseFormat.trim().isEmpty()) &&
+               createdBy == null &&
+               createdTimeStart == null &&
+               createdTimeEnd == null &&
+               updatedTimeStart == null &&
+               updatedTimeEnd == null &&
+               (remark == null || remark.trim().isEmpty()) &&
+               (keyword == null || keyword.trim().isEmpty());
+    }
+}
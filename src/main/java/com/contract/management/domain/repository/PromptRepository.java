@@ -75,6 +75,17 @@ public interface PromptRepository {
      */
     Page<Prompt> findByFilters(PromptFilters filters, Pageable pageable);
 
+    /**
+     * 根据过滤条件游标分页查询提示词模板，按(创建时间, ID)倒序
+     *
+     * @param filters 过滤条件
+     * @param cursor 上一页最后一条记录的位置，为null时查询第一页
+     * @param size 每页大小
+     * @param countMode 总数统计方式，仅第一页生效
+     * @return 游标分页结果
+     */
+    KeysetPage<Prompt> findByFilters(PromptFilters filters, KeysetCursor cursor, int size, CountMode countMode);
+
     /**
      * 根据过滤条件查询提示词模板列表
      *
@@ -6,6 +6,9 @@ import com.contract.management.domain.model.valueobject.ClauseContent;
 import com.contract.management.domain.model.valueobject.ClauseTitle;
 import com.contract.management.domain.repository.ClauseFilters;
 import com.contract.management.domain.repository.ClauseRepository;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -124,6 +127,19 @@ public class ClauseDomainService {
         return clauseRepository.findByFilters(filters, pageable);
     }
 
+    /**
+     * 根据过滤条件游标分页查询条款
+     *
+     * @param filters 过滤条件
+     * @param cursor 游标，为null时查询第一页
+     * @param size 每页大小
+     * @param countMode 总数统计方式
+     * @return 游标分页结果
+     */
+    public KeysetPage<Clause> findByFilters(ClauseFilters filters, KeysetCursor cursor, int size, CountMode countMode) {
+        return clauseRepository.findByFilters(filters, cursor, size, countMode);
+    }
+
     /**
      * 更新条款分析结果
      *
@@ -29,13 +29,21 @@ public class ClauseExtractionDomainService {
      */
     @Transactional
     public ClauseExtraction createExtraction(Long contractId, Long createdBy) {
+        return createExtraction(contractId, createdBy, null);
+    }
+
+    /**
+     * 创建指定文件的条款抽取任务
+     */
+    @Transactional
+    public ClauseExtraction createExtraction(Long contractId, Long createdBy, String fileUuid) {
         // 检查是否已存在活跃的抽取任务
         if (clauseExtractionRepository.existsActiveExtraction(contractId)) {
             throw new ClauseExtractionException("该合同已存在活跃的条款抽取任务");
         }
 
         // 创建条款抽取领域对象（ID由数据库生成）
-        ClauseExtraction clauseExtraction = new ClauseExtraction(contractId, createdBy);
+        ClauseExtraction clauseExtraction = new ClauseExtraction(contractId, createdBy, fileUuid);
 
         // 保存到数据库
         return clauseExtractionRepository.save(clauseExtraction);
@@ -88,6 +96,25 @@ public class ClauseExtractionDomainService {
         return clauseExtractionRepository.update(extraction);
     }
 
+    /**
+     * 重置条款抽取任务以便重试，并指定本次抽取的文件
+     */
+    @Transactional
+    public ClauseExtraction resetExtractionForRetry(ExtractionId extractionId, String fileUuid) {
+        ClauseExtraction extraction = clauseExtractionRepository.findById(extractionId);
+        if (extraction == null) {
+            throw new ClauseExtractionException("条款抽取任务不存在: " + extractionId);
+        }
+
+        if (!extraction.canRetry()) {
+            throw new ClauseExtractionException("当前状态不允许重试: " + extraction.getStatus());
+        }
+
+        extraction.resetForRetry();
+        extraction.assignFile(fileUuid);
+        return clauseExtractionRepository.update(extraction);
+    }
+
     /**
      * 查询条款抽取状态
      */
@@ -104,6 +131,7 @@ public class ClauseExtractionDomainService {
 
     /**
      * 异步执行条款抽取
+     * 任务以PENDING状态连同文件UUID一起落库，由工作节点领取后转为处理中
      */
     @Transactional
     public void performExtractionAsync(Long contractId, Long createdBy, String fileUuid) {
@@ -111,13 +139,9 @@ public class ClauseExtractionDomainService {
             log.info("开始异步执行条款抽取，合同ID: {}, 文件UUID: {}", contractId, fileUuid);
 
             // 创建抽取任务
-            ClauseExtraction extraction = createExtraction(contractId, createdBy);
+            ClauseExtraction extraction = createExtraction(contractId, createdBy, fileUuid);
             ExtractionId extractionId = extraction.getId();
 
-            // 开始处理
-            startExtraction(extractionId);
-
-            // 异步执行将由应用层或事件监听器来处理
             log.info("条款抽取任务已创建，等待异步处理: extractionId={}, contractId={}", extractionId, contractId);
 
         } catch (Exception e) {
@@ -1,11 +1,16 @@
 package com.contract.management.domain.service;
 
 import com.contract.management.domain.event.ContractCreatedEvent;
+import com.contract.management.domain.event.ContractDeletedEvent;
+import com.contract.management.domain.event.ContractUpdatedEvent;
 import com.contract.management.domain.model.Contract;
 import com.contract.management.domain.model.ContractId;
 import com.contract.management.domain.model.valueobject.ContractName;
 import com.contract.management.domain.repository.ContractFilters;
 import com.contract.management.domain.repository.ContractRepository;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.infrastructure.messaging.ContractEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -107,7 +112,16 @@ public class ContractDomainService {
         Contract old = contractRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("合同不存在: " + id.getValue()));
         validateContractNameUniqueness(contract.getContractName().getValue(), contract.getAuditInfo().getCreatedBy(), id);
-        return contractRepository.update(contract);
+        Contract updatedContract = contractRepository.update(contract);
+
+        // 发布合同更新事件
+        eventPublisher.publishContractUpdated(new ContractUpdatedEvent(
+            id,
+            contract.getContractName().getValue(),
+            contract.getAuditInfo().getUpdatedBy()
+        ));
+
+        return updatedContract;
     }
     
     /**
@@ -121,7 +135,14 @@ public class ContractDomainService {
         contract.delete();
         // 仅更新 is_deleted，避免普通更新路径覆盖删除标记
         Long operatorId = 1L;
-        return contractRepository.markDeleted(contract.getContractName(), id, operatorId);
+        boolean deleted = contractRepository.markDeleted(contract.getContractName(), id, operatorId);
+
+        // 发布合同删除事件
+        if (deleted) {
+            eventPublisher.publishContractDeleted(new ContractDeletedEvent(
+                id, contract.getContractName().getValue(), operatorId));
+        }
+        return deleted;
     }
     
     public org.springframework.data.domain.Page<Contract> findByFilters(
@@ -130,6 +151,14 @@ public class ContractDomainService {
         return contractRepository.findByFilters(filters, pageable);
     }
     
+    public KeysetPage<Contract> findByFilters(
+            ContractFilters filters,
+            KeysetCursor cursor,
+            int size,
+            CountMode countMode) {
+        return contractRepository.findByFilters(filters, cursor, size, countMode);
+    }
+    
     public java.util.List<Contract> findByFilters(
             ContractFilters filters) {
         return contractRepository.findByFilters(filters);
@@ -3,6 +3,7 @@ package com.contract.management.domain.service;
 import com.contract.management.domain.model.OperationLog;
 import com.contract.management.domain.model.valueobject.OperationLogId;
 import com.contract.management.domain.repository.OperationLogRepository;
+import com.contract.management.domain.repository.OperationLogSink;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,15 +24,17 @@ import java.util.Optional;
 public class OperationLogDomainService {
 
     private final OperationLogRepository operationLogRepository;
+    private final OperationLogSink operationLogSink;
 
     /**
      * 记录操作日志
+     * 日志提交到写入缓冲后立即返回，由后台批量写库；ID由数据库生成，返回的日志不含ID
      */
     public OperationLog recordLog(OperationLog operationLog) {
         try {
-            OperationLog savedLog = operationLogRepository.save(operationLog);
-            log.debug("操作日志记录成功: {}", savedLog);
-            return savedLog;
+            operationLogSink.submit(operationLog);
+            log.debug("操作日志已提交: {}", operationLog);
+            return operationLog;
         } catch (Exception e) {
             log.error("记录操作日志失败", e);
             // 记录日志失败不应该影响主业务流程，所以返回null而不是抛出异常
@@ -104,6 +107,7 @@ public class OperationLogDomainService {
 
     /**
      * 清理过期日志
+     * 日志按月分区存储，只删除整月都已过期的分区
      */
     public int cleanupExpiredLogs(int retentionDays) {
         try {
@@ -4,8 +4,12 @@ import com.contract.management.domain.model.Prompt;
 import com.contract.management.domain.model.PromptId;
 import com.contract.management.domain.model.valueobject.PromptName;
 import com.contract.management.domain.model.valueobject.PromptType;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.domain.repository.PromptFilters;
 import com.contract.management.domain.repository.PromptRepository;
+import com.contract.management.infrastructure.cache.PromptTemplateCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,6 +31,7 @@ public class PromptDomainService {
 
     private final PromptRepository promptRepository;
     private final PromptValidationService promptValidationService;
+    private final PromptTemplateCache promptTemplateCache;
 
     /**
      * 验证提示词模板名称唯一性
@@ -97,7 +102,9 @@ public class PromptDomainService {
         // 执行创建验证
         promptValidationService.validatePromptForCreation(prompt);
 
-        return promptRepository.save(prompt);
+        Prompt saved = promptRepository.save(prompt);
+        promptTemplateCache.invalidateAll();
+        return saved;
     }
 
     /**
@@ -124,7 +131,9 @@ public class PromptDomainService {
         // 执行更新验证
         promptValidationService.validatePromptForUpdate(prompt);
 
-        return promptRepository.update(prompt);
+        Prompt updated = promptRepository.update(prompt);
+        promptTemplateCache.invalidateAll();
+        return updated;
     }
 
     /**
@@ -142,6 +151,7 @@ public class PromptDomainService {
 
         promptValidationService.validatePromptForDeletion(prompt);
         promptRepository.delete(id);
+        promptTemplateCache.invalidateAll();
     }
 
     /**
@@ -153,7 +163,9 @@ public class PromptDomainService {
             .orElseThrow(() -> new PromptDomainException("提示词模板不存在: " + id.getValue()));
 
         prompt.enable();
-        return promptRepository.update(prompt);
+        Prompt updated = promptRepository.update(prompt);
+        promptTemplateCache.invalidateAll();
+        return updated;
     }
 
     /**
@@ -165,7 +177,9 @@ public class PromptDomainService {
             .orElseThrow(() -> new PromptDomainException("提示词模板不存在: " + id.getValue()));
 
         prompt.disable();
-        return promptRepository.update(prompt);
+        Prompt updated = promptRepository.update(prompt);
+        promptTemplateCache.invalidateAll();
+        return updated;
     }
 
     /**
@@ -174,6 +188,7 @@ public class PromptDomainService {
     @Transactional
     public void enablePrompts(List<PromptId> ids) {
         promptRepository.enableAll(ids);
+        promptTemplateCache.invalidateAll();
     }
 
     /**
@@ -182,6 +197,7 @@ public class PromptDomainService {
     @Transactional
     public void disablePrompts(List<PromptId> ids) {
         promptRepository.disableAll(ids);
+        promptTemplateCache.invalidateAll();
     }
 
     /**
@@ -193,6 +209,17 @@ public class PromptDomainService {
         return promptRepository.findByFilters(filters, pageable);
     }
 
+    /**
+     * 根据过滤条件游标分页查询提示词模板
+     */
+    public KeysetPage<Prompt> findByFilters(
+            PromptFilters filters,
+            KeysetCursor cursor,
+            int size,
+            CountMode countMode) {
+        return promptRepository.findByFilters(filters, cursor, size, countMode);
+    }
+
     /**
      * 根据过滤条件查询提示词模板列表
      */
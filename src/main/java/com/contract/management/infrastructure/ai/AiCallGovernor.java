@@ -0,0 +1,257 @@
+package com.contract.management.infrastructure.ai;
+
+import com.contract.ai.feign.enums.ModelType;
+import feign.FeignException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * AI调用限流器
+ * 所有AiClient调用都经由此处：按模型限制并发数，并按估算的提示词token与图片字节数从令牌桶扣减预算；
+ * 同一模型下分类与抽取的等待队列轮流获得配额。收到429时暂停该模型调用并清空令牌桶，避免重试风暴
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class AiCallGovernor {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final long RECHECK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AiCallGovernorProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<ModelType, ModelLane> lanes = new ConcurrentHashMap<>();
+
+    public AiCallGovernor(AiCallGovernorProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 在配额内执行AI调用
+     *
+     * @param model           调用的模型
+     * @param scene           调用场景
+     * @param estimatedTokens 估算的输入token数
+     * @param call            实际调用
+     * @return 调用结果
+     * @throws RejectedExecutionException 等待配额超时或被中断时
+     */
+    public <T> T call(ModelType model, AiCallScene scene, long estimatedTokens, Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+
+        ModelLane lane = lanes.computeIfAbsent(model, ModelLane::new);
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lane.acquire(scene, estimatedTokens, properties.getAcquireTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("等待AI调用配额时被中断: " + model);
+        } finally {
+            lane.waitTimers.get(scene).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            meterRegistry.counter("contract.ai.governor.rejected", "model", model.name(), "scene", scene.name()).increment();
+            throw new RejectedExecutionException("等待AI调用配额超时: " + model);
+        }
+
+        try {
+            return call.get();
+        } catch (FeignException e) {
+            if (e.status() == TOO_MANY_REQUESTS) {
+                log.warn("AI模型返回429，暂停调用{}ms: model={}", properties.getThrottledCooldownMs(), model);
+                lane.pause(properties.getThrottledCooldownMs());
+            }
+            throw e;
+        } finally {
+            lane.release();
+        }
+    }
+
+    /**
+     * 估算调用的输入token数
+     *
+     * @param prompt     提示词文本
+     * @param imageBytes 随请求发送的图片或文件字节数
+     */
+    public long estimateTokens(String prompt, long imageBytes) {
+        long textTokens = prompt != null
+            ? (long) Math.ceil(prompt.length() / Math.max(properties.getTextCharsPerToken(), 0.1)) : 0;
+        long imageTokens = imageBytes > 0 ? imageBytes / Math.max(properties.getImageBytesPerToken(), 1) : 0;
+        return textTokens + imageTokens;
+    }
+
+    /**
+     * 单个模型的并发与令牌桶状态
+     */
+    private final class ModelLane {
+
+        private final ModelType model;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private final Map<AiCallScene, ArrayDeque<Object>> queues = new EnumMap<>(AiCallScene.class);
+        private final Map<AiCallScene, AtomicInteger> queueDepths = new EnumMap<>(AiCallScene.class);
+        private final Map<AiCallScene, Timer> waitTimers = new EnumMap<>(AiCallScene.class);
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private int nextScene;
+        private int maxConcurrency;
+        private long capacity = -1;
+        private double refillPerNano;
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+        private long pausedUntilNanos;
+
+        private ModelLane(ModelType model) {
+            this.model = model;
+            for (AiCallScene scene : AiCallScene.values()) {
+                queues.put(scene, new ArrayDeque<>());
+                AtomicInteger depth = new AtomicInteger();
+                queueDepths.put(scene, depth);
+                Gauge.builder("contract.ai.governor.queue.depth", depth, AtomicInteger::get)
+                    .tags("model", model.name(), "scene", scene.name())
+                    .register(meterRegistry);
+                waitTimers.put(scene, Timer.builder("contract.ai.governor.wait")
+                    .tags("model", model.name(), "scene", scene.name())
+                    .register(meterRegistry));
+            }
+            Gauge.builder("contract.ai.governor.in.flight", inFlight, AtomicInteger::get)
+                .tags("model", model.name())
+                .register(meterRegistry);
+        }
+
+        private boolean acquire(AiCallScene scene, long cost, long timeoutMs) throws InterruptedException {
+            Object ticket = new Object();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            lock.lock();
+            try {
+                queues.get(scene).addLast(ticket);
+                queueDepths.get(scene).incrementAndGet();
+                try {
+                    while (true) {
+                        long now = System.nanoTime();
+                        reconfigure();
+                        refill(now);
+                        long waitNanos = 0;
+                        if (isNext(ticket)) {
+                            long effectiveCost = capacity > 0 ? Math.min(Math.max(cost, 0), capacity) : 0;
+                            boolean paused = now < pausedUntilNanos;
+                            boolean hasSlot = inFlight.get() < maxConcurrency;
+                            boolean hasTokens = capacity <= 0 || tokens >= effectiveCost;
+                            if (!paused && hasSlot && hasTokens) {
+                                queues.get(scene).removeFirst();
+                                tokens -= effectiveCost;
+                                inFlight.incrementAndGet();
+                                nextScene = (scene.ordinal() + 1) % AiCallScene.values().length;
+                                changed.signalAll();
+                                return true;
+                            }
+                            if (paused) {
+                                waitNanos = pausedUntilNanos - now;
+                            } else if (hasSlot) {
+                                waitNanos = (long) Math.ceil((effectiveCost - tokens) / refillPerNano);
+                            }
+                        }
+
+                        long remaining = deadline - now;
+                        if (remaining <= 0) {
+                            return false;
+                        }
+                        // 最多等待一个检查周期，运行时调整的额度能及时生效
+                        long wait = waitNanos > 0 ? Math.min(waitNanos, remaining) : remaining;
+                        changed.awaitNanos(Math.min(wait, RECHECK_INTERVAL_NANOS));
+                    }
+                } finally {
+                    queueDepths.get(scene).decrementAndGet();
+                    if (queues.get(scene).remove(ticket)) {
+                        // 放弃等待的请求可能是队首，唤醒后续请求重新判断
+                        changed.signalAll();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void release() {
+            lock.lock();
+            try {
+                inFlight.decrementAndGet();
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void pause(long cooldownMs) {
+            lock.lock();
+            try {
+                pausedUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(cooldownMs);
+                tokens = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 轮询各场景队列，当前应获得配额的是从nextScene开始第一个非空队列的队首
+         */
+        private boolean isNext(Object ticket) {
+            AiCallScene[] scenes = AiCallScene.values();
+            for (int i = 0; i < scenes.length; i++) {
+                ArrayDeque<Object> queue = queues.get(scenes[(nextScene + i) % scenes.length]);
+                if (!queue.isEmpty()) {
+                    return queue.peekFirst() == ticket;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 按当前配置调整并发数与令牌桶，配置未变化时不做任何事
+         */
+        private void reconfigure() {
+            AiCallGovernorProperties.Limit limit = properties.limitFor(model);
+            int concurrency = Math.max(limit.getMaxConcurrency(), 1);
+            long tokensPerMinute = limit.getTokensPerMinute();
+            if (concurrency == maxConcurrency && tokensPerMinute == capacity) {
+                return;
+            }
+            if (capacity < 0) {
+                tokens = Math.max(tokensPerMinute, 0);
+            }
+            maxConcurrency = concurrency;
+            capacity = tokensPerMinute;
+            refillPerNano = tokensPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            tokens = Math.min(tokens, Math.max(capacity, 0));
+            log.info("AI调用额度已更新: model={}, maxConcurrency={}, tokensPerMinute={}",
+                model, maxConcurrency, tokensPerMinute);
+        }
+
+        private void refill(long now) {
+            if (capacity > 0) {
+                tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+            }
+            lastRefillNanos = now;
+        }
+    }
+}
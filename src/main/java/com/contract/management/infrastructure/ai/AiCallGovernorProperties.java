@@ -0,0 +1,79 @@
+package com.contract.management.infrastructure.ai;
+
+import com.contract.ai.feign.enums.ModelType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * AI调用限流配置
+ * 绑定contract.ai.governor，Nacos配置变更后由Spring Cloud重新绑定，限流器在下次调用时按新值调整
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "contract.ai.governor")
+public class AiCallGovernorProperties {
+
+    /**
+     * 是否启用限流
+     */
+    private boolean enabled = true;
+
+    /**
+     * 等待配额的最长时间，超时后放弃调用
+     */
+    private long acquireTimeoutMs = 120000;
+
+    /**
+     * 收到429后暂停该模型调用的时长
+     */
+    private long throttledCooldownMs = 5000;
+
+    /**
+     * 估算提示词token时每个token对应的字符数
+     */
+    private double textCharsPerToken = 1.5;
+
+    /**
+     * 估算图片与文件token时每个token对应的字节数
+     */
+    private long imageBytesPerToken = 750;
+
+    /**
+     * 未单独配置的模型使用的默认额度
+     */
+    private Limit defaults = new Limit();
+
+    /**
+     * 按模型配置的额度，键为ModelType枚举名
+     */
+    private Map<ModelType, Limit> models = new EnumMap<>(ModelType.class);
+
+    public Limit limitFor(ModelType model) {
+        Limit limit = models.get(model);
+        return limit != null ? limit : defaults;
+    }
+
+    /**
+     * 单个模型的调用额度
+     */
+    @Data
+    public static class Limit {
+
+        /**
+         * 同时进行的调用数
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * 每分钟估算token预算，同时作为令牌桶容量；不大于0表示不限
+         */
+        private long tokensPerMinute = 200000;
+    }
+}
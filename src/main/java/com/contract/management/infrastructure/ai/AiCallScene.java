@@ -0,0 +1,21 @@
+package com.contract.management.infrastructure.ai;
+
+/**
+ * AI调用场景
+ * 同一模型下不同场景的等待队列轮流获得配额，避免批量抽取占满配额导致分类请求长时间等待
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+public enum AiCallScene {
+
+    /**
+     * 合同分类
+     */
+    CLASSIFICATION,
+
+    /**
+     * 条款抽取
+     */
+    EXTRACTION
+}
@@ -0,0 +1,212 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.domain.model.Prompt;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * AI结果内容寻址缓存
+ * 以文件内容SHA-256 + 提示词ID + 提示词版本为键缓存模型原始输出，
+ * 本地Caffeine作为L1，Redis作为L2，相同文档重复分类/抽取时不再调用大模型；
+ * 同一节点对同一键的并发未命中只调用一次模型，其余请求等待并共享结果
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class AiResultCache {
+
+    private static final String KEY_PREFIX = "ai-result:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, String> localCache;
+    private final Map<String, SceneCounters> sceneCounters = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${contract.ai-result-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${contract.ai-result-cache.ttl:604800}")
+    private long ttlSeconds;
+
+    public AiResultCache(StringRedisTemplate stringRedisTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${contract.ai-result-cache.local-max-size:1000}") long localMaxSize,
+                         @Value("${contract.ai-result-cache.local-ttl:1800}") long localTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+            .build();
+    }
+
+    /**
+     * 查询缓存，未命中时调用loader并写入缓存
+     * loader返回null时不缓存
+     *
+     * @param scene 业务场景，如classification-text、extraction
+     * @param contentHash 文件内容哈希
+     * @param prompt 使用的提示词
+     * @param loader 实际调用大模型的逻辑
+     * @return 模型原始输出
+     */
+    public String getOrLoad(String scene, String contentHash, Prompt prompt, Supplier<String> loader) {
+        if (!enabled || contentHash == null) {
+            return loader.get();
+        }
+
+        String key = buildKey(scene, contentHash, prompt);
+        Optional<String> cached = get(scene, key);
+        if (cached.isPresent()) {
+            log.info("AI结果缓存命中: scene={}, key={}", scene, key);
+            return cached.get();
+        }
+
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> flight = inFlight.computeIfAbsent(key, k -> created);
+        if (flight != created) {
+            log.info("等待进行中的相同AI调用: scene={}, key={}", scene, key);
+            return await(flight);
+        }
+        try {
+            // 查询缓存与登记调用之间，上一次调用可能刚完成并写入了缓存
+            String value = localCache.getIfPresent(key);
+            if (value == null) {
+                value = loader.get();
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private static String await(CompletableFuture<String> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 按缓存键删除缓存（L1与L2）
+     */
+    public void evict(String scene, String contentHash, Prompt prompt) {
+        String key = buildKey(scene, contentHash, prompt);
+        localCache.invalidate(key);
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("删除AI结果缓存失败: key={}", key, e);
+        }
+    }
+
+    private Optional<String> get(String scene, String key) {
+        SceneCounters counters = sceneCounters.computeIfAbsent(scene, this::registerCounters);
+        String value = localCache.getIfPresent(key);
+        if (value != null) {
+            counters.l1Hit().increment();
+            return Optional.of(value);
+        }
+        counters.l1Miss().increment();
+
+        try {
+            value = stringRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            // Redis不可用时退化为直接调用模型
+            log.warn("读取AI结果缓存失败: key={}", key, e);
+            value = null;
+        }
+        if (value != null) {
+            counters.l2Hit().increment();
+            localCache.put(key, value);
+            return Optional.of(value);
+        }
+        counters.l2Miss().increment();
+        return Optional.empty();
+    }
+
+    private void put(String key, String value) {
+        localCache.put(key, value);
+        try {
+            stringRedisTemplate.opsForValue().set(key, value, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("写入AI结果缓存失败: key={}", key, e);
+        }
+    }
+
+    /**
+     * 每个场景的计数器只注册一次，避免每次查询都经过MeterRegistry查找
+     */
+    private SceneCounters registerCounters(String scene) {
+        return new SceneCounters(counter(scene, "l1", "hit"), counter(scene, "l1", "miss"),
+            counter(scene, "l2", "hit"), counter(scene, "l2", "miss"));
+    }
+
+    private Counter counter(String scene, String level, String result) {
+        return Counter.builder("contract.ai.result.cache")
+            .description("AI结果缓存命中统计")
+            .tag("scene", scene)
+            .tag("level", level)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 缓存键：前缀 + 场景 + 提示词ID/版本 + 内容哈希
+     * 提示词修改后版本号或更新时间变化，旧结果自然失效
+     */
+    static String buildKey(String scene, String contentHash, Prompt prompt) {
+        return KEY_PREFIX + scene + ":" + promptFingerprint(prompt) + ":" + contentHash;
+    }
+
+    private static String promptFingerprint(Prompt prompt) {
+        if (prompt == null) {
+            return "none";
+        }
+        String id = prompt.getId() != null ? String.valueOf(prompt.getId().getValue()) : "0";
+        String version = "0";
+        if (prompt.getAuditInfo() != null) {
+            Long versionNumber = prompt.getAuditInfo().getObjectVersionNumber();
+            long updatedAt = prompt.getAuditInfo().getUpdatedTime() != null
+                ? prompt.getAuditInfo().getUpdatedTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+            version = (versionNumber != null ? versionNumber : 0L) + "." + updatedAt;
+        }
+        return id + "v" + version;
+    }
+
+    private record SceneCounters(Counter l1Hit, Counter l1Miss, Counter l2Hit, Counter l2Miss) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.contract.management.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleCacheErrorHandler;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 缓存异常处理器
+ * 缓存值无法反序列化（格式或类型与当前版本不兼容、数据损坏）时按未命中处理并删除该值，
+ * 由业务方法重新加载后回填；其他缓存异常照常抛出
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+public class CacheDecodeErrorHandler extends SimpleCacheErrorHandler {
+
+    @Override
+    public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+        if (!isDecodeError(exception)) {
+            super.handleCacheGetError(exception, cache, key);
+            return;
+        }
+        log.warn("缓存值无法反序列化，按未命中处理: cache={}, key={}, error={}",
+            cache.getName(), key, exception.getMessage());
+        try {
+            cache.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("删除无法反序列化的缓存值失败: cache={}, key={}", cache.getName(), key, e);
+        }
+    }
+
+    private static boolean isDecodeError(Throwable exception) {
+        for (Throwable current = exception; current != null; current = current.getCause()) {
+            if (current instanceof SerializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
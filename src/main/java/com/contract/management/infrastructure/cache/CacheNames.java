@@ -0,0 +1,34 @@
+package com.contract.management.infrastructure.cache;
+
+/**
+ * 业务缓存名称
+ * 各缓存的Redis过期时间取自contract.cache配置
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+public final class CacheNames {
+
+    /**
+     * 合同详情，键为合同ID
+     */
+    public static final String CONTRACT_DETAIL = "contract-detail";
+
+    /**
+     * 合同分页列表，键为查询条件摘要，任一合同变更时整体清空
+     */
+    public static final String CONTRACT_LIST = "contract-list";
+
+    /**
+     * 合同统计，键为查询条件摘要，任一合同变更时整体清空
+     */
+    public static final String CONTRACT_STATS = "contract-stats";
+
+    /**
+     * 标签
+     */
+    public static final String TAGS = "tags";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,238 @@
+package com.contract.management.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 紧凑二进制缓存值序列化器
+ * 值按字段以Smile二进制格式编码，类型信息只在头部出现一次：已注册类型写2字节类型编号，
+ * 未注册的本项目类型写一次类名，不再像默认类型JSON那样在每个嵌套对象中重复类名。
+ * 编码后超过阈值的值使用LZ4压缩，仅在压缩后更小时保留压缩结果。
+ * <p>
+ * 头部格式：魔数(1) + 格式版本(1) + 标志位(1) + 类型编号(2) [+ 类名长度(2) + 类名] [+ 原始长度(4)]。
+ * 非本格式的值交给旧序列化器读取，兼容滚动发布期间旧节点写入的JSON；
+ * 无法识别的版本、已删除的类型或不兼容的字段按未命中处理，由调用方重新加载。
+ * 类型编号一经发布不可复用，字段增删依靠忽略未知字段兼容
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC5;
+    static final byte FORMAT_VERSION = 1;
+    static final int FLAG_LZ4 = 0x01;
+
+    /**
+     * 未注册类型的编号，头部随后写入类名
+     */
+    static final int UNREGISTERED_TYPE = 0;
+
+    /**
+     * 允许以类名写入头部的类型前缀，避免按缓存内容加载任意类
+     */
+    private static final String ALLOWED_PACKAGE_PREFIX = "com.contract.";
+
+    private static final int MAX_TYPE_ID = 0xFFFF;
+
+    private final ObjectMapper objectMapper;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+    private final Map<Integer, Class<?>> typesById = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Integer> idsByType = new ConcurrentHashMap<>();
+
+    /**
+     * @param legacySerializer 读取非本格式旧值的序列化器，为null时旧值按未命中处理
+     * @param compressionThreshold 编码后达到该字节数时尝试LZ4压缩，小于等于0时不压缩
+     */
+    public CompactCacheSerializer(RedisSerializer<Object> legacySerializer, int compressionThreshold) {
+        this.legacySerializer = legacySerializer;
+        this.compressionThreshold = compressionThreshold;
+        this.objectMapper = createObjectMapper();
+        LZ4Factory lz4Factory = LZ4Factory.fastestInstance();
+        this.compressor = lz4Factory.fastCompressor();
+        this.decompressor = lz4Factory.fastDecompressor();
+    }
+
+    /**
+     * 注册缓存值类型
+     *
+     * @param typeId 类型编号，1-65535，发布后不可变更或复用
+     * @param type 缓存值的具体类型
+     * @return 当前序列化器
+     */
+    public CompactCacheSerializer register(int typeId, Class<?> type) {
+        if (typeId <= UNREGISTERED_TYPE || typeId > MAX_TYPE_ID) {
+            throw new IllegalArgumentException("缓存类型编号超出范围: " + typeId);
+        }
+        Class<?> existingType = typesById.putIfAbsent(typeId, type);
+        if (existingType != null && existingType != type) {
+            throw new IllegalArgumentException("缓存类型编号重复: " + typeId + " -> " + existingType.getName());
+        }
+        Integer existingId = idsByType.putIfAbsent(type, typeId);
+        if (existingId != null && existingId != typeId) {
+            throw new IllegalArgumentException("缓存类型重复注册: " + type.getName());
+        }
+        return this;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        Class<?> type = value.getClass();
+        Integer typeId = idsByType.get(type);
+        byte[] typeName = null;
+        if (typeId == null) {
+            if (!type.getName().startsWith(ALLOWED_PACKAGE_PREFIX)) {
+                throw new SerializationException("未注册的缓存值类型: " + type.getName());
+            }
+            typeId = UNREGISTERED_TYPE;
+            typeName = type.getName().getBytes(StandardCharsets.UTF_8);
+        }
+
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("缓存值序列化失败: " + type.getName(), e);
+        }
+
+        int originalLength = payload.length;
+        int flags = 0;
+        if (compressionThreshold > 0 && originalLength >= compressionThreshold) {
+            byte[] compressed = compressor.compress(payload);
+            if (compressed.length < originalLength) {
+                payload = compressed;
+                flags |= FLAG_LZ4;
+            }
+        }
+
+        int headerLength = 5
+            + (typeName != null ? 2 + typeName.length : 0)
+            + ((flags & FLAG_LZ4) != 0 ? 4 : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(headerLength + payload.length)
+            .put(MAGIC)
+            .put(FORMAT_VERSION)
+            .put((byte) flags)
+            .putShort((short) typeId.intValue());
+        if (typeName != null) {
+            buffer.putShort((short) typeName.length).put(typeName);
+        }
+        if ((flags & FLAG_LZ4) != 0) {
+            buffer.putInt(originalLength);
+        }
+        return buffer.put(payload).array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return deserializeLegacy(bytes);
+        }
+        if (bytes.length < 5 || bytes[1] != FORMAT_VERSION) {
+            log.debug("忽略无法识别版本的缓存值: version={}", bytes.length > 1 ? bytes[1] : null);
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            buffer.position(2);
+            int flags = buffer.get();
+            int typeId = Short.toUnsignedInt(buffer.getShort());
+            Class<?> type = typeId == UNREGISTERED_TYPE ? readTypeName(buffer) : typesById.get(typeId);
+            if (type == null) {
+                log.debug("忽略未知类型的缓存值: typeId={}", typeId);
+                return null;
+            }
+
+            byte[] payload;
+            int offset;
+            int length;
+            if ((flags & FLAG_LZ4) != 0) {
+                int originalLength = buffer.getInt();
+                payload = decompressor.decompress(bytes, buffer.position(), originalLength);
+                offset = 0;
+                length = originalLength;
+            } else {
+                payload = bytes;
+                offset = buffer.position();
+                length = bytes.length - offset;
+            }
+            return objectMapper.readValue(payload, offset, length, type);
+        } catch (IOException | RuntimeException e) {
+            log.warn("缓存值反序列化失败，按未命中处理: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Class<?> readTypeName(ByteBuffer buffer) {
+        byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(name);
+        String className = new String(name, StandardCharsets.UTF_8);
+        if (!className.startsWith(ALLOWED_PACKAGE_PREFIX)) {
+            log.warn("拒绝加载缓存值类型: {}", className);
+            return null;
+        }
+        try {
+            return ClassUtils.forName(className, getClass().getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private Object deserializeLegacy(byte[] bytes) {
+        if (legacySerializer == null) {
+            return null;
+        }
+        try {
+            return legacySerializer.deserialize(bytes);
+        } catch (SerializationException e) {
+            log.debug("旧格式缓存值反序列化失败，按未命中处理: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 只按字段编解码，忽略未知字段，使字段增删在新旧节点之间兼容
+     */
+    private static ObjectMapper createObjectMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+        ObjectMapper mapper = new ObjectMapper(smileFactory);
+        mapper.setVisibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE);
+        mapper.setVisibility(PropertyAccessor.IS_GETTER, JsonAutoDetect.Visibility.NONE);
+        mapper.setVisibility(PropertyAccessor.SETTER, JsonAutoDetect.Visibility.NONE);
+        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.registerModule(new JavaTimeModule());
+        return mapper;
+    }
+}
@@ -0,0 +1,45 @@
+package com.contract.management.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 合同缓存失效处理
+ * 合同发生变更时删除该合同的详情缓存，并清空按查询条件缓存的列表和统计；
+ * 缓存管理器开启了事务感知，存在事务时删除在提交后执行
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContractCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 合同变更后失效相关缓存
+     *
+     * @param contractId 发生变更的合同ID
+     */
+    public void evictContract(Long contractId) {
+        Cache detailCache = cacheManager.getCache(CacheNames.CONTRACT_DETAIL);
+        if (detailCache != null && contractId != null) {
+            detailCache.evict(contractId);
+        }
+        clear(CacheNames.CONTRACT_LIST);
+        clear(CacheNames.CONTRACT_STATS);
+        log.debug("合同缓存已失效: contractId={}", contractId);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
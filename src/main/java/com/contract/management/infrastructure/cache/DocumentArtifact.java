@@ -0,0 +1,247 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.infrastructure.util.FileSpooler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 合同附件的解析产物
+ * 原始文件、文字层和页面缩略图都保存在附件独占的本地目录中，页数随解析结果常驻内存；
+ * 通过引用计数保证被缓存淘汰时不会删除仍在读取中的文件
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+public class DocumentArtifact {
+
+    private static final String TEXT_FILE = "text.txt";
+    private static final String THUMBNAIL_PREFIX = "thumb-";
+
+    private final String attachmentUuid;
+    private final String fileName;
+    private final String fileType;
+    private final Path directory;
+    private final FileSpooler.SpooledFile content;
+    private final Integer pageCount;
+    private final boolean hasText;
+    private final ReentrantLock thumbnailLock = new ReentrantLock();
+
+    /**
+     * 引用计数，-1表示文件已删除
+     */
+    private final AtomicInteger refs = new AtomicInteger();
+    private volatile boolean evicted;
+
+    private volatile String thumbnailSpec;
+    private volatile List<Path> thumbnails = List.of();
+
+    /**
+     * @param attachmentUuid 附件UUID
+     * @param fileName       原始文件名
+     * @param fileType       文件类别，如pdf、document、image
+     * @param directory      附件独占的目录，淘汰时整个删除
+     * @param content        落盘到directory中的原始文件
+     * @param pageCount      PDF页数，非PDF为null
+     * @param text           文字层文本，为null表示没有文字层
+     */
+    public DocumentArtifact(String attachmentUuid, String fileName, String fileType, Path directory,
+                            FileSpooler.SpooledFile content, Integer pageCount, String text) throws IOException {
+        this.attachmentUuid = attachmentUuid;
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.directory = directory;
+        this.content = content;
+        this.pageCount = pageCount;
+        this.hasText = text != null;
+        if (text != null) {
+            Files.writeString(directory.resolve(TEXT_FILE), text, StandardCharsets.UTF_8);
+        }
+    }
+
+    public String getAttachmentUuid() {
+        return attachmentUuid;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getFileType() {
+        return fileType;
+    }
+
+    public Integer getPageCount() {
+        return pageCount;
+    }
+
+    public long getSize() {
+        return content.getSize();
+    }
+
+    /**
+     * 原始文件内容的SHA-256（十六进制）
+     */
+    public String getSha256() {
+        return content.getSha256();
+    }
+
+    public FileSpooler.SpooledFile getContent() {
+        return content;
+    }
+
+    /**
+     * 读取原始文件内容
+     */
+    public byte[] readContent() throws IOException {
+        return Files.readAllBytes(content.getPath());
+    }
+
+    /**
+     * 读取文字层文本
+     *
+     * @return 文字层文本，没有文字层时返回null
+     */
+    public String readText() throws IOException {
+        return hasText ? Files.readString(directory.resolve(TEXT_FILE), StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * 获取页面缩略图，相同渲染参数只渲染一次
+     *
+     * @param spec     渲染参数标识，参数变化时重新渲染
+     * @param renderer 渲染逻辑
+     * @return 按页码顺序排列的图片字节数组列表
+     */
+    public List<byte[]> getThumbnails(String spec, ThumbnailRenderer renderer) throws IOException {
+        thumbnailLock.lock();
+        try {
+            if (!spec.equals(thumbnailSpec)) {
+                List<byte[]> images = renderer.render();
+                List<Path> paths = new ArrayList<>(images.size());
+                for (int i = 0; i < images.size(); i++) {
+                    Path path = directory.resolve(THUMBNAIL_PREFIX + i);
+                    Files.write(path, images.get(i));
+                    paths.add(path);
+                }
+                for (int i = images.size(); i < thumbnails.size(); i++) {
+                    Files.deleteIfExists(thumbnails.get(i));
+                }
+                thumbnails = List.copyOf(paths);
+                thumbnailSpec = spec;
+                return images;
+            }
+
+            List<byte[]> images = new ArrayList<>(thumbnails.size());
+            for (Path path : thumbnails) {
+                images.add(Files.readAllBytes(path));
+            }
+            return images;
+        } finally {
+            thumbnailLock.unlock();
+        }
+    }
+
+    /**
+     * 是否已有指定渲染参数的缩略图
+     */
+    public boolean hasThumbnails(String spec) {
+        return spec.equals(thumbnailSpec);
+    }
+
+    /**
+     * 本地目录占用的字节数，作为缓存容量的权重
+     */
+    public long getDiskBytes() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(DocumentArtifact::sizeQuietly).sum();
+        } catch (IOException e) {
+            log.debug("统计附件目录大小失败: {}", directory, e);
+            return content.getSize();
+        }
+    }
+
+    /**
+     * 增加引用
+     *
+     * @return 文件已删除时返回false，调用方需要重新加载
+     */
+    boolean retain() {
+        while (true) {
+            int current = refs.get();
+            if (current < 0) {
+                return false;
+            }
+            if (refs.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 释放引用，已被淘汰且没有其他引用时删除本地文件
+     */
+    void release() {
+        if (refs.decrementAndGet() == 0 && evicted) {
+            deleteIfUnreferenced();
+        }
+    }
+
+    /**
+     * 标记为已淘汰，没有引用时立即删除本地文件
+     */
+    void evict() {
+        evicted = true;
+        deleteIfUnreferenced();
+    }
+
+    private void deleteIfUnreferenced() {
+        if (refs.compareAndSet(0, -1)) {
+            deleteDirectory(directory);
+        }
+    }
+
+    static void deleteDirectory(Path directory) {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("删除附件缓存文件失败: {}", path, e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("删除附件缓存目录失败: {}", directory, e);
+        }
+    }
+
+    private static long sizeQuietly(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 缩略图渲染逻辑
+     */
+    @FunctionalInterface
+    public interface ThumbnailRenderer {
+
+        List<byte[]> render() throws IOException;
+    }
+}
@@ -0,0 +1,274 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.domain.exception.FileProcessingException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * 合同附件解析产物缓存
+ * 以附件UUID为键，在本地磁盘保存原始文件、页数、文字层与页面缩略图；合同分类与条款抽取共用同一份产物，
+ * 每个节点对同一附件只下载、解析一次。磁盘占用按权重限制总量，超过TTL未访问的产物被淘汰并删除文件。
+ * 每个实例在根目录下使用独立的子目录，同一主机上的多个实例互不清理对方正在读取的产物
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class DocumentArtifactCache {
+
+    private static final String DEFAULT_DIR_NAME = "contract-artifacts";
+    private static final String INSTANCE_DIR_PREFIX = "instance-";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Path rootDir;
+    private Path instanceDir;
+    private final AsyncCache<String, DocumentArtifact> cache;
+
+    public DocumentArtifactCache(MeterRegistry meterRegistry,
+                                 @Value("${contract.document-cache.enabled:true}") boolean enabled,
+                                 @Value("${contract.document-cache.dir:}") String dir,
+                                 @Value("${contract.document-cache.max-disk-bytes:2147483648}") long maxDiskBytes,
+                                 @Value("${contract.document-cache.ttl:3600}") long ttlSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.rootDir = StringUtils.hasText(dir)
+            ? Paths.get(dir)
+            : Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_DIR_NAME);
+        // 权重以KB计，避免大文件超出int范围
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(Math.max(maxDiskBytes / 1024, 1))
+            .weigher((String key, DocumentArtifact artifact) ->
+                (int) Math.min(Integer.MAX_VALUE, Math.max(artifact.getDiskBytes() / 1024, 1)))
+            .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+            .executor(Runnable::run)
+            .removalListener((String key, DocumentArtifact artifact, RemovalCause cause) -> {
+                // 缩略图生成后重新放入缓存以更新权重，同一产物的替换不删除文件
+                if (artifact != null && cause != RemovalCause.REPLACED) {
+                    log.debug("附件解析产物被移出缓存: attachmentUuid={}, cause={}", key, cause);
+                    artifact.evict();
+                }
+            })
+            .buildAsync();
+
+        Gauge.builder("contract.document.artifact.cache.weight", cache,
+                c -> c.synchronous().policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+            .description("附件解析产物缓存占用的磁盘空间(KB)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 在根目录下创建本实例的产物目录，并清理已退出进程遗留的目录
+     * 根目录可能被同一主机上的其他实例共用，只删除进程已不存在的实例目录
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(rootDir);
+        cleanupStaleInstanceDirs();
+        instanceDir = Files.createTempDirectory(rootDir, INSTANCE_DIR_PREFIX + ProcessHandle.current().pid() + "-");
+        log.info("附件解析产物缓存目录: {}, enabled={}", instanceDir, enabled);
+    }
+
+    /**
+     * 淘汰全部产物，仍被租用的产物在句柄关闭后删除；目录已清空时一并删除
+     */
+    @PreDestroy
+    public void shutdown() {
+        cache.synchronous().invalidateAll();
+        try {
+            Files.deleteIfExists(instanceDir);
+        } catch (IOException e) {
+            log.debug("附件解析产物目录仍有文件，留待下次启动清理: {}", instanceDir);
+        }
+    }
+
+    private void cleanupStaleInstanceDirs() throws IOException {
+        try (Stream<Path> dirs = Files.list(rootDir)) {
+            dirs.filter(Files::isDirectory)
+                .filter(dir -> isStaleInstanceDir(dir.getFileName().toString()))
+                .forEach(dir -> {
+                    log.info("清理已退出实例遗留的附件解析产物目录: {}", dir);
+                    DocumentArtifact.deleteDirectory(dir);
+                });
+        }
+    }
+
+    /**
+     * 实例目录名为 instance-{pid}-{随机后缀}，pid对应的进程已不存在时视为遗留目录
+     */
+    static boolean isStaleInstanceDir(String name) {
+        if (!name.startsWith(INSTANCE_DIR_PREFIX)) {
+            return false;
+        }
+        int end = name.indexOf('-', INSTANCE_DIR_PREFIX.length());
+        if (end < 0) {
+            return false;
+        }
+        try {
+            long pid = Long.parseLong(name.substring(INSTANCE_DIR_PREFIX.length(), end));
+            return pid != ProcessHandle.current().pid() && ProcessHandle.of(pid).isEmpty();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 获取附件解析产物，未缓存时调用loader下载并解析；同一附件的并发请求只加载一次
+     * 调用方必须关闭返回的Lease，关闭前产物文件不会被删除
+     *
+     * @param attachmentUuid 附件UUID
+     * @param loader         在给定目录中生成解析产物的逻辑
+     * @return 产物租用句柄
+     * @throws FileProcessingException 加载失败时
+     */
+    public Lease acquire(String attachmentUuid, ArtifactLoader loader) {
+        if (!enabled) {
+            CompletableFuture<DocumentArtifact> future = new CompletableFuture<>();
+            load(attachmentUuid, loader, future);
+            DocumentArtifact artifact = join(future);
+            artifact.retain();
+            // 不缓存，句柄关闭后立即删除
+            artifact.evict();
+            return new Lease(artifact);
+        }
+
+        ConcurrentMap<String, CompletableFuture<DocumentArtifact>> map = cache.asMap();
+        while (true) {
+            CompletableFuture<DocumentArtifact> created = new CompletableFuture<>();
+            CompletableFuture<DocumentArtifact> future = map.putIfAbsent(attachmentUuid, created);
+            if (future == null) {
+                counter("miss");
+                future = created;
+                load(attachmentUuid, loader, created);
+            } else {
+                counter("hit");
+            }
+
+            DocumentArtifact artifact = join(future);
+            if (artifact.retain()) {
+                return new Lease(artifact);
+            }
+            // 取到的产物恰好被淘汰，移除后重新加载
+            map.remove(attachmentUuid, future);
+        }
+    }
+
+    /**
+     * 获取已缓存的附件解析产物，不触发加载
+     */
+    public Optional<Lease> peek(String attachmentUuid) {
+        CompletableFuture<DocumentArtifact> future = cache.getIfPresent(attachmentUuid);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        DocumentArtifact artifact = future.join();
+        return artifact.retain() ? Optional.of(new Lease(artifact)) : Optional.empty();
+    }
+
+    /**
+     * 获取页面缩略图，首次渲染后重新计算产物的缓存权重
+     *
+     * @param lease    产物租用句柄
+     * @param spec     渲染参数标识
+     * @param renderer 渲染逻辑
+     */
+    public List<byte[]> thumbnails(Lease lease, String spec, DocumentArtifact.ThumbnailRenderer renderer)
+            throws IOException {
+        DocumentArtifact artifact = lease.getArtifact();
+        boolean rendered = !artifact.hasThumbnails(spec);
+        List<byte[]> images = artifact.getThumbnails(spec, renderer);
+        if (rendered && enabled) {
+            cache.asMap().computeIfPresent(artifact.getAttachmentUuid(), (key, future) ->
+                future.isDone() && !future.isCompletedExceptionally() && future.join() == artifact
+                    ? CompletableFuture.completedFuture(artifact) : future);
+        }
+        return images;
+    }
+
+    private void load(String attachmentUuid, ArtifactLoader loader, CompletableFuture<DocumentArtifact> target) {
+        Path directory = instanceDir.resolve(UUID.randomUUID().toString());
+        try {
+            Files.createDirectories(directory);
+            DocumentArtifact artifact = loader.load(attachmentUuid, directory);
+            log.info("附件解析产物已生成: attachmentUuid={}, fileType={}, pageCount={}, size={} bytes",
+                attachmentUuid, artifact.getFileType(), artifact.getPageCount(), artifact.getSize());
+            target.complete(artifact);
+        } catch (Exception e) {
+            DocumentArtifact.deleteDirectory(directory);
+            target.completeExceptionally(e);
+        }
+    }
+
+    private static DocumentArtifact join(CompletableFuture<DocumentArtifact> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new FileProcessingException("附件解析失败: " + cause.getMessage(), cause);
+        }
+    }
+
+    private void counter(String result) {
+        meterRegistry.counter("contract.document.artifact.cache", "result", result).increment();
+    }
+
+    /**
+     * 在指定目录中下载并解析附件
+     */
+    @FunctionalInterface
+    public interface ArtifactLoader {
+
+        DocumentArtifact load(String attachmentUuid, Path directory) throws IOException;
+    }
+
+    /**
+     * 产物租用句柄，关闭后释放对产物文件的引用
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final DocumentArtifact artifact;
+        private boolean closed;
+
+        private Lease(DocumentArtifact artifact) {
+            this.artifact = artifact;
+        }
+
+        public DocumentArtifact getArtifact() {
+            return artifact;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                artifact.release();
+            }
+        }
+    }
+}
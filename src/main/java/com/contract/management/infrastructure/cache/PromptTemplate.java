@@ -0,0 +1,109 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.domain.model.Prompt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 预编译的提示词模板
+ * 加载时将{CONTENT}形式的占位符解析为片段，渲染时一次拼接完成，不再反复String.replace
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+public final class PromptTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Z][A-Z0-9_]*)}");
+
+    private final Prompt prompt;
+    private final List<Segment> segments;
+    private final int literalLength;
+
+    private PromptTemplate(Prompt prompt, List<Segment> segments, int literalLength) {
+        this.prompt = prompt;
+        this.segments = segments;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * 解析提示词内容中的占位符
+     */
+    public static PromptTemplate compile(Prompt prompt) {
+        String content = prompt.getPromptContent() != null ? prompt.getPromptContent().getValue() : "";
+        List<Segment> segments = new ArrayList<>();
+        int literalLength = 0;
+        int last = 0;
+
+        Matcher matcher = PLACEHOLDER.matcher(content);
+        while (matcher.find()) {
+            if (matcher.start() > last) {
+                String literal = content.substring(last, matcher.start());
+                segments.add(new Segment(literal, false));
+                literalLength += literal.length();
+            }
+            segments.add(new Segment(matcher.group(1), true));
+            last = matcher.end();
+        }
+        if (last < content.length()) {
+            String literal = content.substring(last);
+            segments.add(new Segment(literal, false));
+            literalLength += literal.length();
+        }
+        return new PromptTemplate(prompt, Collections.unmodifiableList(segments), literalLength);
+    }
+
+    /**
+     * 渲染模板，未提供值的占位符原样保留
+     *
+     * @param variables 占位符名称到取值的映射，如CONTENT
+     * @return 渲染后的提示词
+     */
+    public String render(Map<String, String> variables) {
+        int capacity = literalLength;
+        for (String value : variables.values()) {
+            capacity += value != null ? value.length() : 0;
+        }
+
+        StringBuilder builder = new StringBuilder(capacity);
+        for (Segment segment : segments) {
+            if (!segment.placeholder) {
+                builder.append(segment.text);
+            } else if (variables.containsKey(segment.text)) {
+                builder.append(variables.get(segment.text));
+            } else {
+                builder.append('{').append(segment.text).append('}');
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 未渲染的原始提示词内容
+     */
+    public String getContent() {
+        return prompt.getPromptContent() != null ? prompt.getPromptContent().getValue() : "";
+    }
+
+    public Prompt getPrompt() {
+        return prompt;
+    }
+
+    /**
+     * 模板片段：字面文本或占位符名称
+     */
+    private static final class Segment {
+
+        private final String text;
+        private final boolean placeholder;
+
+        private Segment(String text, boolean placeholder) {
+            this.text = text;
+            this.placeholder = placeholder;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.domain.model.Prompt;
+import com.contract.management.domain.model.valueobject.PromptType;
+import com.contract.management.domain.repository.PromptFilters;
+import com.contract.management.domain.repository.PromptRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 提示词模板本地缓存
+ * 按(名称, 类型)缓存已启用的预编译提示词模板；提示词写操作提交后清空本节点缓存，
+ * 并通过Redis发布订阅通知其他节点同步清空
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class PromptTemplateCache implements MessageListener {
+
+    /**
+     * 提示词失效通知频道
+     */
+    public static final String INVALIDATION_CHANNEL = "contract-management:prompt:invalidate";
+
+    private final PromptRepository promptRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, PromptTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * 每次失效递增，加载期间发生失效时不保留加载到的旧模板
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public PromptTemplateCache(PromptRepository promptRepository, StringRedisTemplate stringRedisTemplate) {
+        this.promptRepository = promptRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 获取已启用的提示词模板，未命中时查询数据库并缓存
+     *
+     * @param promptName 提示词名称
+     * @param promptType 提示词类型
+     * @return 预编译模板，不存在时为空
+     */
+    public Optional<PromptTemplate> find(String promptName, PromptType promptType) {
+        String key = promptType.getCode() + ":" + promptName;
+        PromptTemplate cached = templates.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long loadingGeneration = generation.get();
+        List<Prompt> prompts = promptRepository.findByFilters(PromptFilters.builder()
+            .promptName(promptName)
+            .promptType(promptType)
+            .enabled(true)
+            .build());
+        if (prompts == null || prompts.isEmpty()) {
+            log.warn("未找到有效的提示词模板: name={}, type={}", promptName, promptType);
+            return Optional.empty();
+        }
+
+        PromptTemplate template = PromptTemplate.compile(prompts.get(0));
+        templates.put(key, template);
+        // 失效先递增代数再清空：放入后代数已变化说明读库与放入之间发生过失效，撤回可能过期的模板
+        if (generation.get() != loadingGeneration) {
+            templates.remove(key, template);
+        }
+        log.debug("提示词模板已加载到本地缓存: name={}, type={}", promptName, promptType);
+        return Optional.of(template);
+    }
+
+    /**
+     * 提示词发生变更，清空所有节点的模板缓存
+     * 存在事务时延迟到提交后执行，避免并发读取在提交前把旧模板重新加载进缓存
+     */
+    public void invalidateAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clearAndPublish();
+                }
+            });
+        } else {
+            clearAndPublish();
+        }
+    }
+
+    /**
+     * 接收其他节点的失效通知
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        clearLocal();
+        log.info("收到提示词模板失效通知，已清空本地缓存");
+    }
+
+    private void clearAndPublish() {
+        clearLocal();
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("发布提示词模板失效通知失败，其他节点缓存将保留至下次变更", e);
+        }
+    }
+
+    private void clearLocal() {
+        generation.incrementAndGet();
+        templates.clear();
+    }
+}
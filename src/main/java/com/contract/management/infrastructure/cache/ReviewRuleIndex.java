@@ -0,0 +1,259 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.domain.model.ReviewRule;
+import com.contract.management.domain.model.valueobject.PromptMode;
+import com.contract.management.infrastructure.converter.ReviewRuleConverter;
+import com.contract.management.infrastructure.mapper.ReviewRuleMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 审查规则内存索引
+ * 将全部已启用规则按合同类型、条款类型和提示词模式建立位图索引，规则匹配只做位运算，不访问数据库。
+ * 索引为不可变快照，重建时整体替换（写时复制），读取无锁；
+ * 规则写操作提交后作废本节点快照，并通过Redis发布订阅通知其他节点作废，下次读取时重新加载。
+ * 发布订阅不保证送达，另有定时刷新兜底
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ReviewRuleIndex implements MessageListener {
+
+    /**
+     * 审查规则变更通知频道
+     */
+    public static final String CHANGE_CHANNEL = "contract-management:review-rule:changed";
+
+    /**
+     * 兜底规则的适用合同类型，与SQL中 'all' = ANY(applicable_contract_type) 一致
+     */
+    private static final String ALL_CONTRACT_TYPES = "all";
+
+    private final ReviewRuleMapper reviewRuleMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    /**
+     * 每次作废递增，加载期间发生变更时不安装旧快照
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public ReviewRuleIndex(ReviewRuleMapper reviewRuleMapper, StringRedisTemplate stringRedisTemplate) {
+        this.reviewRuleMapper = reviewRuleMapper;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 查找适用的已启用规则，结果顺序与原SQL一致
+     *
+     * @param contractType 合同类型
+     * @param clauseType 条款类型
+     * @param promptMode 提示词模式，为null时不按模式过滤
+     * @return 适用的规则列表，规则对象在快照间共享，调用方不应修改
+     */
+    public List<ReviewRule> findApplicable(String contractType, String clauseType, PromptMode promptMode) {
+        return currentSnapshot().find(contractType, clauseType, promptMode);
+    }
+
+    /**
+     * 审查规则发生变更，作废所有节点的索引
+     * 存在事务时延迟到提交后执行，避免并发读取在提交前加载旧数据
+     */
+    public void invalidateAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAndPublish();
+                }
+            });
+        } else {
+            invalidateAndPublish();
+        }
+    }
+
+    /**
+     * 接收其他节点的变更通知，忽略本节点发出的通知
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (nodeId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            return;
+        }
+        invalidateLocal();
+        log.info("收到审查规则变更通知，已作废本地规则索引");
+    }
+
+    /**
+     * 定时作废本地索引，兜底丢失的变更通知
+     */
+    @Scheduled(fixedDelayString = "${contract.review-rule.index.refresh-interval-ms:300000}")
+    public void refresh() {
+        invalidateLocal();
+    }
+
+    private void invalidateAndPublish() {
+        invalidateLocal();
+        try {
+            stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.warn("发布审查规则变更通知失败，其他节点将在定时刷新后同步", e);
+        }
+    }
+
+    private void invalidateLocal() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        // 使用ReentrantLock而非synchronized，虚拟线程在持锁等待数据库时不会钉住载体线程
+        loadLock.lock();
+        try {
+            current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            long loadingGeneration = generation.get();
+            current = Snapshot.build(ReviewRuleConverter.toDomainList(reviewRuleMapper.findByEnabled(true)));
+            if (generation.get() == loadingGeneration) {
+                snapshot = current;
+            }
+            log.debug("审查规则索引已加载: rules={}", current.size());
+            return current;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 不可变规则索引快照
+     * 规则按(规则类型, 创建时间倒序)排列，位图的第i位对应第i条规则
+     */
+    static final class Snapshot {
+
+        /**
+         * 规则类型按枚举声明顺序（专属、兜底、扩展）排列，而非按编码字符串的字典序
+         */
+        private static final Comparator<ReviewRule> RULE_TYPE_ORDER =
+            Comparator.comparingInt(rule -> rule.getRuleType().ordinal());
+
+        private static final Comparator<ReviewRule> BASE_ORDER = RULE_TYPE_ORDER
+            .thenComparing(ReviewRule::getCreateTime, Comparator.nullsLast(Comparator.reverseOrder()));
+
+        private static final Comparator<ReviewRule> MODE_ORDER = RULE_TYPE_ORDER
+            .thenComparing(ReviewRule::getPromptModeCode);
+
+        private final ReviewRule[] rules;
+        private final Map<String, BitSet> byContractType;
+        private final BitSet allContractTypes;
+        private final Map<String, BitSet> byClauseType;
+
+        /**
+         * 下标为模式编码，位图为该模式下生效（规则模式编码不大于该编码）的规则
+         */
+        private final BitSet[] byMode;
+
+        private Snapshot(ReviewRule[] rules, Map<String, BitSet> byContractType, BitSet allContractTypes,
+                         Map<String, BitSet> byClauseType, BitSet[] byMode) {
+            this.rules = rules;
+            this.byContractType = byContractType;
+            this.allContractTypes = allContractTypes;
+            this.byClauseType = byClauseType;
+            this.byMode = byMode;
+        }
+
+        static Snapshot build(List<ReviewRule> enabledRules) {
+            ReviewRule[] rules = enabledRules.stream()
+                .filter(rule -> Boolean.TRUE.equals(rule.getEnabled()))
+                .sorted(BASE_ORDER)
+                .toArray(ReviewRule[]::new);
+
+            Map<String, BitSet> byContractType = new HashMap<>();
+            BitSet allContractTypes = new BitSet(rules.length);
+            Map<String, BitSet> byClauseType = new HashMap<>();
+            int maxModeCode = 0;
+            for (PromptMode mode : PromptMode.values()) {
+                maxModeCode = Math.max(maxModeCode, mode.getCode());
+            }
+            BitSet[] byMode = new BitSet[maxModeCode + 1];
+            for (int code = 0; code <= maxModeCode; code++) {
+                byMode[code] = new BitSet(rules.length);
+            }
+
+            for (int i = 0; i < rules.length; i++) {
+                ReviewRule rule = rules[i];
+                for (String contractType : rule.getApplicableContractTypeList()) {
+                    if (ALL_CONTRACT_TYPES.equals(contractType)) {
+                        allContractTypes.set(i);
+                    } else {
+                        byContractType.computeIfAbsent(contractType, k -> new BitSet(rules.length)).set(i);
+                    }
+                }
+                for (String clauseType : rule.getApplicableClauseTypeList()) {
+                    byClauseType.computeIfAbsent(clauseType, k -> new BitSet(rules.length)).set(i);
+                }
+                for (int code = Math.max(rule.getPromptModeCode(), 0); code <= maxModeCode; code++) {
+                    byMode[code].set(i);
+                }
+            }
+            return new Snapshot(rules, Map.copyOf(byContractType), allContractTypes, Map.copyOf(byClauseType), byMode);
+        }
+
+        List<ReviewRule> find(String contractType, String clauseType, PromptMode promptMode) {
+            BitSet clauseRules = byClauseType.get(clauseType);
+            if (clauseRules == null) {
+                return List.of();
+            }
+
+            BitSet matched = (BitSet) allContractTypes.clone();
+            BitSet contractRules = byContractType.get(contractType);
+            if (contractRules != null) {
+                matched.or(contractRules);
+            }
+            matched.and(clauseRules);
+            if (promptMode != null) {
+                matched.and(byMode[promptMode.getCode()]);
+            }
+
+            List<ReviewRule> result = new ArrayList<>(matched.cardinality());
+            for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                result.add(rules[i]);
+            }
+            if (promptMode != null) {
+                // 稳定排序，同类型同模式内保持创建时间倒序
+                result.sort(MODE_ORDER);
+            }
+            return result;
+        }
+
+        int size() {
+            return rules.length;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.contract.management.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 两级缓存
+ * 本地Caffeine作为L1，Redis作为L2：读取先查L1，未命中再查L2并回填L1；
+ * 写入和删除同时作用于两级，并通知其他节点删除各自L1中的对应条目。
+ * 其他节点的加载可能在删除前读到提交前的数据、删除后才写入L2，删除和清空会在延迟后再执行一次；
+ * Redis不可用时退化为只使用L1，不影响业务读取
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache remoteCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final InvalidationPublisher invalidationPublisher;
+    private final DelayedEviction delayedEviction;
+
+    public TwoLevelCache(String name,
+                         Cache remoteCache,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         InvalidationPublisher invalidationPublisher,
+                         DelayedEviction delayedEviction) {
+        super(false);
+        this.name = name;
+        this.remoteCache = remoteCache;
+        this.localCache = localCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.delayedEviction = delayedEviction;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+        value = remoteGet(key);
+        if (value != null) {
+            localCache.put(localKey, value);
+        }
+        return value;
+    }
+
+    /**
+     * 同一节点对同一键的并发未命中只加载一次；loader返回null时不缓存
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) localCache.get(localKey(key), k -> {
+            Object value = remoteGet(key);
+            if (value != null) {
+                return value;
+            }
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            if (value != null) {
+                remotePut(key, value);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        remotePut(key, value);
+        localCache.put(localKey(key), value);
+        invalidationPublisher.publish(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictBothLevels(key);
+        delayedEviction.schedule(() -> evictBothLevels(key));
+    }
+
+    @Override
+    public void clear() {
+        clearBothLevels();
+        delayedEviction.schedule(this::clearBothLevels);
+    }
+
+    /**
+     * 仅删除本节点L1条目，用于处理其他节点的失效通知
+     *
+     * @param localKey 缓存键，为null时清空本节点L1
+     */
+    void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    /**
+     * L1统一使用字符串键，与Redis键及失效通知中的键保持一致
+     */
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private void evictBothLevels(Object key) {
+        try {
+            remoteCache.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("删除Redis缓存失败，将保留至过期: cache={}, key={}", name, key, e);
+        }
+        localCache.invalidate(localKey(key));
+        invalidationPublisher.publish(name, localKey(key));
+    }
+
+    private void clearBothLevels() {
+        try {
+            remoteCache.clear();
+        } catch (RuntimeException e) {
+            log.warn("清空Redis缓存失败，将保留至过期: cache={}", name, e);
+        }
+        localCache.invalidateAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    private Object remoteGet(Object key) {
+        try {
+            ValueWrapper wrapper = remoteCache.get(key);
+            return wrapper != null ? wrapper.get() : null;
+        } catch (RuntimeException e) {
+            log.warn("读取Redis缓存失败，回退到数据源: cache={}, key={}, error={}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void remotePut(Object key, Object value) {
+        try {
+            remoteCache.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("写入Redis缓存失败: cache={}, key={}, error={}", name, key, e.getMessage());
+        }
+    }
+
+    /**
+     * L1失效通知发布者
+     */
+    @FunctionalInterface
+    public interface InvalidationPublisher {
+
+        /**
+         * 通知其他节点删除L1条目
+         *
+         * @param cacheName 缓存名称
+         * @param key 缓存键，为null表示清空整个缓存
+         */
+        void publish(String cacheName, String key);
+    }
+
+    /**
+     * 延迟二次删除调度器
+     */
+    @FunctionalInterface
+    public interface DelayedEviction {
+
+        /**
+         * 在延迟后再次执行删除
+         *
+         * @param eviction 删除操作
+         */
+        void schedule(Runnable eviction);
+    }
+}
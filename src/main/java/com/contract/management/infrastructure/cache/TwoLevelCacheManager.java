@@ -0,0 +1,166 @@
+package com.contract.management.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 两级缓存管理器
+ * 每个缓存由本地有界L1和对应名称的Redis缓存L2组成，L2按缓存名称使用各自的过期时间；
+ * L1过期时间不超过L2，并通过Redis发布订阅接收其他节点的失效通知。
+ * 其他节点可能在删除前读到提交前的数据、删除后才把旧值写入L2，旧值会保留到L2过期，
+ * 因此删除和清空在延迟后再执行一次。加载耗时超过该延迟时旧值仍可能保留至L2过期
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager
+        implements MessageListener, DisposableBean {
+
+    /**
+     * 本地缓存失效通知频道
+     */
+    public static final String INVALIDATION_CHANNEL = "contract-management:cache:invalidate";
+
+    private static final char SEPARATOR = '\n';
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, Duration> cacheTtls;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final Duration doubleDeleteDelay;
+    private final ScheduledExecutorService doubleDeleteScheduler;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    /**
+     * @param redisCacheManager 已初始化的Redis缓存管理器，提供各缓存的L2
+     * @param stringRedisTemplate 用于发布失效通知
+     * @param cacheTtls 各缓存的Redis过期时间，用于限制L1过期时间
+     * @param localMaxSize 每个缓存L1最大条目数
+     * @param localTtl L1默认过期时间
+     * @param doubleDeleteDelay 删除后再次删除的延迟，为0时不做二次删除
+     */
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                StringRedisTemplate stringRedisTemplate,
+                                Map<String, Duration> cacheTtls,
+                                long localMaxSize,
+                                Duration localTtl,
+                                Duration doubleDeleteDelay) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheTtls = cacheTtls;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.doubleDeleteDelay = doubleDeleteDelay;
+        this.doubleDeleteScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-double-delete");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        doubleDeleteScheduler.shutdownNow();
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        for (String cacheName : redisCacheManager.getCacheNames()) {
+            caches.add(createCache(cacheName));
+        }
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    /**
+     * 接收其他节点的失效通知，只删除本节点L1
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : body.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            log.warn("忽略格式错误的缓存失效通知: {}", body);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, first))) {
+            return;
+        }
+
+        String cacheName = body.substring(first + 1, second);
+        String key = second + 1 < body.length() ? body.substring(second + 1) : null;
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        if (cache != null) {
+            cache.invalidateLocal(key);
+            log.debug("收到缓存失效通知: cache={}, key={}", cacheName, key);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        return twoLevelCaches.computeIfAbsent(name, cacheName -> {
+            Cache remoteCache = redisCacheManager.getCache(cacheName);
+            Duration ttl = cacheTtls.getOrDefault(cacheName, localTtl);
+            com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(ttl.compareTo(localTtl) < 0 ? ttl : localTtl)
+                .build();
+            return new TwoLevelCache(cacheName, remoteCache, localCache, this::publishInvalidation,
+                this::scheduleDoubleDelete);
+        });
+    }
+
+    private void scheduleDoubleDelete(Runnable eviction) {
+        if (doubleDeleteDelay.isZero() || doubleDeleteScheduler.isShutdown()) {
+            return;
+        }
+        try {
+            doubleDeleteScheduler.schedule(() -> {
+                try {
+                    eviction.run();
+                } catch (RuntimeException e) {
+                    log.warn("缓存二次删除失败", e);
+                }
+            }, doubleDeleteDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("缓存管理器已关闭，跳过二次删除");
+        }
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        String body = nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : "");
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, body);
+        } catch (Exception e) {
+            log.warn("发布缓存失效通知失败，其他节点本地缓存将保留至过期: cache={}, key={}", cacheName, key, e);
+        }
+    }
+}
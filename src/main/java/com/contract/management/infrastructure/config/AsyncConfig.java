@@ -1,27 +1,144 @@
 package com.contract.management.infrastructure.config;
 
+import com.contract.management.infrastructure.util.BoundedVirtualThreadExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
 
+    /**
+     * 是否启用虚拟线程，同时作用于Tomcat请求处理线程（Spring Boot内置）与以下任务执行器
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 条款抽取任务线程池
+     * 任务由ClauseExtractionJobWorker按空闲槽位从数据库领取，线程数即单节点并发上限；
+     * 虚拟线程模式下每个任务一个虚拟线程，并发上限改用virtual-concurrency；
+     * 队列长度、活跃线程数与拒绝次数以executor.*指标导出，name标签为Bean名称
+     */
     @Bean("clauseExtractionExecutor")
-    public Executor clauseExtractionExecutor() {
+    public Executor clauseExtractionExecutor(
+            @Value("${contract.extraction.job.concurrency:5}") int concurrency,
+            @Value("${contract.extraction.job.virtual-concurrency:100}") int virtualConcurrency,
+            MeterRegistry meterRegistry) {
+        if (virtualThreads) {
+            log.info("条款抽取执行器使用虚拟线程，并发上限: {}", virtualConcurrency);
+            return monitor(new BoundedVirtualThreadExecutor("clause-ext-vt-", virtualConcurrency),
+                "clauseExtractionExecutor", meterRegistry);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
         executor.setThreadNamePrefix("clause-ext-");
 
+        return monitor(executor, "clauseExtractionExecutor", meterRegistry);
+    }
+
+    /**
+     * 长文档分窗口抽取的窗口调用线程池，所有抽取任务共享
+     * 单个任务同时进行中的窗口数由contract.extraction.chunk.max-concurrent-windows限制，
+     * 实际模型并发仍受AiCallGovernor约束；虚拟线程模式下上限为任务并发数与单任务窗口数之积
+     */
+    @Bean("clauseExtractionWindowExecutor")
+    public Executor clauseExtractionWindowExecutor(
+            @Value("${contract.extraction.chunk.executor-threads:8}") int threads,
+            @Value("${contract.extraction.chunk.max-concurrent-windows:3}") int maxConcurrentWindows,
+            @Value("${contract.extraction.job.virtual-concurrency:100}") int virtualConcurrency,
+            MeterRegistry meterRegistry) {
+        if (virtualThreads) {
+            return monitor(new BoundedVirtualThreadExecutor("clause-win-vt-", virtualConcurrency * maxConcurrentWindows),
+                "clauseExtractionWindowExecutor", meterRegistry);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("clause-win-");
+
+        return monitor(executor, "clauseExtractionWindowExecutor", meterRegistry);
+    }
+
+    /**
+     * 合同分类任务线程池
+     * 有界队列，队列满时拒绝提交，由调用方返回限流响应；
+     * 虚拟线程模式下原先排队的任务直接并发执行，接纳总数仍为最大线程数与队列容量之和
+     */
+    @Bean("classificationExecutor")
+    public Executor classificationExecutor(
+            @Value("${contract.classification.executor.core-pool-size:8}") int corePoolSize,
+            @Value("${contract.classification.executor.max-pool-size:16}") int maxPoolSize,
+            @Value("${contract.classification.executor.queue-capacity:500}") int queueCapacity) {
+        if (virtualThreads) {
+            log.info("合同分类执行器使用虚拟线程，并发上限: {}", maxPoolSize + queueCapacity);
+            return new BoundedVirtualThreadExecutor("classify-vt-", maxPoolSize + queueCapacity);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("classify-");
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 初始化线程池并导出指标：队列长度、活跃线程数等使用Micrometer线程池指标，另计拒绝次数
+     */
+    private static ThreadPoolTaskExecutor monitor(ThreadPoolTaskExecutor executor, String name,
+                                                  MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .tag("name", name)
+                .description("线程池拒绝的任务数")
+                .register(meterRegistry);
+        ThreadPoolExecutor.AbortPolicy abortPolicy = new ThreadPoolExecutor.AbortPolicy();
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            abortPolicy.rejectedExecution(task, pool);
+        });
         executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 导出虚拟线程执行器指标：执行中的任务数、并发上限与拒绝次数，没有排队
+     */
+    private static BoundedVirtualThreadExecutor monitor(BoundedVirtualThreadExecutor executor, String name,
+                                                        MeterRegistry meterRegistry) {
+        Gauge.builder("executor.active", executor, BoundedVirtualThreadExecutor::getActiveCount)
+                .tag("name", name)
+                .description("执行中的任务数")
+                .register(meterRegistry);
+        Gauge.builder("executor.pool.max", executor, BoundedVirtualThreadExecutor::getMaxConcurrency)
+                .tag("name", name)
+                .description("并发上限")
+                .register(meterRegistry);
+        FunctionCounter.builder("executor.rejected", executor, BoundedVirtualThreadExecutor::getRejectedCount)
+                .tag("name", name)
+                .description("并发已达上限被拒绝的任务数")
+                .register(meterRegistry);
         return executor;
     }
-}
\ No newline at end of file
+}
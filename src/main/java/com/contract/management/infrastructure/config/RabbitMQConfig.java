@@ -32,6 +32,11 @@ public class RabbitMQConfig {
     public static final String CONTRACT_UPDATED_ROUTING_KEY = "contract.updated";
     public static final String CONTRACT_DELETED_ROUTING_KEY = "contract.deleted";
     public static final String CONTRACT_STATUS_CHANGED_ROUTING_KEY = "contract.status.changed";
+    // 分类完成事件只发布到交换机，由下游消费方自行声明并绑定队列
+    public static final String CONTRACT_CLASSIFICATION_COMPLETED_ROUTING_KEY = "contract.classification.completed";
+
+    // 条款抽取进度广播交换机，每个节点绑定一个独占的匿名队列
+    public static final String CLAUSE_EXTRACTION_PROGRESS_EXCHANGE = "clause.extraction.progress.exchange";
 
     /**
      * 消息转换器 - 使用JSON格式
@@ -140,4 +145,25 @@ public class RabbitMQConfig {
                 .to(contractExchange())
                 .with(CONTRACT_STATUS_CHANGED_ROUTING_KEY);
     }
-}
\ No newline at end of file
+
+    /**
+     * 条款抽取进度广播：扇出交换机 + 每节点匿名队列（非持久、独占、断开即删除），
+     * 进度事件只对在线的订阅者有意义，不需要持久化
+     */
+    @Bean
+    public FanoutExchange clauseExtractionProgressExchange() {
+        return new FanoutExchange(CLAUSE_EXTRACTION_PROGRESS_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue clauseExtractionProgressQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding clauseExtractionProgressBinding() {
+        return BindingBuilder
+                .bind(clauseExtractionProgressQueue())
+                .to(clauseExtractionProgressExchange());
+    }
+}
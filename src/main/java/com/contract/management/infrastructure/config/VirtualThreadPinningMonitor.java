@@ -0,0 +1,106 @@
+package com.contract.management.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 虚拟线程钉住诊断
+ * 通过JFR事件jdk.VirtualThreadPinned监控虚拟线程在synchronized块或本地方法中阻塞导致载体线程被占用的情况，
+ * PDFBox解析与COS SDK内部均有synchronized同步块，钉住时长超过阈值时输出相关栈帧并按来源计数
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"spring.threads.virtual.enabled", "contract.virtual-threads.pinning-monitor.enabled"},
+    havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${contract.virtual-threads.pinning-monitor.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+            log.info("虚拟线程钉住诊断已启动，阈值: {}ms", thresholdMs);
+        } catch (Exception e) {
+            log.warn("虚拟线程钉住诊断启动失败，当前JVM可能不支持JFR事件: {}", e.getMessage());
+            recordingStream = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String source = classifySource(frames);
+        meterRegistry.counter("contract.virtual-thread.pinned", "source", source).increment();
+
+        StringBuilder stack = new StringBuilder();
+        for (int i = 0; i < frames.size() && i < MAX_LOGGED_FRAMES; i++) {
+            RecordedFrame frame = frames.get(i);
+            if (frame.getMethod() == null || frame.getMethod().getType() == null) {
+                continue;
+            }
+            stack.append("\n\tat ").append(frame.getMethod().getType().getName())
+                .append('.').append(frame.getMethod().getName())
+                .append(':').append(frame.getLineNumber());
+        }
+        log.warn("虚拟线程被钉住{}ms，来源: {}, 线程: {}{}", event.getDuration().toMillis(), source,
+            event.getThread() != null ? event.getThread().getJavaName() : "unknown", stack);
+    }
+
+    /**
+     * 按栈帧所属类库归类钉住来源
+     */
+    private static String classifySource(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod() == null || frame.getMethod().getType() == null) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (className.startsWith("org.apache.pdfbox.")) {
+                return "pdfbox";
+            }
+            if (className.startsWith("com.qcloud.cos.")) {
+                return "cos";
+            }
+            if (className.startsWith("com.contract.")) {
+                return "application";
+            }
+        }
+        return "other";
+    }
+}
@@ -0,0 +1,33 @@
+package com.contract.management.infrastructure.dto;
+
+import lombok.Data;
+
+/**
+ * 操作日志分区信息
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Data
+public class OperationLogPartition {
+
+    /**
+     * 分区表名
+     */
+    private String name;
+
+    /**
+     * 分区范围表达式，如 FOR VALUES FROM ('2025-01-01 00:00:00') TO ('2025-02-01 00:00:00')
+     */
+    private String bound;
+
+    /**
+     * 统计信息中的估算行数
+     */
+    private Long estimatedRows;
+
+    /**
+     * 是否处于并发分离未完成状态
+     */
+    private Boolean detachPending;
+}
@@ -59,6 +59,36 @@ public class ClauseExtractionEntity {
     @TableField("completed_at")
     private LocalDateTime completedAt;
 
+    /**
+     * 待抽取文件UUID
+     */
+    @TableField("file_uuid")
+    private String fileUuid;
+
+    /**
+     * 租约持有节点
+     */
+    @TableField("lease_owner")
+    private String leaseOwner;
+
+    /**
+     * 租约到期时间
+     */
+    @TableField("lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    /**
+     * 最近心跳时间
+     */
+    @TableField("heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * 已领取次数
+     */
+    @TableField("attempts")
+    private Integer attempts;
+
     /**
      * 创建人
      */
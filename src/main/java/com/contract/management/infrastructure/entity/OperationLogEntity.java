@@ -71,6 +71,18 @@ public class OperationLogEntity {
     @TableField("execution_time_ms")
     private Long executionTimeMs;
 
+    /**
+     * 条款抽取ID，取自操作详情参数，用于按抽取ID走索引查询
+     */
+    @TableField("extraction_id")
+    private Long extractionId;
+
+    /**
+     * 合同ID，取自操作详情参数
+     */
+    @TableField("contract_id")
+    private Long contractId;
+
     /**
      * 创建时间
      */
@@ -0,0 +1,204 @@
+package com.contract.management.infrastructure.job;
+
+import com.contract.management.domain.event.ClauseExtractionProgressEvent;
+import com.contract.management.domain.model.valueobject.ExtractionId;
+import com.contract.management.domain.model.valueobject.ExtractionStatus;
+import com.contract.management.infrastructure.entity.ClauseExtractionEntity;
+import com.contract.management.infrastructure.mapper.ClauseExtractionMapper;
+import com.contract.management.infrastructure.messaging.ClauseExtractionProgressPublisher;
+import com.contract.management.infrastructure.service.ClauseExtractionService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 条款抽取任务工作节点
+ * 以clause_extractions表作为持久化任务队列：定时领取PENDING任务及租约过期的PROCESSING任务，
+ * 处理期间定时续约；节点宕机或重启后租约到期，任务由任意节点重新领取，领取次数超过上限的任务标记为失败
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ClauseExtractionJobWorker {
+
+    private static final String EXHAUSTED_MESSAGE = "条款抽取任务多次中断，已超过最大领取次数";
+
+    private final ClauseExtractionMapper clauseExtractionMapper;
+    private final ClauseExtractionService clauseExtractionService;
+    private final ClauseExtractionProgressPublisher progressPublisher;
+    private final Executor clauseExtractionExecutor;
+    private final String workerId;
+    private final Map<Long, FutureTask<Void>> runningJobs = new ConcurrentHashMap<>();
+
+    @Value("${contract.extraction.job.enabled:true}")
+    private boolean enabled;
+
+    @Value("${contract.extraction.job.concurrency:5}")
+    private int concurrency;
+
+    @Value("${contract.extraction.job.virtual-concurrency:100}")
+    private int virtualConcurrency;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${contract.extraction.job.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${contract.extraction.job.max-attempts:3}")
+    private int maxAttempts;
+
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private volatile boolean shuttingDown;
+
+    public ClauseExtractionJobWorker(ClauseExtractionMapper clauseExtractionMapper,
+                                     ClauseExtractionService clauseExtractionService,
+                                     ClauseExtractionProgressPublisher progressPublisher,
+                                     @Qualifier("clauseExtractionExecutor") Executor clauseExtractionExecutor) {
+        this.clauseExtractionMapper = clauseExtractionMapper;
+        this.clauseExtractionService = clauseExtractionService;
+        this.progressPublisher = progressPublisher;
+        this.clauseExtractionExecutor = clauseExtractionExecutor;
+        this.workerId = ManagementFactory.getRuntimeMXBean().getName() + ":"
+            + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 有新任务入队时立即尝试领取，不必等待下一次轮询
+     */
+    public void wakeUp() {
+        try {
+            poll();
+        } catch (Exception e) {
+            log.warn("领取条款抽取任务失败，等待下次轮询: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 按空闲槽位领取任务，保证提交给线程池的任务不会超过并发上限
+     * 使用ReentrantLock而非synchronized，虚拟线程在持锁等待数据库时不会钉住载体线程
+     */
+    @Scheduled(fixedDelayString = "${contract.extraction.job.poll-interval-ms:5000}")
+    public void poll() {
+        if (!enabled || shuttingDown) {
+            return;
+        }
+        pollLock.lock();
+        try {
+            int freeSlots = (virtualThreads ? virtualConcurrency : concurrency) - runningJobs.size();
+            if (freeSlots <= 0) {
+                return;
+            }
+
+            List<ClauseExtractionEntity> jobs = clauseExtractionMapper.claimJobs(workerId, freeSlots, leaseSeconds, maxAttempts);
+            for (ClauseExtractionEntity job : jobs) {
+                log.info("领取条款抽取任务: extractionId={}, contractId={}, attempt={}, worker={}",
+                    job.getId(), job.getContractId(), job.getAttempts(), workerId);
+                submit(job);
+            }
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * 为处理中的任务续约；续约失败说明任务已被取消或租约被其他节点接手，中断本地执行
+     */
+    @Scheduled(fixedDelayString = "${contract.extraction.job.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        runningJobs.forEach((id, task) -> {
+            try {
+                if (clauseExtractionMapper.renewLease(id, workerId, leaseSeconds) == 0) {
+                    log.warn("条款抽取任务租约已失效，中断本地执行: extractionId={}", id);
+                    task.cancel(true);
+                }
+            } catch (Exception e) {
+                log.warn("条款抽取任务续约失败: extractionId={}, error={}", id, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 租约过期且领取次数已达上限的任务不再重试，标记为失败并推送终态事件，进度订阅随之关闭
+     */
+    @Scheduled(fixedDelayString = "${contract.extraction.job.recover-interval-ms:60000}")
+    public void failExhaustedJobs() {
+        if (!enabled) {
+            return;
+        }
+        List<ClauseExtractionEntity> failed = clauseExtractionMapper.failExhaustedJobs(maxAttempts, EXHAUSTED_MESSAGE);
+        if (failed.isEmpty()) {
+            return;
+        }
+        log.warn("已将{}个超过最大领取次数的条款抽取任务标记为失败", failed.size());
+        for (ClauseExtractionEntity job : failed) {
+            ClauseExtractionProgressEvent event = ClauseExtractionProgressEvent.of(
+                job.getId(), job.getContractId(), ExtractionStatus.FAILED);
+            event.setErrorMessage(EXHAUSTED_MESSAGE);
+            progressPublisher.publish(event);
+        }
+    }
+
+    /**
+     * 停机时让本节点持有的租约立即过期，其他节点无需等待租约超时即可接手
+     */
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        runningJobs.forEach((id, task) -> {
+            try {
+                clauseExtractionMapper.expireLease(id, workerId);
+            } catch (Exception e) {
+                log.warn("释放条款抽取任务租约失败: extractionId={}", id, e);
+            }
+        });
+    }
+
+    private void submit(ClauseExtractionEntity job) {
+        Long id = job.getId();
+        // 在done()中腾出槽位：尚未开始执行就被取消的任务不会进入run()，由finally清理会导致槽位永久泄漏
+        FutureTask<Void> task = new FutureTask<>(() -> run(job), null) {
+            @Override
+            protected void done() {
+                runningJobs.remove(id, this);
+            }
+        };
+        runningJobs.put(id, task);
+        try {
+            clauseExtractionExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            runningJobs.remove(id, task);
+            clauseExtractionMapper.expireLease(id, workerId);
+            log.warn("条款抽取线程池已满，任务交还队列: extractionId={}", id);
+        }
+    }
+
+    private void run(ClauseExtractionEntity job) {
+        Long id = job.getId();
+        try {
+            clauseExtractionService.extractClauses(ExtractionId.of(id), job.getContractId(), job.getFileUuid(),
+                () -> clauseExtractionMapper.countHeldLease(id, workerId) > 0);
+        } catch (Exception e) {
+            log.error("条款抽取任务执行异常: extractionId={}", id, e);
+        } finally {
+            if (!shuttingDown) {
+                clauseExtractionMapper.releaseLease(id, workerId);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.contract.management.infrastructure.job;
+
+import com.contract.management.infrastructure.dto.OperationLogPartition;
+import com.contract.management.infrastructure.mapper.OperationLogMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 操作日志抽取ID/合同ID列在线回填
+ * 启动后在后台线程按ID区间分批回填，每批一条UPDATE、批间暂停，不长时间持锁；
+ * 进度记录在operation_log_backfill表，多个节点通过last_id乐观推进，重启后从断点继续。
+ * 回填完成后由持有PostgreSQL咨询锁的节点在每个已有分区上并发创建索引并挂接到父索引，全部完成后标记任务结束
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class OperationLogBackfillJob {
+
+    static final String BACKFILL_NAME = "extraction_columns";
+    static final String EXTRACTION_ID_INDEX = "idx_operation_log_extraction_id";
+    static final String CONTRACT_ID_INDEX = "idx_operation_log_contract_id";
+    static final String INDEX_LOCK_NAME = "operation_log_backfill_index";
+
+    private final OperationLogMapper operationLogMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${contract.operation-log.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${contract.operation-log.backfill.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${contract.operation-log.backfill.pause-ms:200}")
+    private long pauseMs;
+
+    private volatile boolean stopped;
+
+    public OperationLogBackfillJob(OperationLogMapper operationLogMapper, JdbcTemplate jdbcTemplate) {
+        this.operationLogMapper = operationLogMapper;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("操作日志回填中断，下次启动时从断点继续", e);
+            }
+        }, "operation-log-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    void run() throws InterruptedException {
+        Long lastId = operationLogMapper.findBackfillLastId(BACKFILL_NAME);
+        if (lastId == null) {
+            return;
+        }
+        boolean completed = operationLogMapper.findBackfillProgress(BACKFILL_NAME) == null;
+        log.info(completed ? "开始补偿回填操作日志抽取ID列: fromId={}" : "开始回填操作日志抽取ID列: fromId={}", lastId);
+
+        long updated = backfillUntilIdle();
+        if (updated < 0) {
+            return;
+        }
+        log.info("操作日志抽取ID列回填完成: updated={}", updated);
+        if (completed) {
+            return;
+        }
+
+        // 多个节点可能同时回填完成，由持有咨询锁的节点建索引，其余节点直接退出
+        Boolean indexed = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(hashtext(?))")) {
+                return false;
+            }
+            try {
+                if (operationLogMapper.findBackfillProgress(BACKFILL_NAME) == null) {
+                    return false;
+                }
+                createPartitionIndexes(EXTRACTION_ID_INDEX, "_extraction_id_idx",
+                    operationLogMapper::createExtractionIdIndex);
+                createPartitionIndexes(CONTRACT_ID_INDEX, "_contract_id_idx",
+                    operationLogMapper::createContractIdIndex);
+                if (stopped) {
+                    return false;
+                }
+                operationLogMapper.completeBackfill(BACKFILL_NAME);
+                return true;
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(hashtext(?))");
+            }
+        });
+        if (Boolean.TRUE.equals(indexed)) {
+            log.info("操作日志抽取ID索引创建完成");
+        }
+    }
+
+    /**
+     * 滚动发布期间尚未升级的节点仍在写入未填充新列的日志，其ID大于开始时读取的最大ID。
+     * 每轮回填到当时的最大ID后重新读取，直到某一轮没有需要回填的行；
+     * 任务完成后每次启动仍会补偿一轮，发布中最后启动的节点会回填老节点最后写入的日志
+     *
+     * @return 回填的行数，节点停止时返回-1
+     */
+    private long backfillUntilIdle() throws InterruptedException {
+        long total = 0;
+        long updated;
+        do {
+            updated = backfillPass();
+            if (updated < 0) {
+                return -1;
+            }
+            total += updated;
+        } while (updated > 0);
+        return total;
+    }
+
+    /**
+     * 从当前进度按ID区间分批回填到当前最大ID
+     */
+    private long backfillPass() throws InterruptedException {
+        long lastId = operationLogMapper.findBackfillLastId(BACKFILL_NAME);
+        long maxId = operationLogMapper.findMaxId();
+        long updated = 0;
+        while (lastId < maxId) {
+            if (stopped) {
+                return -1;
+            }
+            long toId = Math.min(lastId + batchSize, maxId);
+            updated += operationLogMapper.backfillExtractionColumns(lastId, toId);
+            if (operationLogMapper.advanceBackfill(BACKFILL_NAME, lastId, toId) == 0) {
+                // 进度已被其他节点推进，重新读取
+                lastId = operationLogMapper.findBackfillLastId(BACKFILL_NAME);
+                continue;
+            }
+            lastId = toId;
+            if (pauseMs > 0) {
+                Thread.sleep(pauseMs);
+            }
+        }
+        return updated;
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, INDEX_LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * 为尚未挂接索引的分区并发建索引后挂接；迁移后新建的分区已自动带有索引，直接跳过
+     */
+    private void createPartitionIndexes(String parentIndex, String suffix, Consumer<String> createIndex) {
+        Set<String> indexed = new HashSet<>(operationLogMapper.findPartitionsWithIndex(parentIndex));
+        for (OperationLogPartition partition : operationLogMapper.listPartitions()) {
+            String name = partition.getName();
+            if (stopped || indexed.contains(name)) {
+                continue;
+            }
+            createIndex.accept(name);
+            operationLogMapper.attachPartitionIndex(parentIndex, name + suffix);
+            log.info("已创建并挂接分区索引: partition={}, index={}", name, parentIndex);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.contract.management.infrastructure.job;
+
+import com.contract.management.infrastructure.dto.OperationLogPartition;
+import com.contract.management.infrastructure.mapper.OperationLogMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 操作日志分区管理
+ * operation_log按created_time月度范围分区：启动时及每天定时预建之后若干个月的分区；
+ * 清理过期日志时只处理上界不晚于截止时间的整个分区，先并发分离再删除表，
+ * 不逐行删除，截止时间所在月份的分区保留到整月过期。
+ * 预建落后时日志写入默认分区，创建对应月份分区时从默认分区移入；默认分区中的过期日志逐行删除
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OperationLogPartitionManager {
+
+    private static final String PARTITION_PREFIX = "operation_log_p";
+    private static final String DEFAULT_BOUND = "DEFAULT";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+
+    private final OperationLogMapper operationLogMapper;
+
+    @Value("${contract.operation-log.partition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${contract.operation-log.partition.premake-months:3}")
+    private int premakeMonths;
+
+    /**
+     * 预建当月及之后premake-months个月的分区，多个节点同时执行时由IF NOT EXISTS和异常处理兜底
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${contract.operation-log.partition.maintain-cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            ensurePartitions(LocalDate.now());
+        } catch (Exception e) {
+            log.error("预建操作日志分区失败", e);
+        }
+    }
+
+    void ensurePartitions(LocalDate today) {
+        List<OperationLogPartition> partitions = operationLogMapper.listPartitions();
+        String defaultPartition = defaultPartitionName(partitions);
+        // 已有分区（含历史分区）覆盖到的最晚时间，之前的月份不再创建，避免范围重叠
+        LocalDateTime coveredUntil = partitions.stream()
+            .map(partition -> upperBound(partition.getBound()))
+            .filter(bound -> bound != null)
+            .max(LocalDateTime::compareTo)
+            .orElse(LocalDateTime.MIN);
+
+        LocalDate month = today.withDayOfMonth(1);
+        for (int i = 0; i <= premakeMonths; i++, month = month.plusMonths(1)) {
+            if (month.atStartOfDay().isBefore(coveredUntil)) {
+                continue;
+            }
+            String name = PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+            String from = month.toString();
+            String to = month.plusMonths(1).toString();
+            try {
+                if (defaultPartition != null && operationLogMapper.existsInDefaultPartition(defaultPartition, from, to)) {
+                    operationLogMapper.createPartitionFromDefault(name, defaultPartition, from, to);
+                    log.warn("已创建操作日志分区并从默认分区移入日志: {}", name);
+                } else {
+                    operationLogMapper.createPartition(name, from, to);
+                    log.info("已创建操作日志分区: {}", name);
+                }
+            } catch (Exception e) {
+                log.warn("创建操作日志分区失败: partition={}, error={}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 删除上界不晚于截止时间的分区
+     * 并发分离不能在事务中执行，因此挂起调用方事务
+     *
+     * @param cutoff 截止时间
+     * @return 删除的日志数，按统计信息估算
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long dropPartitionsBefore(LocalDateTime cutoff) {
+        List<OperationLogPartition> partitions = operationLogMapper.listPartitions();
+        long droppedRows = 0;
+        for (OperationLogPartition partition : partitions) {
+            if (DEFAULT_BOUND.equals(partition.getBound())) {
+                int deleted = operationLogMapper.deleteFromDefaultPartition(partition.getName(), cutoff);
+                droppedRows += deleted;
+                if (deleted > 0) {
+                    log.info("已删除默认分区中的过期操作日志: partition={}, rows={}", partition.getName(), deleted);
+                }
+                continue;
+            }
+            LocalDateTime upperBound = upperBound(partition.getBound());
+            if (upperBound == null || upperBound.isAfter(cutoff)) {
+                continue;
+            }
+            String name = partition.getName();
+            if (Boolean.TRUE.equals(partition.getDetachPending())) {
+                operationLogMapper.finalizeDetachPartition(name);
+            } else {
+                operationLogMapper.detachPartitionConcurrently(name);
+            }
+            operationLogMapper.dropPartitionTable(name);
+            droppedRows += partition.getEstimatedRows() != null ? partition.getEstimatedRows() : 0;
+            log.info("已删除过期操作日志分区: partition={}, upperBound={}, estimatedRows={}",
+                name, upperBound, partition.getEstimatedRows());
+        }
+        return droppedRows;
+    }
+
+    private static String defaultPartitionName(List<OperationLogPartition> partitions) {
+        return partitions.stream()
+            .filter(partition -> DEFAULT_BOUND.equals(partition.getBound()))
+            .map(OperationLogPartition::getName)
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * 解析分区范围上界，MAXVALUE或默认分区返回null
+     */
+    static LocalDateTime upperBound(String bound) {
+        if (bound == null) {
+            return null;
+        }
+        Matcher matcher = UPPER_BOUND.matcher(bound);
+        if (!matcher.find()) {
+            return null;
+        }
+        String value = matcher.group(1).trim();
+        return value.length() == 10
+            ? LocalDate.parse(value).atStartOfDay()
+            : LocalDateTime.parse(value.replace(' ', 'T'));
+    }
+}
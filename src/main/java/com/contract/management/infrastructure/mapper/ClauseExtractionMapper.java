@@ -3,9 +3,13 @@ package com.contract.management.infrastructure.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.contract.management.infrastructure.entity.ClauseExtractionEntity;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
+import java.util.List;
+
 /**
  * 条款抽取Mapper
  *
@@ -20,4 +24,71 @@ public interface ClauseExtractionMapper extends BaseMapper<ClauseExtractionEntit
      */
     @Update("UPDATE clause_extractions SET is_deleted = true, updated_time = CURRENT_TIMESTAMP WHERE contract_id = #{contractId} AND is_deleted = false")
     int deleteByContractId(@Param("contractId") Long contractId);
-}
\ No newline at end of file
+
+    /**
+     * 领取待处理任务并写入租约
+     * 等待中的任务以及租约已过期或已释放的处理中任务均可领取；SKIP LOCKED保证多个节点并发领取时互不重复
+     */
+    @Select("UPDATE clause_extractions e SET status = 'PROCESSING', lease_owner = #{owner}, " +
+            "lease_expires_at = CURRENT_TIMESTAMP + #{leaseSeconds} * INTERVAL '1 second', " +
+            "heartbeat_at = CURRENT_TIMESTAMP, started_at = CURRENT_TIMESTAMP, attempts = e.attempts + 1 " +
+            "WHERE e.id IN (SELECT id FROM clause_extractions " +
+            "  WHERE is_deleted = false AND file_uuid IS NOT NULL AND attempts < #{maxAttempts} " +
+            "  AND (status = 'PENDING' OR (status = 'PROCESSING' AND (lease_expires_at IS NULL OR lease_expires_at < CURRENT_TIMESTAMP))) " +
+            "  ORDER BY id LIMIT #{limit} FOR UPDATE SKIP LOCKED) " +
+            "RETURNING e.id, e.contract_id, e.file_uuid, e.attempts, e.lease_expires_at")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    List<ClauseExtractionEntity> claimJobs(@Param("owner") String owner,
+                                           @Param("limit") int limit,
+                                           @Param("leaseSeconds") long leaseSeconds,
+                                           @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 续约，仅当租约仍由当前节点持有且任务仍在处理中时生效
+     */
+    @Update("UPDATE clause_extractions SET lease_expires_at = CURRENT_TIMESTAMP + #{leaseSeconds} * INTERVAL '1 second', " +
+            "heartbeat_at = CURRENT_TIMESTAMP " +
+            "WHERE id = #{id} AND lease_owner = #{owner} AND status = 'PROCESSING' AND is_deleted = false")
+    int renewLease(@Param("id") Long id, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 检查当前节点是否仍持有任务租约
+     */
+    @Select("SELECT COUNT(1) FROM clause_extractions " +
+            "WHERE id = #{id} AND lease_owner = #{owner} AND status = 'PROCESSING' " +
+            "AND lease_expires_at >= CURRENT_TIMESTAMP AND is_deleted = false")
+    int countHeldLease(@Param("id") Long id, @Param("owner") String owner);
+
+    /**
+     * 释放租约
+     */
+    @Update("UPDATE clause_extractions SET lease_owner = NULL, lease_expires_at = NULL " +
+            "WHERE id = #{id} AND lease_owner = #{owner}")
+    int releaseLease(@Param("id") Long id, @Param("owner") String owner);
+
+    /**
+     * 重置等待中任务的领取次数并清除租约，任务重试时调用
+     */
+    @Update("UPDATE clause_extractions SET attempts = 0, lease_owner = NULL, lease_expires_at = NULL, heartbeat_at = NULL " +
+            "WHERE id = #{id} AND status = 'PENDING'")
+    int resetClaim(@Param("id") Long id);
+
+    /**
+     * 立即使租约过期，节点停机时调用，让其他节点无需等待租约超时即可接手
+     */
+    @Update("UPDATE clause_extractions SET lease_expires_at = CURRENT_TIMESTAMP " +
+            "WHERE id = #{id} AND lease_owner = #{owner} AND status = 'PROCESSING'")
+    int expireLease(@Param("id") Long id, @Param("owner") String owner);
+
+    /**
+     * 将租约过期且领取次数已达上限的任务标记为失败，返回被标记的任务以便推送终态事件
+     */
+    @Select("UPDATE clause_extractions SET status = 'FAILED', error_message = #{errorMessage}, " +
+            "completed_at = CURRENT_TIMESTAMP, lease_owner = NULL, lease_expires_at = NULL " +
+            "WHERE is_deleted = false AND status = 'PROCESSING' AND (lease_expires_at IS NULL OR lease_expires_at < CURRENT_TIMESTAMP) " +
+            "AND attempts >= #{maxAttempts} " +
+            "RETURNING id, contract_id, attempts")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    List<ClauseExtractionEntity> failExhaustedJobs(@Param("maxAttempts") int maxAttempts,
+                                                   @Param("errorMessage") String errorMessage);
+}
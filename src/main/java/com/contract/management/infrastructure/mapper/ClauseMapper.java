@@ -89,13 +89,15 @@ public interface ClauseMapper extends BaseMapper<ClauseEntity> {
 
     /**
      * 根据内容关键词搜索条款
+     * 依赖pg_trgm三元组索引，标题命中的条款排在前面
      *
      * @param keyword 关键词
      * @return 条款列表
      */
     @Select("SELECT * FROM clause WHERE is_deleted = false AND " +
             "(clause_title ILIKE CONCAT('%', #{keyword}, '%') OR clause_content ILIKE CONCAT('%', #{keyword}, '%')) " +
-            "ORDER BY created_time DESC")
+            "ORDER BY (clause_title ILIKE CONCAT('%', #{keyword}, '%')) DESC, " +
+            "word_similarity(#{keyword}, COALESCE(clause_title, '')) DESC, created_time DESC")
     List<ClauseEntity> findByContentKeyword(@Param("keyword") String keyword);
 
     
@@ -187,6 +189,9 @@ public interface ClauseMapper extends BaseMapper<ClauseEntity> {
      * @param createdTimeStart 创建时间开始
      * @param createdTimeEnd 创建时间结束
      * @param createdBy 创建人
+     * @param cursorTime 游标创建时间，与cursorId同时非空时只返回游标之后的记录
+     * @param cursorId 游标ID
+     * @param rankByRelevance 有关键词时是否按相关度排序，否则按创建时间倒序
      * @return 分页结果
      */
     IPage<ClauseEntity> selectByFilters(
@@ -203,6 +208,26 @@ public interface ClauseMapper extends BaseMapper<ClauseEntity> {
             @Param("hasRiskFactorsOnly") Boolean hasRiskFactorsOnly,
             @Param("createdTimeStart") LocalDateTime createdTimeStart,
             @Param("createdTimeEnd") LocalDateTime createdTimeEnd,
-            @Param("createdBy") Long createdBy
+            @Param("createdBy") Long createdBy,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            @Param("rankByRelevance") boolean rankByRelevance
     );
-}
\ No newline at end of file
+
+    /**
+     * 读取表行数统计值（pg_class.reltuples），由ANALYZE/autovacuum维护，含逻辑删除的行
+     *
+     * @return 估算行数，表从未分析过时为0
+     */
+    @Select("SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'clause'::regclass")
+    long estimateRowCount();
+
+    /**
+     * 多行批量插入条款，插入后回填每个实体的ID
+     * 单批行数需控制在PostgreSQL绑定参数上限（32767）以内
+     *
+     * @param clauses 条款实体列表
+     * @return 插入数量
+     */
+    int insertBatch(@Param("clauses") List<ClauseEntity> clauses);
+}
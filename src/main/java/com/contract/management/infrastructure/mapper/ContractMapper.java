@@ -95,6 +95,14 @@ public interface ContractMapper extends BaseMapper<ContractEntity> {
     @Select("SELECT contract_type as type, COUNT(*) as count FROM contract WHERE is_deleted = false GROUP BY contract_type")
     List<Map<String, Object>> getTypeStatistics();
 
+    /**
+     * 读取表行数统计值（pg_class.reltuples），由ANALYZE/autovacuum维护，含逻辑删除的行
+     *
+     * @return 估算行数，表从未分析过时为0
+     */
+    @Select("SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'contract'::regclass")
+    long estimateRowCount();
+
     
     /**
      * 查找需要关注的合同（即将到期等）
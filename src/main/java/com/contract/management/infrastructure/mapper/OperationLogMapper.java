@@ -1,6 +1,7 @@
 package com.contract.management.infrastructure.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.contract.management.infrastructure.dto.OperationLogPartition;
 import com.contract.management.infrastructure.entity.OperationLogEntity;
 import org.apache.ibatis.annotations.*;
 
@@ -25,10 +26,9 @@ public interface OperationLogMapper extends BaseMapper<OperationLogEntity> {
     /**
      * 根据合同ID查找条款抽取相关的操作日志
      */
-    @Select("SELECT ol.* FROM operation_log ol " +
-            "JOIN clause_extractions ce ON ol.resource_id = ce.id " +
-            "WHERE ce.contract_id = #{contractId} AND ol.resource_type = '条款抽取' " +
-            "ORDER BY ol.created_time DESC")
+    @Select("SELECT * FROM operation_log " +
+            "WHERE contract_id = #{contractId} AND resource_type = '条款抽取' " +
+            "ORDER BY created_time DESC")
     List<OperationLogEntity> findClauseExtractionLogsByContractId(@Param("contractId") Long contractId);
 
     /**
@@ -46,12 +46,6 @@ public interface OperationLogMapper extends BaseMapper<OperationLogEntity> {
                                              @Param("endTime") LocalDateTime endTime,
                                              @Param("limit") int limit);
 
-    /**
-     * 删除指定时间之前的日志
-     */
-    @Select("DELETE FROM operation_log WHERE created_time < #{beforeTime}")
-    int deleteLogsBefore(@Param("beforeTime") LocalDateTime beforeTime);
-
     /**
      * 统计指定时间范围内的操作日志数量
      */
@@ -62,8 +56,8 @@ public interface OperationLogMapper extends BaseMapper<OperationLogEntity> {
     /**
      * 根据抽取ID查找指定资源类型的操作日志
      */
-    @Select("SELECT * FROM operation_log WHERE resource_type = #{resourceType} " +
-            "AND (operation_details::jsonb->'parameters'->>'extractionId')::integer = #{extractionId} " +
+    @Select("SELECT * FROM operation_log WHERE extraction_id = #{extractionId} " +
+            "AND resource_type = #{resourceType} " +
             "ORDER BY created_time DESC")
     List<OperationLogEntity> findOperationLogsByExtractionId(@Param("extractionId") Long extractionId,
                                                            @Param("resourceType") String resourceType);
@@ -71,19 +65,16 @@ public interface OperationLogMapper extends BaseMapper<OperationLogEntity> {
     /**
      * 根据抽取ID查找所有操作日志，按创建时间正序排列
      */
-    @Select("SELECT * FROM operation_log WHERE " +
-            "(operation_details::jsonb->'parameters'->>'extractionId')::integer = #{extractionId} " +
+    @Select("SELECT * FROM operation_log WHERE extraction_id = #{extractionId} " +
             "ORDER BY created_time ASC")
     List<OperationLogEntity> findAllOperationLogsByExtractionId(@Param("extractionId") Long extractionId);
 
     /**
      * 根据合同ID查找最新的条款抽取ID
      */
-    @Select("SELECT DISTINCT ol.resource_id as extraction_id, ol.created_time " +
-            "FROM operation_log ol " +
-            "JOIN clause_extractions ce ON ol.resource_id = ce.id " +
-            "WHERE ce.contract_id = #{contractId} AND ol.resource_type = '条款抽取' " +
-            "ORDER BY ol.created_time DESC LIMIT 1")
+    @Select("SELECT extraction_id FROM operation_log " +
+            "WHERE contract_id = #{contractId} AND resource_type = '条款抽取' AND extraction_id IS NOT NULL " +
+            "ORDER BY created_time DESC LIMIT 1")
     Long findLatestExtractionIdByContractId(@Param("contractId") Long contractId);
 
     /**
@@ -95,7 +86,159 @@ public interface OperationLogMapper extends BaseMapper<OperationLogEntity> {
             "operation_details = #{operationDetails}, " +
             "user_id = #{userId}, " +
             "ip_address = #{ipAddress}, " +
+            "extraction_id = #{extractionId}, " +
+            "contract_id = #{contractId}, " +
             "created_time = #{createdTime} " +
             "WHERE id = #{id}")
     int updateOperationLogWithJsonb(OperationLogEntity operationLogEntity);
+
+    /**
+     * 多行INSERT批量新增操作日志，创建时间使用日志产生时间而非写入时间
+     */
+    @Insert("<script>" +
+            "INSERT INTO operation_log (operation_type, resource_type, resource_id, operation_details, " +
+            "user_id, ip_address, user_agent, execution_time_ms, extraction_id, contract_id, created_time) VALUES " +
+            "<foreach collection='logs' item='l' separator=','>" +
+            "(#{l.operationType}, #{l.resourceType}, #{l.resourceId}, " +
+            "#{l.operationDetails, typeHandler=com.contract.management.infrastructure.handler.OperationDetailsTypeHandler}, " +
+            "#{l.userId}, #{l.ipAddress}, #{l.userAgent}, #{l.executionTimeMs}, #{l.extractionId}, #{l.contractId}, " +
+            "COALESCE(#{l.createdTime}, CURRENT_TIMESTAMP))" +
+            "</foreach>" +
+            "</script>")
+    int insertBatch(@Param("logs") List<OperationLogEntity> logs);
+
+    /**
+     * 查询操作日志表的全部分区
+     */
+    @Select("SELECT c.relname AS name, pg_get_expr(c.relpartbound, c.oid) AS bound, " +
+            "GREATEST(c.reltuples, 0)::bigint AS estimated_rows, i.inhdetachpending AS detach_pending " +
+            "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = 'operation_log'::regclass")
+    List<OperationLogPartition> listPartitions();
+
+    /**
+     * 创建月度分区，表名与范围由分区管理器生成，不接受外部输入
+     */
+    @Update("CREATE TABLE IF NOT EXISTS ${name} PARTITION OF operation_log " +
+            "FOR VALUES FROM ('${from}') TO ('${to}')")
+    void createPartition(@Param("name") String name, @Param("from") String from, @Param("to") String to);
+
+    /**
+     * 默认分区中是否存在落在指定范围内的日志
+     */
+    @Select("SELECT EXISTS (SELECT 1 FROM ${defaultName} WHERE created_time >= '${from}' AND created_time < '${to}')")
+    boolean existsInDefaultPartition(@Param("defaultName") String defaultName,
+                                     @Param("from") String from, @Param("to") String to);
+
+    /**
+     * 默认分区中已有该月日志时无法直接创建分区：在同一事务中建表、把日志从默认分区移入后挂接
+     */
+    @Update("DO $$ BEGIN " +
+            "CREATE TABLE ${name} (LIKE operation_log INCLUDING DEFAULTS INCLUDING CONSTRAINTS); " +
+            "WITH moved AS (DELETE FROM ${defaultName} " +
+            "WHERE created_time >= '${from}' AND created_time < '${to}' RETURNING *) " +
+            "INSERT INTO ${name} SELECT * FROM moved; " +
+            "ALTER TABLE operation_log ATTACH PARTITION ${name} FOR VALUES FROM ('${from}') TO ('${to}'); " +
+            "END $$")
+    void createPartitionFromDefault(@Param("name") String name, @Param("defaultName") String defaultName,
+                                    @Param("from") String from, @Param("to") String to);
+
+    /**
+     * 删除默认分区中早于截止时间的日志，默认分区只存放少量未及时分区的日志
+     */
+    @Delete("DELETE FROM ${defaultName} WHERE created_time < #{cutoff}")
+    int deleteFromDefaultPartition(@Param("defaultName") String defaultName, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 并发分离分区，只等待已有查询结束，不阻塞新的读写；不能在事务中执行
+     */
+    @Update("ALTER TABLE operation_log DETACH PARTITION ${name} CONCURRENTLY")
+    void detachPartitionConcurrently(@Param("name") String name);
+
+    /**
+     * 完成中断的并发分离
+     */
+    @Update("ALTER TABLE operation_log DETACH PARTITION ${name} FINALIZE")
+    void finalizeDetachPartition(@Param("name") String name);
+
+    /**
+     * 删除已分离的分区表
+     */
+    @Update("DROP TABLE IF EXISTS ${name}")
+    void dropPartitionTable(@Param("name") String name);
+
+    /**
+     * 查询未完成回填任务的进度，已完成或不存在时返回null
+     */
+    @Select("SELECT last_id FROM operation_log_backfill WHERE name = #{name} AND completed_time IS NULL")
+    Long findBackfillProgress(@Param("name") String name);
+
+    /**
+     * 查询回填任务已回填到的日志ID，不区分是否已完成，任务不存在时返回null
+     */
+    @Select("SELECT last_id FROM operation_log_backfill WHERE name = #{name}")
+    Long findBackfillLastId(@Param("name") String name);
+
+    /**
+     * 查询当前最大日志ID
+     */
+    @Select("SELECT COALESCE(MAX(id), 0) FROM operation_log")
+    long findMaxId();
+
+    /**
+     * 按ID区间回填抽取ID与合同ID列，已填充的行跳过，可重复执行
+     */
+    @Update("UPDATE operation_log SET " +
+            "extraction_id = CASE WHEN operation_details->'parameters'->>'extractionId' ~ '^[0-9]{1,18}$' " +
+            "THEN (operation_details->'parameters'->>'extractionId')::bigint END, " +
+            "contract_id = CASE WHEN operation_details->'parameters'->>'contractId' ~ '^[0-9]{1,18}$' " +
+            "THEN (operation_details->'parameters'->>'contractId')::bigint END " +
+            "WHERE id > #{fromId} AND id <= #{toId} " +
+            "AND extraction_id IS NULL AND contract_id IS NULL " +
+            "AND (operation_details->'parameters'->>'extractionId' IS NOT NULL " +
+            "OR operation_details->'parameters'->>'contractId' IS NOT NULL)")
+    int backfillExtractionColumns(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 推进回填进度，进度已被其他节点推进时返回0；任务完成后的补偿回填同样通过它推进
+     */
+    @Update("UPDATE operation_log_backfill SET last_id = #{toId}, updated_time = CURRENT_TIMESTAMP " +
+            "WHERE name = #{name} AND last_id = #{fromId}")
+    int advanceBackfill(@Param("name") String name, @Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 标记回填任务完成
+     */
+    @Update("UPDATE operation_log_backfill SET completed_time = CURRENT_TIMESTAMP, updated_time = CURRENT_TIMESTAMP " +
+            "WHERE name = #{name}")
+    void completeBackfill(@Param("name") String name);
+
+    /**
+     * 在单个分区上并发创建抽取ID索引，定义与父索引idx_operation_log_extraction_id一致
+     */
+    @Update("CREATE INDEX CONCURRENTLY IF NOT EXISTS ${partition}_extraction_id_idx " +
+            "ON ${partition}(extraction_id, created_time) WHERE extraction_id IS NOT NULL")
+    void createExtractionIdIndex(@Param("partition") String partition);
+
+    /**
+     * 在单个分区上并发创建合同ID索引，定义与父索引idx_operation_log_contract_id一致
+     */
+    @Update("CREATE INDEX CONCURRENTLY IF NOT EXISTS ${partition}_contract_id_idx " +
+            "ON ${partition}(contract_id, created_time) WHERE contract_id IS NOT NULL")
+    void createContractIdIndex(@Param("partition") String partition);
+
+    /**
+     * 查询已有索引挂接到指定父索引的分区表
+     */
+    @Select("SELECT t.relname FROM pg_inherits i " +
+            "JOIN pg_index x ON x.indexrelid = i.inhrelid " +
+            "JOIN pg_class t ON t.oid = x.indrelid " +
+            "WHERE i.inhparent = #{parentIndex}::regclass")
+    List<String> findPartitionsWithIndex(@Param("parentIndex") String parentIndex);
+
+    /**
+     * 将分区索引挂接到父索引，已挂接时不做任何操作
+     */
+    @Update("ALTER INDEX ${parentIndex} ATTACH PARTITION ${partitionIndex}")
+    void attachPartitionIndex(@Param("parentIndex") String parentIndex, @Param("partitionIndex") String partitionIndex);
 }
\ No newline at end of file
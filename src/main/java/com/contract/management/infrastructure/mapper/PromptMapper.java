@@ -161,6 +161,8 @@ public interface PromptMapper extends BaseMapper<PromptEntity> {
      * @param startTimeEnd    创建时间结束范围
      * @param updateTimeStart 更新时间开始范围
      * @param updateTimeEnd   更新时间结束范围
+     * @param cursorTime      游标创建时间，与cursorId同时非空时只返回游标之后的记录
+     * @param cursorId        游标ID
      * @return 分页结果
      */
     IPage<PromptEntity> selectByFilters(
@@ -174,9 +176,19 @@ public interface PromptMapper extends BaseMapper<PromptEntity> {
         @Param("startTimeStart") LocalDateTime startTimeStart,
         @Param("startTimeEnd") LocalDateTime startTimeEnd,
         @Param("updateTimeStart") LocalDateTime updateTimeStart,
-        @Param("updateTimeEnd") LocalDateTime updateTimeEnd
+        @Param("updateTimeEnd") LocalDateTime updateTimeEnd,
+        @Param("cursorTime") LocalDateTime cursorTime,
+        @Param("cursorId") Long cursorId
     );
 
+    /**
+     * 读取表行数统计值（pg_class.reltuples），由ANALYZE/autovacuum维护，含逻辑删除的行
+     *
+     * @return 估算行数，表从未分析过时为0
+     */
+    @Select("SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'prompt'::regclass")
+    long estimateRowCount();
+
     /**
      * 批量启用提示词模板
      *
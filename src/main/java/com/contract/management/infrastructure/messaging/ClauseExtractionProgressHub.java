@@ -0,0 +1,153 @@
+package com.contract.management.infrastructure.messaging;
+
+import com.contract.management.domain.event.ClauseExtractionProgressEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 条款抽取进度订阅中心
+ * 维护本节点按抽取任务分组的SSE连接：订阅时先登记连接再读取并推送当前状态快照，之后推送从消息队列收到的进度事件，
+ * 任务进入终态后关闭连接；定时发送心跳注释，及时清理已断开的客户端
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ClauseExtractionProgressHub {
+
+    static final String STATUS_EVENT = "status";
+    static final String PROGRESS_EVENT = "progress";
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Value("${contract.extraction.progress.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${contract.extraction.progress.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    public ClauseExtractionProgressHub(MeterRegistry meterRegistry) {
+        Gauge.builder("contract.extraction.progress.subscribers", subscriberCount, AtomicInteger::get)
+            .description("本节点条款抽取进度SSE订阅数")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 订阅抽取任务进度
+     * 先登记连接再读取快照：读取快照与登记之间到达的终态事件不会丢失，否则连接要等到超时才关闭
+     *
+     * @param extractionId 抽取任务ID
+     * @param snapshotLoader 读取当前状态快照，作为首个事件推送；已是终态时推送后立即关闭连接
+     * @return SSE连接；本节点订阅数已达上限时返回null
+     */
+    public SseEmitter subscribe(Long extractionId, Supplier<ClauseExtractionProgressEvent> snapshotLoader) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            log.warn("条款抽取进度订阅数已达上限: {}", maxSubscribers);
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        subscribers.compute(extractionId, (id, emitters) -> {
+            Set<SseEmitter> target = emitters != null ? emitters : new CopyOnWriteArraySet<>();
+            target.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> remove(extractionId, emitter));
+        emitter.onTimeout(() -> remove(extractionId, emitter));
+        emitter.onError(e -> remove(extractionId, emitter));
+
+        ClauseExtractionProgressEvent snapshot;
+        try {
+            snapshot = snapshotLoader.get();
+        } catch (RuntimeException e) {
+            remove(extractionId, emitter);
+            throw e;
+        }
+        if (send(extractionId, emitter, STATUS_EVENT, snapshot) && snapshot.isFinalState()) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * 推送进度事件给本节点订阅该任务的客户端，终态事件推送后关闭连接
+     */
+    public void dispatch(ClauseExtractionProgressEvent event) {
+        Long extractionId = event.getExtractionId();
+        Set<SseEmitter> emitters = subscribers.get(extractionId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            if (send(extractionId, emitter, PROGRESS_EVENT, event) && event.isFinalState()) {
+                emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * 心跳：代理服务器不会因空闲断开连接，客户端断开后发送失败即清理
+     */
+    @Scheduled(fixedDelayString = "${contract.extraction.progress.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        subscribers.forEach((extractionId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(extractionId, emitter);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    /**
+     * 本节点当前订阅数
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private boolean send(Long extractionId, SseEmitter emitter, String eventName, ClauseExtractionProgressEvent event) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(event));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("推送条款抽取进度失败，移除订阅: extractionId={}, error={}", extractionId, e.getMessage());
+            remove(extractionId, emitter);
+            return false;
+        }
+    }
+
+    private void remove(Long extractionId, SseEmitter emitter) {
+        subscribers.computeIfPresent(extractionId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.contract.management.infrastructure.messaging;
+
+import com.contract.management.domain.event.ClauseExtractionProgressEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 条款抽取进度事件监听器
+ * 从本节点的匿名广播队列接收进度事件并推送给本节点的订阅者
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ClauseExtractionProgressListener {
+
+    private final ClauseExtractionProgressHub progressHub;
+
+    /**
+     * 进度事件只对在线订阅者有意义，自动确认，不重投
+     */
+    @RabbitListener(queues = "#{clauseExtractionProgressQueue.name}", ackMode = "AUTO")
+    public void handleProgress(ClauseExtractionProgressEvent event) {
+        progressHub.dispatch(event);
+    }
+}
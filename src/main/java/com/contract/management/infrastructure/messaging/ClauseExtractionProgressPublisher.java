@@ -0,0 +1,40 @@
+package com.contract.management.infrastructure.messaging;
+
+import com.contract.management.domain.event.ClauseExtractionProgressEvent;
+import com.contract.management.infrastructure.config.RabbitMQConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 条款抽取进度发布服务
+ * 进度事件发布到扇出交换机，所有节点（包括本节点）从各自的匿名队列收到后推送给本节点的订阅者，
+ * 客户端连接在任意节点都能收到执行节点上的进度。进度推送是尽力而为：发布失败时只推送本节点订阅者，
+ * 不抛出异常影响抽取流程，客户端重连时会重新拿到状态快照
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClauseExtractionProgressPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ClauseExtractionProgressHub progressHub;
+
+    /**
+     * 发布进度事件
+     */
+    public void publish(ClauseExtractionProgressEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.CLAUSE_EXTRACTION_PROGRESS_EXCHANGE, "", event);
+            log.debug("条款抽取进度事件发布成功: extractionId={}, status={}", event.getExtractionId(), event.getStatus());
+        } catch (Exception e) {
+            log.warn("条款抽取进度事件发布失败，仅推送本节点订阅者: extractionId={}, error={}",
+                event.getExtractionId(), e.getMessage());
+            progressHub.dispatch(event);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.contract.management.infrastructure.messaging;
 
+import com.contract.management.domain.event.ContractClassificationCompletedEvent;
 import com.contract.management.domain.event.ContractCreatedEvent;
 import com.contract.management.domain.event.ContractDeletedEvent;
 import com.contract.management.domain.event.ContractStatusChangedEvent;
 import com.contract.management.domain.event.ContractUpdatedEvent;
+import com.contract.management.infrastructure.cache.ContractCacheEvictor;
 import com.contract.management.infrastructure.config.RabbitMQConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Service;
 
 /**
  * 合同事件发布服务
+ * 合同创建、更新、删除和状态变更事件发布时同时失效合同缓存
  *
  * @author SaltyFish
  * @since 1.0.0
@@ -22,11 +25,13 @@ import org.springframework.stereotype.Service;
 public class ContractEventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
+    private final ContractCacheEvictor contractCacheEvictor;
 
     /**
      * 发布合同创建事件
      */
     public void publishContractCreated(ContractCreatedEvent event) {
+        contractCacheEvictor.evictContract(event.getContractId());
         try {
             rabbitTemplate.convertAndSend(
                     RabbitMQConfig.CONTRACT_EXCHANGE,
@@ -44,6 +49,7 @@ public class ContractEventPublisher {
      * 发布合同更新事件
      */
     public void publishContractUpdated(ContractUpdatedEvent event) {
+        contractCacheEvictor.evictContract(event.getContractId().getValue());
         try {
             rabbitTemplate.convertAndSend(
                     RabbitMQConfig.CONTRACT_EXCHANGE,
@@ -61,6 +67,7 @@ public class ContractEventPublisher {
      * 发布合同删除事件
      */
     public void publishContractDeleted(ContractDeletedEvent event) {
+        contractCacheEvictor.evictContract(event.getContractId().getValue());
         try {
             rabbitTemplate.convertAndSend(
                     RabbitMQConfig.CONTRACT_EXCHANGE,
@@ -78,6 +85,7 @@ public class ContractEventPublisher {
      * 发布合同状态变更事件
      */
     public void publishContractStatusChanged(ContractStatusChangedEvent event) {
+        contractCacheEvictor.evictContract(event.getContractId().getValue());
         try {
             rabbitTemplate.convertAndSend(
                     RabbitMQConfig.CONTRACT_EXCHANGE,
@@ -91,4 +99,22 @@ public class ContractEventPublisher {
             throw new RuntimeException("事件发布失败", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 发布合同分类完成事件
+     * 本服务不消费该事件，不声明队列；未被任何队列绑定时消息由交换机直接丢弃
+     */
+    public void publishClassificationCompleted(ContractClassificationCompletedEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(
+                    RabbitMQConfig.CONTRACT_EXCHANGE,
+                    RabbitMQConfig.CONTRACT_CLASSIFICATION_COMPLETED_ROUTING_KEY,
+                    event
+            );
+            log.info("合同分类完成事件发布成功: jobId={}, contractId={}", event.getJobId(), event.getContractId());
+        } catch (Exception e) {
+            log.error("合同分类完成事件发布失败: jobId={}, contractId={}", event.getJobId(), event.getContractId(), e);
+            throw new RuntimeException("事件发布失败", e);
+        }
+    }
+}
@@ -76,6 +76,10 @@ public class ClauseExtractionRepositoryImpl implements ClauseExtractionRepositor
 
         // 使用updateById以支持乐观锁
         clauseExtractionMapper.updateById(entity);
+        if (clauseExtraction.getStatus() == ExtractionStatus.PENDING) {
+            // 领取次数和租约由工作节点维护，updateById不会把字段写成NULL，重新排队的任务单独重置
+            clauseExtractionMapper.resetClaim(entity.getId());
+        }
 
         // 重新查询获取更新后的实体（包含新的版本号）
         ClauseExtractionEntity updatedEntity = clauseExtractionMapper.selectById(entity.getId());
@@ -130,6 +134,7 @@ public class ClauseExtractionRepositoryImpl implements ClauseExtractionRepositor
         entity.setErrorMessage(domain.getErrorMessage());
         entity.setStartedAt(domain.getStartedAt());
         entity.setCompletedAt(domain.getCompletedAt());
+        entity.setFileUuid(domain.getFileUuid());
         entity.setCreatedTime(domain.getAuditInfo().getCreatedTime());
         entity.setUpdatedTime(domain.getAuditInfo().getUpdatedTime());
         entity.setCreatedBy(domain.getAuditInfo().getCreatedBy());
@@ -180,7 +185,9 @@ public class ClauseExtractionRepositoryImpl implements ClauseExtractionRepositor
                 entity.getObjectVersionNumber()
             ),
             entity.getStartedAt(),
-            entity.getCompletedAt()
+            entity.getCompletedAt(),
+            entity.getFileUuid(),
+            entity.getAttempts() != null ? entity.getAttempts() : 0
         );
     }
 }
\ No newline at end of file
@@ -9,6 +9,9 @@ import com.contract.management.domain.model.ClauseType;
 import com.contract.management.domain.model.RiskLevel;
 import com.contract.management.domain.repository.ClauseFilters;
 import com.contract.management.domain.repository.ClauseRepository;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.infrastructure.converter.ClauseConverter;
 import com.contract.management.infrastructure.entity.ClauseEntity;
 import com.contract.management.infrastructure.mapper.ClauseMapper;
@@ -33,6 +36,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ClauseRepositoryImpl implements ClauseRepository {
 
+    /**
+     * 单条INSERT语句的最大行数，13列 * 500行远低于PostgreSQL绑定参数上限
+     */
+    private static final int INSERT_BATCH_SIZE = 500;
+
     private final ClauseMapper clauseMapper;
 
     @Override
@@ -167,13 +175,50 @@ public class ClauseRepositoryImpl implements ClauseRepository {
             filters.getHasRiskFactorsOnly(),
             filters.getCreatedTimeStart(),
             filters.getCreatedTimeEnd(),
-            filters.getCreatedBy()
+            filters.getCreatedBy(),
+            null,
+            null,
+            true
         );
 
         List<Clause> clauses = ClauseConverter.toDomainList(result.getRecords());
         return new PageImpl<>(clauses, pageable, result.getTotal());
     }
 
+    @Override
+    public KeysetPage<Clause> findByFilters(ClauseFilters filters, KeysetCursor cursor, int size, CountMode countMode) {
+        if (filters == null || filters.isEmpty()) {
+            return new KeysetPage<>(List.of(), null, cursor == null && countMode != CountMode.NONE ? 0L : null, true);
+        }
+
+        // 条款查询要求至少一个过滤条件，因此估算模式始终按精确统计处理
+        boolean countExactly = KeysetPageSupport.countExactly(cursor, countMode, true);
+        Page<ClauseEntity> page = KeysetPageSupport.window(size, countExactly);
+        IPage<ClauseEntity> result = clauseMapper.selectByFilters(
+            page,
+            filters.getExtractionTaskId(),
+            filters.getContractId(),
+            filters.getClauseType() != null ? filters.getClauseType().name() : null,
+            filters.getRiskLevel() != null ? filters.getRiskLevel().name() : null,
+            filters.getTitleKeyword(),
+            filters.getContentKeyword(),
+            filters.getMinConfidenceScore(),
+            filters.getMaxConfidenceScore(),
+            filters.getHighRiskOnly(),
+            filters.getHasRiskFactorsOnly(),
+            filters.getCreatedTimeStart(),
+            filters.getCreatedTimeEnd(),
+            filters.getCreatedBy(),
+            cursor != null ? cursor.getCreatedTime() : null,
+            cursor != null ? cursor.getId() : null,
+            false
+        );
+
+        return KeysetPageSupport.toKeysetPage(result, size, ClauseConverter::toDomainList,
+            ClauseEntity::getCreatedTime, ClauseEntity::getId,
+            countExactly ? result.getTotal() : null, true);
+    }
+
     @Override
     public List<Clause> findByFilters(ClauseFilters filters) {
         if (filters == null || filters.isEmpty()) {
@@ -278,9 +323,10 @@ public class ClauseRepositoryImpl implements ClauseRepository {
         }
 
         List<ClauseEntity> entities = ClauseConverter.toEntityList(clauses);
-        // 批量插入
-        for (ClauseEntity entity : entities) {
-            clauseMapper.insert(entity);
+        // 多行INSERT分批写入，每批一次往返，ID由数据库生成后回填
+        for (int from = 0; from < entities.size(); from += INSERT_BATCH_SIZE) {
+            int to = Math.min(from + INSERT_BATCH_SIZE, entities.size());
+            clauseMapper.insertBatch(entities.subList(from, to));
         }
 
         return ClauseConverter.toDomainList(entities);
@@ -7,18 +7,25 @@ import com.contract.common.constant.ContractType;
 import com.contract.management.domain.model.Contract;
 import com.contract.management.domain.model.ContractId;
 import com.contract.management.domain.model.valueobject.ContractName;
+import com.contract.management.domain.repository.ContractBatchUpdateResult;
 import com.contract.management.domain.repository.ContractFilters;
 import com.contract.management.domain.repository.ContractRepository;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.infrastructure.converter.ContractConverter;
 import com.contract.management.infrastructure.entity.ContractEntity;
 import com.contract.management.infrastructure.mapper.ContractMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -35,8 +42,50 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ContractRepositoryImpl implements ContractRepository {
 
+    /**
+     * 批量更新每个JDBC批次的行数
+     */
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    /**
+     * 乐观锁批量更新语句，值为null的字段保持原值（与MyBatis Plus的not_null更新策略一致）
+     */
+    private static final String UPDATE_WITH_VERSION_SQL =
+        "UPDATE contract SET " +
+        "    contract_name = COALESCE(?, contract_name), " +
+        "    contract_type = COALESCE(?, contract_type), " +
+        "    party_a_name = COALESCE(?, party_a_name), " +
+        "    party_a_contact = COALESCE(?, party_a_contact), " +
+        "    party_a_address = COALESCE(?, party_a_address), " +
+        "    party_b_name = COALESCE(?, party_b_name), " +
+        "    party_b_contact = COALESCE(?, party_b_contact), " +
+        "    party_b_address = COALESCE(?, party_b_address), " +
+        "    contract_amount = COALESCE(?, contract_amount), " +
+        "    sign_date = COALESCE(?, sign_date), " +
+        "    effective_date = COALESCE(?, effective_date), " +
+        "    expiry_date = COALESCE(?, expiry_date), " +
+        "    attachment_uuid = COALESCE(?, attachment_uuid), " +
+        "    description = COALESCE(?, description), " +
+        "    updated_by = COALESCE(?, updated_by), " +
+        "    updated_time = ?, " +
+        "    object_version_number = object_version_number + 1 " +
+        "WHERE id = ? AND object_version_number = ? AND is_deleted = false";
+
+    /**
+     * 显式声明参数类型，null值绑定时无需驱动回查参数元数据
+     */
+    private static final int[] UPDATE_WITH_VERSION_ARG_TYPES = {
+        Types.VARCHAR, Types.VARCHAR,
+        Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+        Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+        Types.NUMERIC, Types.DATE, Types.DATE, Types.DATE,
+        Types.VARCHAR, Types.VARCHAR,
+        Types.BIGINT, Types.TIMESTAMP,
+        Types.BIGINT, Types.BIGINT
+    };
 
     private final ContractMapper contractMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
@@ -78,17 +127,22 @@ public class ContractRepositoryImpl implements ContractRepository {
     @Override
     @Transactional
     public Contract update(Contract contract) {
-        // 先查询现有实体，保留版本号
-        ContractEntity existingEntity = contractMapper.selectById(contract.getId().getValue());
-        if (existingEntity == null) {
-            throw new RuntimeException("合同不存在");
-        }
-
-        // 转换为实体并保留版本号
         ContractEntity entity = ContractConverter.toEntity(contract);
-        entity.setObjectVersionNumber(existingEntity.getObjectVersionNumber());
 
-        contractMapper.updateById(entity);
+        // 聚合未携带版本号时才回查数据库
+        if (entity.getObjectVersionNumber() == null) {
+            ContractEntity existingEntity = contractMapper.selectById(contract.getId().getValue());
+            if (existingEntity == null) {
+                throw new RuntimeException("合同不存在");
+            }
+            entity.setObjectVersionNumber(existingEntity.getObjectVersionNumber());
+        }
+
+        // 乐观锁插件以版本号为更新条件并在成功后递增实体版本号
+        if (contractMapper.updateById(entity) == 0) {
+            throw new OptimisticLockingFailureException(
+                "合同已被修改或删除，请刷新后重试，ID: " + entity.getId());
+        }
         return ContractConverter.toDomain(entity);
     }
 
@@ -115,48 +169,7 @@ public class ContractRepositoryImpl implements ContractRepository {
         Page<ContractEntity> page = new Page<>(pageable.getPageNumber() + 1, pageable.getPageSize());
         
         // 构建查询条件
-        QueryWrapper<ContractEntity> queryWrapper = new QueryWrapper<>();
-        
-        // 根据条件构建查询
-        if (filters.getContractTypes() != null && !filters.getContractTypes().isEmpty()) {
-            queryWrapper.in("contract_type", filters.getContractTypes().stream()
-                    .map(Enum::name).collect(Collectors.toList()));
-        }
-                
-        if (filters.getContractName() != null && !filters.getContractName().trim().isEmpty()) {
-            queryWrapper.like("contract_name", filters.getContractName());
-        }
-        if (filters.getPartyAName() != null && !filters.getPartyAName().trim().isEmpty()) {
-            queryWrapper.like("party_a_name", filters.getPartyAName());
-        }
-        if (filters.getPartyBName() != null && !filters.getPartyBName().trim().isEmpty()) {
-            queryWrapper.like("party_b_name", filters.getPartyBName());
-        }
-        
-        // 金额范围查询
-        if (filters.getMinAmount() != null) {
-            queryWrapper.ge("contract_amount", filters.getMinAmount());
-        }
-        if (filters.getMaxAmount() != null) {
-            queryWrapper.le("contract_amount", filters.getMaxAmount());
-        }
-        
-        // 日期范围查询
-        if (filters.getSignDateStart() != null) {
-            queryWrapper.ge("sign_date", filters.getSignDateStart());
-        }
-        if (filters.getSignDateEnd() != null) {
-            queryWrapper.le("sign_date", filters.getSignDateEnd());
-        }
-        
-        if (filters.getCreatedBy() != null) {
-            queryWrapper.eq("created_by", filters.getCreatedBy());
-        }
-        
-        // 是否包含已删除记录
-        if (filters.getIncludeDeleted() == null || !filters.getIncludeDeleted()) {
-            queryWrapper.eq("is_deleted", false);
-        }
+        QueryWrapper<ContractEntity> queryWrapper = buildFilterWrapper(filters);
         
         // 执行分页查询
         IPage<ContractEntity> result = contractMapper.selectPage(page, queryWrapper);
@@ -167,6 +180,28 @@ public class ContractRepositoryImpl implements ContractRepository {
         return new PageImpl<>(contracts, pageable, result.getTotal());
     }
 
+    @Override
+    public KeysetPage<Contract> findByFilters(ContractFilters filters, KeysetCursor cursor, int size, CountMode countMode) {
+        boolean filtered = !filters.isEmpty();
+        boolean countExactly = KeysetPageSupport.countExactly(cursor, countMode, filtered);
+        boolean countEstimated = KeysetPageSupport.countEstimated(cursor, countMode, filtered);
+
+        QueryWrapper<ContractEntity> queryWrapper = buildFilterWrapper(filters);
+        if (cursor != null) {
+            // 行值比较可直接利用(created_time, id)复合索引定位起点
+            queryWrapper.apply("(created_time, id) < ({0}, {1})", cursor.getCreatedTime(), cursor.getId());
+        }
+        queryWrapper.orderByDesc("created_time", "id");
+
+        Page<ContractEntity> page = KeysetPageSupport.window(size, countExactly);
+        IPage<ContractEntity> result = contractMapper.selectPage(page, queryWrapper);
+
+        Long total = countExactly ? Long.valueOf(result.getTotal())
+            : countEstimated ? Long.valueOf(contractMapper.estimateRowCount()) : null;
+        return KeysetPageSupport.toKeysetPage(result, size, ContractConverter::toDomainList,
+            ContractEntity::getCreatedTime, ContractEntity::getId, total, !countEstimated);
+    }
+
     @Override
     public List<Contract> findByType(ContractType type) {
         QueryWrapper<ContractEntity> wrapper = new QueryWrapper<>();
@@ -256,29 +291,116 @@ public class ContractRepositoryImpl implements ContractRepository {
     @Override
     @Transactional
     public List<Contract> saveAll(List<Contract> contracts) {
-        List<ContractEntity> entities = ContractConverter.toEntityList(contracts);
-        List<ContractEntity> resultEntities = new ArrayList<>();
+        if (contracts == null || contracts.isEmpty()) {
+            return List.of();
+        }
 
-        // 批量保存
-        for (ContractEntity entity : entities) {
-            if (entity.getId() == null) {
+        List<Contract> result = new ArrayList<>();
+        List<Contract> toUpdate = new ArrayList<>();
+        for (Contract contract : contracts) {
+            if (contract.getId() == null) {
                 // 新增
+                ContractEntity entity = ContractConverter.toEntity(contract);
                 contractMapper.insert(entity);
-                resultEntities.add(entity);
+                result.add(ContractConverter.toDomain(entity));
             } else {
-                // 更新 - 先查询保留版本号
-                ContractEntity existingEntity = contractMapper.selectById(entity.getId());
-                if (existingEntity != null) {
-                    entity.setObjectVersionNumber(existingEntity.getObjectVersionNumber());
-                    contractMapper.updateById(entity);
-                    resultEntities.add(entity);
+                toUpdate.add(contract);
+            }
+        }
+
+        // 更新走批量乐观锁路径，任一行冲突则整体回滚
+        ContractBatchUpdateResult updateResult = updateAll(toUpdate);
+        if (updateResult.hasConflicts()) {
+            throw new OptimisticLockingFailureException("合同已被修改或删除，ID: " +
+                updateResult.getConflictedIds().stream()
+                    .map(id -> String.valueOf(id.getValue()))
+                    .collect(Collectors.joining(",")));
+        }
+        result.addAll(updateResult.getUpdatedContracts());
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public ContractBatchUpdateResult updateAll(List<Contract> contracts) {
+        ContractBatchUpdateResult.ContractBatchUpdateResultBuilder builder = ContractBatchUpdateResult.builder();
+        if (contracts == null || contracts.isEmpty()) {
+            return builder.build();
+        }
+
+        List<ContractEntity> entities = ContractConverter.toEntityList(contracts);
+        fillMissingVersions(entities);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < entities.size(); from += UPDATE_BATCH_SIZE) {
+            List<ContractEntity> chunk = entities.subList(from, Math.min(from + UPDATE_BATCH_SIZE, entities.size()));
+            List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+            for (ContractEntity entity : chunk) {
+                entity.setUpdatedTime(now);
+                batchArgs.add(toUpdateArgs(entity));
+            }
+
+            int[] affectedRows = jdbcTemplate.batchUpdate(
+                UPDATE_WITH_VERSION_SQL, batchArgs, UPDATE_WITH_VERSION_ARG_TYPES);
+            for (int i = 0; i < chunk.size(); i++) {
+                ContractEntity entity = chunk.get(i);
+                if (entity.getObjectVersionNumber() != null && affectedRows[i] > 0) {
+                    entity.setObjectVersionNumber(entity.getObjectVersionNumber() + 1);
+                    builder.updatedContract(ContractConverter.toDomain(entity));
                 } else {
-                    throw new RuntimeException("合同不存在，ID: " + entity.getId());
+                    log.warn("合同批量更新版本冲突或已删除: id={}, version={}",
+                        entity.getId(), entity.getObjectVersionNumber());
+                    builder.conflictedId(ContractId.of(entity.getId()));
                 }
             }
         }
 
-        return ContractConverter.toDomainList(resultEntities);
+        return builder.build();
+    }
+
+    /**
+     * 聚合未携带版本号的行一次性回查当前版本号，避免逐行selectById
+     */
+    private void fillMissingVersions(List<ContractEntity> entities) {
+        List<Long> missingIds = entities.stream()
+            .filter(entity -> entity.getObjectVersionNumber() == null)
+            .map(ContractEntity::getId)
+            .collect(Collectors.toList());
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> versions = contractMapper.selectBatchIds(missingIds).stream()
+            .filter(entity -> entity.getObjectVersionNumber() != null)
+            .collect(Collectors.toMap(ContractEntity::getId, ContractEntity::getObjectVersionNumber));
+        for (ContractEntity entity : entities) {
+            if (entity.getObjectVersionNumber() == null) {
+                entity.setObjectVersionNumber(versions.get(entity.getId()));
+            }
+        }
+    }
+
+    private static Object[] toUpdateArgs(ContractEntity entity) {
+        return new Object[]{
+            entity.getContractName(),
+            entity.getContractType(),
+            entity.getPartyAName(),
+            entity.getPartyAContact(),
+            entity.getPartyAAddress(),
+            entity.getPartyBName(),
+            entity.getPartyBContact(),
+            entity.getPartyBAddress(),
+            entity.getContractAmount(),
+            entity.getSignDate(),
+            entity.getEffectiveDate(),
+            entity.getExpiryDate(),
+            entity.getAttachmentUuid(),
+            entity.getDescription(),
+            entity.getUpdatedBy(),
+            entity.getUpdatedTime(),
+            entity.getId(),
+            entity.getObjectVersionNumber()
+        };
     }
 
     @Override
@@ -294,6 +416,22 @@ public class ContractRepositoryImpl implements ContractRepository {
     @Override
     public List<Contract> findByFilters(ContractFilters filters) {
         // 构建查询条件
+        QueryWrapper<ContractEntity> queryWrapper = buildFilterWrapper(filters);
+        
+        // 执行查询
+        List<ContractEntity> entities = contractMapper.selectList(queryWrapper);
+        
+        // 转换为领域模型
+        return ContractConverter.toDomainList(entities);
+    }
+
+    /**
+     * 根据过滤条件构建查询条件
+     *
+     * @param filters 过滤条件
+     * @return 查询条件
+     */
+    private QueryWrapper<ContractEntity> buildFilterWrapper(ContractFilters filters) {
         QueryWrapper<ContractEntity> queryWrapper = new QueryWrapper<>();
         
         // 根据条件构建查询
@@ -337,10 +475,6 @@ public class ContractRepositoryImpl implements ContractRepository {
             queryWrapper.eq("is_deleted", false);
         }
         
-        // 执行查询
-        List<ContractEntity> entities = contractMapper.selectList(queryWrapper);
-        
-        // 转换为领域模型
-        return ContractConverter.toDomainList(entities);
+        return queryWrapper;
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.contract.management.infrastructure.repository;
+
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 游标分页公共逻辑
+ * 多取一条记录判断是否还有下一页，不依赖OFFSET，深分页耗时与第一页相同
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+final class KeysetPageSupport {
+
+    /**
+     * 单页最大记录数
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private KeysetPageSupport() {
+    }
+
+    /**
+     * 构建只取第一页的MyBatis Plus分页对象，多取一条用于判断是否有下一页
+     *
+     * @param size 每页大小
+     * @param searchCount 是否同时执行COUNT查询
+     */
+    static <E> Page<E> window(int size, boolean searchCount) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("每页大小必须在1到" + MAX_PAGE_SIZE + "之间");
+        }
+        return new Page<>(1, size + 1L, searchCount);
+    }
+
+    /**
+     * 是否需要精确COUNT：仅第一页统计，估算模式在有过滤条件时退化为精确统计
+     */
+    static boolean countExactly(KeysetCursor cursor, CountMode countMode, boolean filtered) {
+        return cursor == null && (countMode == CountMode.EXACT || (countMode == CountMode.ESTIMATED && filtered));
+    }
+
+    /**
+     * 是否使用表统计信息估算总数
+     */
+    static boolean countEstimated(KeysetCursor cursor, CountMode countMode, boolean filtered) {
+        return cursor == null && countMode == CountMode.ESTIMATED && !filtered;
+    }
+
+    /**
+     * 将多取一条的查询结果转换为游标分页结果
+     *
+     * @param result 查询结果
+     * @param size 每页大小
+     * @param converter 实体列表到领域模型列表的转换
+     * @param createdTimeOf 实体创建时间
+     * @param idOf 实体ID
+     * @param total 总数，未统计时为null
+     * @param totalExact 总数是否精确
+     */
+    static <E, D> KeysetPage<D> toKeysetPage(IPage<E> result, int size,
+                                            Function<List<E>, List<D>> converter,
+                                            Function<E, LocalDateTime> createdTimeOf,
+                                            Function<E, Long> idOf,
+                                            Long total, boolean totalExact) {
+        List<E> records = result.getRecords();
+        KeysetCursor nextCursor = null;
+        if (records.size() > size) {
+            records = records.subList(0, size);
+            E last = records.get(size - 1);
+            nextCursor = KeysetCursor.of(createdTimeOf.apply(last), idOf.apply(last));
+        }
+        return new KeysetPage<>(converter.apply(records), nextCursor, total, totalExact);
+    }
+}
@@ -7,6 +7,7 @@ import com.contract.management.domain.model.valueobject.OperationType;
 import com.contract.management.domain.model.valueobject.ResourceType;
 import com.contract.management.domain.repository.OperationLogRepository;
 import com.contract.management.infrastructure.entity.OperationLogEntity;
+import com.contract.management.infrastructure.job.OperationLogPartitionManager;
 import com.contract.management.infrastructure.mapper.OperationLogMapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,8 +30,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OperationLogRepositoryImpl implements OperationLogRepository {
 
+    private static final int INSERT_BATCH_SIZE = 500;
+
     private final OperationLogMapper operationLogMapper;
     private final ObjectMapper objectMapper;
+    private final OperationLogPartitionManager operationLogPartitionManager;
 
     @Override
     public OperationLog save(OperationLog operationLog) {
@@ -46,6 +50,22 @@ public class OperationLogRepositoryImpl implements OperationLogRepository {
         return toDomain(entity);
     }
 
+    @Override
+    public void saveAll(List<OperationLog> operationLogs) {
+        if (operationLogs == null || operationLogs.isEmpty()) {
+            return;
+        }
+
+        List<OperationLogEntity> entities = operationLogs.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList());
+        // 多行INSERT分批写入，每批一次往返
+        for (int from = 0; from < entities.size(); from += INSERT_BATCH_SIZE) {
+            int to = Math.min(from + INSERT_BATCH_SIZE, entities.size());
+            operationLogMapper.insertBatch(entities.subList(from, to));
+        }
+    }
+
     @Override
     public OperationLog findById(OperationLogId id) {
         OperationLogEntity entity = operationLogMapper.selectById(id.getValue());
@@ -86,7 +106,9 @@ public class OperationLogRepositoryImpl implements OperationLogRepository {
 
     @Override
     public int deleteLogsBefore(LocalDateTime beforeTime) {
-        return operationLogMapper.deleteLogsBefore(beforeTime);
+        // 按整个分区删除，不逐行DELETE
+        long droppedRows = operationLogPartitionManager.dropPartitionsBefore(beforeTime);
+        return (int) Math.min(droppedRows, Integer.MAX_VALUE);
     }
 
     @Override
@@ -139,10 +161,33 @@ public class OperationLogRepositoryImpl implements OperationLogRepository {
 
         // 设置操作详情（MyBatis会通过JsonbTypeHandler自动处理JSON序列化）
         entity.setOperationDetails(domain.getOperationDetails());
+        entity.setExtractionId(longParameter(domain.getOperationDetails(), "extractionId"));
+        entity.setContractId(longParameter(domain.getOperationDetails(), "contractId"));
 
         return entity;
     }
 
+    /**
+     * 读取操作详情中的数值参数
+     */
+    private static Long longParameter(OperationDetails details, String name) {
+        if (details == null || details.getParameters() == null) {
+            return null;
+        }
+        Object value = details.getParameters().get(name);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.valueOf(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
     /**
      * 实体转领域模型
      */
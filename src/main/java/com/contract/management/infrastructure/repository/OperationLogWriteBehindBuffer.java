@@ -0,0 +1,210 @@
+package com.contract.management.infrastructure.repository;
+
+import com.contract.management.domain.model.OperationLog;
+import com.contract.management.domain.repository.OperationLogRepository;
+import com.contract.management.domain.repository.OperationLogSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 操作日志异步批量写入缓冲
+ * 业务线程只把日志放入无锁队列，由单个后台线程按条数或时间阈值以多行INSERT批量写库，
+ * 日志产生时间在领域对象创建时确定，不受写入延迟影响。
+ * <p>
+ * 过载时不阻塞业务线程：排队数超过丢弃阈值后丢弃低优先级日志（查询、进行中等），
+ * 达到容量上限后成功、失败等关键日志退化为在调用线程同步写入。
+ * 停机时先停止后台线程，再把队列中剩余日志全部写入
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class OperationLogWriteBehindBuffer implements OperationLogSink {
+
+    private final OperationLogRepository operationLogRepository;
+    private final boolean enabled;
+    private final int capacity;
+    private final int shedThreshold;
+    private final int batchSize;
+    private final long shutdownTimeoutMs;
+
+    private final Queue<OperationLog> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher;
+    private final Counter droppedCounter;
+    private final Counter overflowCounter;
+    private volatile boolean closed;
+
+    public OperationLogWriteBehindBuffer(
+            OperationLogRepository operationLogRepository,
+            MeterRegistry meterRegistry,
+            @Value("${contract.operation-log.write-behind.enabled:true}") boolean enabled,
+            @Value("${contract.operation-log.write-behind.capacity:10000}") int capacity,
+            @Value("${contract.operation-log.write-behind.shed-threshold:8000}") int shedThreshold,
+            @Value("${contract.operation-log.write-behind.batch-size:200}") int batchSize,
+            @Value("${contract.operation-log.write-behind.flush-interval-ms:500}") long flushIntervalMs,
+            @Value("${contract.operation-log.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.operationLogRepository = operationLogRepository;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.shedThreshold = Math.min(shedThreshold, capacity);
+        this.batchSize = batchSize;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+
+        Gauge.builder("operation.log.buffer.pending", pending, AtomicInteger::get)
+            .description("等待批量写入的操作日志数")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("operation.log.buffer.dropped")
+            .description("过载时丢弃的低优先级操作日志数")
+            .register(meterRegistry);
+        this.overflowCounter = Counter.builder("operation.log.buffer.overflow")
+            .description("缓冲区已满时在调用线程同步写入的操作日志数")
+            .register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "operation-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void submit(OperationLog operationLog) {
+        if (!enabled || closed) {
+            write(List.of(operationLog));
+            return;
+        }
+
+        int count = pending.incrementAndGet();
+        if (count > (operationLog.isLowPriority() ? shedThreshold : capacity)) {
+            pending.decrementAndGet();
+            if (operationLog.isLowPriority()) {
+                droppedCounter.increment();
+                log.debug("操作日志缓冲区过载，丢弃低优先级日志: {}", operationLog);
+                return;
+            }
+            overflowCounter.increment();
+            write(List.of(operationLog));
+            return;
+        }
+
+        queue.offer(operationLog);
+        if (count >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * 待写入的日志数
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * 停机时停止接收，等待后台线程结束后写入队列中剩余日志；之后提交的日志同步写入
+     */
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("操作日志后台写入线程未在{}ms内结束", shutdownTimeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int remaining = pending.get();
+        flush();
+        log.info("操作日志缓冲区已关闭，停机时写入剩余日志: {}", remaining);
+    }
+
+    /**
+     * 达到批量条数时提前触发一次写入，已有待执行的写入时不重复提交
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        } catch (RejectedExecutionException e) {
+            flushRequested.set(false);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 异常会终止周期任务，只记录日志
+            log.error("操作日志批量写入异常", e);
+        }
+    }
+
+    /**
+     * 按批量条数分批写入队列中的全部日志
+     */
+    void flush() {
+        while (true) {
+            List<OperationLog> batch = new ArrayList<>(batchSize);
+            OperationLog next;
+            while (batch.size() < batchSize && (next = queue.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            pending.addAndGet(-batch.size());
+            write(batch);
+        }
+    }
+
+    /**
+     * 批量写入失败时逐条重试，避免个别异常数据导致整批丢失；写入失败不影响主业务流程
+     */
+    private void write(List<OperationLog> operationLogs) {
+        try {
+            operationLogRepository.saveAll(operationLogs);
+            return;
+        } catch (Exception e) {
+            if (operationLogs.size() == 1) {
+                log.error("记录操作日志失败: {}", operationLogs.get(0), e);
+                return;
+            }
+            log.warn("操作日志批量写入失败，逐条重试: count={}, error={}", operationLogs.size(), e.getMessage());
+        }
+        for (OperationLog operationLog : operationLogs) {
+            try {
+                operationLogRepository.saveAll(List.of(operationLog));
+            } catch (Exception e) {
+                log.error("记录操作日志失败: {}", operationLog, e);
+            }
+        }
+    }
+}
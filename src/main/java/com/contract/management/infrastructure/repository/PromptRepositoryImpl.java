@@ -1,10 +1,14 @@
 package com.contract.management.infrastructure.repository;
 
+import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.contract.management.domain.model.Prompt;
 import com.contract.management.domain.model.PromptId;
 import com.contract.management.domain.model.valueobject.PromptRole;
 import com.contract.management.domain.model.valueobject.PromptType;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.domain.repository.PromptFilters;
 import com.contract.management.domain.repository.PromptRepository;
 import com.contract.management.infrastructure.converter.PromptConverter;
@@ -110,7 +114,9 @@ public class PromptRepositoryImpl implements PromptRepository {
             filters != null ? filters.getCreatedTimeStart() : null,
             filters != null ? filters.getCreatedTimeEnd() : null,
             filters != null ? filters.getUpdatedTimeStart() : null,
-            filters != null ? filters.getUpdatedTimeEnd() : null
+            filters != null ? filters.getUpdatedTimeEnd() : null,
+            null,
+            null
         );
 
         // 转换为Spring Data分页对象
@@ -118,6 +124,35 @@ public class PromptRepositoryImpl implements PromptRepository {
         return new PageImpl<>(prompts, pageable, result.getTotal());
     }
 
+    @Override
+    public KeysetPage<Prompt> findByFilters(PromptFilters filters, KeysetCursor cursor, int size, CountMode countMode) {
+        boolean filtered = filters != null && !filters.isEmpty();
+        boolean countExactly = KeysetPageSupport.countExactly(cursor, countMode, filtered);
+        boolean countEstimated = KeysetPageSupport.countEstimated(cursor, countMode, filtered);
+
+        Page<PromptEntity> page = KeysetPageSupport.window(size, countExactly);
+        IPage<PromptEntity> result = promptMapper.selectByFilters(
+            page,
+            filters != null && filters.getPromptType() != null ? filters.getPromptType().getCode() : null,
+            filters != null && filters.getPromptRole() != null ? filters.getPromptRole().getCode() : null,
+            filters != null ? filters.getEnabled() : null,
+            filters != null ? filters.getResponseFormat() : null,
+            filters != null ? filters.getCreatedBy() : null,
+            filters != null ? filters.getPromptName() : null,
+            filters != null ? filters.getCreatedTimeStart() : null,
+            filters != null ? filters.getCreatedTimeEnd() : null,
+            filters != null ? filters.getUpdatedTimeStart() : null,
+            filters != null ? filters.getUpdatedTimeEnd() : null,
+            cursor != null ? cursor.getCreatedTime() : null,
+            cursor != null ? cursor.getId() : null
+        );
+
+        Long total = countExactly ? Long.valueOf(result.getTotal())
+            : countEstimated ? Long.valueOf(promptMapper.estimateRowCount()) : null;
+        return KeysetPageSupport.toKeysetPage(result, size, PromptConverter::toDomainList,
+            PromptEntity::getCreatedTime, PromptEntity::getId, total, !countEstimated);
+    }
+
     @Override
     public List<Prompt> findByFilters(PromptFilters filters) {
         // 构建查询条件
@@ -141,7 +176,9 @@ public class PromptRepositoryImpl implements PromptRepository {
             filters != null ? filters.getCreatedTimeStart() : null,
             filters != null ? filters.getCreatedTimeEnd() : null,
             filters != null ? filters.getUpdatedTimeStart() : null,
-            filters != null ? filters.getUpdatedTimeEnd() : null
+            filters != null ? filters.getUpdatedTimeEnd() : null,
+            null,
+            null
         );
 
         return PromptConverter.toDomainList(result.getRecords());
@@ -7,6 +7,7 @@ import com.contract.management.domain.model.valueobject.PromptMode;
 import com.contract.management.domain.model.valueobject.ReviewRuleId;
 import com.contract.management.domain.model.valueobject.RuleType;
 import com.contract.management.domain.repository.ReviewRuleRepository;
+import com.contract.management.infrastructure.cache.ReviewRuleIndex;
 import com.contract.management.infrastructure.converter.ReviewRuleConverter;
 import com.contract.management.infrastructure.entity.ReviewRuleEntity;
 import com.contract.management.infrastructure.mapper.ReviewRuleMapper;
@@ -33,6 +34,7 @@ import java.util.Optional;
 public class ReviewRuleRepositoryImpl implements ReviewRuleRepository {
 
     private final ReviewRuleMapper reviewRuleMapper;
+    private final ReviewRuleIndex reviewRuleIndex;
 
     @Override
     @Transactional
@@ -124,9 +126,7 @@ public class ReviewRuleRepositoryImpl implements ReviewRuleRepository {
             return List.of();
         }
 
-        List<ReviewRuleEntity> entities = reviewRuleMapper.findByContractTypeAndClauseType(
-                contractType, clauseType);
-        return ReviewRuleConverter.toDomainList(entities);
+        return reviewRuleIndex.findApplicable(contractType, clauseType, null);
     }
 
     @Override
@@ -137,9 +137,8 @@ public class ReviewRuleRepositoryImpl implements ReviewRuleRepository {
             return List.of();
         }
 
-        List<ReviewRuleEntity> entities = reviewRuleMapper.findApplicableRules(
-                contractType, clauseType, promptMode.getCode());
-        return ReviewRuleConverter.toDomainList(entities);
+        // 审查时每个条款都会匹配一次规则，从内存索引读取，不逐条款查库
+        return reviewRuleIndex.findApplicable(contractType, clauseType, promptMode);
     }
 
     @Override
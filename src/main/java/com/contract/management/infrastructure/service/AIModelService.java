@@ -9,10 +9,13 @@ import com.contract.common.constant.ContractType;
 import com.contract.management.domain.exception.FileProcessingException;
 import com.contract.management.domain.model.Prompt;
 import com.contract.management.domain.model.valueobject.PromptType;
-import com.contract.management.domain.repository.PromptFilters;
+import com.contract.management.infrastructure.ai.AiCallGovernor;
+import com.contract.management.infrastructure.ai.AiCallScene;
+import com.contract.management.infrastructure.cache.AiResultCache;
+import com.contract.management.infrastructure.cache.PromptTemplate;
+import com.contract.management.infrastructure.cache.PromptTemplateCache;
 import com.contract.management.infrastructure.dto.ContractClassificationResult;
-import com.contract.management.infrastructure.repository.PromptRepositoryImpl;
-import com.contract.management.util.RepositoryQueryHelper;
+import com.contract.management.infrastructure.util.ContentHasher;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -40,7 +43,11 @@ import java.util.Map;
 public class AIModelService {
     private final AiClient aiClient;
     private final ObjectMapper objectMapper;
-    private final PromptRepositoryImpl promptRepositoryImpl;
+    private final PromptTemplateCache promptTemplateCache;
+    private final AiResultCache aiResultCache;
+    private final AiCallGovernor aiCallGovernor;
+
+    private static final String CONTENT_PLACEHOLDER = "CONTENT";
 
     /**
      * 通过文本内容进行合同分类
@@ -60,33 +67,32 @@ public class AIModelService {
             String limitedText = textContent.length() > 2000 ?
                 textContent.substring(0, 2000) : textContent;
 
-            Prompt prompts = RepositoryQueryHelper.queryOneAndCheckEmpty(
-                () -> promptRepositoryImpl.findByFilters(PromptFilters.builder()
-                    .promptName("分类合同提示词-文字")
-                    .promptType(PromptType.INNER)
-                    .enabled(true)
-                    .build()),
-                "未找到有效的文字合同分类提示词",
-                () -> new FileProcessingException("未找到有效的合同分类提示词")
-            );
-
-            // 实际调用大模型对话接口
-            String prompt = prompts.getPromptContent().getValue();
-            prompt = prompt.replace("{CONTENT}", limitedText);
-            ChatRequest.Message message = ChatRequest.Message.textMessage("user",  prompt);
-            ArrayList<ChatRequest.Message> messages = Lists.newArrayList();
-            messages.add(message);
-            ChatResponse response = aiClient.chat(
-                ChatRequest.builder()
-                    .model(ModelType.IFlow_GLM_4_6.getModelCode())
-                    .messages(messages)
-                .build()).getData();
-            if (null == response || CollectionUtils.isEmpty(response.getMessages())) {
-                log.warn("模型分类结果为空");
-                throw new FileProcessingException("模型分类结果为空");
-            }
-
-            return parseAIResponse(response.getMessages().get(0));
+            PromptTemplate template = promptTemplateCache.find("分类合同提示词-文字", PromptType.INNER)
+                .orElseThrow(() -> new FileProcessingException("未找到有效的合同分类提示词"));
+            Prompt prompts = template.getPrompt();
+
+            // 相同文本+相同提示词版本直接返回缓存结果，否则实际调用大模型对话接口
+            String contentHash = ContentHasher.sha256(limitedText);
+            String content = aiResultCache.getOrLoad("classification-text", contentHash, prompts, () -> {
+                String prompt = template.render(Map.of(CONTENT_PLACEHOLDER, limitedText));
+                ChatRequest.Message message = ChatRequest.Message.textMessage("user",  prompt);
+                ArrayList<ChatRequest.Message> messages = Lists.newArrayList();
+                messages.add(message);
+                ChatResponse response = aiCallGovernor.call(ModelType.IFlow_GLM_4_6, AiCallScene.CLASSIFICATION,
+                    aiCallGovernor.estimateTokens(prompt, 0),
+                    () -> aiClient.chat(
+                        ChatRequest.builder()
+                            .model(ModelType.IFlow_GLM_4_6.getModelCode())
+                            .messages(messages)
+                        .build()).getData());
+                if (null == response || CollectionUtils.isEmpty(response.getMessages())) {
+                    log.warn("模型分类结果为空");
+                    throw new FileProcessingException("模型分类结果为空");
+                }
+                return response.getMessages().get(0).getContent();
+            });
+
+            return parseCachedResponse("classification-text", contentHash, prompts, content);
 
         } catch (Exception e) {
             log.error("AI文本分类失败", e);
@@ -110,41 +116,41 @@ public class AIModelService {
         try {
             log.debug("开始通过文件内容进行合同分类，文件类型: {}, 大小: {} bytes", fileType, fileContent.length);
 
-            Prompt prompts = RepositoryQueryHelper.queryOneAndCheckEmpty(
-                () -> promptRepositoryImpl.findByFilters(PromptFilters.builder()
-                    .promptName("分类合同提示词-图片")
-                    .promptType(PromptType.INNER)
-                    .enabled(true)
-                    .build()),
-                "未找到有效的图片合同分类提示词",
-                () -> new FileProcessingException("未找到有效的合同分类提示词")
-            );
-            // 调用大模型视觉接口进行文件分析
-            String prompt = prompts.getPromptContent().getValue();
-            ChatRequest.Message message = ChatRequest.Message.textMessage("user",  prompt);
-            ArrayList<ChatRequest.Message> messages = Lists.newArrayList();
-            messages.add(message);
-
-            // 将byte[]转换为MultipartFile
-            String fileName = "contract." + getFileExtension(fileType);
-            MultipartFile multipartFile = createMultipartFile(fileName, getContentType(fileType), fileContent);
-
-            // 调用带视觉功能的AI接口
-            var apiResponse = aiClient.chatWithVisionBase64(
-                new Gson().toJson(ChatRequest.builder()
-                    .model(ModelType.GLM_4V_PLUS_0111.getModelCode())
-                    .messages(messages)
-                    .build()),
-                new MultipartFile[]{multipartFile}
-            );
-
-            if (null == apiResponse || apiResponse.getData() == null ||
-                CollectionUtils.isEmpty(apiResponse.getData().getMessages())) {
-                log.warn("视觉模型分类结果为空");
-                throw new FileProcessingException("视觉模型分类结果为空");
-            }
-
-            return parseAIResponse(apiResponse.getData().getMessages().get(0));
+            PromptTemplate template = promptTemplateCache.find("分类合同提示词-图片", PromptType.INNER)
+                .orElseThrow(() -> new FileProcessingException("未找到有效的合同分类提示词"));
+            Prompt prompts = template.getPrompt();
+            // 相同文件+相同提示词版本直接返回缓存结果，否则调用大模型视觉接口进行文件分析
+            String contentHash = ContentHasher.sha256(fileContent);
+            String content = aiResultCache.getOrLoad("classification-file", contentHash, prompts, () -> {
+                String prompt = template.getContent();
+                ChatRequest.Message message = ChatRequest.Message.textMessage("user",  prompt);
+                ArrayList<ChatRequest.Message> messages = Lists.newArrayList();
+                messages.add(message);
+
+                // 将byte[]转换为MultipartFile
+                String fileName = "contract." + getFileExtension(fileType);
+                MultipartFile multipartFile = createMultipartFile(fileName, getContentType(fileType), fileContent);
+
+                // 调用带视觉功能的AI接口
+                var apiResponse = aiCallGovernor.call(ModelType.GLM_4V_PLUS_0111, AiCallScene.CLASSIFICATION,
+                    aiCallGovernor.estimateTokens(prompt, fileContent.length),
+                    () -> aiClient.chatWithVisionBase64(
+                        new Gson().toJson(ChatRequest.builder()
+                            .model(ModelType.GLM_4V_PLUS_0111.getModelCode())
+                            .messages(messages)
+                            .build()),
+                        new MultipartFile[]{multipartFile}
+                    ));
+
+                if (null == apiResponse || apiResponse.getData() == null ||
+                    CollectionUtils.isEmpty(apiResponse.getData().getMessages())) {
+                    log.warn("视觉模型分类结果为空");
+                    throw new FileProcessingException("视觉模型分类结果为空");
+                }
+                return apiResponse.getData().getMessages().get(0).getContent();
+            });
+
+            return parseCachedResponse("classification-file", contentHash, prompts, content);
 
         } catch (Exception e) {
             log.error("AI文件分类失败", e);
@@ -189,6 +195,14 @@ public class AIModelService {
         }
     }
 
+    /**
+     * 根据文件头判断是否为JPEG图片
+     */
+    private boolean isJpeg(byte[] content) {
+        return content != null && content.length > 2
+            && (content[0] & 0xFF) == 0xFF && (content[1] & 0xFF) == 0xD8;
+    }
+
     /**
      * 创建MultipartFile
      */
@@ -250,45 +264,48 @@ public class AIModelService {
                 throw new FileProcessingException("PDF图片内容为空，无法进行分类");
             }
 
-            Prompt prompts = RepositoryQueryHelper.queryOneAndCheckEmpty(
-                () -> promptRepositoryImpl.findByFilters(PromptFilters.builder()
-                    .promptName("分类合同提示词-图片")
-                    .promptType(PromptType.INNER)
-                    .enabled(true)
-                    .build()),
-                "未找到有效的图片合同分类提示词",
-                () -> new FileProcessingException("未找到有效的合同分类提示词")
-            );
-
-            // 调用大模型视觉接口进行文件分析
-            String prompt = prompts.getPromptContent().getValue();
-            ChatRequest.Message message = ChatRequest.Message.textMessage("user", prompt);
-            ArrayList<ChatRequest.Message> messages = Lists.newArrayList();
-            messages.add(message);
-
-            // 将List<byte[]>转换为MultipartFile数组
-            MultipartFile[] multipartFiles = new MultipartFile[imageContents.size()];
-            for (int i = 0; i < imageContents.size(); i++) {
-                String fileName = "pdf_page_" + (i + 1) + ".png";
-                multipartFiles[i] = createMultipartFile(fileName, "image/png", imageContents.get(i));
-            }
-
-            // 调用带视觉功能的AI接口
-            var apiResponse = aiClient.chatWithVisionBase64(
-                new Gson().toJson(ChatRequest.builder()
-                    .model(ModelType.GLM_4V_PLUS_0111.getModelCode())
-                    .messages(messages)
-                    .build()),
-                multipartFiles
-            );
-
-            if (null == apiResponse || apiResponse.getData() == null ||
-                CollectionUtils.isEmpty(apiResponse.getData().getMessages())) {
-                log.warn("视觉模型分类结果为空");
-                throw new FileProcessingException("视觉模型分类结果为空");
-            }
-
-            return parseAIResponse(apiResponse.getData().getMessages().get(0));
+            PromptTemplate template = promptTemplateCache.find("分类合同提示词-图片", PromptType.INNER)
+                .orElseThrow(() -> new FileProcessingException("未找到有效的合同分类提示词"));
+            Prompt prompts = template.getPrompt();
+
+            // 相同页面图片+相同提示词版本直接返回缓存结果，否则调用大模型视觉接口进行文件分析
+            String contentHash = ContentHasher.sha256(imageContents);
+            String content = aiResultCache.getOrLoad("classification-pdf-images", contentHash, prompts, () -> {
+                String prompt = template.getContent();
+                ChatRequest.Message message = ChatRequest.Message.textMessage("user", prompt);
+                ArrayList<ChatRequest.Message> messages = Lists.newArrayList();
+                messages.add(message);
+
+                // 将List<byte[]>转换为MultipartFile数组
+                MultipartFile[] multipartFiles = new MultipartFile[imageContents.size()];
+                for (int i = 0; i < imageContents.size(); i++) {
+                    // 渲染格式可配置为PNG或JPEG，按文件头识别
+                    boolean jpeg = isJpeg(imageContents.get(i));
+                    String fileName = "pdf_page_" + (i + 1) + (jpeg ? ".jpg" : ".png");
+                    multipartFiles[i] = createMultipartFile(fileName, jpeg ? "image/jpeg" : "image/png", imageContents.get(i));
+                }
+
+                // 调用带视觉功能的AI接口
+                long imageBytes = imageContents.stream().mapToLong(image -> image.length).sum();
+                var apiResponse = aiCallGovernor.call(ModelType.GLM_4V_PLUS_0111, AiCallScene.CLASSIFICATION,
+                    aiCallGovernor.estimateTokens(prompt, imageBytes),
+                    () -> aiClient.chatWithVisionBase64(
+                        new Gson().toJson(ChatRequest.builder()
+                            .model(ModelType.GLM_4V_PLUS_0111.getModelCode())
+                            .messages(messages)
+                            .build()),
+                        multipartFiles
+                    ));
+
+                if (null == apiResponse || apiResponse.getData() == null ||
+                    CollectionUtils.isEmpty(apiResponse.getData().getMessages())) {
+                    log.warn("视觉模型分类结果为空");
+                    throw new FileProcessingException("视觉模型分类结果为空");
+                }
+                return apiResponse.getData().getMessages().get(0).getContent();
+            });
+
+            return parseCachedResponse("classification-pdf-images", contentHash, prompts, content);
 
         } catch (Exception e) {
             log.error("AI PDF图片分类失败", e);
@@ -301,12 +318,22 @@ public class AIModelService {
         }
     }
 
-  /**
+    /**
+     * 解析缓存或模型返回的内容，无法解析的结果从缓存中剔除，避免重复命中错误结果
+     */
+    private ContractClassificationResult parseCachedResponse(String scene, String contentHash, Prompt prompt, String content) {
+        ContractClassificationResult result = parseAIResponse(content);
+        if (!Boolean.TRUE.equals(result.getSuccess())) {
+            aiResultCache.evict(scene, contentHash, prompt);
+        }
+        return result;
+    }
+
+    /**
      * 解析AI响应
      */
-    private ContractClassificationResult parseAIResponse(ChatResponse.Message aiResponse) {
+    private ContractClassificationResult parseAIResponse(String content) {
         try {
-            String content = aiResponse.getContent();
             JsonNode jsonNode = objectMapper.readTree(content);
 
             String contractTypeStr = jsonNode.path("contractType").asText("OTHER");
@@ -323,7 +350,7 @@ public class AIModelService {
 
             Map<String, Object> extendedProperties = new HashMap<>();
             extendedProperties.put("reason", reason);
-            extendedProperties.put("aiRawResponse", aiResponse);
+            extendedProperties.put("aiRawResponse", content);
 
             return ContractClassificationResult.builder()
                 .contractType(contractType)
@@ -335,7 +362,7 @@ public class AIModelService {
                 .build();
 
         } catch (Exception e) {
-            log.error("JSON解析失败: {}", aiResponse, e);
+            log.error("JSON解析失败: {}", content, e);
             return ContractClassificationResult.builder()
                 .contractType(ContractType.OTHER)
                 .confidence(0.0)
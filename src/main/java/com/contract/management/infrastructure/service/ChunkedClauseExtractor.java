@@ -0,0 +1,591 @@
+package com.contract.management.infrastructure.service;
+
+import com.alibaba.nacos.shaded.com.google.gson.Gson;
+import com.contract.ai.feign.client.AiClient;
+import com.contract.ai.feign.dto.ChatRequest;
+import com.contract.ai.feign.enums.ModelType;
+import com.contract.management.domain.exception.ClauseExtractionException;
+import com.contract.management.domain.model.Prompt;
+import com.contract.management.domain.model.valueobject.ComprehensiveClauseExtractionResult;
+import com.contract.management.infrastructure.ai.AiCallGovernor;
+import com.contract.management.infrastructure.ai.AiCallScene;
+import com.contract.management.infrastructure.cache.AiResultCache;
+import com.contract.management.infrastructure.util.ByteArrayMultipartFile;
+import com.contract.management.infrastructure.util.PdfPageRenderer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.utils.Lists;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+/**
+ * 长文档分窗口条款抽取器
+ * 将超过单次调用页数上限的PDF按重叠页窗口切分，每个窗口渲染为页面图片后单独调用视觉模型，
+ * 单个任务同时进行中的窗口数有上限；窗口完成后按条款位置与内容去重合并，并立即回调新增条款，
+ * 便于调用方逐窗口持久化
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ChunkedClauseExtractor {
+
+    private static final String WINDOW_CACHE_SCENE = "extraction-window";
+
+    /**
+     * 同一页上边界框交并比达到该值视为同一位置
+     */
+    private static final double DUPLICATE_IOU = 0.5;
+
+    /**
+     * 内容包含关系判重时较短一方的最小长度，避免过短的内容误判
+     */
+    private static final int MIN_CONTAINED_CHARS = 20;
+
+    private final AiClient aiClient;
+    private final AiCallGovernor aiCallGovernor;
+    private final AiResultCache aiResultCache;
+    private final PdfPageRenderer pdfPageRenderer;
+    private final ComprehensiveExtractionResponseParser responseParser;
+    private final Executor windowExecutor;
+
+    @Value("${contract.extraction.chunk.window-pages:10}")
+    private int windowPages;
+
+    @Value("${contract.extraction.chunk.overlap-pages:2}")
+    private int overlapPages;
+
+    @Value("${contract.extraction.chunk.max-concurrent-windows:3}")
+    private int maxConcurrentWindows;
+
+    @Value("${contract.extraction.chunk.max-pages:200}")
+    private int maxPages;
+
+    @Value("${contract.extraction.chunk.dpi:150}")
+    private int dpi;
+
+    @Value("${contract.extraction.chunk.image-format:JPEG}")
+    private String imageFormat;
+
+    @Value("${contract.extraction.chunk.quality:0.8}")
+    private float quality;
+
+    public ChunkedClauseExtractor(AiClient aiClient,
+                                  AiCallGovernor aiCallGovernor,
+                                  AiResultCache aiResultCache,
+                                  PdfPageRenderer pdfPageRenderer,
+                                  ComprehensiveExtractionResponseParser responseParser,
+                                  @Qualifier("clauseExtractionWindowExecutor") Executor windowExecutor) {
+        this.aiClient = aiClient;
+        this.aiCallGovernor = aiCallGovernor;
+        this.aiResultCache = aiResultCache;
+        this.pdfPageRenderer = pdfPageRenderer;
+        this.responseParser = responseParser;
+        this.windowExecutor = windowExecutor;
+    }
+
+    /**
+     * 分窗口处理支持的最大页数
+     */
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    /**
+     * 分窗口抽取条款
+     *
+     * @param pdfFile 本地PDF文件，抽取结束前不能删除；所有窗口共用一个渲染会话，不把整个文件读入堆内存
+     * @param pageCount 总页数
+     * @param contentHash 文件内容哈希，用于窗口结果缓存
+     * @param prompt 一体化抽取提示词
+     * @param recording 阶段耗时记录，每个窗口的渲染、模型调用与解析各记一个样本
+     * @param windowListener 每个窗口合并后回调，在调用线程上执行；回调抛出异常时取消其余窗口并终止抽取
+     * @return 合并后的综合抽取结果，页码均为文档绝对页码
+     */
+    public ComprehensiveClauseExtractionResult extract(Path pdfFile, int pageCount, String contentHash, Prompt prompt,
+                                                       ClauseExtractionMetrics.Recording recording,
+                                                       WindowListener windowListener) {
+        long startTime = System.currentTimeMillis();
+        List<PageWindow> windows = planWindows(pageCount, windowPages, overlapPages);
+        log.info("开始分窗口条款抽取，总页数: {}, 窗口数: {}, 每窗口页数: {}, 重叠页数: {}",
+            pageCount, windows.size(), windowPages, overlapPages);
+
+        CompletionService<WindowResult> completionService = new ExecutorCompletionService<>(windowExecutor);
+        List<Future<WindowResult>> futures = new ArrayList<>(windows.size());
+        ComprehensiveClauseExtractionResult[] windowResults = new ComprehensiveClauseExtractionResult[windows.size()];
+        ClauseMerger merger = new ClauseMerger();
+        int submitted = 0;
+        // 所有窗口共用一个渲染会话，文档只解析一次
+        PdfPageRenderer.RenderSession renderSession = pdfPageRenderer.open(pdfFile);
+        try {
+            // 先提交不超过上限的窗口，每完成一个再补一个
+            while (submitted < windows.size() && submitted < Math.max(1, maxConcurrentWindows)) {
+                futures.add(submitWindow(completionService, windows.get(submitted++), renderSession, contentHash, prompt, recording));
+            }
+            for (int completed = 0; completed < windows.size(); completed++) {
+                WindowResult windowResult = completionService.take().get();
+                if (submitted < windows.size()) {
+                    futures.add(submitWindow(completionService, windows.get(submitted++), renderSession, contentHash, prompt, recording));
+                }
+
+                windowResults[windowResult.window().index()] = windowResult.result();
+                List<ComprehensiveClauseExtractionResult.ExtractedClause> accepted =
+                    merger.accept(windowResult.window().index(), windowResult.result().getClauses());
+                log.info("窗口抽取完成: 第{}至第{}页，抽取条款{}个，去重后新增{}个",
+                    windowResult.window().firstPage(), windowResult.window().lastPage(),
+                    windowResult.result().getClauses().size(), accepted.size());
+                windowListener.onWindowCompleted(accepted, completed + 1, windows.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClauseExtractionException("分窗口条款抽取被中断", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new ClauseExtractionException("分窗口条款抽取失败: " + cause.getMessage(), cause);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+            renderSession.close();
+        }
+
+        int processingSeconds = (int) ((System.currentTimeMillis() - startTime) / 1000);
+        return assemble(pageCount, List.of(windowResults), merger.getClauses(), processingSeconds);
+    }
+
+    private Future<WindowResult> submitWindow(CompletionService<WindowResult> completionService, PageWindow window,
+                                              PdfPageRenderer.RenderSession renderSession, String contentHash,
+                                              Prompt prompt, ClauseExtractionMetrics.Recording recording) {
+        return completionService.submit(() ->
+            new WindowResult(window, extractWindow(window, renderSession, contentHash, prompt, recording)));
+    }
+
+    /**
+     * 抽取单个窗口，返回的页码已换算为文档绝对页码，条款ID加窗口前缀
+     */
+    private ComprehensiveClauseExtractionResult extractWindow(PageWindow window,
+                                                             PdfPageRenderer.RenderSession renderSession,
+                                                             String contentHash, Prompt prompt,
+                                                             ClauseExtractionMetrics.Recording recording) {
+        PdfPageRenderer.RenderOptions options = PdfPageRenderer.RenderOptions.builder()
+            .dpi(dpi)
+            .imageFormat(imageFormat)
+            .quality(quality)
+            .build();
+        String windowHash = contentHash + ":p" + window.firstPage() + "-" + window.lastPage() + ":" + dpi;
+        String response = aiResultCache.getOrLoad(WINDOW_CACHE_SCENE, windowHash, prompt,
+            () -> callAiForWindow(window, renderSession, prompt, options, recording));
+
+        ComprehensiveClauseExtractionResult result;
+        long parseStart = System.nanoTime();
+        try {
+            result = responseParser.parse(response);
+        } catch (IOException e) {
+            aiResultCache.evict(WINDOW_CACHE_SCENE, windowHash, prompt);
+            throw new ClauseExtractionException(String.format("解析第%d至第%d页抽取结果失败: %s",
+                window.firstPage(), window.lastPage(), e.getMessage()), e);
+        } finally {
+            recording.record(ClauseExtractionMetrics.Stage.RESPONSE_PARSE, System.nanoTime() - parseStart);
+        }
+        return toAbsolutePages(window, result);
+    }
+
+    private String callAiForWindow(PageWindow window, PdfPageRenderer.RenderSession renderSession, Prompt prompt,
+                                   PdfPageRenderer.RenderOptions options, ClauseExtractionMetrics.Recording recording) {
+        List<byte[]> images = recording.time(ClauseExtractionMetrics.Stage.PAGE_RENDER,
+            () -> renderSession.renderPages(window.startPage(), window.pageCount(), options));
+        if (images.isEmpty()) {
+            throw new ClauseExtractionException(
+                String.format("第%d至第%d页渲染结果为空", window.firstPage(), window.lastPage()));
+        }
+
+        String promptText = prompt.getPromptContent().getValue() + String.format(
+            "\n\n本次输入为合同第%d至第%d页（共%d页）的页面图片，仅抽取这些页面中的条款；"
+                + "positions中的page填写图片序号（从1开始），跨越首尾页的条款按可见部分抽取。",
+            window.firstPage(), window.lastPage(), images.size());
+        ArrayList<ChatRequest.Message> messages = Lists.newArrayList();
+        messages.add(ChatRequest.Message.textMessage("user", promptText));
+
+        MultipartFile[] multipartFiles = new MultipartFile[images.size()];
+        for (int i = 0; i < images.size(); i++) {
+            multipartFiles[i] = new ByteArrayMultipartFile(
+                "page_" + (window.startPage() + i + 1) + "." + options.getFileExtension(),
+                options.getContentType(), images.get(i));
+        }
+
+        long imageBytes = images.stream().mapToLong(image -> image.length).sum();
+        var response = recording.time(ClauseExtractionMetrics.Stage.AI_CALL,
+            () -> aiCallGovernor.call(ModelType.GLM_4_5V, AiCallScene.EXTRACTION,
+                aiCallGovernor.estimateTokens(promptText, imageBytes),
+                () -> aiClient.chatWithVisionBase64(
+                    new Gson().toJson(ChatRequest.builder()
+                        .model(ModelType.GLM_4_5V.getModelCode())
+                        .maxTokens(10240)
+                        .messages(messages)
+                        .build()),
+                    multipartFiles
+                )));
+
+        if (response == null || response.getData() == null ||
+            response.getData().getMessages() == null || response.getData().getMessages().isEmpty()) {
+            throw new ClauseExtractionException(
+                String.format("第%d至第%d页AI视觉模型响应为空", window.firstPage(), window.lastPage()));
+        }
+        return response.getData().getMessages().get(0).getContent();
+    }
+
+    /**
+     * 将窗口结果中的图片序号换算为文档绝对页码，条款ID加窗口前缀以保证合并后唯一
+     */
+    private static ComprehensiveClauseExtractionResult toAbsolutePages(PageWindow window,
+                                                                       ComprehensiveClauseExtractionResult result) {
+        String idPrefix = "w" + (window.index() + 1) + "-";
+        List<ComprehensiveClauseExtractionResult.ExtractedClause> clauses = result.getClauses();
+        for (int i = 0; i < clauses.size(); i++) {
+            ComprehensiveClauseExtractionResult.ExtractedClause clause = clauses.get(i);
+            clause.setClauseId(idPrefix + (clause.getClauseId() != null ? clause.getClauseId() : "c" + (i + 1)));
+            for (ComprehensiveClauseExtractionResult.ClausePosition position : clause.getPositions()) {
+                position.setPage(window.toAbsolute(position.getPage()));
+            }
+        }
+
+        for (ComprehensiveClauseExtractionResult.Chapter chapter : result.getStructureInfo().getChapters()) {
+            chapter.setPageStart(window.toAbsolute(chapter.getPageStart()));
+            chapter.setPageEnd(window.toAbsolute(chapter.getPageEnd()));
+            for (ComprehensiveClauseExtractionResult.Subsection subsection : chapter.getSubsections()) {
+                subsection.setPage(window.toAbsolute(subsection.getPage()));
+            }
+        }
+        for (ComprehensiveClauseExtractionResult.SpecialArea area : result.getStructureInfo().getSpecialAreas()) {
+            area.setPages(area.getPages().stream().map(window::toAbsolute).toList());
+        }
+
+        ComprehensiveClauseExtractionResult.QualityMetrics metrics = result.getQualityMetrics();
+        metrics.setPagesWithIssues(metrics.getPagesWithIssues().stream().map(window::toAbsolute).toList());
+        metrics.setRecommendedReviewClauses(metrics.getRecommendedReviewClauses().stream()
+            .map(clauseId -> idPrefix + clauseId)
+            .toList());
+        return result;
+    }
+
+    /**
+     * 按窗口顺序组装最终结果：文档信息取各窗口首个非空值，结构信息拼接去重，质量指标按合并后的条款重新统计
+     */
+    static ComprehensiveClauseExtractionResult assemble(int pageCount,
+                                                        List<ComprehensiveClauseExtractionResult> windowResults,
+                                                        List<ComprehensiveClauseExtractionResult.ExtractedClause> clauses,
+                                                        int processingSeconds) {
+        ComprehensiveClauseExtractionResult first = windowResults.get(0);
+        String partyA = null;
+        String partyB = null;
+        String contractDate = null;
+        String contractAmount = null;
+        Map<String, ComprehensiveClauseExtractionResult.Chapter> chapters = new LinkedHashMap<>();
+        Map<String, ComprehensiveClauseExtractionResult.SpecialArea> specialAreas = new LinkedHashMap<>();
+        Set<Integer> pagesWithIssues = new TreeSet<>();
+        Set<String> recommendedReviewClauses = new LinkedHashSet<>();
+        double ocrConfidenceSum = 0;
+        int ocrConfidenceCount = 0;
+        double structureAccuracySum = 0;
+        int structureAccuracyCount = 0;
+
+        for (ComprehensiveClauseExtractionResult windowResult : windowResults) {
+            ComprehensiveClauseExtractionResult.DocumentInfo documentInfo = windowResult.getDocumentInfo();
+            partyA = partyA != null ? partyA : documentInfo.getParties().getPartyA();
+            partyB = partyB != null ? partyB : documentInfo.getParties().getPartyB();
+            contractDate = contractDate != null ? contractDate : documentInfo.getContractDate();
+            contractAmount = contractAmount != null ? contractAmount : documentInfo.getContractAmount();
+
+            // 重叠页上的章节与特殊区域会被相邻窗口重复识别，按标题/类型与页码去重
+            for (ComprehensiveClauseExtractionResult.Chapter chapter : windowResult.getStructureInfo().getChapters()) {
+                chapters.putIfAbsent(chapter.getTitle() + "@" + chapter.getPageStart(), chapter);
+            }
+            for (ComprehensiveClauseExtractionResult.SpecialArea area : windowResult.getStructureInfo().getSpecialAreas()) {
+                specialAreas.putIfAbsent(area.getType() + "@" + area.getPages(), area);
+            }
+
+            ComprehensiveClauseExtractionResult.QualityMetrics metrics = windowResult.getQualityMetrics();
+            metrics.getPagesWithIssues().stream().filter(Objects::nonNull).forEach(pagesWithIssues::add);
+            recommendedReviewClauses.addAll(metrics.getRecommendedReviewClauses());
+            if (metrics.getOcrConfidenceAvg() != null) {
+                ocrConfidenceSum += metrics.getOcrConfidenceAvg();
+                ocrConfidenceCount++;
+            }
+            if (metrics.getStructureAccuracy() != null) {
+                structureAccuracySum += metrics.getStructureAccuracy();
+                structureAccuracyCount++;
+            }
+        }
+
+        List<ComprehensiveClauseExtractionResult.ExtractedClause> sortedClauses = new ArrayList<>(clauses);
+        sortedClauses.sort(Comparator.comparingInt(ChunkedClauseExtractor::firstPage));
+        Set<String> clauseIds = new LinkedHashSet<>();
+        int high = 0;
+        int medium = 0;
+        int low = 0;
+        for (ComprehensiveClauseExtractionResult.ExtractedClause clause : sortedClauses) {
+            clauseIds.add(clause.getClauseId());
+            Double confidence = clause.getConfidenceScore();
+            if (confidence == null) {
+                continue;
+            }
+            if (confidence >= 0.8) {
+                high++;
+            } else if (confidence >= 0.5) {
+                medium++;
+            } else {
+                low++;
+            }
+        }
+        // 被判为重复而丢弃的条款不再建议审核
+        recommendedReviewClauses.retainAll(clauseIds);
+
+        return ComprehensiveClauseExtractionResult.builder()
+            .taskInfo(ComprehensiveClauseExtractionResult.TaskInfo.builder()
+                .extractionTaskId(first.getTaskInfo().getExtractionTaskId())
+                .processingTime(processingSeconds)
+                .documentQuality(first.getTaskInfo().getDocumentQuality())
+                .build())
+            .documentInfo(ComprehensiveClauseExtractionResult.DocumentInfo.builder()
+                .totalPages(pageCount)
+                .documentType(first.getDocumentInfo().getDocumentType())
+                .parties(ComprehensiveClauseExtractionResult.ContractParties.builder()
+                    .partyA(partyA)
+                    .partyB(partyB)
+                    .build())
+                .contractDate(contractDate)
+                .contractAmount(contractAmount)
+                .build())
+            .structureInfo(ComprehensiveClauseExtractionResult.StructureInfo.builder()
+                .chapters(new ArrayList<>(chapters.values()))
+                .specialAreas(new ArrayList<>(specialAreas.values()))
+                .build())
+            .clauses(sortedClauses)
+            .qualityMetrics(ComprehensiveClauseExtractionResult.QualityMetrics.builder()
+                .totalClausesFound(sortedClauses.size())
+                .highConfidenceClauses(high)
+                .mediumConfidenceClauses(medium)
+                .lowConfidenceClauses(low)
+                .pagesWithIssues(new ArrayList<>(pagesWithIssues))
+                .ocrConfidenceAvg(ocrConfidenceCount > 0 ? ocrConfidenceSum / ocrConfidenceCount : null)
+                .structureAccuracy(structureAccuracyCount > 0 ? structureAccuracySum / structureAccuracyCount : null)
+                .recommendedReviewClauses(new ArrayList<>(recommendedReviewClauses))
+                .build())
+            .build();
+    }
+
+    /**
+     * 规划窗口：每个窗口windowPages页，相邻窗口重叠overlapPages页，最后一个窗口覆盖到末页
+     */
+    static List<PageWindow> planWindows(int pageCount, int windowPages, int overlapPages) {
+        if (windowPages <= 0 || overlapPages < 0 || overlapPages >= windowPages) {
+            throw new IllegalArgumentException(
+                String.format("窗口参数无效: windowPages=%d, overlapPages=%d", windowPages, overlapPages));
+        }
+        List<PageWindow> windows = new ArrayList<>();
+        int step = windowPages - overlapPages;
+        for (int start = 0; start < pageCount; start += step) {
+            int end = Math.min(pageCount, start + windowPages);
+            windows.add(new PageWindow(windows.size(), start, end - start));
+            if (end == pageCount) {
+                break;
+            }
+        }
+        return windows;
+    }
+
+    private static int firstPage(ComprehensiveClauseExtractionResult.ExtractedClause clause) {
+        return clause.getPositions().stream()
+            .map(ComprehensiveClauseExtractionResult.ClausePosition::getPage)
+            .filter(Objects::nonNull)
+            .min(Integer::compare)
+            .orElse(Integer.MAX_VALUE);
+    }
+
+    /**
+     * 窗口完成回调
+     */
+    @FunctionalInterface
+    public interface WindowListener {
+
+        /**
+         * @param acceptedClauses 本窗口新增（未被判为重复）的条款
+         * @param completedWindows 已完成窗口数
+         * @param totalWindows 总窗口数
+         */
+        void onWindowCompleted(List<ComprehensiveClauseExtractionResult.ExtractedClause> acceptedClauses,
+                               int completedWindows, int totalWindows);
+    }
+
+    /**
+     * 页窗口
+     *
+     * @param index 窗口序号（从0开始）
+     * @param startPage 起始页（从0开始）
+     * @param pageCount 页数
+     */
+    record PageWindow(int index, int startPage, int pageCount) {
+
+        /**
+         * 首页页码（从1开始）
+         */
+        int firstPage() {
+            return startPage + 1;
+        }
+
+        /**
+         * 末页页码（从1开始）
+         */
+        int lastPage() {
+            return startPage + pageCount;
+        }
+
+        /**
+         * 图片序号换算为绝对页码；超出本窗口序号范围的值原样保留
+         */
+        Integer toAbsolute(Integer imageIndex) {
+            if (imageIndex == null || imageIndex < 1 || imageIndex > pageCount) {
+                return imageIndex;
+            }
+            return startPage + imageIndex;
+        }
+    }
+
+    private record WindowResult(PageWindow window, ComprehensiveClauseExtractionResult result) {
+    }
+
+    /**
+     * 跨窗口条款合并器
+     * 与其他窗口已接受的条款类型相同，且同一页边界框交并比达到阈值、或规范化后内容相同/包含时视为重复；
+     * 重复条款保留先完成窗口中的版本。同一窗口内的条款不互相去重
+     */
+    static class ClauseMerger {
+
+        private final List<ComprehensiveClauseExtractionResult.ExtractedClause> clauses = new ArrayList<>();
+        private final List<Integer> clauseWindows = new ArrayList<>();
+        private final List<String> normalizedContents = new ArrayList<>();
+
+        /**
+         * 合并一个窗口的条款
+         *
+         * @return 本窗口中未被判为重复的条款
+         */
+        List<ComprehensiveClauseExtractionResult.ExtractedClause> accept(
+                int windowIndex, List<ComprehensiveClauseExtractionResult.ExtractedClause> windowClauses) {
+            List<ComprehensiveClauseExtractionResult.ExtractedClause> accepted = new ArrayList<>();
+            for (ComprehensiveClauseExtractionResult.ExtractedClause candidate : windowClauses) {
+                String content = normalize(candidate.getContent());
+                if (!isDuplicate(windowIndex, candidate, content)) {
+                    accepted.add(candidate);
+                }
+            }
+            for (ComprehensiveClauseExtractionResult.ExtractedClause clause : accepted) {
+                clauses.add(clause);
+                clauseWindows.add(windowIndex);
+                normalizedContents.add(normalize(clause.getContent()));
+            }
+            return accepted;
+        }
+
+        List<ComprehensiveClauseExtractionResult.ExtractedClause> getClauses() {
+            return clauses;
+        }
+
+        private boolean isDuplicate(int windowIndex, ComprehensiveClauseExtractionResult.ExtractedClause candidate,
+                                    String content) {
+            for (int i = 0; i < clauses.size(); i++) {
+                ComprehensiveClauseExtractionResult.ExtractedClause existing = clauses.get(i);
+                if (clauseWindows.get(i) == windowIndex || !sameType(existing, candidate)) {
+                    continue;
+                }
+                if (overlaps(existing.getPositions(), candidate.getPositions())
+                    || sameContent(normalizedContents.get(i), content)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean sameType(ComprehensiveClauseExtractionResult.ExtractedClause a,
+                                        ComprehensiveClauseExtractionResult.ExtractedClause b) {
+            String typeA = a.getClauseType() != null ? a.getClauseType().toUpperCase(Locale.ROOT) : "";
+            String typeB = b.getClauseType() != null ? b.getClauseType().toUpperCase(Locale.ROOT) : "";
+            return typeA.equals(typeB);
+        }
+
+        private static boolean overlaps(List<ComprehensiveClauseExtractionResult.ClausePosition> a,
+                                        List<ComprehensiveClauseExtractionResult.ClausePosition> b) {
+            for (ComprehensiveClauseExtractionResult.ClausePosition positionA : a) {
+                for (ComprehensiveClauseExtractionResult.ClausePosition positionB : b) {
+                    if (positionA.getPage() != null && positionA.getPage().equals(positionB.getPage())
+                        && iou(positionA.getBbox(), positionB.getBbox()) >= DUPLICATE_IOU) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static boolean sameContent(String a, String b) {
+            if (a.isEmpty() || b.isEmpty()) {
+                return false;
+            }
+            if (a.equals(b)) {
+                return true;
+            }
+            String shorter = a.length() <= b.length() ? a : b;
+            String longer = a.length() <= b.length() ? b : a;
+            return shorter.length() >= MIN_CONTAINED_CHARS && longer.contains(shorter);
+        }
+
+        private static String normalize(String content) {
+            if (content == null) {
+                return "";
+            }
+            StringBuilder normalized = new StringBuilder(content.length());
+            for (int i = 0; i < content.length(); i++) {
+                char c = content.charAt(i);
+                if (!Character.isWhitespace(c)) {
+                    normalized.append(c);
+                }
+            }
+            return normalized.toString();
+        }
+
+        /**
+         * 边界框交并比，坐标为[x1, y1, x2, y2]，格式不符时返回0
+         */
+        static double iou(List<Integer> a, List<Integer> b) {
+            if (a == null || b == null || a.size() != 4 || b.size() != 4) {
+                return 0;
+            }
+            double width = Math.min(a.get(2), b.get(2)) - Math.max(a.get(0), b.get(0));
+            double height = Math.min(a.get(3), b.get(3)) - Math.max(a.get(1), b.get(1));
+            if (width <= 0 || height <= 0) {
+                return 0;
+            }
+            double intersection = width * height;
+            double areaA = (double) (a.get(2) - a.get(0)) * (a.get(3) - a.get(1));
+            double areaB = (double) (b.get(2) - b.get(0)) * (b.get(3) - b.get(1));
+            return intersection / (areaA + areaB - intersection);
+        }
+    }
+}
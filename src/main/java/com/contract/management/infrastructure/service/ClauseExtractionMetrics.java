@@ -0,0 +1,168 @@
+package com.contract.management.infrastructure.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 条款抽取分阶段指标
+ * 每次抽取先收集各阶段耗时样本，结束时统一以文件类型、页数区间、模型和结果打标签记录到
+ * contract.extraction.stage（按stage区分）与contract.extraction.duration，并发布百分位直方图。
+ * 文件类型与页数在流程中途才能确定，统一在结束时打标签保证同一次抽取的各阶段标签一致；
+ * 分窗口抽取的每次窗口调用单独记录一个样本
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Component
+public class ClauseExtractionMetrics {
+
+    static final String STAGE_TIMER = "contract.extraction.stage";
+    static final String DURATION_TIMER = "contract.extraction.duration";
+
+    private static final String UNKNOWN = "unknown";
+    private static final Duration MAX_EXPECTED = Duration.ofMinutes(30);
+
+    private final MeterRegistry meterRegistry;
+
+    public ClauseExtractionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 抽取阶段
+     */
+    public enum Stage {
+        FILE_METADATA("file_metadata"),
+        DOWNLOAD("download"),
+        VALIDATION("validation"),
+        PROMPT_LOAD("prompt_load"),
+        PAGE_RENDER("page_render"),
+        AI_CALL("ai_call"),
+        RESPONSE_PARSE("response_parse"),
+        CLAUSE_PERSIST("clause_persist"),
+        STATUS_UPDATE("status_update");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * 开始记录一次抽取
+     */
+    public Recording start() {
+        return new Recording();
+    }
+
+    /**
+     * 页数区间，单次调用上限20页，超过后按窗口分段抽取
+     */
+    static String pageBucket(Integer pageCount) {
+        if (pageCount == null) {
+            return "none";
+        }
+        if (pageCount <= 5) {
+            return "1-5";
+        }
+        if (pageCount <= 20) {
+            return "6-20";
+        }
+        if (pageCount <= 50) {
+            return "21-50";
+        }
+        return pageCount <= 100 ? "51-100" : "100+";
+    }
+
+    /**
+     * 单次抽取的阶段耗时记录，分窗口抽取时可被多个窗口线程同时写入
+     */
+    public final class Recording {
+
+        private final long startNanos = System.nanoTime();
+        private final List<Sample> samples = new ArrayList<>();
+        private volatile String fileType = UNKNOWN;
+        private volatile String pages = UNKNOWN;
+        private volatile String model = UNKNOWN;
+
+        private Recording() {
+        }
+
+        public <T> T time(Stage stage, Supplier<T> action) {
+            long start = System.nanoTime();
+            try {
+                return action.get();
+            } finally {
+                record(stage, System.nanoTime() - start);
+            }
+        }
+
+        public void time(Stage stage, Runnable action) {
+            long start = System.nanoTime();
+            try {
+                action.run();
+            } finally {
+                record(stage, System.nanoTime() - start);
+            }
+        }
+
+        public void record(Stage stage, long nanos) {
+            synchronized (samples) {
+                samples.add(new Sample(stage, nanos));
+            }
+        }
+
+        public void fileType(String fileName) {
+            this.fileType = FileProcessingService.FileType.fromFileName(fileName).getCategory();
+        }
+
+        public void pageCount(Integer pageCount) {
+            this.pages = pageBucket(pageCount);
+        }
+
+        public void model(String model) {
+            this.model = model;
+        }
+
+        /**
+         * 结束记录，按最终标签写入各阶段样本与总耗时
+         *
+         * @param success 抽取是否成功
+         */
+        public void finish(boolean success) {
+            Tags tags = Tags.of("file_type", fileType, "pages", pages, "model", model,
+                "outcome", success ? "success" : "failure");
+            List<Sample> recorded;
+            synchronized (samples) {
+                recorded = new ArrayList<>(samples);
+            }
+            for (Sample sample : recorded) {
+                timer(STAGE_TIMER, "条款抽取各阶段耗时", tags.and("stage", sample.stage().tag))
+                    .record(sample.nanos(), TimeUnit.NANOSECONDS);
+            }
+            timer(DURATION_TIMER, "条款抽取总耗时", tags)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private Timer timer(String name, String description, Tags tags) {
+            return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+        }
+    }
+
+    private record Sample(Stage stage, long nanos) {
+    }
+}
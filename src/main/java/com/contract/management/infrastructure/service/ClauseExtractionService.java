@@ -4,6 +4,7 @@ import com.contract.ai.feign.client.AiClient;
 import com.contract.ai.feign.dto.ChatRequest;
 import com.contract.ai.feign.enums.ModelType;
 import com.contract.ai.feign.enums.PlatFormType;
+import com.contract.management.domain.event.ClauseExtractionProgressEvent;
 import com.contract.management.domain.exception.ClauseExtractionException;
 import com.contract.management.domain.exception.FileProcessingException;
 import com.contract.management.domain.model.Clause;
@@ -20,32 +21,33 @@ import com.contract.management.domain.model.valueobject.ExtractionStatus;
 import com.contract.management.domain.model.valueobject.PromptType;
 import com.contract.management.domain.repository.ClauseExtractionRepository;
 import com.contract.management.domain.repository.ClauseRepository;
-import com.contract.management.domain.repository.PromptFilters;
-import com.contract.management.domain.repository.PromptRepository;
 import com.contract.management.domain.service.CosService;
 import com.contract.management.domain.service.OperationLogDomainService;
+import com.contract.management.infrastructure.ai.AiCallGovernor;
+import com.contract.management.infrastructure.ai.AiCallScene;
+import com.contract.management.infrastructure.cache.AiResultCache;
+import com.contract.management.infrastructure.cache.DocumentArtifact;
+import com.contract.management.infrastructure.cache.DocumentArtifactCache;
+import com.contract.management.infrastructure.cache.PromptTemplateCache;
+import com.contract.management.infrastructure.messaging.ClauseExtractionProgressPublisher;
+import com.contract.management.infrastructure.service.ClauseExtractionMetrics.Stage;
 import com.contract.management.infrastructure.util.FileDownloadUtil;
-import com.contract.management.infrastructure.util.PdfProcessor;
-import com.contract.management.util.RepositoryQueryHelper;
 import com.contractreview.fileapi.client.FileClient;
 import com.contractreview.fileapi.dto.response.FileInfoResponse;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.compress.utils.Lists;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URL;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 /**
  * 条款抽取服务
@@ -65,10 +67,16 @@ public class ClauseExtractionService {
     private final ClauseRepository clauseRepository;
     private final OperationLogDomainService operationLogDomainService;
     private final ObjectMapper objectMapper;
-    private final PromptRepository promptRepository;
-    private final PdfProcessor pdfProcessor;
+    private final ComprehensiveExtractionResponseParser comprehensiveExtractionResponseParser;
+    private final PromptTemplateCache promptTemplateCache;
+    private final FileProcessingService fileProcessingService;
     private final FileDownloadUtil fileDownloadUtil;
     private final CosService cosService;
+    private final AiResultCache aiResultCache;
+    private final AiCallGovernor aiCallGovernor;
+    private final ChunkedClauseExtractor chunkedClauseExtractor;
+    private final ClauseExtractionProgressPublisher progressPublisher;
+    private final ClauseExtractionMetrics extractionMetrics;
 
     @Value("${ruoyi.remote-auth.secret:}")
     private String secret;
@@ -76,18 +84,32 @@ public class ClauseExtractionService {
     @Value("${file.download.type}")
     private String uploadType;
 
-    // 最大页数限制，根据设计方案只处理<20页的文档
+    // 单次调用的最大页数，超过该页数的PDF按页窗口分段抽取
     private static final int MAX_PAGES_LIMIT = 20;
 
+    private static final String EXTRACTION_CACHE_SCENE = "extraction";
+
+    private static final ModelType EXTRACTION_MODEL = ModelType.GLM_4_5V;
+
     /**
-     * 异步执行条款抽取
+     * 执行条款抽取
      */
-    @Async("clauseExtractionExecutor")
-    public void extractClausesAsync(ExtractionId extractionId, Long contractId, String fileUuid) {
-        log.info("开始异步执行条款抽取，extractionId: {}, contractId: {}, fileUuid: {}",
+    public void extractClauses(ExtractionId extractionId, Long contractId, String fileUuid) {
+        extractClauses(extractionId, contractId, fileUuid, () -> true);
+    }
+
+    /**
+     * 执行条款抽取，由任务工作节点在领取任务后调用
+     *
+     * @param leaseHeld 写入结果前检查租约是否仍由当前节点持有，租约已被其他节点接手时放弃写入
+     */
+    public void extractClauses(ExtractionId extractionId, Long contractId, String fileUuid, BooleanSupplier leaseHeld) {
+        log.info("开始执行条款抽取，extractionId: {}, contractId: {}, fileUuid: {}",
                 extractionId, contractId, fileUuid);
 
         long startTime = System.currentTimeMillis();
+        ClauseExtractionMetrics.Recording recording = extractionMetrics.start();
+        boolean success = false;
         String ipAddress = "127.0.0.1"; // TODO: 从上下文获取真实IP
         Long userId = 1L; // TODO: 从上下文获取真实用户ID
 
@@ -95,14 +117,17 @@ public class ClauseExtractionService {
         operationLogDomainService.recordClauseExtractionStart(
             extractionId.getValue(), contractId, userId, ipAddress
         );
+        progressPublisher.publish(
+            ClauseExtractionProgressEvent.of(extractionId.getValue(), contractId, ExtractionStatus.PROCESSING));
 
         try {
             // 获取合同信息以获取本地文件URL
             // TODO: 这里需要从合同服务获取合同信息，当前先使用原始方法
-            FileInfoResponse fileInfo = fileClient.queryByUuid(fileUuid, secret);
+            FileInfoResponse fileInfo = recording.time(Stage.FILE_METADATA, () -> fileClient.queryByUuid(fileUuid, secret));
             if (fileInfo == null) {
                 throw new ClauseExtractionException("文件不存在: " + fileUuid);
             }
+            recording.fileType(fileInfo.getFileName());
             String fileName = fileInfo.getUuid() + "_" + fileInfo.getFileName();
 
             // 尝试获取本地文件URL，如果存在则使用本地文件
@@ -111,11 +136,17 @@ public class ClauseExtractionService {
             // 更新FileInfo中的URL为有效URL
             fileInfo.setFileUrl(effectiveFileUrl);
 
-            // 根据文件类型选择抽取策略
-            ComprehensiveClauseExtractionResult result = extractFromBinaryFile(fileInfo);
+            // 根据文件类型与页数选择抽取策略
+            ExtractionOutcome outcome = extractFromBinaryFile(extractionId, contractId, fileInfo, leaseHeld, recording);
+            ComprehensiveClauseExtractionResult result = outcome.result();
 
             // 完成抽取
-            completeComprehensiveExtraction(extractionId, result);
+            if (!leaseHeld.getAsBoolean()) {
+                log.warn("条款抽取租约已失效，放弃写入结果: extractionId={}", extractionId);
+                return;
+            }
+            completeComprehensiveExtraction(extractionId, result, !outcome.clausesSaved(), recording);
+            success = true;
 
             long executionTime = System.currentTimeMillis() - startTime;
             String resultSummary = String.format("成功抽取%d个条款，文档质量：%s，置信度%.2f",
@@ -143,30 +174,64 @@ public class ClauseExtractionService {
                 extractionId.getValue(), contractId, userId, ipAddress, executionTime, errorMessage
             );
 
-            failExtraction(extractionId, errorMessage);
+            if (leaseHeld.getAsBoolean()) {
+                recording.time(Stage.STATUS_UPDATE, () -> failExtraction(extractionId, errorMessage));
+            } else {
+                log.warn("条款抽取租约已失效，不更新任务状态: extractionId={}", extractionId);
+            }
+        } finally {
+            recording.finish(success);
         }
     }
 
     /**
      * 从二进制文件进行一体化条款抽取
-     * 实现OCR + 结构分析 + 条款抽取 + 位置定位
+     * 实现OCR + 结构分析 + 条款抽取 + 位置定位；超过单次调用页数上限的PDF按页窗口分段抽取，
+     * 每个窗口完成后即保存其新增条款
      */
-    private ComprehensiveClauseExtractionResult extractFromBinaryFile(FileInfoResponse fileInfo) {
+    private ExtractionOutcome extractFromBinaryFile(ExtractionId extractionId, Long contractId,
+                                                    FileInfoResponse fileInfo, BooleanSupplier leaseHeld,
+                                                    ClauseExtractionMetrics.Recording recording) {
         try {
-            // 1. 获取文件内容（优先从本地URL下载，如果失败则从文件服务获取）
-            byte[] fileContent = getFileBytesFromUrl(fileInfo);
-
-            // 2. 检查文件类型和页数限制
-            validateFile(fileInfo, fileContent);
-
-            // 3. 构建一体化处理提示词
-            String prompt = buildComprehensiveExtractionPrompt();
+            // 1. 获取附件解析产物（与合同分类共用，同一附件只下载、解析一次）
+            //    未缓存时优先从本地URL/预签名URL直接下载，失败时再从文件服务获取
+            String contentHash;
+            long fileSize;
+            Prompt prompt;
+            DocumentArtifactCache.Lease artifactLease =
+                recording.time(Stage.DOWNLOAD, () -> fileProcessingService.openArtifact(fileInfo.getUuid(), fileInfo.getFileUrl()));
+            try (DocumentArtifactCache.Lease lease = artifactLease) {
+                // 2. 检查文件类型和页数限制
+                DocumentArtifact artifact = lease.getArtifact();
+                recording.pageCount(artifact.getPageCount());
+                recording.time(Stage.VALIDATION, () -> validateFile(fileInfo, artifact));
+                contentHash = artifact.getSha256();
+                fileSize = artifact.getSize();
+
+                // 3. 构建一体化处理提示词
+                prompt = recording.time(Stage.PROMPT_LOAD, this::buildComprehensiveExtractionPrompt);
+                recording.model(EXTRACTION_MODEL.getModelCode());
+
+                if (artifact.getPageCount() != null && artifact.getPageCount() > MAX_PAGES_LIMIT) {
+                    // 分窗口抽取期间持有租约，直接从落盘文件渲染，避免附件被淘汰删除，也不把整个PDF读入堆内存
+                    return new ExtractionOutcome(extractByPageWindows(extractionId, contractId,
+                        artifact.getContent().getPath(), artifact.getPageCount(), contentHash, prompt, leaseHeld,
+                        recording), true);
+                }
+            }
 
-            // 4. 调用AI进行一体化处理
-            String aiResponse = callAiForComprehensiveExtraction(prompt, fileInfo.getFileUrl());
+            // 4. 调用AI进行一体化处理（相同文件+相同提示词版本直接返回缓存结果）
+            String aiResponse = callAiForComprehensiveExtraction(
+                prompt, fileInfo.getFileUrl(), contentHash, fileSize, recording);
 
-            // 5. 解析AI响应为综合结果
-            return parseComprehensiveExtractionResult(aiResponse);
+            // 5. 解析AI响应为综合结果，无法解析的结果从缓存中剔除
+            try {
+                return new ExtractionOutcome(
+                    recording.time(Stage.RESPONSE_PARSE, () -> parseComprehensiveExtractionResult(aiResponse)), false);
+            } catch (ClauseExtractionException e) {
+                aiResultCache.evict(EXTRACTION_CACHE_SCENE, contentHash, prompt);
+                throw e;
+            }
 
         } catch (Exception e) {
             log.error("一体化条款抽取失败", e);
@@ -174,26 +239,62 @@ public class ClauseExtractionService {
         }
     }
 
+    /**
+     * 分页窗口抽取长文档
+     * 先清除此前尝试（如租约过期后被其他节点重新领取）已保存的部分条款，再逐窗口保存新增条款并发布进度
+     */
+    private ComprehensiveClauseExtractionResult extractByPageWindows(ExtractionId extractionId, Long contractId,
+                                                                     Path pdfFile, int pageCount,
+                                                                     String contentHash, Prompt prompt,
+                                                                     BooleanSupplier leaseHeld,
+                                                                     ClauseExtractionMetrics.Recording recording) {
+        recording.time(Stage.CLAUSE_PERSIST,
+            () -> clauseRepository.deleteAllByExtractionTaskId(extractionId.getValue()));
+        int[] savedClauses = {0};
+        return chunkedClauseExtractor.extract(pdfFile, pageCount, contentHash, prompt, recording,
+            (clauses, completedWindows, totalWindows) -> {
+                if (!leaseHeld.getAsBoolean()) {
+                    throw new ClauseExtractionException("条款抽取租约已失效，停止分窗口抽取: " + extractionId);
+                }
+                int saved = recording.time(Stage.CLAUSE_PERSIST, () -> saveClauses(extractionId, clauses));
+                savedClauses[0] += saved;
+
+                ClauseExtractionProgressEvent event =
+                    ClauseExtractionProgressEvent.of(extractionId.getValue(), contractId, ExtractionStatus.PROCESSING);
+                event.setNewClauses(saved);
+                event.setSavedClauses(savedClauses[0]);
+                event.setCompletedWindows(completedWindows);
+                event.setTotalWindows(totalWindows);
+                progressPublisher.publish(event);
+            });
+    }
+
+    /**
+     * 抽取结果及其条款是否已在抽取过程中保存
+     */
+    private record ExtractionOutcome(ComprehensiveClauseExtractionResult result, boolean clausesSaved) {
+    }
+
     /**
      * 验证文件是否符合处理要求
      */
-    private void validateFile(FileInfoResponse fileInfo, byte[] fileContent) throws FileProcessingException {
+    private void validateFile(FileInfoResponse fileInfo, DocumentArtifact artifact) throws FileProcessingException {
         // 检查文件大小
-        if (fileContent == null || fileContent.length == 0) {
+        if (artifact.getSize() == 0) {
             throw new FileProcessingException("文件内容为空");
         }
 
-        // 对于PDF文件，检查页数
-        if (StringUtils.hasText(fileInfo.getFileName()) &&
-            fileInfo.getFileName().toLowerCase().endsWith(".pdf")) {
+        // 对于PDF文件，检查页数（解析产物中已有页数）
+        if (artifact.getPageCount() != null) {
 
-            if (pdfProcessor.isPageCountExceeded(fileContent, MAX_PAGES_LIMIT)) {
-                int pageCount = pdfProcessor.getPageCount(fileContent);
+            int pageCount = artifact.getPageCount();
+            if (pageCount > chunkedClauseExtractor.getMaxPages()) {
                 throw new FileProcessingException(
-                    String.format("PDF页数超过处理限制。当前页数：%d，最大允许：%d", pageCount, MAX_PAGES_LIMIT)
+                    String.format("PDF页数超过处理限制。当前页数：%d，最大允许：%d",
+                        pageCount, chunkedClauseExtractor.getMaxPages())
                 );
             }
-            log.info("PDF文件验证通过，页数：{}", pdfProcessor.getPageCount(fileContent));
+            log.info("PDF文件验证通过，页数：{}", pageCount);
         }
 
         log.info("文件验证通过：{}", fileInfo.getFileName());
@@ -202,24 +303,24 @@ public class ClauseExtractionService {
     /**
      * 构建一体化处理提示词
      */
-    private String buildComprehensiveExtractionPrompt() {
-        Prompt prompt = RepositoryQueryHelper.queryOneAndCheckEmpty(
-            () -> promptRepository.findByFilters(PromptFilters.builder()
-                .promptName("一体化条款抽取")
-                .promptType(PromptType.INNER)
-                .enabled(true)
-                .build()
-            ),
-            "未找到有效的一体化条款抽取提示词",
-            () -> new FileProcessingException("未找到有效的一体化条款抽取提示词")
-        );
-        return prompt.getPromptContent().getValue();
+    private Prompt buildComprehensiveExtractionPrompt() {
+        return promptTemplateCache.find("一体化条款抽取", PromptType.INNER)
+            .orElseThrow(() -> new FileProcessingException("未找到有效的一体化条款抽取提示词"))
+            .getPrompt();
     }
 
     /**
      * 调用AI进行一体化抽取
+     * 先按文件内容哈希与提示词版本查询结果缓存，未命中再调用模型
      */
-    private String callAiForComprehensiveExtraction(String prompt, String fileUrl) {
+    private String callAiForComprehensiveExtraction(Prompt prompt, String fileUrl, String contentHash, long fileSize,
+                                                    ClauseExtractionMetrics.Recording recording) {
+        return aiResultCache.getOrLoad(EXTRACTION_CACHE_SCENE, contentHash, prompt,
+            () -> recording.time(Stage.AI_CALL,
+                () -> callAiForComprehensiveExtraction(prompt.getPromptContent().getValue(), fileUrl, fileSize)));
+    }
+
+    private String callAiForComprehensiveExtraction(String prompt, String fileUrl, long fileSize) {
         // 创建包含文件URL的多模态消息
         List<ChatRequest.Message.ContentItem> contentItems = new ArrayList<>();
 
@@ -234,12 +335,14 @@ public class ClauseExtractionService {
         messages.add(message);
 
         // 调用带视觉功能的AI接口
-        var response = aiClient.chat(ChatRequest.builder()
-            .platform(PlatFormType.GLM)
-            .model(ModelType.GLM_4_5V.getModelCode())
-            .maxTokens(10240)
-            .messages(messages)
-            .build(), secret);
+        var response = aiCallGovernor.call(EXTRACTION_MODEL, AiCallScene.EXTRACTION,
+            aiCallGovernor.estimateTokens(prompt, fileSize),
+            () -> aiClient.chat(ChatRequest.builder()
+                .platform(PlatFormType.GLM)
+                .model(EXTRACTION_MODEL.getModelCode())
+                .maxTokens(10240)
+                .messages(messages)
+                .build(), secret));
 
         if (response == null || response.getData() == null ||
             response.getData().getMessages() == null || response.getData().getMessages().isEmpty()) {
@@ -254,237 +357,14 @@ public class ClauseExtractionService {
      */
     private ComprehensiveClauseExtractionResult parseComprehensiveExtractionResult(String aiResponse) {
         try {
-            JsonNode jsonNode = objectMapper.readTree(aiResponse);
-
-            // 解析任务信息
-            ComprehensiveClauseExtractionResult.TaskInfo taskInfo = parseTaskInfo(
-                jsonNode.path("task_info")
-            );
-
-            // 解析文档信息
-            ComprehensiveClauseExtractionResult.DocumentInfo documentInfo = parseDocumentInfo(
-                jsonNode.path("document_info")
-            );
-
-            // 解析结构信息
-            ComprehensiveClauseExtractionResult.StructureInfo structureInfo = parseStructureInfo(
-                jsonNode.path("structure")
-            );
-
-            // 解析条款列表
-            List<ComprehensiveClauseExtractionResult.ExtractedClause> clauses = parseClauses(
-                jsonNode.path("clauses")
-            );
-
-            // 解析质量指标
-            ComprehensiveClauseExtractionResult.QualityMetrics qualityMetrics = parseQualityMetrics(
-                jsonNode.path("quality_metrics")
-            );
-
-            return ComprehensiveClauseExtractionResult.builder()
-                .taskInfo(taskInfo)
-                .documentInfo(documentInfo)
-                .structureInfo(structureInfo)
-                .clauses(clauses)
-                .qualityMetrics(qualityMetrics)
-                .build();
-
-        } catch (JsonProcessingException e) {
+            // 流式解析，不构建整棵JsonNode树
+            return comprehensiveExtractionResponseParser.parse(aiResponse);
+        } catch (IOException e) {
             log.error("解析AI综合抽取结果失败: {}", aiResponse, e);
             throw new ClauseExtractionException("解析AI综合抽取结果失败: " + e.getMessage(), e);
         }
     }
 
-    /**
-     * 解析任务信息
-     */
-    private ComprehensiveClauseExtractionResult.TaskInfo parseTaskInfo(JsonNode node) {
-        return ComprehensiveClauseExtractionResult.TaskInfo.builder()
-            .extractionTaskId(getTextValue(node, "task_id"))
-            .processingTime(getIntValue(node, "processing_time"))
-            .documentQuality(getTextValue(node, "document_quality"))
-            .build();
-    }
-
-    /**
-     * 解析文档信息
-     */
-    private ComprehensiveClauseExtractionResult.DocumentInfo parseDocumentInfo(JsonNode node) {
-        JsonNode partiesNode = node.path("parties");
-        ComprehensiveClauseExtractionResult.ContractParties parties =
-            ComprehensiveClauseExtractionResult.ContractParties.builder()
-                .partyA(getTextValue(partiesNode, "party_a"))
-                .partyB(getTextValue(partiesNode, "party_b"))
-                .build();
-
-        return ComprehensiveClauseExtractionResult.DocumentInfo.builder()
-            .totalPages(getIntValue(node, "total_pages"))
-            .documentType(getTextValue(node, "document_type"))
-            .parties(parties)
-            .contractDate(getTextValue(node, "contract_date"))
-            .contractAmount(getTextValue(node, "contract_amount"))
-            .build();
-    }
-
-    /**
-     * 解析结构信息
-     */
-    private ComprehensiveClauseExtractionResult.StructureInfo parseStructureInfo(JsonNode node) {
-        List<ComprehensiveClauseExtractionResult.Chapter> chapters = new ArrayList<>();
-        JsonNode chaptersNode = node.path("chapters");
-        if (chaptersNode.isArray()) {
-            for (JsonNode chapterNode : chaptersNode) {
-                List<ComprehensiveClauseExtractionResult.Subsection> subsections = new ArrayList<>();
-                JsonNode subsectionsNode = chapterNode.path("subsections");
-                if (subsectionsNode.isArray()) {
-                    for (JsonNode subsectionNode : subsectionsNode) {
-                        ComprehensiveClauseExtractionResult.Subsection subsection =
-                            ComprehensiveClauseExtractionResult.Subsection.builder()
-                                .title(getTextValue(subsectionNode, "title"))
-                                .page(getIntValue(subsectionNode, "page"))
-                                .build();
-                        subsections.add(subsection);
-                    }
-                }
-
-                ComprehensiveClauseExtractionResult.Chapter chapter =
-                    ComprehensiveClauseExtractionResult.Chapter.builder()
-                        .title(getTextValue(chapterNode, "title"))
-                        .pageStart(getIntValue(chapterNode, "page_start"))
-                        .pageEnd(getIntValue(chapterNode, "page_end"))
-                        .level(getIntValue(chapterNode, "level"))
-                        .subsections(subsections)
-                        .build();
-                chapters.add(chapter);
-            }
-        }
-
-        List<ComprehensiveClauseExtractionResult.SpecialArea> specialAreas = new ArrayList<>();
-        JsonNode specialAreasNode = node.path("special_areas");
-        if (specialAreasNode.isArray()) {
-            for (JsonNode areaNode : specialAreasNode) {
-                ComprehensiveClauseExtractionResult.SpecialArea area =
-                    ComprehensiveClauseExtractionResult.SpecialArea.builder()
-                        .type(getTextValue(areaNode, "type"))
-                        .pages(parseIntegerList(areaNode.path("pages")))
-                        .description(getTextValue(areaNode, "description"))
-                        .build();
-                specialAreas.add(area);
-            }
-        }
-
-        return ComprehensiveClauseExtractionResult.StructureInfo.builder()
-            .chapters(chapters)
-            .specialAreas(specialAreas)
-            .build();
-    }
-
-    /**
-     * 解析条款列表
-     */
-    private List<ComprehensiveClauseExtractionResult.ExtractedClause> parseClauses(JsonNode node) {
-        List<ComprehensiveClauseExtractionResult.ExtractedClause> clauses = new ArrayList<>();
-        if (node.isArray()) {
-            for (JsonNode clauseNode : node) {
-                ComprehensiveClauseExtractionResult.ExtractedClause clause =
-                    ComprehensiveClauseExtractionResult.ExtractedClause.builder()
-                        .clauseId(getTextValue(clauseNode, "clause_id"))
-                        .clauseType(getTextValue(clauseNode, "clause_type"))
-                        .clauseTitle(getTextValue(clauseNode, "clause_title"))
-                        .content(getTextValue(clauseNode, "content"))
-                        .confidenceScore(getDoubleValue(clauseNode, "confidence_score"))
-                        .riskLevel(getTextValue(clauseNode, "risk_level"))
-                        .extractedEntities(parseExtractedEntities(clauseNode.path("extracted_entities")))
-                        .riskFactors(parseRiskFactors(clauseNode.path("risk_factors")))
-                        .positions(parsePositions(clauseNode.path("positions")))
-                        .relatedChapters(parseStringList(clauseNode.path("related_chapters")))
-                        .extractedAt(LocalDateTime.now()) // 当前时间
-                        .build();
-                clauses.add(clause);
-            }
-        }
-        return clauses;
-    }
-
-    /**
-     * 解析提取的实体
-     */
-    private ComprehensiveClauseExtractionResult.ExtractedEntities parseExtractedEntities(JsonNode node) {
-        return ComprehensiveClauseExtractionResult.ExtractedEntities.builder()
-            .amountPercentage(getTextValue(node, "amount_percentage"))
-            .paymentPeriod(getTextValue(node, "payment_period"))
-            .paymentCondition(getTextValue(node, "payment_condition"))
-            .paymentAmount(getTextValue(node, "payment_amount"))
-            .build();
-    }
-
-    /**
-     * 解析风险因子
-     */
-    private List<ComprehensiveClauseExtractionResult.RiskFactor> parseRiskFactors(JsonNode node) {
-        List<ComprehensiveClauseExtractionResult.RiskFactor> factors = new ArrayList<>();
-        if (node.isArray()) {
-            for (JsonNode factorNode : node) {
-                ComprehensiveClauseExtractionResult.RiskFactor factor =
-                    ComprehensiveClauseExtractionResult.RiskFactor.builder()
-                        .factor(getTextValue(factorNode, "factor"))
-                        .severity(getTextValue(factorNode, "severity"))
-                        .build();
-                factors.add(factor);
-            }
-        }
-        return factors;
-    }
-
-    /**
-     * 解析位置信息
-     */
-    private List<ComprehensiveClauseExtractionResult.ClausePosition> parsePositions(JsonNode node) {
-        List<ComprehensiveClauseExtractionResult.ClausePosition> positions = new ArrayList<>();
-        if (node.isArray()) {
-            for (JsonNode positionNode : node) {
-                ComprehensiveClauseExtractionResult.ClausePosition position =
-                    ComprehensiveClauseExtractionResult.ClausePosition.builder()
-                        .page(getIntValue(positionNode, "page"))
-                        .bbox(parseIntegerList(positionNode.path("bbox")))
-                        .context(getTextValue(positionNode, "context"))
-                        .textSnippet(getTextValue(positionNode, "text_snippet"))
-                        .build();
-                positions.add(position);
-            }
-        }
-        return positions;
-    }
-
-    /**
-     * 解析质量指标
-     */
-    private ComprehensiveClauseExtractionResult.QualityMetrics parseQualityMetrics(JsonNode node) {
-        return ComprehensiveClauseExtractionResult.QualityMetrics.builder()
-            .totalClausesFound(getIntValue(node, "total_clauses_found"))
-            .highConfidenceClauses(getIntValue(node, "high_confidence_clauses"))
-            .mediumConfidenceClauses(getIntValue(node, "medium_confidence_clauses"))
-            .lowConfidenceClauses(getIntValue(node, "low_confidence_clauses"))
-            .pagesWithIssues(parseIntegerList(node.path("pages_with_issues")))
-            .ocrConfidenceAvg(getDoubleValue(node, "ocr_confidence_avg"))
-            .structureAccuracy(getDoubleValue(node, "structure_accuracy"))
-            .recommendedReviewClauses(parseStringList(node.path("recommended_review_clauses")))
-            .build();
-    }
-
-    // 辅助方法
-    private List<Integer> parseIntegerList(JsonNode node) {
-        List<Integer> list = new ArrayList<>();
-        if (node.isArray()) {
-            for (JsonNode item : node) {
-                if (item.isInt()) {
-                    list.add(item.asInt());
-                }
-            }
-        }
-        return list;
-    }
-
     /**
      * 解析合同主体信息
      */
@@ -613,114 +493,6 @@ public class ClauseExtractionService {
         return list;
     }
 
-    /**
-     * 从URL获取文件字节数组（优先使用本地URL）
-     */
-    private byte[] getFileBytesFromUrl(FileInfoResponse fileInfo) {
-        try {
-            String fileUrl = fileInfo.getFileUrl();
-            String fileName = fileInfo.getFileName();
-            String contentType = fileInfo.getContentType();
-
-            log.info("从URL获取文件内容: url={}, fileName={}", fileUrl, fileName);
-
-            // 从URL下载文件
-            URL url = new URL(fileUrl);
-            try (java.io.InputStream inputStream = url.openStream();
-                 java.io.ByteArrayOutputStream outputStream = new java.io.ByteArrayOutputStream()) {
-
-                byte[] buffer = new byte[8192];
-                int bytesRead;
-                long totalBytes = 0;
-
-                while ((bytesRead = inputStream.read(buffer)) != -1) {
-                    outputStream.write(buffer, 0, bytesRead);
-                    totalBytes += bytesRead;
-                }
-
-                byte[] fileContent = outputStream.toByteArray();
-                log.info("文件下载成功: url={}, fileName={}, size={} bytes", fileUrl, fileName, totalBytes);
-                return fileContent;
-
-            } catch (IOException e) {
-                log.error("从URL下载文件失败: url={}", fileUrl, e);
-                throw new RuntimeException("从URL下载文件失败: " + e.getMessage(), e);
-            }
-
-        } catch (Exception e) {
-            log.error("获取文件内容失败，尝试从文件服务获取: fileInfo={}", fileInfo.getFileName(), e);
-
-            // 降级方案：从文件服务获取
-            return getFileBytesFromFileService(fileInfo.getUuid());
-        }
-    }
-
-    /**
-     * 从文件服务获取文件字节数组（降级方案）
-     */
-    private byte[] getFileBytesFromFileService(String fileUuid) {
-        try {
-            log.info("从文件服务获取文件内容: fileUuid={}", fileUuid);
-            java.io.InputStream inputStream = fileClient.downloadByUuid(fileUuid);
-            return inputStream.readAllBytes();
-        } catch (Exception e) {
-            log.error("从文件服务下载文件失败: {}", fileUuid, e);
-            throw new RuntimeException("下载文件失败: " + e.getMessage(), e);
-        }
-    }
-
-    private byte[] getFileBytes(String fileUuid) {
-        return getFileBytesFromFileService(fileUuid);
-    }
-
-    private MultipartFile createMultipartFile(String fileName, String contentType, byte[] content) {
-        return new MultipartFile() {
-            @Override
-            public String getName() {
-                return "file";
-            }
-
-            @Override
-            public String getOriginalFilename() {
-                return fileName;
-            }
-
-            @Override
-            public String getContentType() {
-                return contentType;
-            }
-
-            @Override
-            public boolean isEmpty() {
-                return content == null || content.length == 0;
-            }
-
-            @Override
-            public long getSize() {
-                return content != null ? content.length : 0;
-            }
-
-            @Override
-            public byte[] getBytes() {
-                return content;
-            }
-
-            @Override
-            public java.io.InputStream getInputStream() {
-                return new java.io.ByteArrayInputStream(content);
-            }
-
-            @Override
-            public void transferTo(java.io.File dest) {
-                try (java.io.FileOutputStream fos = new java.io.FileOutputStream(dest)) {
-                    fos.write(content);
-                } catch (java.io.IOException e) {
-                    throw new RuntimeException("文件写入失败", e);
-                }
-            }
-        };
-    }
-
     /**
      * 获取有效的文件URL
      * 优先使用本地文件URL，如果不存在则使用原始URL
@@ -766,8 +538,13 @@ public class ClauseExtractionService {
 
     /**
      * 完成综合条款抽取
+     *
+     * @param saveClauses 是否保存条款，分窗口抽取的条款已逐窗口保存时为false
      */
-    private void completeComprehensiveExtraction(ExtractionId extractionId, ComprehensiveClauseExtractionResult result) {
+    private void completeComprehensiveExtraction(ExtractionId extractionId, ComprehensiveClauseExtractionResult result,
+                                                 boolean saveClauses, ClauseExtractionMetrics.Recording recording) {
+        long start = System.nanoTime();
+        long persistNanos = 0;
         try {
             // 获取当前的抽取任务
             ClauseExtraction extraction = clauseExtractionRepository.findById(extractionId);
@@ -789,14 +566,28 @@ public class ClauseExtractionService {
             clauseExtractionRepository.update(extraction);
 
             // 保存详细条款信息到clause表
-            saveDetailedClauses(extractionId, result);
+            int savedClauses = result.getClauses() != null ? result.getClauses().size() : 0;
+            if (saveClauses) {
+                long persistStart = System.nanoTime();
+                savedClauses = saveClauses(extractionId, result.getClauses());
+                persistNanos = System.nanoTime() - persistStart;
+                recording.record(Stage.CLAUSE_PERSIST, persistNanos);
+            }
 
             // 更新状态为完成
             extraction.complete(legacyResult);
             clauseExtractionRepository.save(extraction);
             log.info("综合条款抽取状态已更新为完成: {}", extractionId);
+
+            ClauseExtractionProgressEvent event = ClauseExtractionProgressEvent.of(
+                extractionId.getValue(), extraction.getContractId(), ExtractionStatus.COMPLETED);
+            event.setSavedClauses(savedClauses);
+            progressPublisher.publish(event);
         } catch (Exception e) {
             log.error("更新综合条款抽取状态失败: extractionId={}", extractionId, e);
+        } finally {
+            // 状态更新耗时不含条款保存
+            recording.record(Stage.STATUS_UPDATE, System.nanoTime() - start - persistNanos);
         }
     }
 
@@ -884,6 +675,11 @@ public class ClauseExtractionService {
             clauseExtractionRepository.update(extraction);
 
             log.info("条款抽取状态已更新为失败: {}", extractionId);
+
+            ClauseExtractionProgressEvent event = ClauseExtractionProgressEvent.of(
+                extractionId.getValue(), extraction.getContractId(), ExtractionStatus.FAILED);
+            event.setErrorMessage(errorMessage);
+            progressPublisher.publish(event);
         } catch (Exception e) {
             log.error("更新条款抽取状态失败: extractionId={}", extractionId, e);
         }
@@ -891,45 +687,48 @@ public class ClauseExtractionService {
 
     /**
      * 保存详细条款信息到clause表
-     * 将综合抽取结果中的条款转换为Clause领域模型并保存
+     * 将抽取的条款转换为Clause领域模型并保存
      *
      * @param extractionId 抽取任务ID
-     * @param comprehensiveResult 综合抽取结果
+     * @param extractedClauses 抽取的条款
+     * @return 保存的条款数，保存失败时为0
      */
-    private void saveDetailedClauses(ExtractionId extractionId, ComprehensiveClauseExtractionResult comprehensiveResult) {
+    private int saveClauses(ExtractionId extractionId,
+                             List<ComprehensiveClauseExtractionResult.ExtractedClause> extractedClauses) {
         try {
-            if (comprehensiveResult == null || comprehensiveResult.getClauses() == null
-                || comprehensiveResult.getClauses().isEmpty()) {
+            if (extractedClauses == null || extractedClauses.isEmpty()) {
                 log.info("没有条款信息需要保存: extractionId={}", extractionId);
-                return;
+                return 0;
             }
 
             // 获取抽取任务信息
             ClauseExtraction extraction = clauseExtractionRepository.findById(extractionId);
             if (extraction == null) {
                 log.error("抽取任务不存在，无法保存条款: extractionId={}", extractionId);
-                return;
+                return 0;
             }
 
             // 转换综合结果为Clause领域模型列表
-            List<Clause> clauses = comprehensiveResult.getClauses().stream()
+            List<Clause> clauses = extractedClauses.stream()
                 .map(extractedClause -> convertToClause(extractedClause, extraction))
                 .filter(java.util.Objects::nonNull)
                 .collect(java.util.stream.Collectors.toList());
 
             if (clauses.isEmpty()) {
                 log.info("转换后没有有效的条款需要保存: extractionId={}", extractionId);
-                return;
+                return 0;
             }
 
             // 批量保存条款
             List<Clause> savedClauses = clauseRepository.saveAll(clauses);
 
             log.info("成功保存{}个条款到clause表: extractionId={}", savedClauses.size(), extractionId);
+            return savedClauses.size();
 
         } catch (Exception e) {
             log.error("保存详细条款信息失败: extractionId={}", extractionId, e);
             // 不抛出异常，避免影响主流程
+            return 0;
         }
     }
 
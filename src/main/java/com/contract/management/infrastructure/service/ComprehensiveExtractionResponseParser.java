@@ -0,0 +1,408 @@
+package com.contract.management.infrastructure.service;
+
+import com.contract.management.domain.model.valueobject.ComprehensiveClauseExtractionResult;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 一体化条款抽取响应的流式解析器
+ * 基于JsonParser逐个token读取模型输出，不构建JsonNode树，每解析完一个条款立即回调；
+ * 字段类型不符或未知字段直接跳过，缺失的部分与原树遍历解析的结果保持一致
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Component
+public class ComprehensiveExtractionResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public ComprehensiveExtractionResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 解析模型输出
+     *
+     * @param aiResponse 模型原始输出
+     * @return 综合抽取结果
+     * @throws IOException JSON格式错误时
+     */
+    public ComprehensiveClauseExtractionResult parse(String aiResponse) throws IOException {
+        return parse(aiResponse, clause -> {
+        });
+    }
+
+    /**
+     * 解析模型输出，每解析完一个条款回调一次
+     *
+     * @param aiResponse     模型原始输出
+     * @param clauseListener 条款回调，按模型输出顺序调用
+     * @return 综合抽取结果，clauses包含全部条款
+     * @throws IOException JSON格式错误时
+     */
+    public ComprehensiveClauseExtractionResult parse(String aiResponse,
+                                                     Consumer<ComprehensiveClauseExtractionResult.ExtractedClause> clauseListener)
+            throws IOException {
+        ComprehensiveClauseExtractionResult.TaskInfo taskInfo = null;
+        ComprehensiveClauseExtractionResult.DocumentInfo documentInfo = null;
+        ComprehensiveClauseExtractionResult.StructureInfo structureInfo = null;
+        List<ComprehensiveClauseExtractionResult.ExtractedClause> clauses = new ArrayList<>();
+        ComprehensiveClauseExtractionResult.QualityMetrics qualityMetrics = null;
+
+        try (JsonParser parser = jsonFactory.createParser(aiResponse)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "task_info" -> taskInfo = readTaskInfo(parser);
+                        case "document_info" -> documentInfo = readDocumentInfo(parser);
+                        case "structure" -> structureInfo = readStructureInfo(parser);
+                        case "clauses" -> clauses = readClauses(parser, clauseListener);
+                        case "quality_metrics" -> qualityMetrics = readQualityMetrics(parser);
+                        default -> parser.skipChildren();
+                    }
+                }
+            }
+        }
+
+        return ComprehensiveClauseExtractionResult.builder()
+            .taskInfo(taskInfo != null ? taskInfo : ComprehensiveClauseExtractionResult.TaskInfo.builder().build())
+            .documentInfo(documentInfo != null ? documentInfo : emptyDocumentInfo())
+            .structureInfo(structureInfo != null ? structureInfo : emptyStructureInfo())
+            .clauses(clauses)
+            .qualityMetrics(qualityMetrics != null ? qualityMetrics : emptyQualityMetrics())
+            .build();
+    }
+
+    private ComprehensiveClauseExtractionResult.TaskInfo readTaskInfo(JsonParser parser) throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.TaskInfo.builder();
+        readObject(parser, field -> {
+            switch (field) {
+                case "task_id" -> builder.extractionTaskId(textValue(parser));
+                case "processing_time" -> builder.processingTime(intValue(parser));
+                case "document_quality" -> builder.documentQuality(textValue(parser));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private ComprehensiveClauseExtractionResult.DocumentInfo readDocumentInfo(JsonParser parser) throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.DocumentInfo.builder()
+            .parties(ComprehensiveClauseExtractionResult.ContractParties.builder().build());
+        readObject(parser, field -> {
+            switch (field) {
+                case "total_pages" -> builder.totalPages(intValue(parser));
+                case "document_type" -> builder.documentType(textValue(parser));
+                case "parties" -> builder.parties(readParties(parser));
+                case "contract_date" -> builder.contractDate(textValue(parser));
+                case "contract_amount" -> builder.contractAmount(textValue(parser));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private ComprehensiveClauseExtractionResult.ContractParties readParties(JsonParser parser) throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.ContractParties.builder();
+        readObject(parser, field -> {
+            switch (field) {
+                case "party_a" -> builder.partyA(textValue(parser));
+                case "party_b" -> builder.partyB(textValue(parser));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private ComprehensiveClauseExtractionResult.StructureInfo readStructureInfo(JsonParser parser) throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.StructureInfo.builder()
+            .chapters(new ArrayList<>())
+            .specialAreas(new ArrayList<>());
+        readObject(parser, field -> {
+            switch (field) {
+                case "chapters" -> builder.chapters(readArray(parser, this::readChapter));
+                case "special_areas" -> builder.specialAreas(readArray(parser, this::readSpecialArea));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private ComprehensiveClauseExtractionResult.Chapter readChapter(JsonParser parser) throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.Chapter.builder()
+            .subsections(new ArrayList<>());
+        readObject(parser, field -> {
+            switch (field) {
+                case "title" -> builder.title(textValue(parser));
+                case "page_start" -> builder.pageStart(intValue(parser));
+                case "page_end" -> builder.pageEnd(intValue(parser));
+                case "level" -> builder.level(intValue(parser));
+                case "subsections" -> builder.subsections(readArray(parser, this::readSubsection));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private ComprehensiveClauseExtractionResult.Subsection readSubsection(JsonParser parser) throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.Subsection.builder();
+        readObject(parser, field -> {
+            switch (field) {
+                case "title" -> builder.title(textValue(parser));
+                case "page" -> builder.page(intValue(parser));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private ComprehensiveClauseExtractionResult.SpecialArea readSpecialArea(JsonParser parser) throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.SpecialArea.builder()
+            .pages(new ArrayList<>());
+        readObject(parser, field -> {
+            switch (field) {
+                case "type" -> builder.type(textValue(parser));
+                case "pages" -> builder.pages(intList(parser));
+                case "description" -> builder.description(textValue(parser));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private List<ComprehensiveClauseExtractionResult.ExtractedClause> readClauses(
+            JsonParser parser, Consumer<ComprehensiveClauseExtractionResult.ExtractedClause> clauseListener)
+            throws IOException {
+        return readArray(parser, p -> {
+            ComprehensiveClauseExtractionResult.ExtractedClause clause = readClause(p);
+            clauseListener.accept(clause);
+            return clause;
+        });
+    }
+
+    private ComprehensiveClauseExtractionResult.ExtractedClause readClause(JsonParser parser) throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.ExtractedClause.builder()
+            .extractedEntities(ComprehensiveClauseExtractionResult.ExtractedEntities.builder().build())
+            .riskFactors(new ArrayList<>())
+            .positions(new ArrayList<>())
+            .relatedChapters(new ArrayList<>());
+        readObject(parser, field -> {
+            switch (field) {
+                case "clause_id" -> builder.clauseId(textValue(parser));
+                case "clause_type" -> builder.clauseType(textValue(parser));
+                case "clause_title" -> builder.clauseTitle(textValue(parser));
+                case "content" -> builder.content(textValue(parser));
+                case "confidence_score" -> builder.confidenceScore(doubleValue(parser));
+                case "risk_level" -> builder.riskLevel(textValue(parser));
+                case "extracted_entities" -> builder.extractedEntities(readExtractedEntities(parser));
+                case "risk_factors" -> builder.riskFactors(readArray(parser, this::readRiskFactor));
+                case "positions" -> builder.positions(readArray(parser, this::readPosition));
+                case "related_chapters" -> builder.relatedChapters(stringList(parser));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.extractedAt(LocalDateTime.now()).build();
+    }
+
+    private ComprehensiveClauseExtractionResult.ExtractedEntities readExtractedEntities(JsonParser parser)
+            throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.ExtractedEntities.builder();
+        readObject(parser, field -> {
+            switch (field) {
+                case "amount_percentage" -> builder.amountPercentage(textValue(parser));
+                case "payment_period" -> builder.paymentPeriod(textValue(parser));
+                case "payment_condition" -> builder.paymentCondition(textValue(parser));
+                case "payment_amount" -> builder.paymentAmount(textValue(parser));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private ComprehensiveClauseExtractionResult.RiskFactor readRiskFactor(JsonParser parser) throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.RiskFactor.builder();
+        readObject(parser, field -> {
+            switch (field) {
+                case "factor" -> builder.factor(textValue(parser));
+                case "severity" -> builder.severity(textValue(parser));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private ComprehensiveClauseExtractionResult.ClausePosition readPosition(JsonParser parser) throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.ClausePosition.builder()
+            .bbox(new ArrayList<>());
+        readObject(parser, field -> {
+            switch (field) {
+                case "page" -> builder.page(intValue(parser));
+                case "bbox" -> builder.bbox(intList(parser));
+                case "context" -> builder.context(textValue(parser));
+                case "text_snippet" -> builder.textSnippet(textValue(parser));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private ComprehensiveClauseExtractionResult.QualityMetrics readQualityMetrics(JsonParser parser)
+            throws IOException {
+        var builder = ComprehensiveClauseExtractionResult.QualityMetrics.builder()
+            .pagesWithIssues(new ArrayList<>())
+            .recommendedReviewClauses(new ArrayList<>());
+        readObject(parser, field -> {
+            switch (field) {
+                case "total_clauses_found" -> builder.totalClausesFound(intValue(parser));
+                case "high_confidence_clauses" -> builder.highConfidenceClauses(intValue(parser));
+                case "medium_confidence_clauses" -> builder.mediumConfidenceClauses(intValue(parser));
+                case "low_confidence_clauses" -> builder.lowConfidenceClauses(intValue(parser));
+                case "pages_with_issues" -> builder.pagesWithIssues(intList(parser));
+                case "ocr_confidence_avg" -> builder.ocrConfidenceAvg(doubleValue(parser));
+                case "structure_accuracy" -> builder.structureAccuracy(doubleValue(parser));
+                case "recommended_review_clauses" -> builder.recommendedReviewClauses(stringList(parser));
+                default -> parser.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private static ComprehensiveClauseExtractionResult.DocumentInfo emptyDocumentInfo() {
+        return ComprehensiveClauseExtractionResult.DocumentInfo.builder()
+            .parties(ComprehensiveClauseExtractionResult.ContractParties.builder().build())
+            .build();
+    }
+
+    private static ComprehensiveClauseExtractionResult.StructureInfo emptyStructureInfo() {
+        return ComprehensiveClauseExtractionResult.StructureInfo.builder()
+            .chapters(new ArrayList<>())
+            .specialAreas(new ArrayList<>())
+            .build();
+    }
+
+    private static ComprehensiveClauseExtractionResult.QualityMetrics emptyQualityMetrics() {
+        return ComprehensiveClauseExtractionResult.QualityMetrics.builder()
+            .pagesWithIssues(new ArrayList<>())
+            .recommendedReviewClauses(new ArrayList<>())
+            .build();
+    }
+
+    /**
+     * 逐个读取对象字段，当前token不是对象开始时跳过整个值
+     * 字段处理器必须消费完字段值
+     */
+    private static void readObject(JsonParser parser, FieldReader reader) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            reader.read(field);
+        }
+    }
+
+    /**
+     * 读取数组中的对象元素，非对象元素跳过；当前token不是数组开始时返回空列表
+     */
+    private static <T> List<T> readArray(JsonParser parser, ElementReader<T> reader) throws IOException {
+        List<T> items = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return items;
+        }
+        while (nextInArray(parser)) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                items.add(reader.read(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return items;
+    }
+
+    private static boolean nextInArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        return token != null && token != JsonToken.END_ARRAY;
+    }
+
+    private static String textValue(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static Integer intValue(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static Double doubleValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static List<Integer> intList(JsonParser parser) throws IOException {
+        List<Integer> items = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return items;
+        }
+        while (nextInArray(parser)) {
+            Integer value = intValue(parser);
+            if (value != null) {
+                items.add(value);
+            }
+        }
+        return items;
+    }
+
+    private static List<String> stringList(JsonParser parser) throws IOException {
+        List<String> items = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return items;
+        }
+        while (nextInArray(parser)) {
+            String value = textValue(parser);
+            if (value != null) {
+                items.add(value);
+            }
+        }
+        return items;
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+
+        void read(String field) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ElementReader<T> {
+
+        T read(JsonParser parser) throws IOException;
+    }
+}
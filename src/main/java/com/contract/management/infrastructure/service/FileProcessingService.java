@@ -1,29 +1,37 @@
 package com.contract.management.infrastructure.service;
 
 import com.contract.management.domain.exception.FileProcessingException;
+import com.contract.management.infrastructure.cache.DocumentArtifact;
+import com.contract.management.infrastructure.cache.DocumentArtifactCache;
+import com.contract.management.infrastructure.util.FileSpooler;
+import com.contract.management.infrastructure.util.PdfPageRenderer;
 import com.contractreview.fileapi.client.FileClient;
 import com.contractreview.fileapi.dto.response.FileInfoResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessRead;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.rendering.PDFRenderer;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 文件处理服务
@@ -38,6 +46,18 @@ import java.util.List;
 public class FileProcessingService {
 
     private final FileClient fileClient;
+    private final PdfPageRenderer pdfPageRenderer;
+    private final FileSpooler fileSpooler;
+    private final DocumentArtifactCache documentArtifactCache;
+
+    @Value("${file.pdf.render.classification.dpi:300}")
+    private int classificationDpi;
+
+    @Value("${file.pdf.render.classification.image-format:PNG}")
+    private String classificationImageFormat;
+
+    @Value("${file.pdf.render.classification.quality:0.85}")
+    private float classificationImageQuality;
 
     /**
      * 文件类型枚举
@@ -79,73 +99,110 @@ public class FileProcessingService {
 
     /**
      * 获取文件内容和类型
+     * 文件内容与文字层来自附件解析产物缓存，同一附件在本节点只下载、解析一次
      *
      * @param fileUuid 文件UUID
      * @return 文件信息包含内容和类型
      * @throws FileProcessingException 当文件处理失败时
      */
     public FileContentInfo getFileContent(String fileUuid) {
-        try {
-            log.debug("开始处理文件: {}", fileUuid);
+        try (DocumentArtifactCache.Lease lease = openArtifact(fileUuid)) {
+            DocumentArtifact artifact = lease.getArtifact();
+            byte[] fileContent = artifact.readContent();
+            String extractedText = artifact.readText();
 
-            // 先查询文件信息获取文件名
-            FileInfoResponse fileInfo = fileClient.queryByUuid(fileUuid);
-            if (fileInfo == null) {
-                throw new FileProcessingException("文件信息不存在: " + fileUuid);
-            }
+            return new FileContentInfo(fileUuid, artifact.getFileName(), artifact.getFileType(),
+                                     fileContent, extractedText);
 
-            String fileName = fileInfo.getFileName();
-            FileType fileType = FileType.fromFileName(fileName);
+        } catch (Exception e) {
+            log.error("文件处理失败: {}", fileUuid, e);
+            throw new FileProcessingException("文件处理失败: " + fileUuid, e);
+        }
+    }
 
-            log.debug("文件类型: {}, 文件名: {}", fileType.getCategory(), fileName);
+    /**
+     * 获取附件解析产物，调用方负责关闭返回的句柄
+     *
+     * @param fileUuid 文件UUID
+     * @return 产物租用句柄
+     * @throws FileProcessingException 下载或解析失败时
+     */
+    public DocumentArtifactCache.Lease openArtifact(String fileUuid) {
+        return openArtifact(fileUuid, null);
+    }
 
-            // 下载文件内容
-            byte[] fileContent;
-            try (InputStream fileStream = fileClient.downloadByUuid(fileUuid)) {
-                if (fileStream == null) {
-                    throw new FileProcessingException("文件内容不存在: " + fileUuid);
-                }
+    /**
+     * 获取附件解析产物，未缓存时优先从给定地址（本地文件URL或对象存储预签名URL）直接下载，
+     * 失败时降级为从文件服务下载；调用方负责关闭返回的句柄
+     *
+     * @param fileUuid 文件UUID
+     * @param preferredUrl 优先使用的下载地址，为空时直接从文件服务下载
+     * @return 产物租用句柄
+     * @throws FileProcessingException 下载或解析失败时
+     */
+    public DocumentArtifactCache.Lease openArtifact(String fileUuid, String preferredUrl) {
+        return documentArtifactCache.acquire(fileUuid,
+            (uuid, directory) -> loadArtifact(uuid, directory, preferredUrl));
+    }
 
-                // 使用缓冲读取文件内容到字节数组，避免readAllBytes()的问题
-                try {
-                    fileContent = readAllBytes(fileStream);
-                } catch (IOException e) {
-                    log.error("读取文件内容失败: {}", fileUuid, e);
-                    throw new FileProcessingException("读取文件内容失败: " + fileUuid, e);
-                }
-            } catch (IOException e) {
-                log.error("下载文件失败: {}", fileUuid, e);
-                throw new FileProcessingException("下载文件失败: " + fileUuid, e);
-            }
+    /**
+     * 下载附件并解析页数与文字层，原始文件落盘到产物目录
+     */
+    private DocumentArtifact loadArtifact(String fileUuid, Path directory, String preferredUrl) throws IOException {
+        log.debug("开始处理文件: {}", fileUuid);
 
-            String extractedText = null;
-
-            if (fileContent.length == 0) {
-                log.warn("文件内容为空: {}", fileUuid);
-            } else {
-                switch (fileType) {
-                    case DOCUMENT:
-                        extractedText = extractTextFromDocument(fileContent, fileName);
-                        break;
-                    case PDF:
-                        extractedText = extractTextFromPDF(fileContent);
-                        break;
-                    case IMAGE:
-                        extractedText = extractTextFromImage(fileContent);
-                        break;
-                    default:
-                        log.warn("不支持的文件类型: {}", fileName);
-                        break;
-                }
-            }
+        // 先查询文件信息获取文件名
+        FileInfoResponse fileInfo = fileClient.queryByUuid(fileUuid);
+        if (fileInfo == null) {
+            throw new FileProcessingException("文件信息不存在: " + fileUuid);
+        }
 
-            return new FileContentInfo(fileUuid, fileName, fileType.getCategory(),
-                                     fileContent, extractedText);
+        String fileName = fileInfo.getFileName();
+        FileType fileType = FileType.fromFileName(fileName);
 
-        } catch (Exception e) {
-            log.error("文件处理失败: {}", fileUuid, e);
-            throw new FileProcessingException("文件处理失败: " + fileUuid, e);
+        log.debug("文件类型: {}, 文件名: {}", fileType.getCategory(), fileName);
+
+        // 下载文件内容并流式落盘
+        FileSpooler.SpooledFile spooledFile = spoolFromUrl(preferredUrl, fileName, directory);
+        if (spooledFile == null) {
+            InputStream fileStream = fileClient.downloadByUuid(fileUuid);
+            if (fileStream == null) {
+                throw new FileProcessingException("文件内容不存在: " + fileUuid);
+            }
+            spooledFile = fileSpooler.spool(fileStream, fileName, directory);
+        }
+
+        Integer pageCount = null;
+        String extractedText = null;
+
+        if (spooledFile.isEmpty()) {
+            log.warn("文件内容为空: {}", fileUuid);
+        } else {
+            switch (fileType) {
+                case DOCUMENT:
+                    extractedText = extractTextFromDocument(Files.readAllBytes(spooledFile.getPath()), fileName);
+                    break;
+                case PDF:
+                    try (RandomAccessRead source = spooledFile.openRandomAccessRead();
+                         PDDocument document = Loader.loadPDF(source, "", null, null,
+                             IOUtils.createTempFileOnlyStreamCache())) {
+                        pageCount = document.getNumberOfPages();
+                        extractedText = extractTextFromPDF(document);
+                    }
+                    break;
+                case IMAGE:
+                    extractedText = extractTextFromImage(Files.readAllBytes(spooledFile.getPath()));
+                    break;
+                default:
+                    log.warn("不支持的文件类型: {}", fileName);
+                    break;
+            }
         }
+
+        log.debug("文件处理完成 - 类型: {}, 页数: {}, 提取文本长度: {}",
+                 fileType.getCategory(), pageCount, extractedText != null ? extractedText.length() : 0);
+        return new DocumentArtifact(fileUuid, fileName, fileType.getCategory(), directory,
+                                    spooledFile, pageCount, extractedText);
     }
 
     /**
@@ -173,64 +230,85 @@ public class FileProcessingService {
     }
 
     /**
-     * 从PDF中提取文本
+     * 从本地文件URL或预签名URL直接下载，不经过文件服务；下载失败返回null由调用方降级
+     * 超过大小上限等校验失败直接抛出，无需降级
      */
-    private String extractTextFromPDF(byte[] content) throws IOException {
-        try (PDDocument document = Loader.loadPDF(content)) {
-            PDFTextStripper textStripper = new PDFTextStripper();
-            textStripper.setSortByPosition(true);
-            return textStripper.getText(document);
+    private FileSpooler.SpooledFile spoolFromUrl(String url, String fileName, Path directory) {
+        if (!StringUtils.hasText(url)) {
+            return null;
         }
+        try {
+            log.info("从URL获取文件内容: url={}, fileName={}", url, fileName);
+            return fileSpooler.spool(new URL(url).openStream(), fileName, directory);
+        } catch (FileProcessingException e) {
+            if (!(e.getCause() instanceof IOException)) {
+                throw e;
+            }
+            log.warn("从URL下载文件失败，尝试从文件服务获取: url={}, error={}", url, e.getMessage());
+            return null;
+        } catch (Exception e) {
+            log.warn("从URL下载文件失败，尝试从文件服务获取: url={}, error={}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 从PDF中提取文本
+     */
+    private String extractTextFromPDF(PDDocument document) throws IOException {
+        PDFTextStripper textStripper = new PDFTextStripper();
+        textStripper.setSortByPosition(true);
+        return textStripper.getText(document);
     }
 
     /**
      * 从PDF中提取前两页的图片
+     * 分辨率和编码格式可配置，面向模型输入时可使用较低DPI和JPEG以减少渲染耗时和传输体积
      *
      * @param content PDF文件内容
      * @return 前两页的图片字节数组列表
      * @throws IOException 当PDF处理失败时
      */
     public List<byte[]> extractImagesFromPDF(byte[] content) throws IOException {
-        List<byte[]> images = new ArrayList<>();
-
-        try (PDDocument document = Loader.loadPDF(content)) {
-            PDFRenderer renderer = new PDFRenderer(document);
+        // 提取前两页，如果PDF只有一页则只提取一页
+        List<byte[]> images = pdfPageRenderer.renderPages(content, 0, 2, classificationRenderOptions());
 
-            // 提取前两页，如果PDF只有一页则只提取一页
-            int maxPages = Math.min(2, document.getNumberOfPages());
-
-            for (int pageIndex = 0; pageIndex < maxPages; pageIndex++) {
-                // 将PDF页面渲染为图片，使用300 DPI以保证清晰度
-                BufferedImage image = renderer.renderImageWithDPI(pageIndex, 300);
-
-                // 将BufferedImage转换为字节数组
-                try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                    ImageIO.write(image, "PNG", baos);
-                    images.add(baos.toByteArray());
-                }
-
-                log.debug("成功提取PDF第{}页的图片，大小: {} bytes",
-                         pageIndex + 1, images.get(images.size() - 1).length);
-            }
+        for (int i = 0; i < images.size(); i++) {
+            log.debug("成功提取PDF第{}页的图片，大小: {} bytes", i + 1, images.get(i).length);
         }
-
         return images;
     }
 
     /**
-     * 安全地读取InputStream的所有字节
+     * 从PDF中提取前两页的图片，附件解析产物仍在缓存中时复用已渲染的缩略图
+     *
+     * @param fileUuid 文件UUID
+     * @param content PDF文件内容
+     * @return 前两页的图片字节数组列表
+     * @throws IOException 当PDF处理失败时
      */
-    private byte[] readAllBytes(InputStream inputStream) throws IOException {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            byte[] buffer = new byte[4096];
-            int bytesRead;
-            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
-            }
-            return outputStream.toByteArray();
+    public List<byte[]> extractImagesFromPDF(String fileUuid, byte[] content) throws IOException {
+        Optional<DocumentArtifactCache.Lease> cached = documentArtifactCache.peek(fileUuid);
+        if (cached.isEmpty()) {
+            return extractImagesFromPDF(content);
+        }
+        try (DocumentArtifactCache.Lease lease = cached.get()) {
+            String spec = "classification:" + classificationDpi + ":" + classificationImageFormat + ":" + classificationImageQuality;
+            return documentArtifactCache.thumbnails(lease, spec, () -> extractImagesFromPDF(content));
         }
     }
 
+    /**
+     * 分类场景的PDF渲染参数
+     */
+    public PdfPageRenderer.RenderOptions classificationRenderOptions() {
+        return PdfPageRenderer.RenderOptions.builder()
+            .dpi(classificationDpi)
+            .imageFormat(classificationImageFormat)
+            .quality(classificationImageQuality)
+            .build();
+    }
+
     /**
      * 从图片中提取文本（这里先返回图片的Base64编码，实际应该调用OCR）
      */
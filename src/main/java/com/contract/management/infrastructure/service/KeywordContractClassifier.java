@@ -0,0 +1,164 @@
+package com.contract.management.infrastructure.service;
+
+import com.contract.common.constant.ContractType;
+import com.contract.management.infrastructure.dto.ContractClassificationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于关键词的本地合同分类器
+ * 按合同类型词表对文本打分：标题区域出现合同名称权重最高，正文中的当事人称谓、标的等术语按出现次数累加；
+ * 最高分与次高分差距越大置信度越高。只用于拦截特征明显的合同，无法确定时交由大模型判断
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class KeywordContractClassifier {
+
+    public static final String METHOD = "KEYWORD_RULE";
+
+    /**
+     * 视为标题区域的前若干个非空白字符
+     */
+    private static final int TITLE_REGION_CHARS = 200;
+    private static final int TITLE_IN_HEADER_SCORE = 10;
+    private static final int TITLE_IN_BODY_SCORE = 3;
+    private static final int MAX_OCCURRENCES_PER_TERM = 5;
+
+    /**
+     * 得分达到该值时置信度不再因总分偏低而折减
+     */
+    private static final double SATURATION_SCORE = 15.0;
+
+    private final Map<ContractType, Vocabulary> vocabularies;
+
+    public KeywordContractClassifier() {
+        Map<String, Vocabulary> defaults = new LinkedHashMap<>();
+        defaults.put("SALES", new Vocabulary(
+            List.of("销售合同", "买卖合同", "购销合同"),
+            List.of("出卖人", "买受人", "卖方", "买方", "货物", "交货", "销售")));
+        defaults.put("PURCHASE", new Vocabulary(
+            List.of("采购合同", "采购协议", "订货合同"),
+            List.of("采购方", "供应商", "供方", "需方", "采购", "验收")));
+        defaults.put("SERVICE", new Vocabulary(
+            List.of("服务合同", "服务协议", "技术服务", "咨询服务", "委托合同"),
+            List.of("服务费", "服务内容", "服务期限", "服务方", "委托方", "受托方")));
+        defaults.put("LEASE", new Vocabulary(
+            List.of("租赁合同", "租赁协议", "租房合同"),
+            List.of("出租人", "承租人", "出租方", "承租方", "租金", "租赁期", "押金")));
+        defaults.put("EMPLOYMENT", new Vocabulary(
+            List.of("劳动合同", "聘用合同", "雇佣合同"),
+            List.of("用人单位", "劳动者", "工资", "试用期", "社会保险", "工作岗位")));
+
+        this.vocabularies = new EnumMap<>(ContractType.class);
+        defaults.forEach((typeName, vocabulary) -> {
+            try {
+                vocabularies.put(ContractType.valueOf(typeName), vocabulary);
+            } catch (IllegalArgumentException e) {
+                log.warn("合同类型不存在，跳过关键词词表: {}", typeName);
+            }
+        });
+    }
+
+    /**
+     * 对文本进行关键词分类
+     *
+     * @param text 合同文本
+     * @return 分类结果，没有任何词表命中时success为false
+     */
+    public ContractClassificationResult classify(String text) {
+        if (text == null || text.isBlank()) {
+            return failure("文本为空");
+        }
+
+        String compact = text.replaceAll("\\s+", "");
+        String header = compact.length() > TITLE_REGION_CHARS ? compact.substring(0, TITLE_REGION_CHARS) : compact;
+
+        Map<ContractType, Integer> scores = new HashMap<>();
+        vocabularies.forEach((type, vocabulary) -> {
+            int score = 0;
+            for (String title : vocabulary.titles) {
+                if (header.contains(title)) {
+                    score += TITLE_IN_HEADER_SCORE;
+                } else if (compact.contains(title)) {
+                    score += TITLE_IN_BODY_SCORE;
+                }
+            }
+            for (String term : vocabulary.terms) {
+                score += countOccurrences(compact, term);
+            }
+            scores.put(type, score);
+        });
+
+        ContractType best = null;
+        int bestScore = 0;
+        int secondScore = 0;
+        for (Map.Entry<ContractType, Integer> entry : scores.entrySet()) {
+            int score = entry.getValue();
+            if (score > bestScore) {
+                secondScore = bestScore;
+                bestScore = score;
+                best = entry.getKey();
+            } else if (score > secondScore) {
+                secondScore = score;
+            }
+        }
+        if (best == null) {
+            return failure("未命中任何合同类型关键词");
+        }
+
+        double confidence = (double) (bestScore - secondScore) / bestScore * Math.min(1.0, bestScore / SATURATION_SCORE);
+        Map<String, Object> extendedProperties = new HashMap<>();
+        extendedProperties.put("reason", "关键词得分: " + scores);
+
+        return ContractClassificationResult.builder()
+            .contractType(best)
+            .confidence(Math.round(confidence * 100) / 100.0)
+            .classificationMethod(METHOD)
+            .extendedProperties(extendedProperties)
+            .success(true)
+            .build();
+    }
+
+    private static int countOccurrences(String text, String term) {
+        int count = 0;
+        int index = text.indexOf(term);
+        while (index >= 0 && count < MAX_OCCURRENCES_PER_TERM) {
+            count++;
+            index = text.indexOf(term, index + term.length());
+        }
+        return count;
+    }
+
+    private static ContractClassificationResult failure(String message) {
+        return ContractClassificationResult.builder()
+            .contractType(ContractType.OTHER)
+            .confidence(0.0)
+            .classificationMethod(METHOD)
+            .success(false)
+            .errorMessage(message)
+            .build();
+    }
+
+    /**
+     * 合同类型词表：合同名称与正文术语
+     */
+    private static final class Vocabulary {
+
+        private final List<String> titles;
+        private final List<String> terms;
+
+        private Vocabulary(List<String> titles, List<String> terms) {
+            this.titles = titles;
+            this.terms = terms;
+        }
+    }
+}
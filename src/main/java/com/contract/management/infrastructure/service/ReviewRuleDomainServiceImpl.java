@@ -6,6 +6,7 @@ import com.contract.management.domain.model.valueobject.ReviewRuleId;
 import com.contract.management.domain.model.valueobject.RuleType;
 import com.contract.management.domain.repository.ReviewRuleRepository;
 import com.contract.management.domain.service.ReviewRuleDomainService;
+import com.contract.management.infrastructure.cache.ReviewRuleIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,6 +27,7 @@ import java.util.Optional;
 public class ReviewRuleDomainServiceImpl implements ReviewRuleDomainService {
 
     private final ReviewRuleRepository reviewRuleRepository;
+    private final ReviewRuleIndex reviewRuleIndex;
 
     @Override
     @Transactional
@@ -40,6 +42,7 @@ public class ReviewRuleDomainServiceImpl implements ReviewRuleDomainService {
         }
 
         ReviewRule savedRule = reviewRuleRepository.save(reviewRule);
+        reviewRuleIndex.invalidateAll();
         log.info("Created review rule: {}", savedRule.getId().getValue());
         return savedRule;
     }
@@ -66,6 +69,7 @@ public class ReviewRuleDomainServiceImpl implements ReviewRuleDomainService {
         reviewRule.markAsModified();
 
         ReviewRule savedRule = reviewRuleRepository.save(reviewRule);
+        reviewRuleIndex.invalidateAll();
         log.info("Updated review rule: {}", savedRule.getId().getValue());
         return savedRule;
     }
@@ -85,6 +89,7 @@ public class ReviewRuleDomainServiceImpl implements ReviewRuleDomainService {
         }
 
         reviewRuleRepository.deleteById(id);
+        reviewRuleIndex.invalidateAll();
         log.info("Deleted review rule: {}", id.getValue());
     }
 
@@ -96,6 +101,7 @@ public class ReviewRuleDomainServiceImpl implements ReviewRuleDomainService {
             ReviewRule rule = ruleOpt.get();
             rule.enable();
             ReviewRule savedRule = reviewRuleRepository.save(rule);
+            reviewRuleIndex.invalidateAll();
             log.info("Enabled review rule: {}", id.getValue());
             return Optional.of(savedRule);
         }
@@ -110,6 +116,7 @@ public class ReviewRuleDomainServiceImpl implements ReviewRuleDomainService {
             ReviewRule rule = ruleOpt.get();
             rule.disable();
             ReviewRule savedRule = reviewRuleRepository.save(rule);
+            reviewRuleIndex.invalidateAll();
             log.info("Disabled review rule: {}", id.getValue());
             return Optional.of(savedRule);
         }
@@ -0,0 +1,141 @@
+package com.contract.management.infrastructure.service;
+
+import com.contract.management.infrastructure.dto.ContractClassificationResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 分级合同分类引擎
+ * 依次尝试本地关键词分类、文本大模型分类，置信度不足或PDF没有可用文字层时才渲染页面调用视觉模型；
+ * 电子版PDF大多在前两级即可得到结果，省去页面渲染与视觉模型调用
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class TieredContractClassifier {
+
+    public static final String TEXT_METHOD = "TEXT_ANALYSIS";
+    public static final String PDF_IMAGE_METHOD = "PDF_IMAGE_ANALYSIS";
+
+    private final AIModelService aiModelService;
+    private final FileProcessingService fileProcessingService;
+    private final KeywordContractClassifier keywordContractClassifier;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${contract.classification.tiered.keyword-confidence:0.85}")
+    private double keywordConfidence;
+
+    @Value("${contract.classification.tiered.text-confidence:0.75}")
+    private double textConfidence;
+
+    @Value("${contract.classification.tiered.min-text-chars:100}")
+    private int minTextChars;
+
+    public TieredContractClassifier(AIModelService aiModelService,
+                                    FileProcessingService fileProcessingService,
+                                    KeywordContractClassifier keywordContractClassifier,
+                                    MeterRegistry meterRegistry) {
+        this.aiModelService = aiModelService;
+        this.fileProcessingService = fileProcessingService;
+        this.keywordContractClassifier = keywordContractClassifier;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 文档类文本分类：关键词分类置信度足够时直接返回，否则调用文本大模型
+     */
+    public ContractClassificationResult classifyText(String text) {
+        ContractClassificationResult keywordResult = tryKeyword(text);
+        if (keywordResult != null) {
+            return keywordResult;
+        }
+
+        ContractClassificationResult textResult = aiModelService.classifyByText(text);
+        textResult.setClassificationMethod(TEXT_METHOD);
+        record("text", Boolean.TRUE.equals(textResult.getSuccess()) ? "accepted" : "failed");
+        return textResult;
+    }
+
+    /**
+     * PDF分类：文字层可用时先走关键词与文本大模型，置信度低于阈值或文字层为空时升级到视觉模型
+     *
+     * @param fileUuid      PDF文件UUID，用于复用附件解析产物中的缩略图
+     * @param extractedText PDF文字层文本，可能为空
+     * @param pdfContent    PDF文件内容
+     * @throws IOException 渲染PDF页面失败时
+     */
+    public ContractClassificationResult classifyPdf(String fileUuid, String extractedText, byte[] pdfContent) throws IOException {
+        ContractClassificationResult textResult = null;
+        if (hasUsableText(extractedText)) {
+            ContractClassificationResult keywordResult = tryKeyword(extractedText);
+            if (keywordResult != null) {
+                return keywordResult;
+            }
+
+            textResult = aiModelService.classifyByText(extractedText);
+            textResult.setClassificationMethod(TEXT_METHOD);
+            if (isConfident(textResult, textConfidence)) {
+                record("text", "accepted");
+                return textResult;
+            }
+            record("text", "escalated");
+            log.debug("文本分类置信度不足，升级到视觉模型: confidence={}", textResult.getConfidence());
+        } else {
+            log.debug("PDF无可用文字层，直接使用视觉模型分类");
+        }
+
+        List<byte[]> pdfImages = fileProcessingService.extractImagesFromPDF(fileUuid, pdfContent);
+        ContractClassificationResult visionResult = aiModelService.classifyByPDFImages(pdfImages);
+        visionResult.setClassificationMethod(PDF_IMAGE_METHOD);
+        boolean visionSucceeded = Boolean.TRUE.equals(visionResult.getSuccess());
+        record("vision", visionSucceeded ? "accepted" : "failed");
+
+        // 视觉模型失败时，低置信度的文本结果仍优于失败
+        if (!visionSucceeded && textResult != null && Boolean.TRUE.equals(textResult.getSuccess())) {
+            return textResult;
+        }
+        return visionResult;
+    }
+
+    private ContractClassificationResult tryKeyword(String text) {
+        ContractClassificationResult keywordResult = keywordContractClassifier.classify(text);
+        if (isConfident(keywordResult, keywordConfidence)) {
+            record("keyword", "accepted");
+            return keywordResult;
+        }
+        record("keyword", "escalated");
+        return null;
+    }
+
+    /**
+     * 去除空白后的字母与汉字数量达到下限才视为有可用文字层，扫描件通常只提取出空白或零星字符
+     */
+    private boolean hasUsableText(String text) {
+        if (text == null) {
+            return false;
+        }
+        int letters = 0;
+        for (int i = 0; i < text.length() && letters < minTextChars; i++) {
+            if (Character.isLetter(text.charAt(i))) {
+                letters++;
+            }
+        }
+        return letters >= minTextChars;
+    }
+
+    private static boolean isConfident(ContractClassificationResult result, double threshold) {
+        return result != null && Boolean.TRUE.equals(result.getSuccess())
+            && result.getConfidence() != null && result.getConfidence() >= threshold;
+    }
+
+    private void record(String tier, String outcome) {
+        meterRegistry.counter("contract.classification.tier", "tier", tier, "outcome", outcome).increment();
+    }
+}
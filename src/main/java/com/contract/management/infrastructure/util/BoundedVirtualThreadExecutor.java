@@ -0,0 +1,77 @@
+package com.contract.management.infrastructure.util;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 有界虚拟线程执行器
+ * 每个任务一个虚拟线程，阻塞在网络I/O上时不占用平台线程；
+ * 同时执行的任务数超过上限时拒绝提交，与有界线程池的拒绝语义保持一致。需要JDK 21及以上
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+public class BoundedVirtualThreadExecutor implements Executor {
+
+    private final SimpleAsyncTaskExecutor delegate;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("并发上限必须为正数");
+        }
+        this.delegate = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        this.delegate.setVirtualThreads(true);
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * 提交任务
+     *
+     * @throws RejectedExecutionException 执行中的任务数已达上限时
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            rejectedCount.increment();
+            throw new RejectedExecutionException("虚拟线程执行器并发已达上限: " + maxConcurrency);
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 正在执行的任务数
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * 因并发已达上限被拒绝的任务数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
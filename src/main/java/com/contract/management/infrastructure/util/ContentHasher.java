@@ -0,0 +1,62 @@
+package com.contract.management.infrastructure.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 内容哈希工具类
+ * 计算文件、文本等内容的SHA-256，用于内容寻址的缓存键和临时文件校验
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+public final class ContentHasher {
+
+    private ContentHasher() {
+    }
+
+    /**
+     * 计算字节内容的SHA-256
+     */
+    public static String sha256(byte[] content) {
+        MessageDigest digest = newDigest();
+        digest.update(content);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 计算文本内容的SHA-256
+     */
+    public static String sha256(String content) {
+        return sha256(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 按顺序计算多段内容的SHA-256，每段前写入长度避免拼接歧义
+     */
+    public static String sha256(List<byte[]> contents) {
+        MessageDigest digest = newDigest();
+        for (byte[] content : contents) {
+            int length = content.length;
+            digest.update(new byte[]{
+                (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length
+            });
+            digest.update(content);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 创建SHA-256摘要实例，用于边读边计算的场景
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("JVM不支持SHA-256", e);
+        }
+    }
+}
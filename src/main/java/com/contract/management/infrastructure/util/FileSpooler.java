@@ -0,0 +1,168 @@
+package com.contract.management.infrastructure.util;
+
+import com.contract.management.domain.exception.FileProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * 文件落盘工具类
+ * 将远程文件流式写入有大小上限的临时文件，避免整个文件驻留堆内存
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class FileSpooler {
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private static final String SPOOL_FILE_PREFIX = "contract-spool-";
+
+    @Value("${file.download.spool.max-file-size:209715200}")
+    private long maxFileSize;
+
+    @Value("${file.download.spool.dir:}")
+    private String spoolDir;
+
+    /**
+     * 将输入流写入临时文件，写入过程中同时计算内容SHA-256
+     * 调用方负责关闭返回的SpooledFile，关闭时删除临时文件
+     *
+     * @param inputStream 输入流，方法返回前会被关闭
+     * @param fileName 原始文件名，仅用于日志和临时文件后缀
+     * @return 临时文件句柄
+     * @throws FileProcessingException 文件超过大小上限或写入失败
+     */
+    public SpooledFile spool(InputStream inputStream, String fileName) throws FileProcessingException {
+        return spool(inputStream, fileName, StringUtils.hasText(spoolDir) ? Paths.get(spoolDir) : null);
+    }
+
+    /**
+     * 将输入流写入指定目录下的临时文件，供需要在目录内保存其他派生文件的调用方使用
+     *
+     * @param inputStream 输入流，方法返回前会被关闭
+     * @param fileName 原始文件名，仅用于日志和临时文件后缀
+     * @param dir 目标目录，为null时使用java.io.tmpdir
+     * @return 临时文件句柄
+     * @throws FileProcessingException 文件超过大小上限或写入失败
+     */
+    public SpooledFile spool(InputStream inputStream, String fileName, Path dir) throws FileProcessingException {
+        Path tempFile = null;
+        try (InputStream in = inputStream) {
+            tempFile = createTempFile(fileName, dir);
+
+            MessageDigest digest = ContentHasher.newDigest();
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long totalBytes = 0;
+            int bytesRead;
+
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                while ((bytesRead = in.read(buffer)) != -1) {
+                    totalBytes += bytesRead;
+                    if (totalBytes > maxFileSize) {
+                        throw new FileProcessingException(
+                            String.format("文件大小超过处理限制，最大允许：%d bytes", maxFileSize)
+                        );
+                    }
+                    out.write(buffer, 0, bytesRead);
+                    digest.update(buffer, 0, bytesRead);
+                }
+            }
+
+            log.info("文件已写入临时文件: fileName={}, path={}, size={} bytes", fileName, tempFile, totalBytes);
+            return new SpooledFile(tempFile, totalBytes, HexFormat.of().formatHex(digest.digest()));
+
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw new FileProcessingException("文件写入临时文件失败: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            deleteQuietly(tempFile);
+            throw e;
+        }
+    }
+
+    private Path createTempFile(String fileName, Path dir) throws IOException {
+        String suffix = ".tmp";
+        if (StringUtils.hasText(fileName) && fileName.lastIndexOf('.') >= 0) {
+            suffix = fileName.substring(fileName.lastIndexOf('.'));
+        }
+        if (dir != null) {
+            Files.createDirectories(dir);
+            return Files.createTempFile(dir, SPOOL_FILE_PREFIX, suffix);
+        }
+        return Files.createTempFile(SPOOL_FILE_PREFIX, suffix);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("删除临时文件失败: {}", path, e);
+        }
+    }
+
+    /**
+     * 落盘后的临时文件
+     * 通过RandomAccessRead按需读取，关闭时删除临时文件
+     */
+    public static class SpooledFile implements AutoCloseable {
+
+        private final Path path;
+        private final long size;
+        private final String sha256;
+
+        SpooledFile(Path path, long size, String sha256) {
+            this.path = path;
+            this.size = size;
+            this.sha256 = sha256;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * 文件内容的SHA-256（十六进制）
+         */
+        public String getSha256() {
+            return sha256;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * 打开基于文件的随机读取视图，供PDFBox解析使用
+         */
+        public RandomAccessRead openRandomAccessRead() throws IOException {
+            return new RandomAccessReadBufferedFile(path.toFile());
+        }
+
+        @Override
+        public void close() {
+            deleteQuietly(path);
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.contract.management.infrastructure.util;
+
+import com.contract.management.domain.exception.FileProcessingException;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * PDF并行渲染引擎
+ * 每次渲染只解析一次文档，页数随解析结果得到；渲染区间足够大时才把连续页区间分给有界ForkJoinPool中的
+ * 工作线程，各工作线程使用独立的PDDocument（PDFBox文档对象非线程安全），额外解析的代价由足够多的页数摊薄。
+ * 同一文档需要多次渲染时通过渲染会话复用已解析的文档
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class PdfPageRenderer {
+
+    private final ForkJoinPool renderPool;
+    private final int parallelism;
+    private final int minPagesPerWorker;
+
+    public PdfPageRenderer(@Value("${file.pdf.render.parallelism:0}") int parallelism,
+                           @Value("${file.pdf.render.min-pages-per-worker:4}") int minPagesPerWorker) {
+        this.parallelism = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.minPagesPerWorker = Math.max(1, minPagesPerWorker);
+        this.renderPool = new ForkJoinPool(this.parallelism);
+        log.info("PDF渲染线程池已初始化，并行度: {}, 每线程最少页数: {}", this.parallelism, this.minPagesPerWorker);
+    }
+
+    /**
+     * 渲染PDF的指定页面区间
+     *
+     * @param pdfBytes PDF文件字节数组（只读共享）
+     * @param startPage 起始页码（从0开始）
+     * @param maxPages 最多渲染的页数
+     * @param options 渲染参数
+     * @return 按页码顺序排列的图片字节数组列表
+     * @throws FileProcessingException 文件处理异常
+     */
+    public List<byte[]> renderPages(byte[] pdfBytes, int startPage, int maxPages, RenderOptions options)
+            throws FileProcessingException {
+        try (RenderSession session = open(pdfBytes)) {
+            return session.renderPages(startPage, maxPages, options);
+        }
+    }
+
+    /**
+     * 渲染PDF的全部页面
+     */
+    public List<byte[]> renderAll(byte[] pdfBytes, RenderOptions options) throws FileProcessingException {
+        return renderPages(pdfBytes, 0, Integer.MAX_VALUE, options);
+    }
+
+    /**
+     * 打开内存中PDF的渲染会话
+     *
+     * @param pdfBytes PDF文件字节数组（只读共享）
+     * @return 渲染会话，使用完毕后需关闭
+     * @throws FileProcessingException PDF加载失败
+     */
+    public RenderSession open(byte[] pdfBytes) throws FileProcessingException {
+        return open(() -> Loader.loadPDF(pdfBytes));
+    }
+
+    /**
+     * 打开本地PDF文件的渲染会话，文档按需从文件随机读取，不把整个文件读入堆内存
+     *
+     * @param pdfFile PDF文件，会话关闭前不能删除
+     * @return 渲染会话，使用完毕后需关闭
+     * @throws FileProcessingException PDF加载失败
+     */
+    public RenderSession open(Path pdfFile) throws FileProcessingException {
+        return open(() -> {
+            RandomAccessRead source = new RandomAccessReadBufferedFile(pdfFile.toFile());
+            try {
+                // 文档关闭时一并关闭source
+                return Loader.loadPDF(source);
+            } catch (IOException e) {
+                source.close();
+                throw e;
+            }
+        });
+    }
+
+    RenderSession open(DocumentLoader loader) throws FileProcessingException {
+        PDDocument document;
+        try {
+            document = loader.load();
+        } catch (IOException e) {
+            log.error("PDF加载失败", e);
+            throw new FileProcessingException("PDF加载失败: " + e.getMessage(), e);
+        }
+        return new RenderSession(loader, document);
+    }
+
+    /**
+     * 加载一份独立的PDDocument
+     */
+    @FunctionalInterface
+    interface DocumentLoader {
+        PDDocument load() throws IOException;
+    }
+
+    /**
+     * 渲染会话
+     * 打开时解析一次文档，多次渲染之间复用已解析的文档；只有区间大到需要多个工作线程、且没有空闲文档时
+     * 才额外解析，因此同时存在的文档数不超过同时进行中的渲染区间数。可被多个线程同时使用
+     */
+    public final class RenderSession implements AutoCloseable {
+
+        private final DocumentLoader loader;
+        private final int pageCount;
+        private final Deque<PDDocument> idleDocuments = new ConcurrentLinkedDeque<>();
+        private final Set<PDDocument> openDocuments = ConcurrentHashMap.newKeySet();
+        private volatile boolean closed;
+
+        private RenderSession(DocumentLoader loader, PDDocument document) {
+            this.loader = loader;
+            this.pageCount = document.getNumberOfPages();
+            openDocuments.add(document);
+            idleDocuments.push(document);
+        }
+
+        /**
+         * 文档总页数
+         */
+        public int getPageCount() {
+            return pageCount;
+        }
+
+        /**
+         * 渲染指定页面区间
+         *
+         * @param startPage 起始页码（从0开始）
+         * @param maxPages 最多渲染的页数
+         * @param options 渲染参数
+         * @return 按页码顺序排列的图片字节数组列表
+         * @throws FileProcessingException 文件处理异常
+         */
+        public List<byte[]> renderPages(int startPage, int maxPages, RenderOptions options)
+                throws FileProcessingException {
+            int endPage = (int) Math.min(pageCount, (long) startPage + maxPages);
+            int rangePages = endPage - startPage;
+            if (rangePages <= 0) {
+                return new ArrayList<>();
+            }
+
+            // 按连续页区间切分，每个工作线程至少分到minPagesPerWorker页，页数不足时单线程渲染、不额外解析
+            int workers = Math.max(1, Math.min(parallelism, rangePages / minPagesPerWorker));
+            int chunkSize = (rangePages + workers - 1) / workers;
+            List<Callable<List<byte[]>>> tasks = new ArrayList<>(workers);
+            for (int from = startPage; from < endPage; from += chunkSize) {
+                int chunkStart = from;
+                int chunkEnd = Math.min(endPage, from + chunkSize);
+                tasks.add(() -> renderRange(chunkStart, chunkEnd, options));
+            }
+
+            List<byte[]> images = new ArrayList<>(rangePages);
+            try {
+                for (Future<List<byte[]>> future : renderPool.invokeAll(tasks)) {
+                    images.addAll(future.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FileProcessingException("PDF渲染被中断", e);
+            } catch (ExecutionException e) {
+                log.error("PDF并行渲染失败", e.getCause());
+                throw new FileProcessingException("PDF转图片失败: " + e.getCause().getMessage(), e.getCause());
+            }
+
+            log.info("PDF渲染完成，共渲染 {} 页，并行度: {}, DPI: {}, 格式: {}",
+                images.size(), tasks.size(), options.getDpi(), options.getImageFormat());
+            return images;
+        }
+
+        /**
+         * 在单个工作线程内渲染一个页面区间，独占一份文档
+         */
+        private List<byte[]> renderRange(int fromPage, int toPage, RenderOptions options) throws IOException {
+            PDDocument document = borrow();
+            boolean reusable = false;
+            try {
+                List<byte[]> images = new ArrayList<>(toPage - fromPage);
+                PDFRenderer renderer = new PDFRenderer(document);
+                for (int pageIndex = fromPage; pageIndex < toPage; pageIndex++) {
+                    BufferedImage image = renderer.renderImageWithDPI(pageIndex, options.getDpi(), ImageType.RGB);
+                    images.add(encode(image, options));
+                    log.debug("已渲染第 {} 页", pageIndex + 1);
+                }
+                reusable = true;
+                return images;
+            } finally {
+                release(document, reusable);
+            }
+        }
+
+        private PDDocument borrow() throws IOException {
+            if (closed) {
+                throw new IOException("PDF渲染会话已关闭");
+            }
+            PDDocument document = idleDocuments.poll();
+            if (document != null) {
+                return document;
+            }
+            document = loader.load();
+            openDocuments.add(document);
+            log.debug("PDF渲染会话追加加载文档，当前文档数: {}", openDocuments.size());
+            return document;
+        }
+
+        /**
+         * 归还文档；渲染失败的文档状态不确定，直接关闭。会话已关闭时文档已由close关闭
+         */
+        private void release(PDDocument document, boolean reusable) {
+            if (reusable) {
+                idleDocuments.push(document);
+            } else if (openDocuments.remove(document)) {
+                closeQuietly(document);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            idleDocuments.clear();
+            for (PDDocument document : openDocuments) {
+                if (openDocuments.remove(document)) {
+                    closeQuietly(document);
+                }
+            }
+        }
+
+        private void closeQuietly(PDDocument document) {
+            try {
+                document.close();
+            } catch (IOException e) {
+                log.warn("关闭PDF文档失败", e);
+            }
+        }
+    }
+
+    /**
+     * 按指定格式编码图片，JPEG支持质量参数
+     */
+    static byte[] encode(BufferedImage image, RenderOptions options) throws IOException {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            if (!options.isJpeg()) {
+                ImageIO.write(image, options.getImageFormat(), baos);
+                return baos.toByteArray();
+            }
+
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+            if (!writers.hasNext()) {
+                throw new IOException("当前环境不支持JPEG编码");
+            }
+            ImageWriter writer = writers.next();
+            try (ImageOutputStream ios = ImageIO.createImageOutputStream(baos)) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(options.getQuality());
+                writer.setOutput(ios);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return baos.toByteArray();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderPool.shutdown();
+    }
+
+    /**
+     * 渲染参数
+     */
+    @Getter
+    @Builder
+    public static class RenderOptions {
+
+        /**
+         * 分辨率
+         */
+        @Builder.Default
+        private final int dpi = 300;
+
+        /**
+         * 图片格式：PNG或JPEG
+         */
+        @Builder.Default
+        private final String imageFormat = "PNG";
+
+        /**
+         * JPEG压缩质量（0-1），仅JPEG格式生效
+         */
+        @Builder.Default
+        private final float quality = 0.85f;
+
+        public boolean isJpeg() {
+            return "JPEG".equalsIgnoreCase(imageFormat) || "JPG".equalsIgnoreCase(imageFormat);
+        }
+
+        /**
+         * 图片MIME类型
+         */
+        public String getContentType() {
+            return isJpeg() ? "image/jpeg" : "image/" + imageFormat.toLowerCase();
+        }
+
+        /**
+         * 图片文件扩展名
+         */
+        public String getFileExtension() {
+            return isJpeg() ? "jpg" : imageFormat.toLowerCase();
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.contract.management.infrastructure.util;
 
 import com.contract.management.domain.exception.FileProcessingException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessRead;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
@@ -14,7 +17,6 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,8 +28,11 @@ import java.util.List;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class PdfProcessor {
 
+    private final PdfPageRenderer pdfPageRenderer;
+
     /**
      * 获取PDF文件的页数
      *
@@ -48,6 +53,28 @@ public class PdfProcessor {
         }
     }
 
+    /**
+     * 获取已落盘PDF文件的页数
+     * 通过RandomAccessRead按需读取，并使用临时文件作为流缓存，堆内存占用与文件大小无关
+     *
+     * @param spooledFile 落盘后的PDF文件
+     * @return 页数
+     * @throws FileProcessingException 文件处理异常
+     */
+    public int getPageCount(FileSpooler.SpooledFile spooledFile) throws FileProcessingException {
+        try (RandomAccessRead source = spooledFile.openRandomAccessRead();
+             PDDocument document = Loader.loadPDF(source, "", null, null, IOUtils.createTempFileOnlyStreamCache())) {
+
+            int pageCount = document.getNumberOfPages();
+            log.debug("PDF文件页数: {}, 文件大小: {} bytes", pageCount, spooledFile.getSize());
+            return pageCount;
+
+        } catch (IOException e) {
+            log.error("获取PDF页数失败: {}", spooledFile.getPath(), e);
+            throw new FileProcessingException("无法读取PDF文件页数: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 检查PDF页数是否超过限制
      *
@@ -71,31 +98,11 @@ public class PdfProcessor {
      * @throws FileProcessingException 文件处理异常
      */
     public List<byte[]> convertToImages(byte[] pdfBytes, int dpi, String imageFormat) throws FileProcessingException {
-        List<byte[]> images = new ArrayList<>();
-
-        try (PDDocument document = Loader.loadPDF(pdfBytes)) {
-
-            PDFRenderer renderer = new PDFRenderer(document);
-            int pageCount = document.getNumberOfPages();
-
-            for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
-                BufferedImage image = renderer.renderImageWithDPI(pageIndex, dpi, ImageType.RGB);
-
-                try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                    ImageIO.write(image, imageFormat, baos);
-                    images.add(baos.toByteArray());
-                }
-
-                log.debug("已转换第 {} 页为图片", pageIndex + 1);
-            }
-
-            log.info("PDF转换完成，共 {} 页，生成 {} 张图片", pageCount, images.size());
-            return images;
-
-        } catch (IOException e) {
-            log.error("PDF转图片失败", e);
-            throw new FileProcessingException("PDF转图片失败: " + e.getMessage(), e);
-        }
+        // 按页并行渲染，每个工作线程使用独立的PDDocument
+        return pdfPageRenderer.renderAll(pdfBytes, PdfPageRenderer.RenderOptions.builder()
+            .dpi(dpi)
+            .imageFormat(imageFormat)
+            .build());
     }
 
     /**
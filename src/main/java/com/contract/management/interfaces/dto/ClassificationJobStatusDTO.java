@@ -0,0 +1,72 @@
+package com.contract.management.interfaces.dto;
+
+import com.contract.management.application.dto.ContractClassificationDTO;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 合同分类任务状态DTO
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClassificationJobStatusDTO {
+
+    /**
+     * 提交被拒绝（分类线程池已满），只出现在提交接口的响应中，不会保存也无法轮询到
+     */
+    public static final String STATUS_REJECTED = "REJECTED";
+
+    /**
+     * 任务ID
+     */
+    private String jobId;
+
+    /**
+     * 合同ID
+     */
+    private Long contractId;
+
+    /**
+     * 任务状态：PENDING、PROCESSING、COMPLETED、FAILED，提交被拒绝时为REJECTED
+     */
+    private String status;
+
+    /**
+     * 状态描述
+     */
+    private String statusDescription;
+
+    /**
+     * 错误信息（失败时有值）
+     */
+    private String errorMessage;
+
+    /**
+     * 提交时间
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime submittedTime;
+
+    /**
+     * 结束时间
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime finishedTime;
+
+    /**
+     * 分类结果（完成时有值）
+     */
+    private ContractClassificationDTO result;
+}
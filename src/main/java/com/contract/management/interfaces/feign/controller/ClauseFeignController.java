@@ -11,6 +11,8 @@ import com.contract.common.feign.dto.ClauseQueryFeignDTO;
 import com.contract.management.application.dto.ClauseDTO;
 import com.contract.management.application.dto.ClauseQueryDTO;
 import com.contract.management.application.service.ClauseApplicationService;
+import com.contract.management.domain.repository.KeysetPage;
+import com.contract.management.interfaces.rest.api.v1.dto.common.CursorPaging;
 import com.ruoyi.feign.annotation.RemotePreAuthorize;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,11 +21,13 @@ import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -113,19 +117,36 @@ public class ClauseFeignController {
 
     /**
      * 根据条件分页查询条款
+     * paging=cursor时按创建时间倒序游标分页，续页令牌与总数见响应头，响应体结构不变
      *
      * @param queryDTO 查询条件
+     * @param paging 分页方式
+     * @param cursor 续页令牌
+     * @param countMode 总数统计方式
      * @return 分页查询结果
      */
     @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
     @PostMapping("/search")
-    @Operation(summary = "分页查询条款", description = "通过Feign接口根据条件分页查询条款")
-    public ClausePageResultFeignDTO searchClauses(@RequestBody ClauseQueryFeignDTO queryDTO) {
+    @Operation(summary = "分页查询条款", description = "通过Feign接口根据条件分页查询条款，支持游标分页")
+    public ResponseEntity<ClausePageResultFeignDTO> searchClauses(
+            @RequestBody ClauseQueryFeignDTO queryDTO,
+            @RequestParam(required = false) String paging,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String countMode) {
         log.debug("Feign调用：分页查询条款，条件: {}", queryDTO);
 
         // 转换查询DTO
         ClauseQueryDTO query = convertToApplicationQuery(queryDTO);
 
+        if (CursorPaging.isCursorMode(paging)) {
+            query.setCursor(cursor);
+            query.setCountMode(countMode);
+            KeysetPage<ClauseDTO> page = clauseApplicationService.findByCursor(query);
+            return ResponseEntity.ok()
+                    .headers(CursorPaging.headers(page))
+                    .body(convertToFeignPageResult(CursorPaging.toPage(page, query.getSize())));
+        }
+
         // 执行查询
         Page<ClauseDTO> pageResult = clauseApplicationService.findByFilters(query);
 
@@ -133,6 +154,6 @@ public class ClauseFeignController {
         ClausePageResultFeignDTO result = convertToFeignPageResult(pageResult);
 
         log.debug("分页查询条款成功，总数: {}", result.getTotal());
-        return result;
+        return ResponseEntity.ok(result);
     }
 }
\ No newline at end of file
@@ -12,7 +12,9 @@ import com.contract.common.feign.dto.UpdateContractFeignRequest;
 import com.contract.management.application.dto.ContractDTO;
 import com.contract.management.application.dto.ContractQueryDTO;
 import com.contract.management.application.service.ContractApplicationService;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.interfaces.rest.api.v1.convertor.ContractRestConvertor;
+import com.contract.management.interfaces.rest.api.v1.dto.common.CursorPaging;
 import com.contract.management.interfaces.rest.api.v1.dto.request.CreateContractRequest;
 import com.contract.management.interfaces.rest.api.v1.dto.response.ContractResponse;
 import com.ruoyi.feign.annotation.RemotePreAuthorize;
@@ -21,6 +23,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -28,6 +31,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
@@ -119,12 +123,20 @@ public class ContractFeignController {
 
     /**
      * 根据条件查询合同列表
+     * paging=cursor时按创建时间倒序游标分页（忽略pageNum），续页令牌与总数见响应头，响应体结构不变
      *
      * @param queryDTO 查询条件
+     * @param paging 分页方式
+     * @param cursor 续页令牌
+     * @param countMode 总数统计方式
      * @return 分页查询结果
      */
     @PostMapping("/search")
-    public ContractPageResultFeignDTO searchContracts(@RequestBody ContractQueryFeignDTO queryDTO) {
+    public ResponseEntity<ContractPageResultFeignDTO> searchContracts(
+            @RequestBody ContractQueryFeignDTO queryDTO,
+            @RequestParam(required = false) String paging,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String countMode) {
         log.debug("Feign调用：查询合同列表，条件: {}", queryDTO);
 
         // 转换查询DTO
@@ -134,10 +146,17 @@ public class ContractFeignController {
         int pageNum = queryDTO.getPageNum() != null ? queryDTO.getPageNum() : 1;
         int pageSize = queryDTO.getPageSize() != null ? queryDTO.getPageSize() : 20;
 
+        if (CursorPaging.isCursorMode(paging)) {
+            KeysetPage<ContractDTO> page = contractApplicationService.findContracts(query, cursor, pageSize, countMode);
+            return ResponseEntity.ok()
+                .headers(CursorPaging.headers(page))
+                .body(convertToFeignPageResult(CursorPaging.toPage(page, pageSize)));
+        }
+
         Page<ContractDTO> pageResult = contractApplicationService.findContracts(query, pageNum, pageSize);
 
         // 转换结果
-        return convertToFeignPageResult(pageResult);
+        return ResponseEntity.ok(convertToFeignPageResult(pageResult));
     }
 
     @RemotePreAuthorize("@ss.hasAnyRoles('admin,common')")
@@ -6,6 +6,8 @@ import com.contract.common.feign.dto.PromptQueryFeignDTO;
 import com.contract.management.application.dto.PromptDTO;
 import com.contract.management.application.dto.PromptQueryDTO;
 import com.contract.management.application.service.PromptApplicationService;
+import com.contract.management.domain.repository.KeysetPage;
+import com.contract.management.interfaces.rest.api.v1.dto.common.CursorPaging;
 import com.contract.management.interfaces.rest.api.v1.dto.request.PromptQueryRequest;
 import com.contract.management.interfaces.rest.api.v1.dto.response.PromptResponse;
 import com.ruoyi.feign.annotation.RemotePreAuthorize;
@@ -15,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -112,24 +115,41 @@ public class PromptFeignController {
      * 使用PromptQueryFeignDTO参数并返回PromptPageResultFeignDTO
      *
      * @param queryDTO 查询条件
+     * @param paging 分页方式，cursor为游标分页（忽略pageNum），续页令牌与总数见响应头
+     * @param cursor 续页令牌
+     * @param countMode 总数统计方式
      * @return 分页查询结果
      */
     @RemotePreAuthorize("@ss.hasRole('admin')")
     @PostMapping("/search")
     @Operation(summary = "分页查询提示词模板", description = "根据条件分页查询提示词模板")
-    public PromptPageResultFeignDTO searchPrompts(
-            @Valid @RequestBody PromptQueryFeignDTO queryDTO) {
+    public ResponseEntity<PromptPageResultFeignDTO> searchPrompts(
+            @Valid @RequestBody PromptQueryFeignDTO queryDTO,
+            @RequestParam(required = false) String paging,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String countMode) {
 
         log.info("Feign调用：分页查询提示词模板，条件: {}", queryDTO);
 
         // 转换查询请求：从FeignDTO到应用层DTO
         PromptQueryDTO applicationQueryDTO = convertFeignDTOToApplicationDTO(queryDTO);
-
-        // 执行分页查询
-        Page<PromptDTO> promptPage = promptApplicationService.findPrompts(
-                applicationQueryDTO,
-                queryDTO.getPageNum() != null ? queryDTO.getPageNum() : 1,
-                queryDTO.getPageSize() != null ? queryDTO.getPageSize() : 20);
+        int pageSize = queryDTO.getPageSize() != null ? queryDTO.getPageSize() : 20;
+
+        // 游标分页：续页令牌与总数通过响应头返回
+        HttpHeaders headers = new HttpHeaders();
+        Page<PromptDTO> promptPage;
+        if (CursorPaging.isCursorMode(paging)) {
+            KeysetPage<PromptDTO> keysetPage = promptApplicationService.findPrompts(
+                    applicationQueryDTO, cursor, pageSize, countMode);
+            headers = CursorPaging.headers(keysetPage);
+            promptPage = CursorPaging.toPage(keysetPage, pageSize);
+        } else {
+            // 执行分页查询
+            promptPage = promptApplicationService.findPrompts(
+                    applicationQueryDTO,
+                    queryDTO.getPageNum() != null ? queryDTO.getPageNum() : 1,
+                    pageSize);
+        }
 
         // 转换响应结果为FeignDTO
         List<PromptFeignDTO> promptFeignDTOs = promptPage.getContent().stream()
@@ -145,7 +165,7 @@ public class PromptFeignController {
         );
 
         log.info("Feign调用查询到提示词模板数量: {}", result.getTotal());
-        return result;
+        return ResponseEntity.ok().headers(headers).body(result);
     }
 
     /**
@@ -155,6 +175,9 @@ public class PromptFeignController {
      * @param request 查询条件
      * @param pageNum  页码
      * @param pageSize 每页大小
+     * @param paging   分页方式，cursor为游标分页
+     * @param cursor   续页令牌
+     * @param countMode 总数统计方式
      * @return 分页查询结果
      */
     @RemotePreAuthorize("@ss.hasRole('admin')")
@@ -166,12 +189,25 @@ public class PromptFeignController {
             @Parameter(description = "页码", example = "1")
             @RequestParam(defaultValue = "1") Integer pageNum,
             @Parameter(description = "每页大小", example = "20")
-            @RequestParam(defaultValue = "20") Integer pageSize) {
+            @RequestParam(defaultValue = "20") Integer pageSize,
+            @Parameter(description = "分页方式，cursor为游标分页（忽略pageNum）", example = "cursor")
+            @RequestParam(required = false) String paging,
+            @Parameter(description = "续页令牌，取自上一页响应头X-Next-Cursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "总数统计方式（EXACT/ESTIMATED/NONE），仅第一页统计", example = "NONE")
+            @RequestParam(required = false) String countMode) {
 
         log.info("Feign调用：分页查询提示词模板列表，条件: {}, 页码: {}, 每页: {}", request, pageNum, pageSize);
 
         // 转换查询请求
         PromptQueryDTO queryDTO = convertToQueryDTO(request);
+        if (CursorPaging.isCursorMode(paging)) {
+            KeysetPage<PromptResponse> page = promptApplicationService.findPrompts(queryDTO, cursor, pageSize, countMode)
+                .map(this::convertToResponse);
+            return ResponseEntity.ok()
+                .headers(CursorPaging.headers(page))
+                .body(CursorPaging.toPage(page, pageSize));
+        }
 
         // 执行分页查询
         Page<PromptDTO> promptPage = promptApplicationService.findPrompts(queryDTO, pageNum, pageSize);
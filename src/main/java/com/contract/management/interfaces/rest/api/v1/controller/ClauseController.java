@@ -4,7 +4,9 @@ import com.contract.management.application.dto.ClauseDTO;
 import com.contract.management.application.dto.ClauseQueryDTO;
 import com.contract.management.application.service.ClauseApplicationService;
 import com.contract.management.domain.model.ClauseType;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.interfaces.rest.api.v1.convertor.ClauseRestConvertor;
+import com.contract.management.interfaces.rest.api.v1.dto.common.CursorPaging;
 import com.contract.management.interfaces.rest.api.v1.dto.request.ClauseQueryRequest;
 import com.contract.management.interfaces.rest.api.v1.dto.request.CreateClauseRequest;
 import com.contract.management.interfaces.rest.api.v1.dto.request.UpdateClauseRequest;
@@ -163,19 +165,28 @@ public class ClauseController {
 
     /**
      * 分页查询条款
+     * 页码分页时若带标题/内容关键词则按相关度排序；paging=cursor时按创建时间倒序游标分页，续页令牌与总数见响应头
      *
      * @param request 查询条件
      * @return 分页结果
      */
     @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
     @GetMapping("/search")
-    @Operation(summary = "分页查询条款", description = "根据条件分页查询条款")
+    @Operation(summary = "分页查询条款", description = "根据条件分页查询条款，支持游标分页")
     public ResponseEntity<Page<ClauseResponse>> searchClauses(
             @Valid @ModelAttribute ClauseQueryRequest request) {
 
         log.info("分页查询条款请求: {}", request);
 
         ClauseQueryDTO queryDTO = clauseRestConvertor.toApplicationDTO(request);
+        if (CursorPaging.isCursorMode(request.getPaging())) {
+            KeysetPage<ClauseResponse> page = clauseApplicationService.findByCursor(queryDTO)
+                    .map(clauseRestConvertor::toResponse);
+            log.info("游标分页查询条款成功，数量: {}, 是否有下一页: {}", page.getContent().size(), page.hasNext());
+            return ResponseEntity.ok()
+                    .headers(CursorPaging.headers(page))
+                    .body(CursorPaging.toPage(page, request.getSize()));
+        }
         Page<ClauseDTO> clausePage = clauseApplicationService.findByFilters(queryDTO);
         Page<ClauseResponse> responsePage = clausePage.map(clauseRestConvertor::toResponse);
 
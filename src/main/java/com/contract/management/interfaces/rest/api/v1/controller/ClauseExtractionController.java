@@ -3,11 +3,13 @@ package com.contract.management.interfaces.rest.api.v1.controller;
 import com.contract.management.application.dto.ClauseDTO;
 import com.contract.management.application.service.ClauseApplicationService;
 import com.contract.management.application.service.ClauseExtractionApplicationService;
+import com.contract.management.domain.event.ClauseExtractionProgressEvent;
 import com.contract.management.domain.model.ClauseExtraction;
 import com.contract.management.domain.model.Contract;
 import com.contract.management.domain.model.ContractId;
 import com.contract.management.domain.repository.ClauseExtractionRepository;
 import com.contract.management.domain.repository.ContractRepository;
+import com.contract.management.infrastructure.messaging.ClauseExtractionProgressHub;
 import com.contract.management.interfaces.dto.ClauseExtractionStatusDTO;
 import com.contract.management.interfaces.dto.TriggerClauseExtractionResponse;
 import com.contract.management.interfaces.rest.api.v1.convertor.ComprehensiveClauseExtractionConvertor;
@@ -19,6 +21,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,6 +31,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -52,6 +57,7 @@ public class ClauseExtractionController {
     private final ComprehensiveClauseExtractionConvertor comprehensiveConvertor;
     private final ObjectMapper objectMapper;
     private final ClauseApplicationService clauseApplicationService;
+    private final ClauseExtractionProgressHub progressHub;
 
     /**
      * 根据抽取ID查询条款抽取状态
@@ -100,6 +106,50 @@ public class ClauseExtractionController {
     }
 
 
+    /**
+     * 订阅条款抽取进度
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
+    @GetMapping(value = "/{extractionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "订阅条款抽取进度",
+        description = "SSE推送条款抽取进度：首个status事件为当前状态，之后的progress事件为状态变更与分窗口抽取的条款数，任务进入终态后连接关闭")
+    public ResponseEntity<SseEmitter> subscribeExtractionProgress(
+            @Parameter(description = "抽取任务ID", required = true)
+            @PathVariable Long extractionId) {
+
+        log.info("订阅条款抽取进度: extractionId={}", extractionId);
+        return subscribe(clauseExtractionApplicationService.getProgressSnapshot(extractionId));
+    }
+
+    /**
+     * 根据合同ID订阅条款抽取进度
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
+    @GetMapping(value = "/contract/{contractId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "订阅合同条款抽取进度", description = "根据合同ID订阅该合同当前条款抽取任务的进度，事件格式同按任务ID订阅")
+    public ResponseEntity<SseEmitter> subscribeExtractionProgressByContractId(
+            @Parameter(description = "合同ID", required = true)
+            @PathVariable Long contractId) {
+
+        log.info("订阅合同条款抽取进度: contractId={}", contractId);
+        return subscribe(clauseExtractionApplicationService.getProgressSnapshotByContractId(contractId));
+    }
+
+    private ResponseEntity<SseEmitter> subscribe(Optional<ClauseExtractionProgressEvent> snapshot) {
+        if (snapshot.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // 登记连接后重新读取快照，期间到达的终态事件不会丢失
+        ClauseExtractionProgressEvent current = snapshot.get();
+        Long extractionId = current.getExtractionId();
+        SseEmitter emitter = progressHub.subscribe(extractionId, () ->
+            clauseExtractionApplicationService.getProgressSnapshot(extractionId).orElse(current));
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
     /**
      * 取消条款抽取任务
      */
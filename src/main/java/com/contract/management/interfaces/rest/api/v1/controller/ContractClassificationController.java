@@ -2,6 +2,8 @@ package com.contract.management.interfaces.rest.api.v1.controller;
 
 import com.contract.management.application.dto.ContractClassificationDTO;
 import com.contract.management.application.service.ContractClassificationApplicationService;
+import com.contract.management.application.service.ContractClassificationJobService;
+import com.contract.management.interfaces.dto.ClassificationJobStatusDTO;
 import com.contract.management.interfaces.rest.api.v1.dto.response.ContractClassificationResponse;
 import com.ruoyi.feign.annotation.RemotePreAuthorize;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,9 +20,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * 合同分类REST控制器
  * 提供合同分类相关的API接口
@@ -37,6 +43,7 @@ import jakarta.validation.constraints.Positive;
 public class ContractClassificationController {
 
     private final ContractClassificationApplicationService classificationApplicationService;
+    private final ContractClassificationJobService classificationJobService;
 
     /**
      * 通过合同ID获取合同分类信息
@@ -90,4 +97,64 @@ public class ContractClassificationController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 提交异步合同分类任务
+     *
+     * @param contractId 合同ID
+     * @return 任务状态（包含任务ID）
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
+    @PostMapping("/{contractId}/jobs")
+    @Operation(
+        summary = "提交合同分类任务",
+        description = "异步执行合同分类，立即返回任务ID，通过任务ID轮询分类结果"
+    )
+    public ResponseEntity<ClassificationJobStatusDTO> submitClassificationJob(
+            @Parameter(description = "合同ID", required = true, example = "1")
+            @PathVariable
+            @NotNull(message = "合同ID不能为空")
+            @Positive(message = "合同ID必须为正数")
+            Long contractId) {
+
+        log.info("收到异步合同分类请求，contractId: {}", contractId);
+
+        try {
+            ClassificationJobStatusDTO job = classificationJobService.submit(contractId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (RejectedExecutionException e) {
+            ClassificationJobStatusDTO rejected = ClassificationJobStatusDTO.builder()
+                .contractId(contractId)
+                .status(ClassificationJobStatusDTO.STATUS_REJECTED)
+                .statusDescription("分类任务队列已满，请稍后重试")
+                .build();
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(rejected);
+        }
+    }
+
+    /**
+     * 查询异步合同分类任务状态
+     *
+     * @param jobId 任务ID
+     * @return 任务状态
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
+    @GetMapping("/jobs/{jobId}")
+    @Operation(
+        summary = "查询合同分类任务状态",
+        description = "根据任务ID查询异步合同分类任务的状态和结果"
+    )
+    public ResponseEntity<ClassificationJobStatusDTO> getClassificationJob(
+            @Parameter(description = "任务ID", required = true)
+            @PathVariable
+            @NotBlank(message = "任务ID不能为空")
+            String jobId) {
+
+        Optional<ClassificationJobStatusDTO> job = classificationJobService.getJobStatus(jobId);
+        if (job.isEmpty()) {
+            log.warn("合同分类任务不存在或已过期: jobId={}", jobId);
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job.get());
+    }
+}
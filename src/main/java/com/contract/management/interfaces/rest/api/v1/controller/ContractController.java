@@ -4,7 +4,9 @@ import com.contract.common.constant.ContractType;
 import com.contract.management.application.dto.ContractDTO;
 import com.contract.management.application.dto.ContractQueryDTO;
 import com.contract.management.application.service.ContractApplicationService;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.interfaces.rest.api.v1.convertor.ContractRestConvertor;
+import com.contract.management.interfaces.rest.api.v1.dto.common.CursorPaging;
 import com.contract.management.interfaces.rest.api.v1.dto.request.ContractQueryRequest;
 import com.contract.management.interfaces.rest.api.v1.dto.request.CreateContractRequest;
 import com.contract.management.interfaces.rest.api.v1.dto.request.UpdateContractRequest;
@@ -15,6 +17,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +34,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Arrays;
@@ -152,20 +157,39 @@ public class ContractController {
     
     /**
      * 查询合同列表
+     * paging=cursor时按创建时间倒序游标分页，续页令牌与总数见响应头，否则返回全部匹配合同
      *
      * @param request 查询条件
+     * @param paging 分页方式
+     * @param cursor 续页令牌
+     * @param size 每页大小
+     * @param countMode 总数统计方式
      * @return 合同列表
      */
     @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
     @GetMapping("/list")
-    @Operation(summary = "查询合同列表", description = "根据条件查询合同列表")
+    @Operation(summary = "查询合同列表", description = "根据条件查询合同列表，支持游标分页")
     public ResponseEntity<List<ContractResponse>> queryContracts(
             @Parameter(description = "查询条件")
-            @ModelAttribute ContractQueryRequest request) {
+            @ModelAttribute ContractQueryRequest request,
+            @Parameter(description = "分页方式，cursor为游标分页", example = "cursor")
+            @RequestParam(required = false) String paging,
+            @Parameter(description = "续页令牌，取自上一页响应头X-Next-Cursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "每页大小", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+            @Parameter(description = "总数统计方式（EXACT/ESTIMATED/NONE），仅第一页统计", example = "NONE")
+            @RequestParam(required = false) String countMode) {
         
         log.info("查询合同列表，条件: {}", request);
         
         ContractQueryDTO queryDTO = contractRestConvertor.toApplicationQueryDTO(request);
+        if (CursorPaging.isCursorMode(paging)) {
+            KeysetPage<ContractDTO> page = contractApplicationService.findContracts(queryDTO, cursor, size, countMode);
+            return ResponseEntity.ok()
+                .headers(CursorPaging.headers(page))
+                .body(contractRestConvertor.toResponseList(page.getContent()));
+        }
         List<ContractDTO> contracts = contractApplicationService.queryContracts(queryDTO);
         List<ContractResponse> responses = contractRestConvertor.toResponseList(contracts);
         
@@ -3,6 +3,8 @@ package com.contract.management.interfaces.rest.api.v1.controller;
 import com.contract.management.application.dto.PromptDTO;
 import com.contract.management.application.dto.PromptQueryDTO;
 import com.contract.management.application.service.PromptApplicationService;
+import com.contract.management.domain.repository.KeysetPage;
+import com.contract.management.interfaces.rest.api.v1.dto.common.CursorPaging;
 import com.contract.management.interfaces.rest.api.v1.dto.request.CreatePromptRequest;
 import com.contract.management.interfaces.rest.api.v1.dto.request.PromptQueryRequest;
 import com.contract.management.interfaces.rest.api.v1.dto.request.UpdatePromptRequest;
@@ -202,6 +204,9 @@ public class PromptController {
      * @param request 查询条件
      * @param pageNum  页码
      * @param pageSize 每页大小
+     * @param paging   分页方式，cursor为游标分页
+     * @param cursor   续页令牌
+     * @param countMode 总数统计方式
      * @return 分页查询结果
      */
     @RemotePreAuthorize("@ss.hasRole('admin')")
@@ -212,12 +217,21 @@ public class PromptController {
             @Parameter(description = "页码", example = "1")
             @RequestParam(defaultValue = "1") Integer pageNum,
             @Parameter(description = "每页大小", example = "20")
-            @RequestParam(defaultValue = "20") Integer pageSize) {
+            @RequestParam(defaultValue = "20") Integer pageSize,
+            @Parameter(description = "分页方式，cursor为游标分页（忽略pageNum）", example = "cursor")
+            @RequestParam(required = false) String paging,
+            @Parameter(description = "续页令牌，取自上一页响应头X-Next-Cursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "总数统计方式（EXACT/ESTIMATED/NONE），仅第一页统计", example = "NONE")
+            @RequestParam(required = false) String countMode) {
 
         log.info("分页查询提示词模板，条件: {}, 页码: {}, 每页: {}", request, pageNum, pageSize);
 
         // 转换查询请求
         PromptQueryDTO queryDTO = convertToQueryDTO(request);
+        if (CursorPaging.isCursorMode(paging)) {
+            return cursorPage(queryDTO, cursor, pageSize, countMode);
+        }
 
         // 执行分页查询
         Page<PromptDTO> promptPage = promptApplicationService.findPrompts(queryDTO, pageNum, pageSize);
@@ -235,6 +249,9 @@ public class PromptController {
      * @param request 查询条件
      * @param pageNum  页码
      * @param pageSize 每页大小
+     * @param paging   分页方式，cursor为游标分页
+     * @param cursor   续页令牌
+     * @param countMode 总数统计方式
      * @return 分页查询结果
      */
     @RemotePreAuthorize("@ss.hasRole('admin')")
@@ -246,12 +263,21 @@ public class PromptController {
             @Parameter(description = "页码", example = "1")
             @RequestParam(defaultValue = "1") Integer pageNum,
             @Parameter(description = "每页大小", example = "20")
-            @RequestParam(defaultValue = "20") Integer pageSize) {
+            @RequestParam(defaultValue = "20") Integer pageSize,
+            @Parameter(description = "分页方式，cursor为游标分页（忽略pageNum）", example = "cursor")
+            @RequestParam(required = false) String paging,
+            @Parameter(description = "续页令牌，取自上一页响应头X-Next-Cursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "总数统计方式（EXACT/ESTIMATED/NONE），仅第一页统计", example = "NONE")
+            @RequestParam(required = false) String countMode) {
 
         log.info("分页查询提示词模板列表，条件: {}, 页码: {}, 每页: {}", request, pageNum, pageSize);
 
         // 转换查询请求
         PromptQueryDTO queryDTO = convertToQueryDTO(request);
+        if (CursorPaging.isCursorMode(paging)) {
+            return cursorPage(queryDTO, cursor, pageSize, countMode);
+        }
 
         // 执行分页查询
         Page<PromptDTO> promptPage = promptApplicationService.findPrompts(queryDTO, pageNum, pageSize);
@@ -362,6 +388,19 @@ public class PromptController {
         return response;
     }
 
+    /**
+     * 游标分页查询，续页令牌与总数通过响应头返回
+     */
+    private ResponseEntity<Page<PromptResponse>> cursorPage(PromptQueryDTO queryDTO, String cursor,
+                                                            int pageSize, String countMode) {
+        KeysetPage<PromptResponse> page = promptApplicationService.findPrompts(queryDTO, cursor, pageSize, countMode)
+            .map(this::convertToResponse);
+        log.info("游标分页查询到提示词模板数量: {}, 是否有下一页: {}", page.getContent().size(), page.hasNext());
+        return ResponseEntity.ok()
+            .headers(CursorPaging.headers(page))
+            .body(CursorPaging.toPage(page, pageSize));
+    }
+
     /**
      * REST查询请求转换为应用查询DTO
      */
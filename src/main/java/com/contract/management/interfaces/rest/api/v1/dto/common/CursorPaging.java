@@ -0,0 +1,65 @@
+package com.contract.management.interfaces.rest.api.v1.dto.common;
+
+import com.contract.management.domain.repository.KeysetPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 游标分页约定
+ * 请求携带paging=cursor时启用游标分页，响应体结构保持不变，续页令牌与总数通过响应头返回：
+ * X-Next-Cursor为下一页令牌（没有更多数据时不返回），X-Total-Count为总数（未统计时不返回），
+ * X-Total-Count-Exact标识总数是否精确
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+public final class CursorPaging {
+
+    /**
+     * 游标分页模式取值
+     */
+    public static final String MODE = "cursor";
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String TOTAL_COUNT_EXACT_HEADER = "X-Total-Count-Exact";
+
+    private CursorPaging() {
+    }
+
+    /**
+     * 是否为游标分页请求
+     */
+    public static boolean isCursorMode(String paging) {
+        return MODE.equalsIgnoreCase(paging);
+    }
+
+    /**
+     * 构建游标分页响应头
+     */
+    public static HttpHeaders headers(KeysetPage<?> page) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page.hasNext()) {
+            headers.set(NEXT_CURSOR_HEADER, page.getNextToken());
+        }
+        if (page.getTotal() != null) {
+            headers.set(TOTAL_COUNT_HEADER, String.valueOf(page.getTotal()));
+            headers.set(TOTAL_COUNT_EXACT_HEADER, String.valueOf(page.isTotalExact()));
+        }
+        return headers;
+    }
+
+    /**
+     * 转换为Spring Data分页对象，供返回Page结构的接口复用
+     * 页码固定为第一页；未统计总数时totalElements为当前页记录数
+     *
+     * @param page 游标分页结果
+     * @param size 每页大小
+     */
+    public static <T> Page<T> toPage(KeysetPage<T> page, int size) {
+        long total = page.getTotal() != null ? page.getTotal() : page.getContent().size();
+        return new PageImpl<>(page.getContent(), PageRequest.of(0, size), total);
+    }
+}
@@ -82,4 +82,13 @@ public class ClauseQueryRequest {
 
     @Schema(description = "排序方向（ASC/DESC）", example = "DESC")
     private String direction = "DESC";
+
+    @Schema(description = "分页方式，cursor为游标分页（按创建时间倒序，忽略page/sort/direction），默认页码分页", example = "cursor")
+    private String paging;
+
+    @Schema(description = "游标分页续页令牌，取自上一页响应头X-Next-Cursor，为空时查询第一页")
+    private String cursor;
+
+    @Schema(description = "游标分页总数统计方式（EXACT/ESTIMATED/NONE），仅第一页统计", example = "NONE")
+    private String countMode;
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+-- ============================================================================
+-- V10.1: Operation Log Monthly Partitions
+-- 操作日志按月范围分区：过期日志按整个分区DETACH后DROP，不再逐行DELETE，
+-- 避免长时间锁表、WAL膨胀和VACUUM压力；按时间范围的查询只扫描命中的分区。
+-- 原表不复制数据，整体作为历史分区(operation_log_history)挂到新分区表上，
+-- 覆盖迁移当月及之前的全部日志，待其中日志全部过期后整体删除。
+-- 需要扫描或重建的步骤已在V10中以不阻塞读写的方式完成，本迁移只做目录变更：
+-- SET NOT NULL由已校验的非空约束证明、主键直接使用已建好的唯一索引、ATTACH PARTITION由已校验的
+-- 范围约束证明，ACCESS EXCLUSIVE锁持有时间与数据量无关。
+-- 后续月份分区由OperationLogPartitionManager提前创建，分区管理落后时日志写入默认分区
+-- ============================================================================
+
+ALTER TABLE operation_log RENAME TO operation_log_history;
+ALTER INDEX idx_operation_log_user_id RENAME TO idx_operation_log_history_user_id;
+ALTER INDEX idx_operation_log_resource RENAME TO idx_operation_log_history_resource;
+ALTER INDEX idx_operation_log_created_time RENAME TO idx_operation_log_history_created_time;
+ALTER INDEX idx_operation_log_operation_type RENAME TO idx_operation_log_history_operation_type;
+ALTER INDEX idx_operation_log_user_type RENAME TO idx_operation_log_history_user_type;
+ALTER INDEX idx_operation_log_resource_created RENAME TO idx_operation_log_history_resource_created;
+
+-- 分区键必须非空且包含在主键中；分区表的ID改用独立序列
+ALTER TABLE operation_log_history ALTER COLUMN created_time SET NOT NULL;
+ALTER TABLE operation_log_history DROP CONSTRAINT operation_log_created_time_not_null;
+ALTER TABLE operation_log_history ALTER COLUMN created_time DROP DEFAULT;
+ALTER TABLE operation_log_history ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE operation_log_history DROP CONSTRAINT operation_log_pkey;
+ALTER TABLE operation_log_history ADD CONSTRAINT operation_log_history_pkey
+    PRIMARY KEY USING INDEX operation_log_id_created_time_key;
+
+CREATE SEQUENCE IF NOT EXISTS operation_log_id_seq;
+
+CREATE TABLE operation_log (
+    id BIGINT NOT NULL DEFAULT nextval('operation_log_id_seq'),
+    operation_type VARCHAR(50) NOT NULL,
+    resource_type VARCHAR(50) NOT NULL,
+    resource_id BIGINT,
+    operation_details JSONB,
+    user_id BIGINT NOT NULL,
+    ip_address VARCHAR(45),
+    user_agent TEXT,
+    execution_time_ms BIGINT,
+    created_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_time)
+) PARTITION BY RANGE (created_time);
+
+ALTER SEQUENCE operation_log_id_seq OWNED BY operation_log.id;
+
+DO $$
+DECLARE
+    history_end TIMESTAMP;
+    month_start DATE;
+BEGIN
+    -- 历史分区上界取V10中已校验的范围约束，ATTACH时由约束证明，不再持锁扫描历史数据
+    SELECT substring(pg_get_constraintdef(oid) FROM '''([^'']+)''')::timestamp
+      INTO history_end
+      FROM pg_constraint
+     WHERE conrelid = 'operation_log_history'::regclass
+       AND conname = 'operation_log_history_range';
+
+    PERFORM setval('operation_log_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM operation_log_history), false);
+
+    EXECUTE format('ALTER TABLE operation_log ATTACH PARTITION operation_log_history '
+                   'FOR VALUES FROM (MINVALUE) TO (%L)', history_end);
+    ALTER TABLE operation_log_history DROP CONSTRAINT operation_log_history_range;
+
+    -- 预建之后三个月的分区
+    FOR i IN 0..2 LOOP
+        month_start := (history_end + make_interval(months => i))::date;
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF operation_log FOR VALUES FROM (%L) TO (%L)',
+                       'operation_log_p' || to_char(month_start, 'YYYYMM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+-- 默认分区兜底：分区管理未及时预建时日志仍可写入，之后由分区管理器迁入对应的月度分区
+CREATE TABLE IF NOT EXISTS operation_log_default PARTITION OF operation_log DEFAULT;
+
+-- 分区表上的索引自动作用于所有分区，历史分区上的同构索引直接挂接，不会重建
+CREATE INDEX idx_operation_log_user_id ON operation_log(user_id);
+CREATE INDEX idx_operation_log_resource ON operation_log(resource_type, resource_id);
+CREATE INDEX idx_operation_log_created_time ON operation_log(created_time);
+CREATE INDEX idx_operation_log_operation_type ON operation_log(operation_type);
+CREATE INDEX idx_operation_log_user_type ON operation_log(user_id, operation_type);
+CREATE INDEX idx_operation_log_resource_created ON operation_log(resource_type, resource_id, created_time DESC);
+
+COMMENT ON TABLE operation_log IS '操作日志表，按created_time月度范围分区';
+COMMENT ON COLUMN operation_log.id IS '日志ID';
+COMMENT ON COLUMN operation_log.operation_type IS '操作类型';
+COMMENT ON COLUMN operation_log.resource_type IS '资源类型';
+COMMENT ON COLUMN operation_log.resource_id IS '资源ID';
+COMMENT ON COLUMN operation_log.operation_details IS '操作详情，JSON格式';
+COMMENT ON COLUMN operation_log.user_id IS '用户ID';
+COMMENT ON COLUMN operation_log.ip_address IS 'IP地址';
+COMMENT ON COLUMN operation_log.user_agent IS '用户代理';
+COMMENT ON COLUMN operation_log.execution_time_ms IS '执行时间(毫秒)';
+COMMENT ON COLUMN operation_log.created_time IS '创建时间，分区键';
+COMMENT ON TABLE operation_log_history IS '操作日志历史分区，包含分区改造前的全部日志';
+COMMENT ON TABLE operation_log_default IS '操作日志默认分区，存放未预建月度分区时写入的日志';
@@ -0,0 +1,51 @@
+-- ============================================================================
+-- V10: Operation Log Partition Prepare
+-- 分区改造的准备步骤，包含CREATE INDEX CONCURRENTLY，整个迁移不在事务中执行，
+-- 每条语句单独提交，只持有不阻塞读写的锁：
+--   1. 回填created_time为空的日志（走created_time索引，只锁定这些行）；
+--   2. 并发创建(id, created_time)唯一索引，V10.1直接用它替换主键，不再重建；
+--   3. 添加并校验created_time非空约束与历史范围约束，V10.1中SET NOT NULL和ATTACH PARTITION
+--      据此跳过全表扫描，ACCESS EXCLUSIVE锁只持有到目录变更完成。
+-- 语句均可重复执行，中途失败后重新迁移即可
+-- ============================================================================
+
+UPDATE operation_log SET created_time = CURRENT_TIMESTAMP WHERE created_time IS NULL;
+
+-- 上次并发建索引失败会留下无效索引，先删除再重建
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_index WHERE indexrelid = to_regclass('operation_log_id_created_time_key')
+                                        AND NOT indisvalid) THEN
+        DROP INDEX operation_log_id_created_time_key;
+    END IF;
+END $$;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS operation_log_id_created_time_key
+    ON operation_log (id, created_time);
+
+DO $$
+DECLARE
+    history_end DATE;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'operation_log'::regclass
+                                                 AND conname = 'operation_log_created_time_not_null') THEN
+        ALTER TABLE operation_log ADD CONSTRAINT operation_log_created_time_not_null
+            CHECK (created_time IS NOT NULL) NOT VALID;
+    END IF;
+
+    -- 历史分区上界：已有日志所在的最后一个月（至少到当月）的下个月，V10.1直接取本约束的上界挂接分区
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'operation_log'::regclass
+                                                 AND conname = 'operation_log_history_range') THEN
+        SELECT GREATEST(date_trunc('month', CURRENT_DATE),
+                        COALESCE(date_trunc('month', MAX(created_time)), date_trunc('month', CURRENT_DATE)))
+                   + INTERVAL '1 month'
+          INTO history_end
+          FROM operation_log;
+        EXECUTE format('ALTER TABLE operation_log ADD CONSTRAINT operation_log_history_range '
+                       'CHECK (created_time < %L) NOT VALID', history_end);
+    END IF;
+END $$;
+
+-- VALIDATE只持有SHARE UPDATE EXCLUSIVE锁，扫描期间不阻塞读写
+ALTER TABLE operation_log VALIDATE CONSTRAINT operation_log_created_time_not_null;
+ALTER TABLE operation_log VALIDATE CONSTRAINT operation_log_history_range;
@@ -0,0 +1,34 @@
+-- ============================================================================
+-- V11: Operation Log Extraction Columns
+-- 按抽取ID查询操作日志原先过滤 operation_details->'parameters'->>'extractionId'，
+-- 没有索引可用，每次查询全表扫描。将 extractionId、contractId 提升为普通列，
+-- 新日志在写入时填充，已有日志由 OperationLogBackfillJob 在线分批回填。
+-- 分区表上只创建父索引(ON ONLY)，之后新建的分区自动带上索引；已有分区的索引由回填任务
+-- 以 CREATE INDEX CONCURRENTLY 逐个创建后挂接，全部挂接后父索引生效，迁移期间不阻塞写入
+-- ============================================================================
+
+ALTER TABLE operation_log ADD COLUMN IF NOT EXISTS extraction_id BIGINT;
+ALTER TABLE operation_log ADD COLUMN IF NOT EXISTS contract_id BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_operation_log_extraction_id ON ONLY operation_log(extraction_id, created_time)
+WHERE extraction_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_operation_log_contract_id ON ONLY operation_log(contract_id, created_time)
+WHERE contract_id IS NOT NULL;
+
+COMMENT ON COLUMN operation_log.extraction_id IS '条款抽取ID，取自operation_details.parameters.extractionId';
+COMMENT ON COLUMN operation_log.contract_id IS '合同ID，取自operation_details.parameters.contractId';
+
+-- 回填进度，多个节点通过last_id乐观推进，重启后从断点继续
+CREATE TABLE IF NOT EXISTS operation_log_backfill (
+    name VARCHAR(64) PRIMARY KEY,
+    last_id BIGINT NOT NULL DEFAULT 0,
+    completed_time TIMESTAMP,
+    updated_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO operation_log_backfill(name) VALUES ('extraction_columns') ON CONFLICT (name) DO NOTHING;
+
+COMMENT ON TABLE operation_log_backfill IS '操作日志在线回填进度';
+COMMENT ON COLUMN operation_log_backfill.name IS '回填任务名称';
+COMMENT ON COLUMN operation_log_backfill.last_id IS '已回填到的日志ID';
+COMMENT ON COLUMN operation_log_backfill.completed_time IS '回填及分区索引创建完成时间';
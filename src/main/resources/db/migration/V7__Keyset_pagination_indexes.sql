@@ -0,0 +1,28 @@
+-- ============================================================================
+-- V7: Keyset Pagination Indexes
+-- 游标分页索引：列表按(created_time DESC, id DESC)排序，
+-- 通过(created_time, id) < (?, ?)定位续页起点，深分页无需扫描并丢弃OFFSET行
+-- 索引以CREATE INDEX CONCURRENTLY创建，建索引期间不阻塞表的写入；
+-- 整个迁移不在事务中执行，中途失败后重新迁移即可
+-- ============================================================================
+
+-- 上次并发建索引失败会留下无效索引，先删除再重建
+DO $$
+DECLARE
+    index_name TEXT;
+BEGIN
+    FOREACH index_name IN ARRAY ARRAY['idx_contract_keyset', 'idx_clause_keyset', 'idx_prompt_keyset'] LOOP
+        IF EXISTS (SELECT 1 FROM pg_index WHERE indexrelid = to_regclass(index_name) AND NOT indisvalid) THEN
+            EXECUTE format('DROP INDEX %I', index_name);
+        END IF;
+    END LOOP;
+END $$;
+
+-- 合同列表只查询未删除记录，使用部分索引
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contract_keyset ON contract(created_time DESC, id DESC) WHERE is_deleted = false;
+
+-- 条款列表
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clause_keyset ON clause(created_time DESC, id DESC) WHERE is_deleted = false;
+
+-- 提示词模板列表
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_prompt_keyset ON prompt(created_time DESC, id DESC);
@@ -0,0 +1,35 @@
+-- ============================================================================
+-- V8: Keyword Search Trigram Indexes
+-- 关键词检索索引：条款与合同的关键词查询使用 LIKE/ILIKE '%关键词%'，
+-- B-Tree无法支持前置通配符，改用pg_trgm三元组GIN索引加速，并用word_similarity对结果排序。
+-- PostgreSQL内置的文本检索配置不支持中文分词（需zhparser等扩展），三元组按字符切分，
+-- 中英文混排均可命中；关键词不少于3个字符时索引才能有效过滤。
+-- 索引以CREATE INDEX CONCURRENTLY创建，建索引期间不阻塞表的写入；
+-- 整个迁移不在事务中执行，中途失败后重新迁移即可
+-- ============================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 上次并发建索引失败会留下无效索引，先删除再重建
+DO $$
+DECLARE
+    index_name TEXT;
+BEGIN
+    FOREACH index_name IN ARRAY ARRAY['idx_clause_title_trgm', 'idx_clause_content_trgm', 'idx_contract_name_trgm',
+                                      'idx_contract_party_a_name_trgm', 'idx_contract_party_b_name_trgm',
+                                      'idx_contract_description_trgm'] LOOP
+        IF EXISTS (SELECT 1 FROM pg_index WHERE indexrelid = to_regclass(index_name) AND NOT indisvalid) THEN
+            EXECUTE format('DROP INDEX %I', index_name);
+        END IF;
+    END LOOP;
+END $$;
+
+-- 条款标题与内容（条款检索只查询未删除记录）
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clause_title_trgm ON clause USING GIN (clause_title gin_trgm_ops) WHERE is_deleted = false;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clause_content_trgm ON clause USING GIN (clause_content gin_trgm_ops) WHERE is_deleted = false;
+
+-- 合同名称、双方名称与描述
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contract_name_trgm ON contract USING GIN (contract_name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contract_party_a_name_trgm ON contract USING GIN (party_a_name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contract_party_b_name_trgm ON contract USING GIN (party_b_name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contract_description_trgm ON contract USING GIN (description gin_trgm_ops);
@@ -0,0 +1,22 @@
+-- ============================================================================
+-- V9: Clause Extraction Job Lease
+-- 条款抽取任务持久化队列：clause_extractions 表即任务队列，工作节点通过
+-- SELECT ... FOR UPDATE SKIP LOCKED 领取任务并写入租约，处理期间定时续约；
+-- 节点宕机后租约过期，任务由其他节点重新领取，不再依赖进程内线程池队列
+-- ============================================================================
+
+ALTER TABLE clause_extractions ADD COLUMN IF NOT EXISTS file_uuid VARCHAR(64);
+ALTER TABLE clause_extractions ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(128);
+ALTER TABLE clause_extractions ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP;
+ALTER TABLE clause_extractions ADD COLUMN IF NOT EXISTS heartbeat_at TIMESTAMP;
+ALTER TABLE clause_extractions ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
+
+-- 待领取任务：等待中或租约已过期的处理中任务
+CREATE INDEX IF NOT EXISTS idx_clause_extraction_claimable ON clause_extractions(status, lease_expires_at, id)
+WHERE is_deleted = FALSE AND status IN ('PENDING', 'PROCESSING');
+
+COMMENT ON COLUMN clause_extractions.file_uuid IS '待抽取文件UUID，任务领取后据此下载文件';
+COMMENT ON COLUMN clause_extractions.lease_owner IS '当前持有租约的工作节点标识';
+COMMENT ON COLUMN clause_extractions.lease_expires_at IS '租约到期时间，过期后任务可被其他节点重新领取';
+COMMENT ON COLUMN clause_extractions.heartbeat_at IS '最近一次心跳续约时间';
+COMMENT ON COLUMN clause_extractions.attempts IS '已领取次数，超过上限的任务标记为失败';
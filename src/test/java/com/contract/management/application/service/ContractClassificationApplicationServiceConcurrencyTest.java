@@ -0,0 +1,212 @@
+package com.contract.management.application.service;
+
+import com.contract.common.constant.ContractType;
+import com.contract.management.application.dto.ContractClassificationDTO;
+import com.contract.management.domain.model.Contract;
+import com.contract.management.domain.model.ContractId;
+import com.contract.management.domain.repository.ClassificationRepository;
+import com.contract.management.domain.service.ContractClassificationService;
+import com.contract.management.domain.service.ContractDomainService;
+import com.contract.management.infrastructure.dto.ContractClassificationResult;
+import com.contract.management.infrastructure.service.AIModelService;
+import com.contract.management.infrastructure.service.FileProcessingService;
+import com.contract.management.infrastructure.service.KeywordContractClassifier;
+import com.contract.management.infrastructure.service.TieredContractClassifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 合同分类应用服务并发测试
+ * 验证AI调用阶段不持有事务（数据库连接）
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@SpringJUnitConfig(ContractClassificationApplicationServiceConcurrencyTest.TestConfig.class)
+@DisplayName("合同分类应用服务并发测试")
+class ContractClassificationApplicationServiceConcurrencyTest {
+
+    private static final int IN_FLIGHT = 50;
+
+    private static final CountDownLatch AI_ENTERED = new CountDownLatch(IN_FLIGHT);
+    private static final CountDownLatch AI_RELEASE = new CountDownLatch(1);
+
+    @Autowired
+    private ContractClassificationApplicationService service;
+
+    @Autowired
+    private CountingTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("50个分类请求同时处于AI阶段时不占用事务")
+    void classifyContract_doesNotHoldTransactionDuringAiCall() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(IN_FLIGHT);
+        try {
+            List<Future<ContractClassificationDTO>> futures = new ArrayList<>();
+            for (long i = 1; i <= IN_FLIGHT; i++) {
+                long contractId = i;
+                futures.add(pool.submit(() -> service.classifyContract(contractId)));
+            }
+
+            // 全部请求都阻塞在AI调用中
+            assertTrue(AI_ENTERED.await(10, TimeUnit.SECONDS), "分类请求未全部进入AI阶段");
+            assertEquals(0, transactionManager.getActive(), "AI阶段不应持有事务");
+            assertEquals(IN_FLIGHT, transactionManager.getBegun(), "每个请求只应完成一次读事务");
+
+            AI_RELEASE.countDown();
+            for (Future<ContractClassificationDTO> future : futures) {
+                assertTrue(future.get(10, TimeUnit.SECONDS).getSuccess());
+            }
+
+            assertEquals(0, transactionManager.getActive());
+            assertEquals(IN_FLIGHT * 2, transactionManager.getBegun(), "每个请求应包含一次读事务和一次写事务");
+        } finally {
+            AI_RELEASE.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TestConfig {
+
+        @Bean
+        CountingTransactionManager transactionManager() {
+            return new CountingTransactionManager();
+        }
+
+        @Bean
+        ContractDomainService contractDomainService() {
+            ContractDomainService contractDomainService = mock(ContractDomainService.class);
+            for (long i = 1; i <= IN_FLIGHT; i++) {
+                Contract contract = mock(Contract.class);
+                when(contract.getId()).thenReturn(ContractId.of(i));
+                when(contractDomainService.findById(ContractId.of(i))).thenReturn(Optional.of(contract));
+            }
+            return contractDomainService;
+        }
+
+        @Bean
+        ClassificationRepository classificationRepository() {
+            ClassificationRepository classificationRepository = mock(ClassificationRepository.class);
+            when(classificationRepository.findActiveByContractId(any())).thenReturn(Optional.empty());
+            return classificationRepository;
+        }
+
+        @Bean
+        ContractClassificationService contractClassificationService() {
+            ContractClassificationService contractClassificationService = mock(ContractClassificationService.class);
+            when(contractClassificationService.classifyContract(any())).thenAnswer(invocation ->
+                new ContractClassificationService.ContractClassificationResult(
+                    invocation.getArgument(0), "uuid", "txt", new byte[0], "合同正文"));
+            return contractClassificationService;
+        }
+
+        @Bean
+        AIModelService aiModelService() {
+            AIModelService aiModelService = mock(AIModelService.class);
+            when(aiModelService.classifyByText(anyString())).thenAnswer(invocation -> {
+                AI_ENTERED.countDown();
+                AI_RELEASE.await(10, TimeUnit.SECONDS);
+                return ContractClassificationResult.builder()
+                    .contractType(ContractType.OTHER)
+                    .confidence(0.9)
+                    .success(true)
+                    .build();
+            });
+            return aiModelService;
+        }
+
+        @Bean
+        FileProcessingService fileProcessingService() {
+            return mock(FileProcessingService.class);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return mock(CacheManager.class);
+        }
+
+        @Bean
+        ContractClassificationPersistenceService contractClassificationPersistenceService(
+                ContractDomainService contractDomainService, ClassificationRepository classificationRepository) {
+            return new ContractClassificationPersistenceService(contractDomainService, classificationRepository);
+        }
+
+        @Bean
+        TieredContractClassifier tieredContractClassifier(AIModelService aiModelService,
+                                                          FileProcessingService fileProcessingService) {
+            return new TieredContractClassifier(aiModelService, fileProcessingService,
+                new KeywordContractClassifier(), new SimpleMeterRegistry());
+        }
+
+        @Bean
+        ContractClassificationApplicationService contractClassificationApplicationService(
+                ContractClassificationService contractClassificationService, AIModelService aiModelService,
+                ContractClassificationPersistenceService contractClassificationPersistenceService,
+                CacheManager cacheManager, TieredContractClassifier tieredContractClassifier) {
+            return new ContractClassificationApplicationService(contractClassificationService, aiModelService,
+                contractClassificationPersistenceService, cacheManager, tieredContractClassifier);
+        }
+    }
+
+    /**
+     * 统计活跃事务数量的事务管理器，活跃事务数即占用的数据库连接数
+     */
+    static class CountingTransactionManager implements PlatformTransactionManager {
+
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger begun = new AtomicInteger();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            active.incrementAndGet();
+            begun.incrementAndGet();
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            active.decrementAndGet();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            active.decrementAndGet();
+        }
+
+        int getActive() {
+            return active.get();
+        }
+
+        int getBegun() {
+            return begun.get();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.contract.management.application.service;
+
+import com.contract.common.constant.ContractType;
+import com.contract.management.application.dto.ContractClassificationDTO;
+import com.contract.management.domain.model.Contract;
+import com.contract.management.domain.model.ContractId;
+import com.contract.management.domain.service.ContractClassificationService;
+import com.contract.management.infrastructure.dto.ContractClassificationResult;
+import com.contract.management.infrastructure.service.AIModelService;
+import com.contract.management.infrastructure.service.TieredContractClassifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 合同分类应用服务测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("合同分类应用服务测试")
+class ContractClassificationApplicationServiceTest {
+
+    private static final Long CONTRACT_ID = 1L;
+
+    private ContractClassificationPersistenceService persistenceService;
+    private Cache cache;
+    private ContractClassificationApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        ContractClassificationService contractClassificationService = mock(ContractClassificationService.class);
+        when(contractClassificationService.classifyContract(any())).thenReturn(
+            new ContractClassificationService.ContractClassificationResult(
+                ContractId.of(CONTRACT_ID), "uuid", "txt", new byte[0], "合同正文"));
+
+        TieredContractClassifier tieredContractClassifier = mock(TieredContractClassifier.class);
+        when(tieredContractClassifier.classifyText(anyString())).thenReturn(ContractClassificationResult.builder()
+            .contractType(ContractType.SALES)
+            .confidence(0.9)
+            .classificationMethod("AI")
+            .success(true)
+            .build());
+
+        persistenceService = mock(ContractClassificationPersistenceService.class);
+        when(persistenceService.loadSnapshot(CONTRACT_ID)).thenReturn(
+            new ContractClassificationPersistenceService.ClassificationSnapshot(mock(Contract.class), null));
+
+        cache = mock(Cache.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache("classification")).thenReturn(cache);
+
+        service = new ContractClassificationApplicationService(contractClassificationService,
+            mock(AIModelService.class), persistenceService, cacheManager, tieredContractClassifier);
+    }
+
+    @Test
+    @DisplayName("分类结果写入成功时返回成功结果")
+    void classifyContract_succeedsWhenPersisted() {
+        ContractClassificationDTO result = service.classifyContract(CONTRACT_ID);
+
+        assertTrue(result.getSuccess());
+        assertEquals(ContractType.SALES, result.getContractType());
+        verify(persistenceService).saveClassification(any(), eq(1L));
+        verify(cache).evict("contract-classification:" + CONTRACT_ID);
+    }
+
+    @Test
+    @DisplayName("分类结果写入失败时返回失败结果而不是报告成功")
+    void classifyContract_reportsPersistenceFailure() {
+        doThrow(new DataAccessResourceFailureException("更新合同失败"))
+            .when(persistenceService).saveClassification(any(), anyLong());
+
+        ContractClassificationDTO result = service.classifyContract(CONTRACT_ID);
+
+        assertFalse(result.getSuccess());
+        assertEquals("更新合同失败", result.getErrorMessage());
+        assertEquals(ContractClassificationDTO.FileProcessingStatus.FAILED, result.getFileProcessingStatus());
+        verify(cache, never()).evict(any());
+    }
+}
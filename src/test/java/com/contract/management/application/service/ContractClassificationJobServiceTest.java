@@ -0,0 +1,64 @@
+package com.contract.management.application.service;
+
+import com.contract.management.application.dto.ContractClassificationDTO;
+import com.contract.management.domain.model.valueobject.ExtractionStatus;
+import com.contract.management.infrastructure.messaging.ContractEventPublisher;
+import com.contract.management.interfaces.dto.ClassificationJobStatusDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 合同分类任务应用服务测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("合同分类任务应用服务测试")
+class ContractClassificationJobServiceTest {
+
+    private ContractClassificationApplicationService classificationApplicationService;
+    private List<Runnable> submitted;
+    private ContractClassificationJobService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        classificationApplicationService = mock(ContractClassificationApplicationService.class);
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        submitted = new ArrayList<>();
+
+        service = new ContractClassificationJobService(classificationApplicationService,
+            mock(ContractEventPublisher.class), stringRedisTemplate,
+            new ObjectMapper().registerModule(new JavaTimeModule()), submitted::add);
+        ReflectionTestUtils.setField(service, "jobTtlSeconds", 3600L);
+    }
+
+    @Test
+    @DisplayName("提交返回的任务状态不受执行线程修改")
+    void submit_returnsSnapshotNotMutatedByRunner() {
+        when(classificationApplicationService.classifyContract(1L)).thenReturn(
+            ContractClassificationDTO.builder().contractId(1L).success(true).build());
+
+        ClassificationJobStatusDTO job = service.submit(1L);
+        submitted.get(0).run();
+
+        assertEquals(ExtractionStatus.PENDING.name(), job.getStatus());
+        assertNull(job.getResult());
+        assertNull(job.getFinishedTime());
+        verify(classificationApplicationService).classifyContract(1L);
+    }
+}
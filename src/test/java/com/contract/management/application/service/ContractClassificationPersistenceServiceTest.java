@@ -0,0 +1,93 @@
+package com.contract.management.application.service;
+
+import com.contract.common.constant.ContractType;
+import com.contract.management.domain.model.ClassificationResult;
+import com.contract.management.domain.model.Contract;
+import com.contract.management.domain.model.ContractId;
+import com.contract.management.domain.repository.ClassificationRepository;
+import com.contract.management.domain.service.ContractDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 合同分类持久化服务测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("合同分类持久化服务测试")
+class ContractClassificationPersistenceServiceTest {
+
+    private static final ContractId CONTRACT_ID = ContractId.of(1L);
+
+    private ContractDomainService contractDomainService;
+    private ClassificationRepository classificationRepository;
+    private ContractClassificationPersistenceService service;
+
+    @BeforeEach
+    void setUp() {
+        contractDomainService = mock(ContractDomainService.class);
+        classificationRepository = mock(ClassificationRepository.class);
+        service = new ContractClassificationPersistenceService(contractDomainService, classificationRepository);
+    }
+
+    private static ClassificationResult classification() {
+        ClassificationResult result = mock(ClassificationResult.class);
+        when(result.getContractId()).thenReturn(CONTRACT_ID);
+        when(result.getContractType()).thenReturn(ContractType.SALES);
+        return result;
+    }
+
+    @Test
+    @DisplayName("分类期间合同被修改时，写入阶段基于最新版本更新合同类型")
+    void saveClassification_appliesToContractModifiedDuringClassification() {
+        Contract snapshot = mock(Contract.class);
+        Contract edited = mock(Contract.class);
+        when(contractDomainService.findById(CONTRACT_ID)).thenReturn(Optional.of(snapshot));
+
+        // 读取阶段拿到的是旧版本
+        Contract loaded = service.loadSnapshot(CONTRACT_ID.getValue()).getContract();
+        assertSame(snapshot, loaded);
+
+        // AI调用期间合同被其他请求编辑，数据库中已是新版本
+        when(contractDomainService.findById(CONTRACT_ID)).thenReturn(Optional.of(edited));
+        ClassificationResult classification = classification();
+
+        service.saveClassification(classification, 1L);
+
+        verify(edited).setContractType(ContractType.SALES);
+        verify(contractDomainService).updateContract(edited);
+        verify(contractDomainService, never()).updateContract(snapshot);
+        verify(classificationRepository).deactivateByContractId(CONTRACT_ID, 1L);
+        verify(classificationRepository).save(classification);
+    }
+
+    @Test
+    @DisplayName("同步合同类型时重新加载合同")
+    void syncContractType_reloadsContract() {
+        Contract current = mock(Contract.class);
+        when(contractDomainService.findById(CONTRACT_ID)).thenReturn(Optional.of(current));
+
+        service.syncContractType(CONTRACT_ID, ContractType.PURCHASE);
+
+        verify(current).setContractType(ContractType.PURCHASE);
+        verify(contractDomainService).updateContract(current);
+    }
+
+    @Test
+    @DisplayName("合同已被删除时不保存分类结果")
+    void saveClassification_failsWhenContractMissing() {
+        when(contractDomainService.findById(CONTRACT_ID)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> service.saveClassification(classification(), 1L));
+
+        verify(classificationRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,181 @@
+package com.contract.management.benchmark;
+
+import com.contract.common.constant.ContractType;
+import com.contract.management.application.dto.ContractClassificationDTO;
+import com.contract.management.application.dto.ContractDTO;
+import com.contract.management.application.dto.ContractPageCacheEntry;
+import com.contract.management.infrastructure.cache.CompactCacheSerializer;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis缓存值序列化基准测试
+ * 对比原默认类型JSON、紧凑二进制、紧凑二进制+LZ4压缩三种编码在合同详情、20条合同分页和分类结果上的
+ * 序列化/反序列化耗时（纳秒/次）；每个值编码后的字节数在运行前打印
+ * 运行方式：mvn test-compile 后执行本类main方法
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    private static final String[] VALUES = {"detail", "page", "classification"};
+    private static final String[] CODECS = {"json", "compact", "compact-lz4"};
+
+    @State(Scope.Benchmark)
+    public static class CodecState {
+
+        @Param({"detail", "page", "classification"})
+        String value;
+
+        @Param({"json", "compact", "compact-lz4"})
+        String codec;
+
+        RedisSerializer<Object> serializer;
+        Object object;
+        byte[] bytes;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            serializer = createSerializer(codec);
+            object = createValue(value);
+            bytes = serializer.serialize(object);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize(CodecState state) {
+        return state.serializer.serialize(state.object);
+    }
+
+    @Benchmark
+    public Object deserialize(CodecState state) {
+        return state.serializer.deserialize(state.bytes);
+    }
+
+    /**
+     * 原CacheConfiguration中带默认类型信息的JSON序列化器
+     */
+    private static RedisSerializer<Object> jsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+            ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        objectMapper.registerModule(new JavaTimeModule());
+        Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(Object.class);
+        serializer.setObjectMapper(objectMapper);
+        return serializer;
+    }
+
+    private static RedisSerializer<Object> createSerializer(String codec) {
+        if ("json".equals(codec)) {
+            return jsonSerializer();
+        }
+        return new CompactCacheSerializer(null, "compact-lz4".equals(codec) ? 256 : 0)
+            .register(10, ContractDTO.class)
+            .register(11, ContractPageCacheEntry.class)
+            .register(12, ContractClassificationDTO.class);
+    }
+
+    private static Object createValue(String value) {
+        return switch (value) {
+            case "detail" -> createContract(1L);
+            case "page" -> {
+                List<ContractDTO> content = new ArrayList<>();
+                for (long i = 0; i < 20; i++) {
+                    content.add(createContract(i));
+                }
+                yield ContractPageCacheEntry.of(content, 1280L, true, null);
+            }
+            case "classification" -> ContractClassificationDTO.builder()
+                .contractId(1L)
+                .contractType(ContractType.values()[0])
+                .confidence(0.93)
+                .classificationMethod("KEYWORD")
+                .fileType("PDF")
+                .success(true)
+                .fileProcessingStatus(ContractClassificationDTO.FileProcessingStatus.COMPLETED)
+                .build();
+            default -> throw new IllegalArgumentException(value);
+        };
+    }
+
+    private static ContractDTO createContract(long id) {
+        ContractDTO dto = new ContractDTO();
+        dto.setId(id);
+        dto.setContractName("2025年度办公设备采购合同-" + id);
+        dto.setContractType(ContractType.values()[0]);
+        dto.setPartyA(party("甲方科技有限公司", "010-88886666", "北京市海淀区中关村大街1号"));
+        dto.setPartyB(party("乙方贸易有限公司", "021-66668888", "上海市浦东新区世纪大道100号"));
+        dto.setContractAmount(new BigDecimal("1250000.00"));
+        dto.setSignDate(LocalDate.of(2025, 3, 1));
+        dto.setEffectiveDate(LocalDate.of(2025, 3, 15));
+        dto.setExpiryDate(LocalDate.of(2026, 3, 14));
+        dto.setDescription("采购办公电脑、打印机及配套耗材，含三年上门维保服务");
+        dto.setAttachmentUuid("5f0c2a4e-9d3b-4c1a-8e7f-" + String.format("%012d", id));
+        dto.setLocalFileName("contract-" + id + ".pdf");
+        dto.setCreatedBy(1001L);
+        dto.setUpdatedBy(1001L);
+        dto.setCreatedTime(LocalDateTime.of(2025, 3, 1, 10, 30));
+        dto.setUpdatedTime(LocalDateTime.of(2025, 3, 2, 9, 15));
+        dto.setObjectVersionNumber(3L);
+        return dto;
+    }
+
+    private static ContractDTO.PartyInfoDTO party(String companyName, String contactInfo, String address) {
+        ContractDTO.PartyInfoDTO party = new ContractDTO.PartyInfoDTO();
+        party.setCompanyName(companyName);
+        party.setContactInfo(contactInfo);
+        party.setAddress(address);
+        return party;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.println("编码后字节数（bytes/value）:");
+        for (String value : VALUES) {
+            Object object = createValue(value);
+            StringBuilder line = new StringBuilder(String.format("  %-15s", value));
+            for (String codec : CODECS) {
+                line.append(String.format("%s=%-8d", codec, createSerializer(codec).serialize(object).length));
+            }
+            System.out.println(line);
+        }
+
+        new Runner(new OptionsBuilder()
+            .include(CacheSerializerBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,176 @@
+package com.contract.management.benchmark;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.extension.spring.MybatisSqlSessionFactoryBean;
+import com.contract.management.domain.model.valueobject.ClausePosition;
+import com.contract.management.domain.model.valueobject.RiskFactors;
+import com.contract.management.infrastructure.entity.ClauseEntity;
+import com.contract.management.infrastructure.mapper.ClauseMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 条款批量写入基准测试
+ * 对比逐行insert与多行INSERT批量写入在10/100/1000条条款下的吞吐（行/秒）
+ * 依赖Docker启动PostgreSQL容器；运行方式：mvn test-compile 后执行本类main方法
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ClauseBatchInsertBenchmark {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    @State(Scope.Benchmark)
+    public static class DatabaseState {
+
+        @Param({"10", "100", "1000"})
+        int clauseCount;
+
+        PostgreSQLContainer<?> postgres;
+        SqlSessionFactory sqlSessionFactory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+            postgres.start();
+
+            PGSimpleDataSource dataSource = new PGSimpleDataSource();
+            dataSource.setUrl(postgres.getJdbcUrl());
+            dataSource.setUser(postgres.getUsername());
+            dataSource.setPassword(postgres.getPassword());
+
+            // 与V4迁移脚本中clause表结构一致，去掉外键以免准备合同和抽取任务数据
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE clause ("
+                    + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, task_id BIGINT, "
+                    + "contract_id BIGINT NOT NULL, clause_type VARCHAR(50) NOT NULL, clause_title VARCHAR(255), "
+                    + "clause_content TEXT NOT NULL, clause_position JSONB, confidence_score DECIMAL(5,2), "
+                    + "extracted_entities JSONB, risk_level VARCHAR(20), risk_factors JSONB, "
+                    + "created_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP, object_version_number BIGINT DEFAULT 0, "
+                    + "is_deleted BOOLEAN DEFAULT FALSE, extraction_task_id BIGINT)");
+            }
+
+            MybatisConfiguration configuration = new MybatisConfiguration();
+            configuration.setMapUnderscoreToCamelCase(true);
+
+            MybatisSqlSessionFactoryBean factoryBean = new MybatisSqlSessionFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setConfiguration(configuration);
+            factoryBean.setTypeHandlersPackage("com.contract.management.infrastructure.handler");
+            factoryBean.setMapperLocations(new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:mapper/ClauseMapper.xml"));
+            sqlSessionFactory = factoryBean.getObject();
+        }
+
+        @TearDown(Level.Iteration)
+        public void truncate() throws Exception {
+            try (SqlSession session = sqlSessionFactory.openSession(true);
+                 Statement statement = session.getConnection().createStatement()) {
+                statement.execute("TRUNCATE TABLE clause");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            postgres.stop();
+        }
+    }
+
+    /**
+     * 每次调用写入的行数，结果中以 rows/sec 体现
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Output {
+        public long rows;
+    }
+
+    @Benchmark
+    public List<ClauseEntity> rowByRowInsert(DatabaseState state, Output output) {
+        List<ClauseEntity> entities = createClauses(state.clauseCount);
+        try (SqlSession session = state.sqlSessionFactory.openSession(false)) {
+            ClauseMapper mapper = session.getMapper(ClauseMapper.class);
+            for (ClauseEntity entity : entities) {
+                mapper.insert(entity);
+            }
+            session.commit();
+        }
+        output.rows += entities.size();
+        return entities;
+    }
+
+    @Benchmark
+    public List<ClauseEntity> multiRowInsert(DatabaseState state, Output output) {
+        List<ClauseEntity> entities = createClauses(state.clauseCount);
+        try (SqlSession session = state.sqlSessionFactory.openSession(false)) {
+            ClauseMapper mapper = session.getMapper(ClauseMapper.class);
+            for (int from = 0; from < entities.size(); from += INSERT_BATCH_SIZE) {
+                mapper.insertBatch(entities.subList(from, Math.min(from + INSERT_BATCH_SIZE, entities.size())));
+            }
+            session.commit();
+        }
+        if (entities.get(entities.size() - 1).getId() == null) {
+            throw new IllegalStateException("批量插入未回填ID");
+        }
+        output.rows += entities.size();
+        return entities;
+    }
+
+    private static List<ClauseEntity> createClauses(int count) {
+        List<ClauseEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ClauseEntity entity = new ClauseEntity();
+            entity.setExtractionTaskId(1L);
+            entity.setContractId(1L);
+            entity.setClauseType("PAYMENT");
+            entity.setClauseTitle("第" + (i + 1) + "条 付款条款");
+            entity.setClauseContent("甲方应在验收合格后30日内向乙方支付合同总价款的30%，逾期按日万分之五支付违约金。");
+            entity.setClausePosition(ClausePosition.of(i / 5 + 1, 50.0, 100.0 + i % 5 * 120, 545.0, 200.0 + i % 5 * 120));
+            entity.setConfidenceScore(new BigDecimal("0.92"));
+            entity.setRiskLevel("MEDIUM");
+            entity.setRiskFactors(RiskFactors.simple(List.of("PAYMENT_DELAY"), "付款周期较长", 2));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ClauseBatchInsertBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
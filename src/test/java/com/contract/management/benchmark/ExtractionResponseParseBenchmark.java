@@ -0,0 +1,394 @@
+package com.contract.management.benchmark;
+
+import com.contract.management.domain.model.valueobject.ComprehensiveClauseExtractionResult;
+import com.contract.management.infrastructure.service.ComprehensiveExtractionResponseParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一体化条款抽取响应解析基准测试
+ * 对比原readTree + JsonNode树遍历解析（{@link BaselineTreeParser}）与JsonParser流式解析在10/100/500个条款下的吞吐（次/秒），
+ * 启用GC profiler，结果中的gc.alloc.rate.norm为每次解析分配的字节数
+ * 运行方式：mvn test-compile 后执行本类main方法
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ExtractionResponseParseBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ResponseState {
+
+        @Param({"10", "100", "500"})
+        int clauseCount;
+
+        String response;
+        ObjectMapper objectMapper;
+        ComprehensiveExtractionResponseParser parser;
+        BaselineTreeParser baselineParser;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            objectMapper = new ObjectMapper();
+            parser = new ComprehensiveExtractionResponseParser(objectMapper);
+            baselineParser = new BaselineTreeParser(objectMapper);
+            response = createResponse(clauseCount);
+        }
+    }
+
+    @Benchmark
+    public ComprehensiveClauseExtractionResult treeWalk(ResponseState state) {
+        return state.baselineParser.parseComprehensiveExtractionResult(state.response);
+    }
+
+    @Benchmark
+    public ComprehensiveClauseExtractionResult streaming(ResponseState state) throws IOException {
+        return state.parser.parse(state.response);
+    }
+
+    /**
+     * 基线实现：流式解析上线前ClauseExtractionService中的readTree + JsonNode树遍历解析，
+     * 除日志与异常类型外原样保留，保证两条路径读取的字段完全一致
+     */
+    static final class BaselineTreeParser {
+
+        private final ObjectMapper objectMapper;
+
+        BaselineTreeParser(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        ComprehensiveClauseExtractionResult parseComprehensiveExtractionResult(String aiResponse) {
+            try {
+                JsonNode jsonNode = objectMapper.readTree(aiResponse);
+
+                // 解析任务信息
+                ComprehensiveClauseExtractionResult.TaskInfo taskInfo = parseTaskInfo(
+                    jsonNode.path("task_info")
+                );
+
+                // 解析文档信息
+                ComprehensiveClauseExtractionResult.DocumentInfo documentInfo = parseDocumentInfo(
+                    jsonNode.path("document_info")
+                );
+
+                // 解析结构信息
+                ComprehensiveClauseExtractionResult.StructureInfo structureInfo = parseStructureInfo(
+                    jsonNode.path("structure")
+                );
+
+                // 解析条款列表
+                List<ComprehensiveClauseExtractionResult.ExtractedClause> clauses = parseClauses(
+                    jsonNode.path("clauses")
+                );
+
+                // 解析质量指标
+                ComprehensiveClauseExtractionResult.QualityMetrics qualityMetrics = parseQualityMetrics(
+                    jsonNode.path("quality_metrics")
+                );
+
+                return ComprehensiveClauseExtractionResult.builder()
+                    .taskInfo(taskInfo)
+                    .documentInfo(documentInfo)
+                    .structureInfo(structureInfo)
+                    .clauses(clauses)
+                    .qualityMetrics(qualityMetrics)
+                    .build();
+
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("解析AI综合抽取结果失败: " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * 解析任务信息
+         */
+        private ComprehensiveClauseExtractionResult.TaskInfo parseTaskInfo(JsonNode node) {
+            return ComprehensiveClauseExtractionResult.TaskInfo.builder()
+                .extractionTaskId(getTextValue(node, "task_id"))
+                .processingTime(getIntValue(node, "processing_time"))
+                .documentQuality(getTextValue(node, "document_quality"))
+                .build();
+        }
+
+        /**
+         * 解析文档信息
+         */
+        private ComprehensiveClauseExtractionResult.DocumentInfo parseDocumentInfo(JsonNode node) {
+            JsonNode partiesNode = node.path("parties");
+            ComprehensiveClauseExtractionResult.ContractParties parties =
+                ComprehensiveClauseExtractionResult.ContractParties.builder()
+                    .partyA(getTextValue(partiesNode, "party_a"))
+                    .partyB(getTextValue(partiesNode, "party_b"))
+                    .build();
+
+            return ComprehensiveClauseExtractionResult.DocumentInfo.builder()
+                .totalPages(getIntValue(node, "total_pages"))
+                .documentType(getTextValue(node, "document_type"))
+                .parties(parties)
+                .contractDate(getTextValue(node, "contract_date"))
+                .contractAmount(getTextValue(node, "contract_amount"))
+                .build();
+        }
+
+        /**
+         * 解析结构信息
+         */
+        private ComprehensiveClauseExtractionResult.StructureInfo parseStructureInfo(JsonNode node) {
+            List<ComprehensiveClauseExtractionResult.Chapter> chapters = new ArrayList<>();
+            JsonNode chaptersNode = node.path("chapters");
+            if (chaptersNode.isArray()) {
+                for (JsonNode chapterNode : chaptersNode) {
+                    List<ComprehensiveClauseExtractionResult.Subsection> subsections = new ArrayList<>();
+                    JsonNode subsectionsNode = chapterNode.path("subsections");
+                    if (subsectionsNode.isArray()) {
+                        for (JsonNode subsectionNode : subsectionsNode) {
+                            ComprehensiveClauseExtractionResult.Subsection subsection =
+                                ComprehensiveClauseExtractionResult.Subsection.builder()
+                                    .title(getTextValue(subsectionNode, "title"))
+                                    .page(getIntValue(subsectionNode, "page"))
+                                    .build();
+                            subsections.add(subsection);
+                        }
+                    }
+
+                    ComprehensiveClauseExtractionResult.Chapter chapter =
+                        ComprehensiveClauseExtractionResult.Chapter.builder()
+                            .title(getTextValue(chapterNode, "title"))
+                            .pageStart(getIntValue(chapterNode, "page_start"))
+                            .pageEnd(getIntValue(chapterNode, "page_end"))
+                            .level(getIntValue(chapterNode, "level"))
+                            .subsections(subsections)
+                            .build();
+                    chapters.add(chapter);
+                }
+            }
+
+            List<ComprehensiveClauseExtractionResult.SpecialArea> specialAreas = new ArrayList<>();
+            JsonNode specialAreasNode = node.path("special_areas");
+            if (specialAreasNode.isArray()) {
+                for (JsonNode areaNode : specialAreasNode) {
+                    ComprehensiveClauseExtractionResult.SpecialArea area =
+                        ComprehensiveClauseExtractionResult.SpecialArea.builder()
+                            .type(getTextValue(areaNode, "type"))
+                            .pages(parseIntegerList(areaNode.path("pages")))
+                            .description(getTextValue(areaNode, "description"))
+                            .build();
+                    specialAreas.add(area);
+                }
+            }
+
+            return ComprehensiveClauseExtractionResult.StructureInfo.builder()
+                .chapters(chapters)
+                .specialAreas(specialAreas)
+                .build();
+        }
+
+        /**
+         * 解析条款列表
+         */
+        private List<ComprehensiveClauseExtractionResult.ExtractedClause> parseClauses(JsonNode node) {
+            List<ComprehensiveClauseExtractionResult.ExtractedClause> clauses = new ArrayList<>();
+            if (node.isArray()) {
+                for (JsonNode clauseNode : node) {
+                    ComprehensiveClauseExtractionResult.ExtractedClause clause =
+                        ComprehensiveClauseExtractionResult.ExtractedClause.builder()
+                            .clauseId(getTextValue(clauseNode, "clause_id"))
+                            .clauseType(getTextValue(clauseNode, "clause_type"))
+                            .clauseTitle(getTextValue(clauseNode, "clause_title"))
+                            .content(getTextValue(clauseNode, "content"))
+                            .confidenceScore(getDoubleValue(clauseNode, "confidence_score"))
+                            .riskLevel(getTextValue(clauseNode, "risk_level"))
+                            .extractedEntities(parseExtractedEntities(clauseNode.path("extracted_entities")))
+                            .riskFactors(parseRiskFactors(clauseNode.path("risk_factors")))
+                            .positions(parsePositions(clauseNode.path("positions")))
+                            .relatedChapters(parseStringList(clauseNode.path("related_chapters")))
+                            .extractedAt(LocalDateTime.now()) // 当前时间
+                            .build();
+                    clauses.add(clause);
+                }
+            }
+            return clauses;
+        }
+
+        /**
+         * 解析提取的实体
+         */
+        private ComprehensiveClauseExtractionResult.ExtractedEntities parseExtractedEntities(JsonNode node) {
+            return ComprehensiveClauseExtractionResult.ExtractedEntities.builder()
+                .amountPercentage(getTextValue(node, "amount_percentage"))
+                .paymentPeriod(getTextValue(node, "payment_period"))
+                .paymentCondition(getTextValue(node, "payment_condition"))
+                .paymentAmount(getTextValue(node, "payment_amount"))
+                .build();
+        }
+
+        /**
+         * 解析风险因子
+         */
+        private List<ComprehensiveClauseExtractionResult.RiskFactor> parseRiskFactors(JsonNode node) {
+            List<ComprehensiveClauseExtractionResult.RiskFactor> factors = new ArrayList<>();
+            if (node.isArray()) {
+                for (JsonNode factorNode : node) {
+                    ComprehensiveClauseExtractionResult.RiskFactor factor =
+                        ComprehensiveClauseExtractionResult.RiskFactor.builder()
+                            .factor(getTextValue(factorNode, "factor"))
+                            .severity(getTextValue(factorNode, "severity"))
+                            .build();
+                    factors.add(factor);
+                }
+            }
+            return factors;
+        }
+
+        /**
+         * 解析位置信息
+         */
+        private List<ComprehensiveClauseExtractionResult.ClausePosition> parsePositions(JsonNode node) {
+            List<ComprehensiveClauseExtractionResult.ClausePosition> positions = new ArrayList<>();
+            if (node.isArray()) {
+                for (JsonNode positionNode : node) {
+                    ComprehensiveClauseExtractionResult.ClausePosition position =
+                        ComprehensiveClauseExtractionResult.ClausePosition.builder()
+                            .page(getIntValue(positionNode, "page"))
+                            .bbox(parseIntegerList(positionNode.path("bbox")))
+                            .context(getTextValue(positionNode, "context"))
+                            .textSnippet(getTextValue(positionNode, "text_snippet"))
+                            .build();
+                    positions.add(position);
+                }
+            }
+            return positions;
+        }
+
+        /**
+         * 解析质量指标
+         */
+        private ComprehensiveClauseExtractionResult.QualityMetrics parseQualityMetrics(JsonNode node) {
+            return ComprehensiveClauseExtractionResult.QualityMetrics.builder()
+                .totalClausesFound(getIntValue(node, "total_clauses_found"))
+                .highConfidenceClauses(getIntValue(node, "high_confidence_clauses"))
+                .mediumConfidenceClauses(getIntValue(node, "medium_confidence_clauses"))
+                .lowConfidenceClauses(getIntValue(node, "low_confidence_clauses"))
+                .pagesWithIssues(parseIntegerList(node.path("pages_with_issues")))
+                .ocrConfidenceAvg(getDoubleValue(node, "ocr_confidence_avg"))
+                .structureAccuracy(getDoubleValue(node, "structure_accuracy"))
+                .recommendedReviewClauses(parseStringList(node.path("recommended_review_clauses")))
+                .build();
+        }
+
+        // 辅助方法
+        private List<Integer> parseIntegerList(JsonNode node) {
+            List<Integer> list = new ArrayList<>();
+            if (node.isArray()) {
+                for (JsonNode item : node) {
+                    if (item.isInt()) {
+                        list.add(item.asInt());
+                    }
+                }
+            }
+            return list;
+        }
+
+        private String getTextValue(JsonNode node, String fieldName) {
+            JsonNode fieldNode = node.path(fieldName);
+            return fieldNode.isTextual() ? fieldNode.asText() : null;
+        }
+
+        private Double getDoubleValue(JsonNode node, String fieldName) {
+            JsonNode fieldNode = node.path(fieldName);
+            return fieldNode.isNumber() ? fieldNode.asDouble() : null;
+        }
+
+        private Integer getIntValue(JsonNode node, String fieldName) {
+            JsonNode fieldNode = node.path(fieldName);
+            return fieldNode.isInt() ? fieldNode.asInt() : null;
+        }
+
+        private List<String> parseStringList(JsonNode node) {
+            List<String> list = new ArrayList<>();
+            if (node.isArray()) {
+                for (JsonNode item : node) {
+                    if (item.isTextual()) {
+                        list.add(item.asText());
+                    }
+                }
+            }
+            return list;
+        }
+    }
+
+    private static String createResponse(int clauseCount) {
+        StringBuilder json = new StringBuilder(clauseCount * 600)
+            .append("{\"task_info\":{\"task_id\":\"bench\",\"processing_time\":30,\"document_quality\":\"high\"},")
+            .append("\"document_info\":{\"total_pages\":18,\"document_type\":\"采购合同\",")
+            .append("\"parties\":{\"party_a\":\"甲方科技有限公司\",\"party_b\":\"乙方贸易有限公司\"},")
+            .append("\"contract_date\":\"2024-03-01\",\"contract_amount\":\"1200000元\"},")
+            .append("\"structure\":{\"chapters\":[");
+        for (int i = 0; i < 8; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"title\":\"第").append(i + 1).append("章\",\"page_start\":").append(i * 2 + 1)
+                .append(",\"page_end\":").append(i * 2 + 2).append(",\"level\":1,")
+                .append("\"subsections\":[{\"title\":\"第一节\",\"page\":").append(i * 2 + 1).append("}]}");
+        }
+        json.append("],\"special_areas\":[{\"type\":\"signature\",\"pages\":[18],\"description\":\"签章页\"}]},")
+            .append("\"clauses\":[");
+        for (int i = 0; i < clauseCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"clause_id\":\"c-").append(i).append("\",\"clause_type\":\"PAYMENT\",")
+                .append("\"clause_title\":\"第").append(i + 1).append("条 付款条款\",")
+                .append("\"content\":\"甲方应在验收合格后30日内向乙方支付合同总价款的30%，逾期按日万分之五支付违约金。\",")
+                .append("\"confidence_score\":0.92,\"risk_level\":\"medium\",")
+                .append("\"extracted_entities\":{\"amount_percentage\":\"30%\",\"payment_period\":\"30日\",")
+                .append("\"payment_condition\":\"验收合格\",\"payment_amount\":\"360000元\"},")
+                .append("\"risk_factors\":[{\"factor\":\"付款周期较长\",\"severity\":\"medium\"}],")
+                .append("\"positions\":[{\"page\":").append(i / 5 + 1)
+                .append(",\"bbox\":[50,100,545,200],\"context\":\"第五条\",\"text_snippet\":\"验收合格后30日内\"}],")
+                .append("\"related_chapters\":[\"第三章 付款方式\"]}");
+        }
+        json.append("],\"quality_metrics\":{\"total_clauses_found\":").append(clauseCount)
+            .append(",\"high_confidence_clauses\":").append(clauseCount)
+            .append(",\"medium_confidence_clauses\":0,\"low_confidence_clauses\":0,\"pages_with_issues\":[],")
+            .append("\"ocr_confidence_avg\":0.97,\"structure_accuracy\":0.95,\"recommended_review_clauses\":[\"c-0\"]}}");
+        return json.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ExtractionResponseParseBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,161 @@
+package com.contract.management.benchmark;
+
+import com.contract.management.infrastructure.util.PdfPageRenderer;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PDF渲染基准测试
+ * 对比原串行渲染路径（300 DPI PNG）与并行渲染引擎在不同DPI和编码格式下的吞吐（页/秒）和产出字节数
+ * 运行方式：mvn test-compile 后执行本类main方法
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class PdfRenderBenchmark {
+
+    private static final int PAGES = 20;
+
+    @State(Scope.Benchmark)
+    public static class PdfState {
+
+        byte[] pdfBytes;
+        PdfPageRenderer renderer;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            pdfBytes = createSamplePdf(PAGES);
+            renderer = new PdfPageRenderer(0, 4);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            renderer.shutdown();
+        }
+    }
+
+    /**
+     * 每次调用的页数和产出字节数，结果中以 pages/sec 和 bytes/sec 体现
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Output {
+        public long pages;
+        public long bytes;
+
+        void record(List<byte[]> images) {
+            pages += images.size();
+            for (byte[] image : images) {
+                bytes += image.length;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<byte[]> serialPng300(PdfState state, Output output) throws IOException {
+        List<byte[]> images = renderSerially(state.pdfBytes, 300, "PNG");
+        output.record(images);
+        return images;
+    }
+
+    @Benchmark
+    public List<byte[]> parallelPng300(PdfState state, Output output) {
+        List<byte[]> images = state.renderer.renderAll(state.pdfBytes,
+            PdfPageRenderer.RenderOptions.builder().dpi(300).imageFormat("PNG").build());
+        output.record(images);
+        return images;
+    }
+
+    @Benchmark
+    public List<byte[]> parallelJpeg150(PdfState state, Output output) {
+        List<byte[]> images = state.renderer.renderAll(state.pdfBytes,
+            PdfPageRenderer.RenderOptions.builder().dpi(150).imageFormat("JPEG").quality(0.8f).build());
+        output.record(images);
+        return images;
+    }
+
+    /**
+     * 原串行渲染路径：单个PDDocument逐页渲染并在调用线程上PNG编码
+     */
+    private static List<byte[]> renderSerially(byte[] pdfBytes, int dpi, String imageFormat) throws IOException {
+        List<byte[]> images = new ArrayList<>();
+        try (PDDocument document = Loader.loadPDF(pdfBytes)) {
+            PDFRenderer renderer = new PDFRenderer(document);
+            for (int pageIndex = 0; pageIndex < document.getNumberOfPages(); pageIndex++) {
+                BufferedImage image = renderer.renderImageWithDPI(pageIndex, dpi, ImageType.RGB);
+                try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+                    ImageIO.write(image, imageFormat, baos);
+                    images.add(baos.toByteArray());
+                }
+            }
+        }
+        return images;
+    }
+
+    private static byte[] createSamplePdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int i = 0; i < pages; i++) {
+                PDPage page = new PDPage(PDRectangle.A4);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 10);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 780);
+                    for (int line = 0; line < 50; line++) {
+                        content.showText("Article " + (i + 1) + "." + (line + 1)
+                            + " The parties agree to the payment terms, delivery schedule and liabilities.");
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(baos);
+            return baos.toByteArray();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(PdfRenderBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -3,6 +3,7 @@ package com.contract.management.domain.service;
 import com.contract.management.domain.model.OperationLog;
 import com.contract.management.domain.model.valueobject.OperationLogId;
 import com.contract.management.domain.repository.OperationLogRepository;
+import com.contract.management.domain.repository.OperationLogSink;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +32,9 @@ class OperationLogDomainServiceTest {
     @Mock
     private OperationLogRepository operationLogRepository;
 
+    @Mock
+    private OperationLogSink operationLogSink;
+
     @InjectMocks
     private OperationLogDomainService operationLogDomainService;
 
@@ -49,42 +53,26 @@ class OperationLogDomainServiceTest {
 
     @Test
     void testRecordLog_Success() {
-        // Given - 创建一个模拟已保存的操作日志（有ID）
-        OperationLog savedLog = OperationLog.createClauseExtractionStart(
-            testExtractionId, testContractId, testUserId, "127.0.0.1"
-        );
-        // 使用反射设置ID，模拟数据库生成的ID
-        try {
-            java.lang.reflect.Field idField = OperationLog.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(savedLog, OperationLogId.of(123L));
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to set test ID", e);
-        }
-
-        when(operationLogRepository.save(any(OperationLog.class))).thenReturn(savedLog);
-
-        // When
+        // When - 日志提交到写入缓冲后立即返回，不在调用线程写库
         OperationLog result = operationLogDomainService.recordLog(testOperationLog);
 
         // Then
-        assertNotNull(result);
-        assertEquals(savedLog.getId(), result.getId());
-        verify(operationLogRepository, times(1)).save(testOperationLog);
+        assertSame(testOperationLog, result);
+        verify(operationLogSink, times(1)).submit(testOperationLog);
+        verify(operationLogRepository, never()).save(any(OperationLog.class));
     }
 
     @Test
     void testRecordLog_Failure() {
         // Given
-        when(operationLogRepository.save(any(OperationLog.class)))
-            .thenThrow(new RuntimeException("Database error"));
+        doThrow(new RuntimeException("Sink error")).when(operationLogSink).submit(any(OperationLog.class));
 
         // When
         OperationLog result = operationLogDomainService.recordLog(testOperationLog);
 
         // Then
         assertNull(result);
-        verify(operationLogRepository, times(1)).save(testOperationLog);
+        verify(operationLogSink, times(1)).submit(testOperationLog);
     }
 
     @Test
@@ -206,43 +194,34 @@ class OperationLogDomainServiceTest {
 
     @Test
     void testRecordClauseExtractionStart() {
-        // Given
-        when(operationLogRepository.save(any(OperationLog.class))).thenReturn(testOperationLog);
-
         // When
         operationLogDomainService.recordClauseExtractionStart(
             testExtractionId, testContractId, testUserId, "127.0.0.1"
         );
 
         // Then
-        verify(operationLogRepository, times(1)).save(any(OperationLog.class));
+        verify(operationLogSink, times(1)).submit(any(OperationLog.class));
     }
 
     @Test
     void testRecordClauseExtractionSuccess() {
-        // Given
-        when(operationLogRepository.save(any(OperationLog.class))).thenReturn(testOperationLog);
-
         // When
         operationLogDomainService.recordClauseExtractionSuccess(
             testExtractionId, testContractId, testUserId, "127.0.0.1", 5000L, "成功抽取5个条款"
         );
 
         // Then
-        verify(operationLogRepository, times(1)).save(any(OperationLog.class));
+        verify(operationLogSink, times(1)).submit(any(OperationLog.class));
     }
 
     @Test
     void testRecordClauseExtractionFailure() {
-        // Given
-        when(operationLogRepository.save(any(OperationLog.class))).thenReturn(testOperationLog);
-
         // When
         operationLogDomainService.recordClauseExtractionFailure(
             testExtractionId, testContractId, testUserId, "127.0.0.1", 3000L, "文件解析失败"
         );
 
         // Then
-        verify(operationLogRepository, times(1)).save(any(OperationLog.class));
+        verify(operationLogSink, times(1)).submit(any(OperationLog.class));
     }
 }
\ No newline at end of file
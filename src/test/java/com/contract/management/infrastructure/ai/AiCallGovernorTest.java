@@ -0,0 +1,144 @@
+package com.contract.management.infrastructure.ai;
+
+import com.contract.ai.feign.enums.ModelType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AI调用限流器测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("AI调用限流器测试")
+class AiCallGovernorTest {
+
+    private static final ModelType MODEL = ModelType.GLM_4_5V;
+
+    private AiCallGovernorProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AiCallGovernor governor;
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiCallGovernorProperties();
+        properties.setAcquireTimeoutMs(5000);
+        properties.getDefaults().setMaxConcurrency(1);
+        properties.getDefaults().setTokensPerMinute(0);
+        meterRegistry = new SimpleMeterRegistry();
+        governor = new AiCallGovernor(properties, meterRegistry);
+        executor = Executors.newCachedThreadPool();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private Future<String> holdSlot(AiCallScene scene) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<String> future = executor.submit(() -> governor.call(MODEL, scene, 0, () -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "held";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return future;
+    }
+
+    private void awaitQueueDepth(AiCallScene scene, int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            double current = meterRegistry.get("contract.ai.governor.queue.depth")
+                .tags("model", MODEL.name(), "scene", scene.name()).gauge().value();
+            if (current >= depth) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        fail("等待队列深度超时: " + scene);
+    }
+
+    @Test
+    @DisplayName("并发数达到上限时等待超时被拒绝，运行时调大上限后立即放行")
+    void call_limitsConcurrencyAndAppliesRuntimeChanges() throws Exception {
+        holdSlot(AiCallScene.EXTRACTION);
+        properties.setAcquireTimeoutMs(100);
+
+        assertThrows(RejectedExecutionException.class,
+            () -> governor.call(MODEL, AiCallScene.CLASSIFICATION, 0, () -> "second"));
+        assertEquals(1.0, meterRegistry.get("contract.ai.governor.rejected")
+            .tags("model", MODEL.name(), "scene", "CLASSIFICATION").counter().count());
+
+        properties.getDefaults().setMaxConcurrency(2);
+        assertEquals("second", governor.call(MODEL, AiCallScene.CLASSIFICATION, 0, () -> "second"));
+    }
+
+    @Test
+    @DisplayName("令牌桶预算耗尽后按估算token数等待补充")
+    void call_enforcesTokenBudget() {
+        properties.getDefaults().setMaxConcurrency(10);
+        properties.getDefaults().setTokensPerMinute(1000);
+        properties.setAcquireTimeoutMs(100);
+
+        assertEquals("first", governor.call(MODEL, AiCallScene.EXTRACTION, 1000, () -> "first"));
+        assertThrows(RejectedExecutionException.class,
+            () -> governor.call(MODEL, AiCallScene.EXTRACTION, 1000, () -> "second"));
+        // 补充速度约每秒16个token，小额调用仍可通过
+        assertEquals("small", governor.call(MODEL, AiCallScene.CLASSIFICATION, 1, () -> "small"));
+    }
+
+    @Test
+    @DisplayName("分类与抽取队列轮流获得配额")
+    void call_alternatesBetweenScenes() throws Exception {
+        Future<String> held = holdSlot(AiCallScene.EXTRACTION);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        executor.submit(() -> governor.call(MODEL, AiCallScene.EXTRACTION, 0, () -> order.add("E1")));
+        awaitQueueDepth(AiCallScene.EXTRACTION, 1);
+        executor.submit(() -> governor.call(MODEL, AiCallScene.EXTRACTION, 0, () -> order.add("E2")));
+        awaitQueueDepth(AiCallScene.EXTRACTION, 2);
+        Future<Boolean> last = executor.submit(
+            () -> governor.call(MODEL, AiCallScene.CLASSIFICATION, 0, () -> order.add("C1")));
+        awaitQueueDepth(AiCallScene.CLASSIFICATION, 1);
+
+        release.countDown();
+        assertEquals("held", held.get(5, TimeUnit.SECONDS));
+        last.get(5, TimeUnit.SECONDS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (order.size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(List.of("C1", "E1", "E2"), order);
+    }
+
+    @Test
+    @DisplayName("估算token包含文本与图片字节")
+    void estimateTokens_countsTextAndImages() {
+        assertEquals(2 + 2, governor.estimateTokens("合同", 1500));
+        assertEquals(0, governor.estimateTokens(null, 0));
+    }
+}
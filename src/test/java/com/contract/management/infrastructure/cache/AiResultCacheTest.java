@@ -0,0 +1,136 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.infrastructure.util.ContentHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AI结果缓存测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("AI结果缓存测试")
+class AiResultCacheTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private AiResultCache aiResultCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+
+        aiResultCache = new AiResultCache(stringRedisTemplate, meterRegistry, 100, 60);
+        ReflectionTestUtils.setField(aiResultCache, "enabled", true);
+        ReflectionTestUtils.setField(aiResultCache, "ttlSeconds", 60L);
+    }
+
+    @Test
+    @DisplayName("相同内容第二次请求命中本地缓存，不再调用模型")
+    void getOrLoad_secondCallHitsLocalCache() {
+        AtomicInteger calls = new AtomicInteger();
+        String hash = ContentHasher.sha256("contract".getBytes());
+
+        String first = aiResultCache.getOrLoad("extraction", hash, null, () -> "result-" + calls.incrementAndGet());
+        String second = aiResultCache.getOrLoad("extraction", hash, null, () -> "result-" + calls.incrementAndGet());
+
+        assertEquals("result-1", first);
+        assertEquals("result-1", second);
+        assertEquals(1, calls.get());
+        verify(valueOperations).set(startsWith("ai-result:extraction:"), eq("result-1"), eq(Duration.ofSeconds(60)));
+        assertEquals(1.0, meterRegistry.get("contract.ai.result.cache")
+            .tags("scene", "extraction", "level", "l1", "result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("本地未命中时读取Redis并回填")
+    void getOrLoad_readsThroughRedis() {
+        when(valueOperations.get(anyString())).thenReturn("cached");
+
+        String value = aiResultCache.getOrLoad("classification-text", "abc", null, () -> fail("不应调用模型"));
+
+        assertEquals("cached", value);
+        assertEquals(1.0, meterRegistry.get("contract.ai.result.cache")
+            .tags("scene", "classification-text", "level", "l2", "result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("Redis异常时退化为直接调用模型")
+    void getOrLoad_redisFailureFallsBackToLoader() {
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("redis down"));
+
+        assertEquals("fresh", aiResultCache.getOrLoad("classification-file", "abc", null, () -> "fresh"));
+    }
+
+    @Test
+    @DisplayName("同一键的并发未命中只调用一次模型，其余请求共享结果")
+    void getOrLoad_concurrentMissesShareOneCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "result";
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> aiResultCache.getOrLoad("extraction", "abc", null, loader));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<String> second = executor.submit(() -> aiResultCache.getOrLoad("extraction", "abc", null, loader));
+            // 等第二个请求进入等待后再放行模型调用
+            while (meterRegistry.get("contract.ai.result.cache")
+                .tags("scene", "extraction", "level", "l2", "result", "miss").counter().count() < 2) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals("result", first.get(5, TimeUnit.SECONDS));
+            assertEquals("result", second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        verify(valueOperations, times(1)).set(anyString(), eq("result"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("模型调用失败时等待中的请求收到同样的异常，之后的请求重新调用")
+    void getOrLoad_failureIsSharedAndNotCached() {
+        assertThrows(IllegalStateException.class, () -> aiResultCache.getOrLoad("extraction", "abc", null, () -> {
+            throw new IllegalStateException("model down");
+        }));
+
+        assertEquals("recovered", aiResultCache.getOrLoad("extraction", "abc", null, () -> "recovered"));
+    }
+}
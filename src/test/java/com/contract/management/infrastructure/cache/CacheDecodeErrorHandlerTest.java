@@ -0,0 +1,53 @@
+package com.contract.management.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 缓存异常处理器测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("缓存异常处理器测试")
+class CacheDecodeErrorHandlerTest {
+
+    private final CacheDecodeErrorHandler handler = new CacheDecodeErrorHandler();
+
+    @Test
+    @DisplayName("反序列化失败按未命中处理并删除该值")
+    void getError_decodeFailureTreatedAsMiss() {
+        Cache cache = mock(Cache.class);
+
+        assertDoesNotThrow(() -> handler.handleCacheGetError(
+            new SerializationException("Could not read JSON", new IllegalStateException("bad header")), cache, 1L));
+
+        verify(cache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("删除失败时仍按未命中处理")
+    void getError_evictFailureIgnored() {
+        Cache cache = mock(Cache.class);
+        doThrow(new QueryTimeoutException("timeout")).when(cache).evict(1L);
+
+        assertDoesNotThrow(() -> handler.handleCacheGetError(new SerializationException("bad"), cache, 1L));
+    }
+
+    @Test
+    @DisplayName("其他缓存异常照常抛出")
+    void getError_otherFailuresRethrown() {
+        Cache cache = mock(Cache.class);
+        QueryTimeoutException timeout = new QueryTimeoutException("timeout");
+
+        assertSame(timeout, assertThrows(QueryTimeoutException.class,
+            () -> handler.handleCacheGetError(timeout, cache, 1L)));
+        verify(cache, never()).evict(any());
+    }
+}
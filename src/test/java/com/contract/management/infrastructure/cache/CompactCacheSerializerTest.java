@@ -0,0 +1,147 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.application.dto.ContractClassificationDTO;
+import com.contract.management.application.dto.ContractDTO;
+import com.contract.management.application.dto.ContractPageCacheEntry;
+import com.contract.management.config.CacheConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 紧凑二进制缓存值序列化器测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("紧凑二进制缓存值序列化器测试")
+class CompactCacheSerializerTest {
+
+    private CompactCacheSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = newSerializer(1024);
+    }
+
+    private static CompactCacheSerializer newSerializer(int compressionThreshold) {
+        return new CompactCacheSerializer(CacheConfiguration.jsonSerializer(), compressionThreshold)
+            .register(2, Long.class)
+            .register(10, ContractDTO.class)
+            .register(11, ContractPageCacheEntry.class);
+    }
+
+    private static ContractDTO contract(long id) {
+        ContractDTO dto = new ContractDTO();
+        dto.setId(id);
+        dto.setContractName("设备采购合同-" + id);
+        dto.setContractAmount(new BigDecimal("125000.50"));
+        dto.setSignDate(LocalDate.of(2025, 3, 1));
+        dto.setCreatedTime(LocalDateTime.of(2025, 3, 1, 10, 30));
+        ContractDTO.PartyInfoDTO partyA = new ContractDTO.PartyInfoDTO();
+        partyA.setCompanyName("甲方科技有限公司");
+        dto.setPartyA(partyA);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("已注册类型往返一致，头部只写类型编号")
+    void registeredType_roundTrip() {
+        ContractDTO dto = contract(1L);
+
+        byte[] bytes = serializer.serialize(dto);
+
+        assertEquals(CompactCacheSerializer.MAGIC, bytes[0]);
+        assertEquals(CompactCacheSerializer.FORMAT_VERSION, bytes[1]);
+        assertEquals(10, ((bytes[3] & 0xFF) << 8) | (bytes[4] & 0xFF));
+        assertFalse(new String(bytes).contains(ContractDTO.class.getName()));
+        assertEquals(dto, serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("数值类型按注册类型还原，不会退化为Integer")
+    void long_keepsType() {
+        Object value = serializer.deserialize(serializer.serialize(42L));
+
+        assertEquals(42L, value);
+        assertInstanceOf(Long.class, value);
+    }
+
+    @Test
+    @DisplayName("超过阈值时LZ4压缩，解压后内容一致")
+    void largeValue_compressed() {
+        List<ContractDTO> content = new ArrayList<>();
+        for (long i = 0; i < 50; i++) {
+            content.add(contract(i));
+        }
+        ContractPageCacheEntry entry = ContractPageCacheEntry.of(content, 50L, true, null);
+
+        byte[] compressed = serializer.serialize(entry);
+        byte[] uncompressed = newSerializer(0).serialize(entry);
+
+        assertEquals(CompactCacheSerializer.FLAG_LZ4, compressed[2]);
+        assertEquals(0, uncompressed[2]);
+        assertTrue(compressed.length < uncompressed.length);
+        assertEquals(entry, serializer.deserialize(compressed));
+    }
+
+    @Test
+    @DisplayName("未注册的本项目类型在头部写入类名")
+    void unregisteredProjectType_roundTrip() {
+        ContractClassificationDTO dto = ContractClassificationDTO.builder()
+            .contractId(7L)
+            .confidence(0.93)
+            .success(true)
+            .classificationTime(LocalDateTime.of(2025, 3, 1, 10, 30))
+            .build();
+
+        assertEquals(dto, serializer.deserialize(serializer.serialize(dto)));
+    }
+
+    @Test
+    @DisplayName("拒绝序列化未注册的非本项目类型")
+    void unregisteredForeignType_rejected() {
+        assertThrows(SerializationException.class, () -> serializer.serialize(Map.of("k", "v")));
+    }
+
+    @Test
+    @DisplayName("旧节点写入的JSON值仍可读取")
+    void legacyJson_readable() {
+        List<ContractDTO> content = List.of(contract(5L), contract(6L));
+        ContractPageCacheEntry entry = ContractPageCacheEntry.of(content, 2L, false, null);
+        byte[] legacyContract = CacheConfiguration.jsonSerializer().serialize(contract(3L));
+        byte[] legacyEntry = CacheConfiguration.jsonSerializer().serialize(entry);
+
+        assertEquals(contract(3L), serializer.deserialize(legacyContract));
+        assertEquals(entry, serializer.deserialize(legacyEntry));
+    }
+
+    @Test
+    @DisplayName("无法识别的版本、类型编号或损坏的数据按未命中处理")
+    void unreadableValues_treatedAsMiss() {
+        byte[] bytes = serializer.serialize(contract(4L));
+
+        byte[] futureVersion = bytes.clone();
+        futureVersion[1] = 2;
+        assertNull(serializer.deserialize(futureVersion));
+
+        byte[] unknownType = bytes.clone();
+        unknownType[4] = 99;
+        assertNull(serializer.deserialize(unknownType));
+
+        byte[] truncated = java.util.Arrays.copyOf(bytes, bytes.length / 2);
+        assertNull(serializer.deserialize(truncated));
+
+        assertThrows(IllegalArgumentException.class, () -> serializer.register(10, ContractClassificationDTO.class));
+    }
+}
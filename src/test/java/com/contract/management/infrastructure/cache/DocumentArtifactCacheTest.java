@@ -0,0 +1,220 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.domain.exception.FileProcessingException;
+import com.contract.management.infrastructure.util.ContentHasher;
+import com.contract.management.infrastructure.util.FileSpooler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 附件解析产物缓存测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("附件解析产物缓存测试")
+class DocumentArtifactCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FileSpooler fileSpooler;
+    private AtomicInteger loads;
+    private DocumentArtifactCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileSpooler = new FileSpooler();
+        ReflectionTestUtils.setField(fileSpooler, "maxFileSize", 1024L * 1024);
+        loads = new AtomicInteger();
+        cache = newCache(true, 1024L * 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    private DocumentArtifactCache newCache(boolean enabled, long maxDiskBytes) throws IOException {
+        DocumentArtifactCache created = new DocumentArtifactCache(new SimpleMeterRegistry(), enabled,
+            tempDir.resolve("artifacts").toString(), maxDiskBytes, 3600);
+        created.init();
+        return created;
+    }
+
+    private DocumentArtifactCache.ArtifactLoader loader(byte[] content) {
+        return (uuid, directory) -> {
+            loads.incrementAndGet();
+            FileSpooler.SpooledFile spooledFile =
+                fileSpooler.spool(new ByteArrayInputStream(content), uuid + ".pdf", directory);
+            return new DocumentArtifact(uuid, uuid + ".pdf", "pdf", directory, spooledFile, 3, "正文");
+        };
+    }
+
+    @Test
+    @DisplayName("同一附件的并发请求只加载一次")
+    void acquire_loadsOncePerAttachment() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try (DocumentArtifactCache.Lease lease = cache.acquire("a-1", loader("pdf".getBytes()))) {
+                        return lease.getArtifact().readText();
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                assertEquals("正文", future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        try (DocumentArtifactCache.Lease lease = cache.acquire("a-1", loader("pdf".getBytes()))) {
+            DocumentArtifact artifact = lease.getArtifact();
+            assertEquals(3, artifact.getPageCount());
+            assertArrayEquals("pdf".getBytes(), artifact.readContent());
+            assertEquals(ContentHasher.sha256("pdf".getBytes()), artifact.getSha256());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("加载失败时删除产物目录且不缓存失败结果")
+    void acquire_failureIsNotCached() {
+        DocumentArtifactCache.ArtifactLoader failing = (uuid, directory) -> {
+            loads.incrementAndGet();
+            throw new FileProcessingException("下载失败");
+        };
+
+        assertThrows(FileProcessingException.class, () -> cache.acquire("a-2", failing));
+        assertThrows(FileProcessingException.class, () -> cache.acquire("a-2", failing));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("被移出缓存的产物在句柄关闭后才删除文件")
+    void evictedArtifact_deletedAfterLeaseClosed() throws Exception {
+        DocumentArtifactCache.Lease lease = cache.acquire("a-3", loader("pdf".getBytes()));
+        Path contentPath = lease.getArtifact().getContent().getPath();
+
+        cache.shutdown();
+        assertTrue(Files.exists(contentPath));
+        assertArrayEquals("pdf".getBytes(), lease.getArtifact().readContent());
+
+        lease.close();
+        assertFalse(Files.exists(contentPath));
+    }
+
+    @Test
+    @DisplayName("磁盘占用超过上限时淘汰产物并删除文件")
+    void maxDiskBytes_evictsArtifacts() throws Exception {
+        cache.shutdown();
+        cache = newCache(true, 1024);
+
+        Path first;
+        Path second;
+        try (DocumentArtifactCache.Lease lease = cache.acquire("a-4", loader(new byte[900]))) {
+            first = lease.getArtifact().getContent().getPath();
+        }
+        try (DocumentArtifactCache.Lease lease = cache.acquire("a-5", loader(new byte[900]))) {
+            second = lease.getArtifact().getContent().getPath();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (Files.exists(first) && Files.exists(second) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.exists(first) ^ Files.exists(second));
+    }
+
+    @Test
+    @DisplayName("缩略图只渲染一次")
+    void thumbnails_renderedOnce() throws Exception {
+        AtomicInteger renders = new AtomicInteger();
+        DocumentArtifact.ThumbnailRenderer renderer = () -> {
+            renders.incrementAndGet();
+            return List.of(new byte[]{1}, new byte[]{2});
+        };
+
+        try (DocumentArtifactCache.Lease lease = cache.acquire("a-6", loader("pdf".getBytes()))) {
+            cache.thumbnails(lease, "classification", renderer);
+        }
+        try (DocumentArtifactCache.Lease lease = cache.peek("a-6").orElseThrow()) {
+            List<byte[]> images = cache.thumbnails(lease, "classification", renderer);
+            assertEquals(2, images.size());
+            assertArrayEquals(new byte[]{2}, images.get(1));
+        }
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    @DisplayName("关闭缓存时句柄关闭后立即删除文件")
+    void disabled_deletesOnClose() throws Exception {
+        cache.shutdown();
+        cache = newCache(false, 1024L * 1024);
+
+        Path contentPath;
+        try (DocumentArtifactCache.Lease lease = cache.acquire("a-7", loader("pdf".getBytes()))) {
+            contentPath = lease.getArtifact().getContent().getPath();
+            assertTrue(Files.exists(contentPath));
+        }
+        assertFalse(Files.exists(contentPath));
+        assertTrue(cache.peek("a-7").isEmpty());
+    }
+
+    @Test
+    @DisplayName("共用根目录的实例启动时不清理其他实例的产物")
+    void init_keepsOtherInstancesArtifacts() throws Exception {
+        try (DocumentArtifactCache.Lease lease = cache.acquire("a-8", loader("pdf".getBytes()))) {
+            Path contentPath = lease.getArtifact().getContent().getPath();
+
+            DocumentArtifactCache other = newCache(true, 1024L * 1024);
+            try {
+                assertTrue(Files.exists(contentPath));
+                assertArrayEquals("pdf".getBytes(), lease.getArtifact().readContent());
+            } finally {
+                other.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("启动时清理已退出进程遗留的实例目录")
+    void init_removesDirectoriesOfExitedInstances() throws Exception {
+        Path stale = Files.createDirectories(tempDir.resolve("artifacts").resolve("instance-999999999-stale"));
+        Files.write(stale.resolve("content.pdf"), "pdf".getBytes());
+        Path unrelated = Files.createDirectories(tempDir.resolve("artifacts").resolve("keep"));
+
+        DocumentArtifactCache other = newCache(true, 1024L * 1024);
+        other.shutdown();
+
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(unrelated));
+    }
+}
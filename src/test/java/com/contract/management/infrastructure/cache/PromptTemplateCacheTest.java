@@ -0,0 +1,143 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.domain.model.Prompt;
+import com.contract.management.domain.model.valueobject.AuditInfo;
+import com.contract.management.domain.model.valueobject.PromptContent;
+import com.contract.management.domain.model.valueobject.PromptType;
+import com.contract.management.domain.repository.PromptRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 提示词模板本地缓存测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("提示词模板本地缓存测试")
+class PromptTemplateCacheTest {
+
+    private static final String PROMPT_NAME = "合同分类";
+
+    private PromptRepository promptRepository;
+    private StringRedisTemplate stringRedisTemplate;
+    private PromptTemplateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        promptRepository = mock(PromptRepository.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        cache = new PromptTemplateCache(promptRepository, stringRedisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static List<Prompt> prompts(String content) {
+        return List.of(new Prompt(null, null, null, null,
+            PromptContent.of(content), true, null, null, (AuditInfo) null));
+    }
+
+    private String render() {
+        return cache.find(PROMPT_NAME, PromptType.INNER).orElseThrow().render(Map.of("CONTENT", "合同"));
+    }
+
+    @Test
+    @DisplayName("命中缓存时不访问数据库")
+    void find_returnsCachedTemplate() {
+        when(promptRepository.findByFilters(any())).thenReturn(prompts("v1:{CONTENT}"));
+
+        assertEquals("v1:合同", render());
+        assertEquals("v1:合同", render());
+
+        verify(promptRepository, times(1)).findByFilters(any());
+    }
+
+    @Test
+    @DisplayName("提示词不存在时返回空且不缓存")
+    void find_returnsEmptyWhenMissing() {
+        when(promptRepository.findByFilters(any())).thenReturn(List.of());
+
+        assertTrue(cache.find(PROMPT_NAME, PromptType.INNER).isEmpty());
+        assertTrue(cache.find(PROMPT_NAME, PromptType.INNER).isEmpty());
+
+        verify(promptRepository, times(2)).findByFilters(any());
+    }
+
+    @Test
+    @DisplayName("提示词变更后清空本地缓存并通知其他节点")
+    void invalidateAll_reloadsAndPublishes() {
+        when(promptRepository.findByFilters(any())).thenReturn(prompts("v1:{CONTENT}"), prompts("v2:{CONTENT}"));
+        render();
+
+        cache.invalidateAll();
+
+        assertEquals("v2:合同", render());
+        verify(stringRedisTemplate).convertAndSend(eq(PromptTemplateCache.INVALIDATION_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("存在事务时提交后才清空缓存")
+    void invalidateAll_defersUntilCommit() {
+        when(promptRepository.findByFilters(any())).thenReturn(prompts("v1:{CONTENT}"), prompts("v2:{CONTENT}"));
+        render();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAll();
+        assertEquals("v1:合同", render());
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals("v2:合同", render());
+        verify(stringRedisTemplate).convertAndSend(eq(PromptTemplateCache.INVALIDATION_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("收到其他节点的失效通知时清空本地缓存")
+    void onMessage_clearsLocalCache() {
+        when(promptRepository.findByFilters(any())).thenReturn(prompts("v1:{CONTENT}"), prompts("v2:{CONTENT}"));
+        render();
+
+        cache.onMessage(new DefaultMessage(PromptTemplateCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "1".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertEquals("v2:合同", render());
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("读库期间发生失效时不缓存读到的旧模板")
+    void find_doesNotCacheTemplateLoadedBeforeInvalidation() {
+        when(promptRepository.findByFilters(any()))
+            .thenAnswer(invocation -> {
+                // 读到旧版本后、放入缓存前，另一事务提交了变更
+                cache.invalidateAll();
+                return prompts("v1:{CONTENT}");
+            })
+            .thenReturn(prompts("v2:{CONTENT}"));
+
+        assertEquals("v1:合同", render());
+        assertEquals("v2:合同", render());
+        assertEquals("v2:合同", render());
+
+        verify(promptRepository, times(2)).findByFilters(any());
+    }
+}
@@ -0,0 +1,55 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.domain.model.Prompt;
+import com.contract.management.domain.model.valueobject.AuditInfo;
+import com.contract.management.domain.model.valueobject.PromptContent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 预编译提示词模板测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("预编译提示词模板测试")
+class PromptTemplateTest {
+
+    private static PromptTemplate compile(String content) {
+        return PromptTemplate.compile(new Prompt(null, null, null, null,
+            PromptContent.of(content), true, null, null, (AuditInfo) null));
+    }
+
+    @Test
+    @DisplayName("渲染结果与String.replace一致")
+    void render_matchesStringReplace() {
+        String content = "请对以下合同分类：\n{CONTENT}\n再次引用：{CONTENT}";
+        PromptTemplate template = compile(content);
+
+        String rendered = template.render(Map.of("CONTENT", "甲方乙方"));
+
+        assertEquals(content.replace("{CONTENT}", "甲方乙方"), rendered);
+    }
+
+    @Test
+    @DisplayName("未提供值的占位符与JSON花括号原样保留")
+    void render_keepsUnknownPlaceholdersAndJson() {
+        String content = "{\"contractType\": \"X\"} {OTHER} {CONTENT}";
+        PromptTemplate template = compile(content);
+
+        assertEquals("{\"contractType\": \"X\"} {OTHER} text", template.render(Map.of("CONTENT", "text")));
+        assertEquals(content, template.getContent());
+    }
+
+    @Test
+    @DisplayName("无占位符模板直接返回原文")
+    void render_withoutPlaceholders() {
+        PromptTemplate template = compile("plain prompt");
+
+        assertEquals("plain prompt", template.render(Map.of()));
+    }
+}
@@ -0,0 +1,118 @@
+package com.contract.management.infrastructure.cache;
+
+import com.contract.management.domain.model.ReviewRule;
+import com.contract.management.domain.model.valueobject.*;
+import com.contract.management.infrastructure.converter.ReviewRuleConverter;
+import com.contract.management.infrastructure.mapper.ReviewRuleMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 审查规则内存索引测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("审查规则内存索引测试")
+class ReviewRuleIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private ReviewRuleMapper reviewRuleMapper;
+    private StringRedisTemplate stringRedisTemplate;
+    private ReviewRuleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        reviewRuleMapper = mock(ReviewRuleMapper.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        index = new ReviewRuleIndex(reviewRuleMapper, stringRedisTemplate);
+        when(reviewRuleMapper.findByEnabled(true)).thenReturn(ReviewRuleConverter.toEntityList(List.of(
+            rule(1L, RuleType.SPECIFIC, ApplicableContractTypes.of("采购合同"), PromptMode.STANDARD, 1),
+            rule(2L, RuleType.FALLBACK, ApplicableContractTypes.fallback(), PromptMode.EFFICIENCY, 2),
+            rule(3L, RuleType.SPECIFIC, ApplicableContractTypes.of("采购合同", "销售合同"), PromptMode.EFFICIENCY, 3),
+            rule(4L, RuleType.EXTENDED, ApplicableContractTypes.of("采购合同"), PromptMode.STRICT, 4),
+            rule(5L, RuleType.SPECIFIC, ApplicableContractTypes.of("销售合同"), PromptMode.EFFICIENCY, 5))));
+    }
+
+    private static ReviewRule rule(Long id, RuleType ruleType, ApplicableContractTypes contractTypes,
+                                   PromptMode promptMode, int createdDays) {
+        return new ReviewRule(ReviewRuleId.of(id), RuleName.of("规则" + id), ruleType, contractTypes,
+            ApplicableClauseTypes.of("质量条款"), RuleContent.of("规则内容" + id), promptMode, true,
+            BASE_TIME.plusDays(createdDays), BASE_TIME.plusDays(createdDays), null);
+    }
+
+    private static List<Long> ids(List<ReviewRule> rules) {
+        return rules.stream().map(rule -> rule.getId().getValue()).toList();
+    }
+
+    @Test
+    @DisplayName("按合同类型和条款类型匹配，包含兜底规则，按专属、兜底、扩展及创建时间倒序排列")
+    void findApplicable_matchesContractAndClauseType() {
+        List<ReviewRule> rules = index.findApplicable("采购合同", "质量条款", null);
+
+        assertEquals(List.of(3L, 1L, 2L, 4L), ids(rules));
+        assertTrue(index.findApplicable("采购合同", "付款条款", null).isEmpty());
+        assertEquals(List.of(2L), ids(index.findApplicable("租赁合同", "质量条款", null)));
+    }
+
+    @Test
+    @DisplayName("按模式过滤规则，同类型内按模式编码、创建时间倒序排列")
+    void findApplicable_filtersByPromptMode() {
+        assertEquals(List.of(3L, 2L), ids(index.findApplicable("采购合同", "质量条款", PromptMode.EFFICIENCY)));
+        assertEquals(List.of(3L, 1L, 2L), ids(index.findApplicable("采购合同", "质量条款", PromptMode.STANDARD)));
+        assertEquals(List.of(3L, 1L, 2L, 4L), ids(index.findApplicable("采购合同", "质量条款", PromptMode.STRICT)));
+    }
+
+    @Test
+    @DisplayName("快照加载后重复查询不访问数据库")
+    void findApplicable_loadsSnapshotOnce() {
+        index.findApplicable("采购合同", "质量条款", null);
+        index.findApplicable("销售合同", "质量条款", PromptMode.STRICT);
+
+        verify(reviewRuleMapper, times(1)).findByEnabled(true);
+    }
+
+    @Test
+    @DisplayName("规则变更后作废本地快照并通知其他节点")
+    void invalidateAll_reloadsAndPublishes() {
+        index.findApplicable("采购合同", "质量条款", null);
+
+        index.invalidateAll();
+        index.findApplicable("采购合同", "质量条款", null);
+
+        verify(reviewRuleMapper, times(2)).findByEnabled(true);
+        verify(stringRedisTemplate).convertAndSend(eq(ReviewRuleIndex.CHANGE_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("收到其他节点的变更通知时作废快照，忽略本节点发出的通知")
+    void onMessage_invalidatesOnlyForOtherNodes() {
+        index.findApplicable("采购合同", "质量条款", null);
+        index.invalidateAll();
+        index.findApplicable("采购合同", "质量条款", null);
+        String ownNodeId = (String) mockingDetails(stringRedisTemplate).getInvocations().iterator().next()
+            .getArguments()[1];
+
+        index.onMessage(new DefaultMessage(ReviewRuleIndex.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            ownNodeId.getBytes(StandardCharsets.UTF_8)), null);
+        index.findApplicable("采购合同", "质量条款", null);
+        verify(reviewRuleMapper, times(2)).findByEnabled(true);
+
+        index.onMessage(new DefaultMessage(ReviewRuleIndex.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "other-node".getBytes(StandardCharsets.UTF_8)), null);
+        index.findApplicable("采购合同", "质量条款", null);
+        verify(reviewRuleMapper, times(3)).findByEnabled(true);
+    }
+}
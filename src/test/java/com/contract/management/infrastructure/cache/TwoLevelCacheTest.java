@@ -0,0 +1,174 @@
+package com.contract.management.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 两级缓存测试
+ * 以内存缓存模拟Redis L2
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("两级缓存测试")
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remoteCache;
+    private StringRedisTemplate stringRedisTemplate;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache(CacheNames.CONTRACT_DETAIL, false);
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        when(redisCacheManager.getCacheNames()).thenReturn(Set.of(CacheNames.CONTRACT_DETAIL));
+        when(redisCacheManager.getCache(CacheNames.CONTRACT_DETAIL)).thenReturn(remoteCache);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+
+        cacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate,
+            Map.of(CacheNames.CONTRACT_DETAIL, Duration.ofMinutes(30)), 100, Duration.ofMinutes(1), Duration.ZERO);
+        cacheManager.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.destroy();
+    }
+
+    private Cache detailCache() {
+        return cacheManager.getCache(CacheNames.CONTRACT_DETAIL);
+    }
+
+    @Test
+    @DisplayName("未命中时只加载一次并写入两级，之后从本地读取")
+    void get_loadsOnceAndFillsBothLevels() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = detailCache().get(1L, () -> "contract-" + calls.incrementAndGet());
+        remoteCache.clear();
+        String second = detailCache().get(1L, () -> "contract-" + calls.incrementAndGet());
+
+        assertEquals("contract-1", first);
+        assertEquals("contract-1", second);
+        assertEquals(1, calls.get());
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("本地未命中时从Redis读取并回填本地，加载结果为null时不缓存")
+    void get_backfillsFromRemoteAndSkipsNull() {
+        remoteCache.put(2L, "remote");
+
+        assertEquals("remote", detailCache().get(2L, () -> "loaded"));
+        assertNull(detailCache().get(3L, () -> null));
+        assertNull(remoteCache.get(3L));
+        assertEquals("loaded", detailCache().get(3L, () -> "loaded"));
+    }
+
+    @Test
+    @DisplayName("删除同时作用于两级并通知其他节点")
+    void evict_removesBothLevelsAndPublishes() {
+        detailCache().put(4L, "contract");
+
+        detailCache().evict(4L);
+
+        assertNull(remoteCache.get(4L));
+        assertNull(detailCache().get(4L));
+        verify(stringRedisTemplate, times(2)).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL),
+            endsWith("\n" + CacheNames.CONTRACT_DETAIL + "\n4"));
+    }
+
+    @Test
+    @DisplayName("其他节点的失效通知只删除本地条目，忽略本节点发出的通知")
+    void onMessage_invalidatesLocalOnlyForOtherNodes() {
+        detailCache().put(5L, "old");
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), body.capture());
+
+        // 模拟其他节点已更新Redis
+        remoteCache.put(5L, "new");
+        cacheManager.onMessage(message(body.getValue()), null);
+        assertEquals("old", detailCache().get(5L).get());
+
+        cacheManager.onMessage(message("other-node\n" + CacheNames.CONTRACT_DETAIL + "\n5"), null);
+        assertEquals("new", detailCache().get(5L).get());
+
+        remoteCache.put(5L, "newer");
+        cacheManager.onMessage(message("other-node\n" + CacheNames.CONTRACT_DETAIL + "\n"), null);
+        assertEquals("newer", detailCache().get(5L).get());
+    }
+
+    @Test
+    @DisplayName("Redis不可用时回退到加载逻辑")
+    void get_fallsBackWhenRemoteUnavailable() {
+        Cache failingRemote = mock(Cache.class);
+        when(failingRemote.get(any())).thenThrow(new IllegalStateException("redis down"));
+        doThrow(new IllegalStateException("redis down")).when(failingRemote).put(any(), any());
+        TwoLevelCache cache = new TwoLevelCache("test", failingRemote,
+            com.github.benmanes.caffeine.cache.Caffeine.newBuilder().maximumSize(10).build(), (name, key) -> { },
+            eviction -> { });
+
+        assertEquals("loaded", cache.get(6L, () -> "loaded"));
+        assertEquals("loaded", cache.get(6L).get());
+    }
+
+    @Test
+    @DisplayName("延迟二次删除清除其他节点在删除后写入Redis的旧值")
+    void evict_deletesAgainAfterDelay() {
+        List<Runnable> delayed = new ArrayList<>();
+        TwoLevelCache cache = new TwoLevelCache(CacheNames.CONTRACT_DETAIL, remoteCache,
+            com.github.benmanes.caffeine.cache.Caffeine.newBuilder().maximumSize(10).build(), (name, key) -> { },
+            delayed::add);
+        cache.put(7L, "old");
+
+        cache.evict(7L);
+        // 其他节点删除前读到提交前的数据，删除后才写入Redis
+        remoteCache.put(7L, "old");
+        assertEquals("old", cache.get(7L).get());
+
+        assertEquals(1, delayed.size());
+        delayed.get(0).run();
+        assertNull(remoteCache.get(7L));
+        assertEquals("new", cache.get(7L, () -> "new"));
+    }
+
+    @Test
+    @DisplayName("清空缓存同样延迟后再清空一次")
+    void clear_clearsAgainAfterDelay() {
+        List<Runnable> delayed = new ArrayList<>();
+        TwoLevelCache cache = new TwoLevelCache(CacheNames.CONTRACT_DETAIL, remoteCache,
+            com.github.benmanes.caffeine.cache.Caffeine.newBuilder().maximumSize(10).build(), (name, key) -> { },
+            delayed::add);
+
+        cache.clear();
+        remoteCache.put(8L, "old");
+        delayed.forEach(Runnable::run);
+
+        assertNull(remoteCache.get(8L));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,146 @@
+package com.contract.management.infrastructure.job;
+
+import com.contract.management.domain.model.valueobject.ExtractionId;
+import com.contract.management.domain.model.valueobject.ExtractionStatus;
+import com.contract.management.infrastructure.entity.ClauseExtractionEntity;
+import com.contract.management.infrastructure.mapper.ClauseExtractionMapper;
+import com.contract.management.infrastructure.messaging.ClauseExtractionProgressPublisher;
+import com.contract.management.infrastructure.service.ClauseExtractionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 条款抽取任务工作节点测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("条款抽取任务工作节点测试")
+class ClauseExtractionJobWorkerTest {
+
+    private ClauseExtractionMapper clauseExtractionMapper;
+    private ClauseExtractionService clauseExtractionService;
+    private ClauseExtractionProgressPublisher progressPublisher;
+    private List<Runnable> submitted;
+    private ClauseExtractionJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        clauseExtractionMapper = mock(ClauseExtractionMapper.class);
+        clauseExtractionService = mock(ClauseExtractionService.class);
+        progressPublisher = mock(ClauseExtractionProgressPublisher.class);
+        submitted = new ArrayList<>();
+        Executor executor = submitted::add;
+
+        worker = new ClauseExtractionJobWorker(clauseExtractionMapper, clauseExtractionService,
+            progressPublisher, executor);
+        ReflectionTestUtils.setField(worker, "enabled", true);
+        ReflectionTestUtils.setField(worker, "concurrency", 2);
+        ReflectionTestUtils.setField(worker, "leaseSeconds", 120L);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+    }
+
+    private static ClauseExtractionEntity job(long id) {
+        ClauseExtractionEntity entity = new ClauseExtractionEntity();
+        entity.setId(id);
+        entity.setContractId(100L + id);
+        entity.setFileUuid("file-" + id);
+        entity.setAttempts(1);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("只按空闲槽位领取任务")
+    void poll_claimsOnlyFreeSlots() {
+        when(clauseExtractionMapper.claimJobs(anyString(), eq(2), eq(120L), eq(3))).thenReturn(List.of(job(1)));
+
+        worker.poll();
+        worker.poll();
+
+        verify(clauseExtractionMapper).claimJobs(anyString(), eq(2), eq(120L), eq(3));
+        verify(clauseExtractionMapper).claimJobs(anyString(), eq(1), eq(120L), eq(3));
+        assertEquals(1, submitted.size());
+    }
+
+    @Test
+    @DisplayName("任务执行完成后释放租约并腾出槽位")
+    void run_releasesLeaseAfterCompletion() {
+        when(clauseExtractionMapper.claimJobs(anyString(), anyInt(), anyLong(), anyInt())).thenReturn(List.of(job(1)));
+        when(clauseExtractionMapper.countHeldLease(eq(1L), anyString())).thenReturn(1);
+        doAnswer(invocation -> {
+            BooleanSupplier leaseHeld = invocation.getArgument(3);
+            assertTrue(leaseHeld.getAsBoolean());
+            return null;
+        }).when(clauseExtractionService).extractClauses(eq(ExtractionId.of(1L)), eq(101L), eq("file-1"), any());
+
+        worker.poll();
+        submitted.get(0).run();
+
+        verify(clauseExtractionService).extractClauses(eq(ExtractionId.of(1L)), eq(101L), eq("file-1"), any());
+        verify(clauseExtractionMapper).releaseLease(eq(1L), anyString());
+
+        worker.heartbeat();
+        verify(clauseExtractionMapper, never()).renewLease(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("续约失败时中断本地执行并腾出槽位")
+    void heartbeat_cancelsJobWhenLeaseLost() {
+        when(clauseExtractionMapper.claimJobs(anyString(), anyInt(), anyLong(), anyInt()))
+            .thenReturn(List.of(job(1)), List.of());
+        when(clauseExtractionMapper.renewLease(eq(1L), anyString(), eq(120L))).thenReturn(0);
+
+        worker.poll();
+        worker.heartbeat();
+        worker.poll();
+        submitted.get(0).run();
+
+        verifyNoInteractions(clauseExtractionService);
+        verify(clauseExtractionMapper, times(2)).claimJobs(anyString(), eq(2), eq(120L), eq(3));
+        worker.heartbeat();
+        verify(clauseExtractionMapper, times(1)).renewLease(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("线程池拒绝时租约立即过期，任务交还队列")
+    void poll_expiresLeaseWhenRejected() {
+        worker = new ClauseExtractionJobWorker(clauseExtractionMapper, clauseExtractionService,
+            progressPublisher, task -> {
+                throw new RejectedExecutionException("full");
+            });
+        ReflectionTestUtils.setField(worker, "enabled", true);
+        ReflectionTestUtils.setField(worker, "concurrency", 2);
+        when(clauseExtractionMapper.claimJobs(anyString(), anyInt(), anyLong(), anyInt())).thenReturn(List.of(job(1)));
+
+        worker.poll();
+
+        verify(clauseExtractionMapper).expireLease(eq(1L), anyString());
+        worker.poll();
+        verify(clauseExtractionMapper, times(2)).claimJobs(anyString(), eq(2), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("超过最大领取次数的任务标记失败后推送终态事件")
+    void failExhaustedJobs_publishesFinalEvents() {
+        when(clauseExtractionMapper.failExhaustedJobs(eq(3), anyString())).thenReturn(List.of(job(1), job(2)));
+
+        worker.failExhaustedJobs();
+
+        verify(progressPublisher).publish(argThat(event -> event.getExtractionId() == 1L
+            && event.getContractId() == 101L && ExtractionStatus.FAILED.name().equals(event.getStatus())
+            && event.isFinalState()));
+        verify(progressPublisher, times(2)).publish(any());
+    }
+}
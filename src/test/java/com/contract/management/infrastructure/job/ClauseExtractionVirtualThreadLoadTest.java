@@ -0,0 +1,139 @@
+package com.contract.management.infrastructure.job;
+
+import com.contract.management.infrastructure.entity.ClauseExtractionEntity;
+import com.contract.management.infrastructure.mapper.ClauseExtractionMapper;
+import com.contract.management.infrastructure.messaging.ClauseExtractionProgressPublisher;
+import com.contract.management.infrastructure.service.ClauseExtractionService;
+import com.contract.management.infrastructure.util.BoundedVirtualThreadExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 条款抽取虚拟线程负载测试
+ * 模拟阻塞在AI与文件服务网络I/O上的抽取任务，对比平台线程池与虚拟线程模式下同时在途的任务数
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("条款抽取虚拟线程负载测试")
+class ClauseExtractionVirtualThreadLoadTest {
+
+    private static final int PLATFORM_POOL_SIZE = 5;
+    private static final int JOB_COUNT = 200;
+
+    private ClauseExtractionMapper clauseExtractionMapper;
+    private ClauseExtractionService clauseExtractionService;
+    private CountDownLatch release;
+    private AtomicInteger inFlight;
+    private AtomicInteger peakInFlight;
+
+    @BeforeEach
+    void setUp() {
+        clauseExtractionMapper = mock(ClauseExtractionMapper.class);
+        clauseExtractionService = mock(ClauseExtractionService.class);
+        release = new CountDownLatch(1);
+        inFlight = new AtomicInteger();
+        peakInFlight = new AtomicInteger();
+
+        when(clauseExtractionMapper.claimJobs(anyString(), anyInt(), anyLong(), anyInt()))
+            .thenAnswer(invocation -> jobs(invocation.getArgument(1)));
+        doAnswer(invocation -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                // 模拟等待模型响应
+                release.await(30, TimeUnit.SECONDS);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return null;
+        }).when(clauseExtractionService).extractClauses(any(), anyLong(), anyString(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    private static List<ClauseExtractionEntity> jobs(int limit) {
+        List<ClauseExtractionEntity> jobs = new ArrayList<>();
+        for (long id = 1; id <= Math.min(limit, JOB_COUNT); id++) {
+            ClauseExtractionEntity entity = new ClauseExtractionEntity();
+            entity.setId(id);
+            entity.setContractId(id);
+            entity.setFileUuid("file-" + id);
+            entity.setAttempts(1);
+            jobs.add(entity);
+        }
+        return jobs;
+    }
+
+    private ClauseExtractionJobWorker worker(Executor executor, boolean virtualThreads) {
+        ClauseExtractionJobWorker worker = new ClauseExtractionJobWorker(clauseExtractionMapper, clauseExtractionService,
+            mock(ClauseExtractionProgressPublisher.class), executor);
+        ReflectionTestUtils.setField(worker, "enabled", true);
+        ReflectionTestUtils.setField(worker, "concurrency", PLATFORM_POOL_SIZE);
+        ReflectionTestUtils.setField(worker, "virtualConcurrency", JOB_COUNT);
+        ReflectionTestUtils.setField(worker, "virtualThreads", virtualThreads);
+        ReflectionTestUtils.setField(worker, "leaseSeconds", 120L);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        return worker;
+    }
+
+    private void awaitInFlight(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (inFlight.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("平台线程池模式下在途任务数受线程数限制")
+    void platformPool_capsInFlightJobs() throws InterruptedException {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(PLATFORM_POOL_SIZE);
+        executor.setMaxPoolSize(PLATFORM_POOL_SIZE);
+        executor.setQueueCapacity(PLATFORM_POOL_SIZE);
+        executor.initialize();
+        try {
+            worker(executor, false).poll();
+            awaitInFlight(PLATFORM_POOL_SIZE);
+            Thread.sleep(200);
+
+            assertEquals(PLATFORM_POOL_SIZE, peakInFlight.get());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("虚拟线程模式下在途任务数不再受线程池大小限制")
+    void virtualThreads_runAllJobsConcurrently() throws InterruptedException {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("clause-ext-vt-", JOB_COUNT);
+
+        worker(executor, true).poll();
+        awaitInFlight(JOB_COUNT);
+
+        assertEquals(JOB_COUNT, peakInFlight.get());
+        assertEquals(JOB_COUNT, executor.getActiveCount());
+        release.countDown();
+    }
+}
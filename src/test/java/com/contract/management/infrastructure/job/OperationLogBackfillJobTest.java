@@ -0,0 +1,145 @@
+package com.contract.management.infrastructure.job;
+
+import com.contract.management.infrastructure.dto.OperationLogPartition;
+import com.contract.management.infrastructure.mapper.OperationLogMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 操作日志抽取ID列在线回填测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("操作日志抽取ID列在线回填测试")
+class OperationLogBackfillJobTest {
+
+    private static final String NAME = OperationLogBackfillJob.BACKFILL_NAME;
+
+    private OperationLogMapper operationLogMapper;
+    private ResultSet lockResult;
+    private OperationLogBackfillJob job;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        operationLogMapper = mock(OperationLogMapper.class);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        lockResult = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getBoolean(1)).thenReturn(true);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+            .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        job = new OperationLogBackfillJob(operationLogMapper, jdbcTemplate);
+        ReflectionTestUtils.setField(job, "enabled", true);
+        ReflectionTestUtils.setField(job, "batchSize", 100);
+        ReflectionTestUtils.setField(job, "pauseMs", 0L);
+        when(operationLogMapper.advanceBackfill(eq(NAME), anyLong(), anyLong())).thenReturn(1);
+    }
+
+    private static OperationLogPartition partition(String name) {
+        OperationLogPartition partition = new OperationLogPartition();
+        partition.setName(name);
+        return partition;
+    }
+
+    @Test
+    @DisplayName("从断点按ID区间分批回填，完成后为未建索引的分区建索引并标记完成")
+    void run_backfillsInBatchesThenIndexes() throws InterruptedException {
+        when(operationLogMapper.findBackfillProgress(NAME)).thenReturn(50L);
+        when(operationLogMapper.findBackfillLastId(NAME)).thenReturn(50L, 50L, 250L);
+        when(operationLogMapper.findMaxId()).thenReturn(250L);
+        when(operationLogMapper.backfillExtractionColumns(anyLong(), anyLong())).thenReturn(10);
+        when(operationLogMapper.listPartitions()).thenReturn(List.of(
+            partition("operation_log_history"), partition("operation_log_p202511")));
+        when(operationLogMapper.findPartitionsWithIndex(anyString())).thenReturn(List.of("operation_log_p202511"));
+
+        job.run();
+
+        verify(operationLogMapper).backfillExtractionColumns(50L, 150L);
+        verify(operationLogMapper).backfillExtractionColumns(150L, 250L);
+        verify(operationLogMapper, times(2)).backfillExtractionColumns(anyLong(), anyLong());
+        verify(operationLogMapper).createExtractionIdIndex("operation_log_history");
+        verify(operationLogMapper).attachPartitionIndex(OperationLogBackfillJob.EXTRACTION_ID_INDEX,
+            "operation_log_history_extraction_id_idx");
+        verify(operationLogMapper).createContractIdIndex("operation_log_history");
+        verify(operationLogMapper, never()).createExtractionIdIndex("operation_log_p202511");
+        verify(operationLogMapper).completeBackfill(NAME);
+    }
+
+    @Test
+    @DisplayName("进度被其他节点推进时从新的进度继续")
+    void run_followsProgressOfOtherNodes() throws InterruptedException {
+        when(operationLogMapper.findBackfillProgress(NAME)).thenReturn(0L);
+        when(operationLogMapper.findBackfillLastId(NAME)).thenReturn(0L, 0L, 200L, 300L);
+        when(operationLogMapper.findMaxId()).thenReturn(300L);
+        when(operationLogMapper.advanceBackfill(NAME, 0L, 100L)).thenReturn(0);
+
+        job.run();
+
+        verify(operationLogMapper).backfillExtractionColumns(0L, 100L);
+        verify(operationLogMapper, never()).backfillExtractionColumns(100L, 200L);
+        verify(operationLogMapper).backfillExtractionColumns(200L, 300L);
+        verify(operationLogMapper).completeBackfill(NAME);
+    }
+
+    @Test
+    @DisplayName("回填期间未升级节点写入新日志时继续回填到新的最大ID，直到一轮没有可回填的行")
+    void run_repeatsUntilPassFindsNothing() throws InterruptedException {
+        when(operationLogMapper.findBackfillProgress(NAME)).thenReturn(0L);
+        when(operationLogMapper.findBackfillLastId(NAME)).thenReturn(0L, 0L, 100L, 150L);
+        when(operationLogMapper.findMaxId()).thenReturn(100L, 150L, 150L);
+        when(operationLogMapper.backfillExtractionColumns(0L, 100L)).thenReturn(80);
+        when(operationLogMapper.backfillExtractionColumns(100L, 150L)).thenReturn(5);
+
+        job.run();
+
+        verify(operationLogMapper).backfillExtractionColumns(100L, 150L);
+        verify(operationLogMapper, times(2)).backfillExtractionColumns(anyLong(), anyLong());
+        verify(operationLogMapper).completeBackfill(NAME);
+    }
+
+    @Test
+    @DisplayName("未获得咨询锁时不建索引也不标记完成")
+    void run_skipsIndexingWithoutLock() throws Exception {
+        when(operationLogMapper.findBackfillProgress(NAME)).thenReturn(0L);
+        when(operationLogMapper.findBackfillLastId(NAME)).thenReturn(0L);
+        when(lockResult.getBoolean(1)).thenReturn(false);
+
+        job.run();
+
+        verify(operationLogMapper, never()).listPartitions();
+        verify(operationLogMapper, never()).completeBackfill(anyString());
+    }
+
+    @Test
+    @DisplayName("回填已完成时只补偿回填新日志，不再建索引")
+    void run_catchesUpWhenCompleted() throws InterruptedException {
+        when(operationLogMapper.findBackfillProgress(NAME)).thenReturn(null);
+        when(operationLogMapper.findBackfillLastId(NAME)).thenReturn(300L, 300L, 320L);
+        when(operationLogMapper.findMaxId()).thenReturn(320L);
+        when(operationLogMapper.backfillExtractionColumns(300L, 320L)).thenReturn(3);
+
+        job.run();
+
+        verify(operationLogMapper).backfillExtractionColumns(300L, 320L);
+        verify(operationLogMapper, never()).listPartitions();
+        verify(operationLogMapper, never()).completeBackfill(anyString());
+    }
+}
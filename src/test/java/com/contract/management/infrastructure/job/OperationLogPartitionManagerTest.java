@@ -0,0 +1,120 @@
+package com.contract.management.infrastructure.job;
+
+import com.contract.management.infrastructure.dto.OperationLogPartition;
+import com.contract.management.infrastructure.mapper.OperationLogMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 操作日志分区管理测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("操作日志分区管理测试")
+class OperationLogPartitionManagerTest {
+
+    private OperationLogMapper operationLogMapper;
+    private OperationLogPartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        operationLogMapper = mock(OperationLogMapper.class);
+        manager = new OperationLogPartitionManager(operationLogMapper);
+        ReflectionTestUtils.setField(manager, "enabled", true);
+        ReflectionTestUtils.setField(manager, "premakeMonths", 2);
+    }
+
+    private static OperationLogPartition partition(String name, String bound, long rows, boolean detachPending) {
+        OperationLogPartition partition = new OperationLogPartition();
+        partition.setName(name);
+        partition.setBound(bound);
+        partition.setEstimatedRows(rows);
+        partition.setDetachPending(detachPending);
+        return partition;
+    }
+
+    @Test
+    @DisplayName("只预建已有分区未覆盖的月份")
+    void ensurePartitions_createsUncoveredMonths() {
+        when(operationLogMapper.listPartitions()).thenReturn(List.of(
+            partition("operation_log_history", "FOR VALUES FROM (MINVALUE) TO ('2025-03-01 00:00:00')", 0, false)));
+
+        manager.ensurePartitions(LocalDate.of(2025, 2, 15));
+
+        verify(operationLogMapper).createPartition("operation_log_p202503", "2025-03-01", "2025-04-01");
+        verify(operationLogMapper).createPartition("operation_log_p202504", "2025-04-01", "2025-05-01");
+        verify(operationLogMapper, times(2)).createPartition(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("默认分区中已有该月日志时建表后移入，否则直接创建分区")
+    void ensurePartitions_movesRowsOutOfDefaultPartition() {
+        when(operationLogMapper.listPartitions()).thenReturn(List.of(
+            partition("operation_log_history", "FOR VALUES FROM (MINVALUE) TO ('2025-03-01 00:00:00')", 0, false),
+            partition("operation_log_default", "DEFAULT", 10, false)));
+        when(operationLogMapper.existsInDefaultPartition("operation_log_default", "2025-03-01", "2025-04-01"))
+            .thenReturn(true);
+
+        manager.ensurePartitions(LocalDate.of(2025, 3, 5));
+
+        verify(operationLogMapper).createPartitionFromDefault(
+            "operation_log_p202503", "operation_log_default", "2025-03-01", "2025-04-01");
+        verify(operationLogMapper, never()).createPartition(eq("operation_log_p202503"), anyString(), anyString());
+        verify(operationLogMapper).createPartition("operation_log_p202504", "2025-04-01", "2025-05-01");
+        verify(operationLogMapper).createPartition("operation_log_p202505", "2025-05-01", "2025-06-01");
+    }
+
+    @Test
+    @DisplayName("默认分区不分离，逐行删除其中的过期日志")
+    void dropPartitionsBefore_deletesExpiredRowsFromDefaultPartition() {
+        LocalDateTime cutoff = LocalDateTime.of(2025, 2, 10, 0, 0);
+        when(operationLogMapper.listPartitions()).thenReturn(List.of(
+            partition("operation_log_default", "DEFAULT", 10, false)));
+        when(operationLogMapper.deleteFromDefaultPartition("operation_log_default", cutoff)).thenReturn(4);
+
+        assertEquals(4, manager.dropPartitionsBefore(cutoff));
+
+        verify(operationLogMapper, never()).detachPartitionConcurrently(anyString());
+        verify(operationLogMapper, never()).dropPartitionTable(anyString());
+    }
+
+    @Test
+    @DisplayName("只删除上界不晚于截止时间的分区，先分离再删除")
+    void dropPartitionsBefore_dropsWholeExpiredPartitions() {
+        when(operationLogMapper.listPartitions()).thenReturn(List.of(
+            partition("operation_log_history", "FOR VALUES FROM (MINVALUE) TO ('2025-01-01 00:00:00')", 1000, false),
+            partition("operation_log_p202501", "FOR VALUES FROM ('2025-01-01 00:00:00') TO ('2025-02-01 00:00:00')", 200, true),
+            partition("operation_log_p202502", "FOR VALUES FROM ('2025-02-01 00:00:00') TO ('2025-03-01 00:00:00')", 300, false)));
+
+        long dropped = manager.dropPartitionsBefore(LocalDateTime.of(2025, 2, 10, 0, 0));
+
+        assertEquals(1200, dropped);
+        InOrder inOrder = inOrder(operationLogMapper);
+        inOrder.verify(operationLogMapper).detachPartitionConcurrently("operation_log_history");
+        inOrder.verify(operationLogMapper).dropPartitionTable("operation_log_history");
+        inOrder.verify(operationLogMapper).finalizeDetachPartition("operation_log_p202501");
+        inOrder.verify(operationLogMapper).dropPartitionTable("operation_log_p202501");
+        verify(operationLogMapper, never()).dropPartitionTable("operation_log_p202502");
+    }
+
+    @Test
+    @DisplayName("解析分区上界")
+    void upperBound() {
+        assertEquals(LocalDateTime.of(2025, 2, 1, 0, 0),
+            OperationLogPartitionManager.upperBound("FOR VALUES FROM (MINVALUE) TO ('2025-02-01 00:00:00')"));
+        assertNull(OperationLogPartitionManager.upperBound("FOR VALUES FROM ('2025-02-01 00:00:00') TO (MAXVALUE)"));
+        assertNull(OperationLogPartitionManager.upperBound("DEFAULT"));
+    }
+}
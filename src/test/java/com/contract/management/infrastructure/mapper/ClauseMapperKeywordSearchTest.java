@@ -0,0 +1,200 @@
+package com.contract.management.infrastructure.mapper;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.baomidou.mybatisplus.extension.spring.MybatisSqlSessionFactoryBean;
+import com.contract.management.infrastructure.entity.ClauseEntity;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 条款关键词检索SQL测试
+ * 在PostgreSQL容器中执行全部迁移脚本，验证三元组索引迁移可执行，以及关键词过滤与相关度排序；
+ * 依赖Docker，不可用时跳过
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("条款关键词检索SQL测试")
+class ClauseMapperKeywordSearchTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static PGSimpleDataSource dataSource;
+    private static SqlSessionFactory sqlSessionFactory;
+
+    private SqlSession session;
+    private ClauseMapper clauseMapper;
+    private long contractId;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUser(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+
+        // 与application.yml一致：含CREATE INDEX CONCURRENTLY的迁移整体不在事务中执行
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .mixed(true)
+            .load()
+            .migrate();
+
+        MybatisConfiguration configuration = new MybatisConfiguration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
+        interceptor.addInnerInterceptor(new PaginationInnerInterceptor(DbType.POSTGRE_SQL));
+
+        MybatisSqlSessionFactoryBean factoryBean = new MybatisSqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setConfiguration(configuration);
+        factoryBean.setPlugins(interceptor);
+        factoryBean.setTypeHandlersPackage("com.contract.management.infrastructure.handler");
+        factoryBean.setMapperLocations(new PathMatchingResourcePatternResolver()
+            .getResources("classpath*:mapper/ClauseMapper.xml"));
+        sqlSessionFactory = factoryBean.getObject();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE clause");
+            try (ResultSet resultSet = statement.executeQuery(
+                "INSERT INTO contract(contract_name, created_by, updated_by) VALUES ('采购合同', 1, 1) RETURNING id")) {
+                resultSet.next();
+                contractId = resultSet.getLong(1);
+            }
+        }
+        session = sqlSessionFactory.openSession(true);
+        clauseMapper = session.getMapper(ClauseMapper.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        session.close();
+    }
+
+    private ClauseEntity insert(String title, String content, LocalDateTime createdTime, boolean deleted) {
+        ClauseEntity entity = new ClauseEntity();
+        entity.setContractId(contractId);
+        entity.setClauseType("PAYMENT");
+        entity.setClauseTitle(title);
+        entity.setClauseContent(content);
+        entity.setConfidenceScore(new BigDecimal("90.00"));
+        entity.setRiskLevel("MEDIUM");
+        entity.setCreatedTime(createdTime);
+        entity.setIsDeleted(deleted);
+        clauseMapper.insertBatch(List.of(entity));
+        return entity;
+    }
+
+    private static List<Long> ids(List<ClauseEntity> clauses) {
+        return clauses.stream().map(ClauseEntity::getId).toList();
+    }
+
+    @Test
+    @DisplayName("迁移后三元组与游标分页索引均已创建且有效")
+    void migrate_createsValidIndexes() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                 "SELECT COUNT(*) FROM pg_index WHERE indisvalid AND indexrelid::regclass::text IN ("
+                     + "'idx_clause_title_trgm', 'idx_clause_content_trgm', 'idx_contract_name_trgm', "
+                     + "'idx_contract_party_a_name_trgm', 'idx_contract_party_b_name_trgm', "
+                     + "'idx_contract_description_trgm', 'idx_contract_keyset', 'idx_clause_keyset', "
+                     + "'idx_prompt_keyset')")) {
+            resultSet.next();
+            assertEquals(9, resultSet.getInt(1));
+        }
+    }
+
+    @Test
+    @DisplayName("内容关键词检索忽略已删除条款，标题命中的条款排在前面")
+    void findByContentKeyword_ranksTitleMatchesFirst() {
+        LocalDateTime now = LocalDateTime.now();
+        ClauseEntity contentOnly = insert("第三条 交付", "乙方逾期交付的，应按日支付违约金", now, false);
+        ClauseEntity titleMatch = insert("第九条 违约金", "任何一方违约应承担责任", now.minusDays(1), false);
+        ClauseEntity partialTitle = insert("第十条 违约金与赔偿", "违约金不足以弥补损失的，应赔偿差额", now.minusDays(2), false);
+        insert("第五条 违约金", "已删除的条款", now, true);
+        insert("第一条 付款", "验收合格后30日内付款", now, false);
+
+        List<ClauseEntity> result = clauseMapper.findByContentKeyword("违约金");
+
+        assertEquals(List.of(titleMatch.getId(), partialTitle.getId(), contentOnly.getId()), ids(result));
+        assertEquals(List.of(contentOnly.getId()), ids(clauseMapper.findByContentKeyword("逾期交付")));
+        assertEquals(List.of(titleMatch.getId()), ids(clauseMapper.findByContentKeyword("任何一方违约")));
+    }
+
+    @Test
+    @DisplayName("英文关键词检索不区分大小写")
+    void findByContentKeyword_isCaseInsensitive() {
+        ClauseEntity clause = insert("Force Majeure", "Neither party shall be liable", LocalDateTime.now(), false);
+
+        assertEquals(List.of(clause.getId()), ids(clauseMapper.findByContentKeyword("force majeure")));
+        assertEquals(List.of(clause.getId()), ids(clauseMapper.findByContentKeyword("LIABLE")));
+    }
+
+    @Test
+    @DisplayName("分页检索按相关度排序时标题越相近越靠前，不按相关度时保持创建时间倒序")
+    void selectByFilters_ranksByRelevanceOnlyWhenRequested() {
+        // 三元组切词依赖数据库区域设置对字符的分类，排序断言使用英文以免受容器区域设置影响
+        LocalDateTime now = LocalDateTime.now();
+        ClauseEntity older = insert("Penalty", "The penalty is 5% of the contract price", now.minusDays(1), false);
+        ClauseEntity newer = insert("Miscellaneous", "A late payment penalty accrues daily", now, false);
+
+        List<ClauseEntity> ranked = clauseMapper.selectByFilters(new Page<>(1, 10), null, contractId, null, null,
+            null, "penalty", null, null, null, null, null, null, null, null, null, true).getRecords();
+        List<ClauseEntity> chronological = clauseMapper.selectByFilters(new Page<>(1, 10), null, contractId, null,
+            null, null, "penalty", null, null, null, null, null, null, null, null, null, false).getRecords();
+
+        assertEquals(List.of(older.getId(), newer.getId()), ids(ranked));
+        assertEquals(List.of(newer.getId(), older.getId()), ids(chronological));
+    }
+
+    @Test
+    @DisplayName("标题关键词与游标同时使用时只返回游标之后的记录")
+    void selectByFilters_appliesTitleKeywordWithCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        ClauseEntity first = insert("付款方式", "分三期付款", now, false);
+        ClauseEntity second = insert("付款期限", "验收后30日内付款", now.minusDays(1), false);
+        insert("保密条款", "双方应对合同内容保密", now.minusDays(2), false);
+
+        List<ClauseEntity> firstPage = clauseMapper.selectByFilters(new Page<>(1, 1, false), null, contractId, null,
+            null, "付款", null, null, null, null, null, null, null, null, null, null, false).getRecords();
+        ClauseEntity last = firstPage.get(0);
+        List<ClauseEntity> nextPage = clauseMapper.selectByFilters(new Page<>(1, 10, false), null, contractId, null,
+            null, "付款", null, null, null, null, null, null, null, null, last.getCreatedTime(), last.getId(), false)
+            .getRecords();
+
+        assertEquals(first.getId(), last.getId());
+        assertEquals(List.of(second.getId()), ids(nextPage));
+    }
+}
@@ -0,0 +1,100 @@
+package com.contract.management.infrastructure.messaging;
+
+import com.contract.management.domain.event.ClauseExtractionProgressEvent;
+import com.contract.management.domain.model.valueobject.ExtractionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 条款抽取进度订阅中心测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("条款抽取进度订阅中心测试")
+class ClauseExtractionProgressHubTest {
+
+    private ClauseExtractionProgressHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new ClauseExtractionProgressHub(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(hub, "timeoutMs", 60000L);
+        ReflectionTestUtils.setField(hub, "maxSubscribers", 2);
+    }
+
+    private static ClauseExtractionProgressEvent event(long extractionId, ExtractionStatus status) {
+        return ClauseExtractionProgressEvent.of(extractionId, 100L, status);
+    }
+
+    @Test
+    @DisplayName("订阅数达到上限时拒绝新订阅")
+    void subscribe_rejectsBeyondLimit() {
+        assertNotNull(hub.subscribe(1L, () -> event(1L, ExtractionStatus.PROCESSING)));
+        assertNotNull(hub.subscribe(2L, () -> event(2L, ExtractionStatus.PENDING)));
+
+        assertNull(hub.subscribe(3L, () -> event(3L, ExtractionStatus.PROCESSING)));
+        assertEquals(2, hub.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("快照已是终态时立即关闭连接，心跳时清理")
+    void subscribe_finalSnapshotCompletesImmediately() {
+        hub.subscribe(1L, () -> event(1L, ExtractionStatus.COMPLETED));
+
+        hub.heartbeat();
+
+        assertEquals(0, hub.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("进行中的事件保持连接，终态事件推送后关闭连接")
+    void dispatch_closesOnFinalState() {
+        hub.subscribe(1L, () -> event(1L, ExtractionStatus.PROCESSING));
+        hub.subscribe(2L, () -> event(2L, ExtractionStatus.PROCESSING));
+
+        ClauseExtractionProgressEvent windowDone = event(1L, ExtractionStatus.PROCESSING);
+        windowDone.setNewClauses(3);
+        windowDone.setSavedClauses(3);
+        hub.dispatch(windowDone);
+        hub.heartbeat();
+        assertEquals(2, hub.getSubscriberCount());
+
+        hub.dispatch(event(1L, ExtractionStatus.FAILED));
+        hub.heartbeat();
+        assertEquals(1, hub.getSubscriberCount());
+
+        hub.dispatch(event(99L, ExtractionStatus.COMPLETED));
+        assertEquals(1, hub.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("读取快照期间到达的终态事件推送给新订阅并关闭连接")
+    void subscribe_receivesFinalEventDispatchedWhileLoadingSnapshot() {
+        hub.subscribe(1L, () -> {
+            // 快照读到的是处理中，读取后、推送前任务完成
+            ClauseExtractionProgressEvent snapshot = event(1L, ExtractionStatus.PROCESSING);
+            hub.dispatch(event(1L, ExtractionStatus.COMPLETED));
+            return snapshot;
+        });
+
+        hub.heartbeat();
+
+        assertEquals(0, hub.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("读取快照失败时释放订阅名额")
+    void subscribe_releasesSlotWhenSnapshotFails() {
+        assertThrows(IllegalStateException.class, () -> hub.subscribe(1L, () -> {
+            throw new IllegalStateException("db down");
+        }));
+
+        assertEquals(0, hub.getSubscriberCount());
+    }
+}
@@ -0,0 +1,86 @@
+package com.contract.management.infrastructure.repository;
+
+import com.contract.management.domain.model.ClauseExtraction;
+import com.contract.management.domain.model.valueobject.ExtractionId;
+import com.contract.management.domain.model.valueobject.ExtractionStatus;
+import com.contract.management.infrastructure.entity.ClauseExtractionEntity;
+import com.contract.management.infrastructure.mapper.ClauseExtractionMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 条款抽取仓储实现测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("条款抽取仓储实现测试")
+class ClauseExtractionRepositoryImplTest {
+
+    private ClauseExtractionMapper clauseExtractionMapper;
+    private ClauseExtractionRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        clauseExtractionMapper = mock(ClauseExtractionMapper.class);
+        repository = new ClauseExtractionRepositoryImpl(clauseExtractionMapper);
+    }
+
+    private static ClauseExtractionEntity exhaustedJob() {
+        ClauseExtractionEntity entity = new ClauseExtractionEntity();
+        entity.setId(1L);
+        entity.setContractId(101L);
+        entity.setStatus(ExtractionStatus.FAILED.name());
+        entity.setErrorMessage("条款抽取任务多次中断，已超过最大领取次数");
+        entity.setFileUuid("file-1");
+        entity.setAttempts(3);
+        entity.setIsDeleted(false);
+        entity.setCreatedBy(1L);
+        entity.setCreatedTime(LocalDateTime.now().minusHours(1));
+        entity.setUpdatedTime(LocalDateTime.now().minusHours(1));
+        entity.setCompletedAt(LocalDateTime.now().minusHours(1));
+        entity.setObjectVersionNumber(2L);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("重试已用尽领取次数的任务时重置领取次数和租约")
+    void update_resetsClaimWhenRetryingExhaustedJob() {
+        when(clauseExtractionMapper.selectById(1L)).thenReturn(exhaustedJob());
+
+        ClauseExtraction extraction = repository.findById(ExtractionId.of(1L));
+        assertEquals(3, extraction.getAttempts());
+
+        extraction.resetForRetry();
+        assertEquals(0, extraction.getAttempts());
+        repository.update(extraction);
+
+        InOrder inOrder = inOrder(clauseExtractionMapper);
+        inOrder.verify(clauseExtractionMapper).updateById(argThat((ClauseExtractionEntity entity) ->
+            ExtractionStatus.PENDING.name().equals(entity.getStatus())));
+        inOrder.verify(clauseExtractionMapper).resetClaim(1L);
+    }
+
+    @Test
+    @DisplayName("非重新排队的更新不重置领取次数")
+    void update_keepsClaimForTerminalStatus() {
+        ClauseExtractionEntity processing = exhaustedJob();
+        processing.setStatus(ExtractionStatus.PROCESSING.name());
+        processing.setCompletedAt(null);
+        when(clauseExtractionMapper.selectById(1L)).thenReturn(processing);
+
+        ClauseExtraction extraction = repository.findById(ExtractionId.of(1L));
+        extraction.fail("模型调用失败");
+        repository.update(extraction);
+
+        verify(clauseExtractionMapper, never()).resetClaim(anyLong());
+    }
+}
@@ -10,13 +10,27 @@ import com.contract.common.constant.Currency;
 import com.contract.management.domain.model.Contract;
 import com.contract.management.domain.model.ContractId;
 import com.contract.management.infrastructure.converter.ContractConverter;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.contract.management.domain.repository.ContractBatchUpdateResult;
+import com.contract.management.domain.repository.ContractFilters;
+import com.contract.management.domain.repository.CountMode;
+import com.contract.management.domain.repository.KeysetCursor;
+import com.contract.management.domain.repository.KeysetPage;
 import com.contract.management.infrastructure.entity.ContractEntity;
+import com.contract.management.infrastructure.mapper.ContractMapper;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 /**
  * ContractRepositoryImpl测试类
@@ -80,6 +94,101 @@ public class ContractRepositoryImplTest {
         assertEquals(entity.getPartyBName(), contract.getPartyB().getName());
     }
 
+    @Test
+    public void testUpdateUsesCarriedVersionWithoutSelect() {
+        ContractMapper contractMapper = mock(ContractMapper.class);
+        ContractRepositoryImpl repository = new ContractRepositoryImpl(contractMapper, mock(JdbcTemplate.class));
+        when(contractMapper.updateById(any(ContractEntity.class))).thenReturn(1);
+
+        repository.update(ContractConverter.toDomain(createTestEntity()));
+
+        verify(contractMapper, never()).selectById(any());
+        verify(contractMapper).updateById(argThat((ContractEntity entity) -> entity.getObjectVersionNumber() == 0L));
+    }
+
+    @Test
+    public void testUpdateReportsOptimisticLockConflict() {
+        ContractMapper contractMapper = mock(ContractMapper.class);
+        ContractRepositoryImpl repository = new ContractRepositoryImpl(contractMapper, mock(JdbcTemplate.class));
+        when(contractMapper.updateById(any(ContractEntity.class))).thenReturn(0);
+
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> repository.update(ContractConverter.toDomain(createTestEntity())));
+    }
+
+    @Test
+    public void testUpdateAllReportsConflictsPerRow() {
+        ContractMapper contractMapper = mock(ContractMapper.class);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ContractRepositoryImpl repository = new ContractRepositoryImpl(contractMapper, jdbcTemplate);
+
+        ContractEntity first = createTestEntity();
+        ContractEntity second = createTestEntity();
+        second.setId(2L);
+        second.setObjectVersionNumber(3L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), any(int[].class))).thenReturn(new int[]{1, 0});
+
+        ContractBatchUpdateResult result = repository.updateAll(List.of(
+            ContractConverter.toDomain(first), ContractConverter.toDomain(second)));
+
+        assertEquals(1, result.getUpdatedContracts().size());
+        assertEquals(1L, result.getUpdatedContracts().get(0).getAuditInfo().getObjectVersionNumber());
+        assertEquals(List.of(ContractId.of(2L)), result.getConflictedIds());
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList(), any(int[].class));
+        verify(contractMapper, never()).selectById(any());
+    }
+
+    @Test
+    public void testKeysetPageReturnsNextCursorWithoutCount() {
+        ContractMapper contractMapper = mock(ContractMapper.class);
+        ContractRepositoryImpl repository = new ContractRepositoryImpl(contractMapper, mock(JdbcTemplate.class));
+
+        LocalDateTime createdTime = LocalDateTime.of(2025, 10, 1, 12, 0);
+        List<ContractEntity> rows = new ArrayList<>();
+        for (long id = 5; id >= 3; id--) {
+            ContractEntity entity = createTestEntity();
+            entity.setId(id);
+            entity.setCreatedTime(createdTime);
+            rows.add(entity);
+        }
+        when(contractMapper.selectPage(any(), any())).thenAnswer(invocation -> {
+            Page<ContractEntity> page = invocation.getArgument(0);
+            assertEquals(3L, page.getSize());
+            assertFalse(page.searchCount());
+            page.setRecords(rows);
+            return page;
+        });
+
+        KeysetPage<Contract> result = repository.findByFilters(ContractFilters.builder().build(),
+            KeysetCursor.of(createdTime, 6L), 2, CountMode.EXACT);
+
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.hasNext());
+        assertEquals(KeysetCursor.of(createdTime, 4L), KeysetCursor.decode(result.getNextToken()));
+        assertNull(result.getTotal());
+        verify(contractMapper, never()).estimateRowCount();
+    }
+
+    @Test
+    public void testKeysetFirstPageEstimatesTotalWhenUnfiltered() {
+        ContractMapper contractMapper = mock(ContractMapper.class);
+        ContractRepositoryImpl repository = new ContractRepositoryImpl(contractMapper, mock(JdbcTemplate.class));
+        when(contractMapper.selectPage(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(contractMapper.estimateRowCount()).thenReturn(120000L);
+
+        KeysetPage<Contract> result = repository.findByFilters(ContractFilters.builder().build(),
+            null, 20, CountMode.ESTIMATED);
+
+        assertEquals(120000L, result.getTotal());
+        assertFalse(result.isTotalExact());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    public void testKeysetCursorRejectsMalformedToken() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertNull(KeysetCursor.decode(null));
+    }
 
     /**
      * 创建测试合同
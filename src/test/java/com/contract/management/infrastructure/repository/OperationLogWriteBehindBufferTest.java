@@ -0,0 +1,113 @@
+package com.contract.management.infrastructure.repository;
+
+import com.contract.management.domain.model.OperationLog;
+import com.contract.management.domain.repository.OperationLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 操作日志异步批量写入缓冲测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("操作日志异步批量写入缓冲测试")
+class OperationLogWriteBehindBufferTest {
+
+    private OperationLogRepository operationLogRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private OperationLogWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        operationLogRepository = mock(OperationLogRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // 批量条数与周期足够大，由测试显式触发写入
+        buffer = new OperationLogWriteBehindBuffer(operationLogRepository, meterRegistry,
+            true, 4, 2, 100, 60_000, 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    private static OperationLog start(long extractionId) {
+        return OperationLog.createClauseExtractionStart(extractionId, 1L, 1L, "127.0.0.1");
+    }
+
+    private static OperationLog success(long extractionId) {
+        return OperationLog.createClauseExtractionSuccess(extractionId, 1L, 1L, "127.0.0.1", 100L, "ok");
+    }
+
+    @Test
+    @DisplayName("提交时不写库，写入时多条日志合并为一次批量写入")
+    void submit_batchesWrites() {
+        buffer.submit(success(1L));
+        buffer.submit(success(2L));
+        verifyNoInteractions(operationLogRepository);
+
+        buffer.flush();
+
+        verify(operationLogRepository, times(1)).saveAll(argThat(logs -> logs.size() == 2));
+        assertEquals(0, buffer.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("过载时丢弃低优先级日志，关键日志在调用线程同步写入")
+    void overload_shedsLowPriorityAndWritesCriticalInline() {
+        buffer.submit(start(1L));
+        buffer.submit(start(2L));
+        buffer.submit(start(3L));
+        assertEquals(1, meterRegistry.get("operation.log.buffer.dropped").counter().count());
+
+        buffer.submit(success(4L));
+        buffer.submit(success(5L));
+        verifyNoInteractions(operationLogRepository);
+
+        buffer.submit(success(6L));
+        verify(operationLogRepository, times(1))
+            .saveAll(argThat(logs -> logs.size() == 1 && logs.get(0).getResourceId() == 6L));
+        assertEquals(1, meterRegistry.get("operation.log.buffer.overflow").counter().count());
+        assertEquals(4, buffer.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("批量写入失败时逐条重试")
+    void writeFailure_retriesIndividually() {
+        doThrow(new RuntimeException("batch failed"))
+            .when(operationLogRepository).saveAll(argThat(logs -> logs.size() > 1));
+        buffer.submit(success(1L));
+        buffer.submit(success(2L));
+
+        buffer.flush();
+
+        verify(operationLogRepository, times(2)).saveAll(argThat(logs -> logs.size() == 1));
+    }
+
+    @Test
+    @DisplayName("停机时写入剩余日志，之后提交的日志同步写入")
+    void shutdown_drainsRemaining() {
+        List<OperationLog> written = new ArrayList<>();
+        doAnswer(invocation -> written.addAll(invocation.getArgument(0)))
+            .when(operationLogRepository).saveAll(anyList());
+        buffer.submit(success(1L));
+        buffer.submit(start(2L));
+
+        buffer.shutdown();
+        assertEquals(2, written.size());
+
+        buffer.submit(success(3L));
+        assertEquals(3, written.size());
+    }
+}
@@ -0,0 +1,185 @@
+package com.contract.management.infrastructure.service;
+
+import com.contract.ai.feign.client.AiClient;
+import com.contract.management.domain.model.Prompt;
+import com.contract.management.domain.model.valueobject.ComprehensiveClauseExtractionResult;
+import com.contract.management.infrastructure.ai.AiCallGovernor;
+import com.contract.management.infrastructure.cache.AiResultCache;
+import com.contract.management.infrastructure.util.PdfPageRenderer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 长文档分窗口条款抽取器测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("长文档分窗口条款抽取器测试")
+class ChunkedClauseExtractorTest {
+
+    private static final String PAYMENT_CONTENT = "甲方应在验收合格后30日内向乙方支付合同总价款的30%，逾期按日万分之五支付违约金。";
+
+    private static ComprehensiveClauseExtractionResult.ExtractedClause clause(String id, String type, String content,
+                                                                              Integer page, List<Integer> bbox,
+                                                                              Double confidence) {
+        List<ComprehensiveClauseExtractionResult.ClausePosition> positions = new ArrayList<>();
+        if (page != null) {
+            positions.add(ComprehensiveClauseExtractionResult.ClausePosition.builder()
+                .page(page)
+                .bbox(bbox)
+                .build());
+        }
+        return ComprehensiveClauseExtractionResult.ExtractedClause.builder()
+            .clauseId(id)
+            .clauseType(type)
+            .content(content)
+            .confidenceScore(confidence)
+            .positions(positions)
+            .build();
+    }
+
+    @Test
+    @DisplayName("窗口按步长滑动并覆盖到末页")
+    void planWindows_overlapsAndCoversLastPage() {
+        List<ChunkedClauseExtractor.PageWindow> windows = ChunkedClauseExtractor.planWindows(45, 10, 2);
+
+        assertEquals(6, windows.size());
+        assertEquals(1, windows.get(0).firstPage());
+        assertEquals(10, windows.get(0).lastPage());
+        assertEquals(9, windows.get(1).firstPage());
+        assertEquals(41, windows.get(5).firstPage());
+        assertEquals(45, windows.get(5).lastPage());
+        assertEquals(11, windows.get(1).toAbsolute(3));
+        assertEquals(99, windows.get(1).toAbsolute(99));
+    }
+
+    @Test
+    @DisplayName("页数不足一个窗口时只有一个窗口，窗口参数无效时拒绝")
+    void planWindows_edgeCases() {
+        assertEquals(1, ChunkedClauseExtractor.planWindows(10, 10, 2).size());
+        assertEquals(2, ChunkedClauseExtractor.planWindows(11, 10, 2).size());
+        assertThrows(IllegalArgumentException.class, () -> ChunkedClauseExtractor.planWindows(30, 5, 5));
+    }
+
+    @Test
+    @DisplayName("重叠页上位置相同的同类条款只保留先完成窗口的版本")
+    void merger_dropsOverlappingDuplicateByPosition() {
+        ChunkedClauseExtractor.ClauseMerger merger = new ChunkedClauseExtractor.ClauseMerger();
+        merger.accept(0, List.of(clause("w1-c1", "PAYMENT", PAYMENT_CONTENT, 9, List.of(50, 100, 545, 200), 0.9)));
+
+        List<ComprehensiveClauseExtractionResult.ExtractedClause> accepted = merger.accept(1, List.of(
+            clause("w2-c1", "payment", "甲方应在验收合格后30日内支付", 9, List.of(55, 105, 540, 210), 0.8),
+            clause("w2-c2", "PAYMENT", "尾款于质保期满后支付", 9, List.of(50, 400, 545, 480), 0.8)));
+
+        assertEquals(List.of("w2-c2"), accepted.stream().map(c -> c.getClauseId()).toList());
+        assertEquals(2, merger.getClauses().size());
+    }
+
+    @Test
+    @DisplayName("无位置信息时按规范化内容判重，类型不同或同一窗口内的条款不去重")
+    void merger_contentDuplicatesAcrossWindowsOnly() {
+        ChunkedClauseExtractor.ClauseMerger merger = new ChunkedClauseExtractor.ClauseMerger();
+        merger.accept(0, List.of(
+            clause("w1-c1", "PAYMENT", PAYMENT_CONTENT, null, null, 0.9),
+            clause("w1-c2", "PAYMENT", PAYMENT_CONTENT, null, null, 0.9)));
+
+        List<ComprehensiveClauseExtractionResult.ExtractedClause> accepted = merger.accept(1, List.of(
+            clause("w2-c1", "PAYMENT", "  " + PAYMENT_CONTENT.replace("，", "， \n"), null, null, 0.9),
+            clause("w2-c2", "BREACH", PAYMENT_CONTENT, null, null, 0.9),
+            clause("w2-c3", "PAYMENT", "30日内", null, null, 0.9)));
+
+        assertEquals(List.of("w2-c2", "w2-c3"), accepted.stream().map(c -> c.getClauseId()).toList());
+        assertEquals(4, merger.getClauses().size());
+    }
+
+    @Test
+    @DisplayName("边界框交并比计算")
+    void iou() {
+        assertEquals(1.0, ChunkedClauseExtractor.ClauseMerger.iou(List.of(0, 0, 10, 10), List.of(0, 0, 10, 10)));
+        assertEquals(0.0, ChunkedClauseExtractor.ClauseMerger.iou(List.of(0, 0, 10, 10), List.of(20, 20, 30, 30)));
+        assertEquals(1.0 / 3, ChunkedClauseExtractor.ClauseMerger.iou(List.of(0, 0, 10, 10), List.of(5, 0, 15, 10)), 1e-9);
+        assertEquals(0.0, ChunkedClauseExtractor.ClauseMerger.iou(List.of(0, 0, 10), List.of(0, 0, 10, 10)));
+    }
+
+    @Test
+    @DisplayName("组装结果：文档信息取首个非空值，质量指标按合并后的条款重新统计")
+    void assemble_recomputesMetrics() throws IOException {
+        ComprehensiveExtractionResponseParser parser = new ComprehensiveExtractionResponseParser(new ObjectMapper());
+        ComprehensiveClauseExtractionResult first = parser.parse("""
+            {"task_info": {"task_id": "t-1", "document_quality": "high"},
+             "document_info": {"document_type": "采购合同", "parties": {"party_a": "甲公司"}},
+             "structure": {"chapters": [{"title": "第一章", "page_start": 1}]},
+             "quality_metrics": {"pages_with_issues": [3], "ocr_confidence_avg": 0.9,
+                                 "recommended_review_clauses": ["w1-c1", "w1-c2"]}}
+            """);
+        ComprehensiveClauseExtractionResult second = parser.parse("""
+            {"document_info": {"parties": {"party_a": "丙公司", "party_b": "乙公司"}},
+             "structure": {"chapters": [{"title": "第一章", "page_start": 1}, {"title": "第二章", "page_start": 12}]},
+             "quality_metrics": {"pages_with_issues": [12, 3], "ocr_confidence_avg": 0.7}}
+            """);
+        List<ComprehensiveClauseExtractionResult.ExtractedClause> clauses = List.of(
+            clause("w2-c1", "PAYMENT", "尾款", 14, null, 0.6),
+            clause("w1-c1", "PAYMENT", PAYMENT_CONTENT, 2, null, 0.9),
+            clause("w2-c2", "BREACH", "违约金", null, null, 0.2));
+
+        ComprehensiveClauseExtractionResult result =
+            ChunkedClauseExtractor.assemble(25, List.of(first, second), clauses, 30);
+
+        assertEquals(List.of("w1-c1", "w2-c1", "w2-c2"), result.getClauses().stream().map(c -> c.getClauseId()).toList());
+        assertEquals(25, result.getDocumentInfo().getTotalPages());
+        assertEquals("甲公司", result.getDocumentInfo().getParties().getPartyA());
+        assertEquals("乙公司", result.getDocumentInfo().getParties().getPartyB());
+        assertEquals("high", result.getTaskInfo().getDocumentQuality());
+        assertEquals(2, result.getStructureInfo().getChapters().size());
+
+        ComprehensiveClauseExtractionResult.QualityMetrics metrics = result.getQualityMetrics();
+        assertEquals(3, metrics.getTotalClausesFound());
+        assertEquals(1, metrics.getHighConfidenceClauses());
+        assertEquals(1, metrics.getMediumConfidenceClauses());
+        assertEquals(1, metrics.getLowConfidenceClauses());
+        assertEquals(List.of(3, 12), metrics.getPagesWithIssues());
+        assertEquals(0.8, metrics.getOcrConfidenceAvg(), 1e-9);
+        assertEquals(List.of("w1-c1"), metrics.getRecommendedReviewClauses());
+    }
+
+    @Test
+    @DisplayName("所有窗口共用一个渲染会话，抽取结束后关闭")
+    void extract_opensOneRenderSessionForAllWindows() {
+        PdfPageRenderer pdfPageRenderer = mock(PdfPageRenderer.class);
+        PdfPageRenderer.RenderSession renderSession = mock(PdfPageRenderer.RenderSession.class);
+        Path pdfFile = Path.of("contract.pdf");
+        when(pdfPageRenderer.open(pdfFile)).thenReturn(renderSession);
+        AiResultCache aiResultCache = mock(AiResultCache.class);
+        when(aiResultCache.getOrLoad(anyString(), anyString(), any(), any())).thenReturn("{\"clauses\": []}");
+
+        ChunkedClauseExtractor extractor = new ChunkedClauseExtractor(mock(AiClient.class), mock(AiCallGovernor.class),
+            aiResultCache, pdfPageRenderer, new ComprehensiveExtractionResponseParser(new ObjectMapper()), Runnable::run);
+        ReflectionTestUtils.setField(extractor, "windowPages", 10);
+        ReflectionTestUtils.setField(extractor, "overlapPages", 2);
+        ReflectionTestUtils.setField(extractor, "maxConcurrentWindows", 3);
+        ReflectionTestUtils.setField(extractor, "dpi", 150);
+        ReflectionTestUtils.setField(extractor, "imageFormat", "JPEG");
+        ReflectionTestUtils.setField(extractor, "quality", 0.8f);
+        AtomicInteger completedWindows = new AtomicInteger();
+
+        extractor.extract(pdfFile, 45, "hash", mock(Prompt.class), mock(ClauseExtractionMetrics.Recording.class),
+            (clauses, completed, total) -> completedWindows.set(completed));
+
+        assertEquals(ChunkedClauseExtractor.planWindows(45, 10, 2).size(), completedWindows.get());
+        verify(pdfPageRenderer, times(1)).open(pdfFile);
+        verify(renderSession).close();
+    }
+}
@@ -0,0 +1,84 @@
+package com.contract.management.infrastructure.service;
+
+import com.contract.management.infrastructure.service.ClauseExtractionMetrics.Stage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 条款抽取分阶段指标测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("条款抽取分阶段指标测试")
+class ClauseExtractionMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private ClauseExtractionMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new ClauseExtractionMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("结束时各阶段样本使用同一组最终标签")
+    void finish_recordsStagesWithFinalTags() {
+        ClauseExtractionMetrics.Recording recording = metrics.start();
+        recording.record(Stage.FILE_METADATA, TimeUnit.MILLISECONDS.toNanos(5));
+        recording.fileType("contract.pdf");
+        recording.pageCount(32);
+        recording.model("glm-4.5v");
+        recording.record(Stage.AI_CALL, TimeUnit.MILLISECONDS.toNanos(800));
+        recording.record(Stage.AI_CALL, TimeUnit.MILLISECONDS.toNanos(600));
+
+        recording.finish(true);
+
+        Timer metadata = registry.get(ClauseExtractionMetrics.STAGE_TIMER)
+            .tags("stage", "file_metadata", "file_type", "pdf", "pages", "21-50", "model", "glm-4.5v",
+                "outcome", "success")
+            .timer();
+        Timer aiCall = registry.get(ClauseExtractionMetrics.STAGE_TIMER)
+            .tags("stage", "ai_call", "pages", "21-50")
+            .timer();
+        assertEquals(1, metadata.count());
+        assertEquals(2, aiCall.count());
+        assertEquals(1400, aiCall.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, registry.get(ClauseExtractionMetrics.DURATION_TIMER).tags("outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("阶段抛出异常时仍记录耗时，失败抽取以failure标签记录")
+    void time_recordsOnException() {
+        ClauseExtractionMetrics.Recording recording = metrics.start();
+
+        assertThrows(IllegalStateException.class, () -> recording.time(Stage.DOWNLOAD, (Runnable) () -> {
+            throw new IllegalStateException("download failed");
+        }));
+        recording.finish(false);
+
+        Timer download = registry.get(ClauseExtractionMetrics.STAGE_TIMER)
+            .tags("stage", "download", "file_type", "unknown", "outcome", "failure")
+            .timer();
+        assertEquals(1, download.count());
+    }
+
+    @Test
+    @DisplayName("页数按区间分桶")
+    void pageBucket() {
+        assertEquals("none", ClauseExtractionMetrics.pageBucket(null));
+        assertEquals("1-5", ClauseExtractionMetrics.pageBucket(5));
+        assertEquals("6-20", ClauseExtractionMetrics.pageBucket(20));
+        assertEquals("21-50", ClauseExtractionMetrics.pageBucket(21));
+        assertEquals("51-100", ClauseExtractionMetrics.pageBucket(100));
+        assertEquals("100+", ClauseExtractionMetrics.pageBucket(101));
+    }
+}
@@ -0,0 +1,142 @@
+package com.contract.management.infrastructure.service;
+
+import com.contract.management.domain.model.valueobject.ComprehensiveClauseExtractionResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 一体化条款抽取响应流式解析器测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("一体化条款抽取响应流式解析器测试")
+class ComprehensiveExtractionResponseParserTest {
+
+    private final ComprehensiveExtractionResponseParser parser =
+        new ComprehensiveExtractionResponseParser(new ObjectMapper());
+
+    private static final String RESPONSE = """
+        {
+          "task_info": {"task_id": "t-1", "processing_time": 12, "document_quality": "high"},
+          "document_info": {
+            "total_pages": 8, "document_type": "采购合同",
+            "parties": {"party_a": "甲公司", "party_b": "乙公司"},
+            "contract_date": "2024-01-01", "contract_amount": "100万元"
+          },
+          "structure": {
+            "chapters": [
+              {"title": "第一章", "page_start": 1, "page_end": 3, "level": 1,
+               "subsections": [{"title": "1.1", "page": 1}]}
+            ],
+            "special_areas": [{"type": "table", "pages": [2, 3], "description": "报价表"}]
+          },
+          "clauses": [
+            {
+              "clause_id": "c-1", "clause_type": "PAYMENT", "clause_title": "付款",
+              "content": "验收后30日内付款", "confidence_score": 0.93, "risk_level": "medium",
+              "extracted_entities": {"payment_period": "30日", "payment_amount": "30%"},
+              "risk_factors": [{"factor": "付款周期长", "severity": "medium"}],
+              "positions": [{"page": 2, "bbox": [10, 20, 300, 40], "context": "第五条", "text_snippet": "验收后"}],
+              "related_chapters": ["第一章"]
+            },
+            {"clause_id": "c-2", "clause_type": "BREACH", "content": "违约金", "confidence_score": 1}
+          ],
+          "quality_metrics": {
+            "total_clauses_found": 2, "high_confidence_clauses": 1,
+            "pages_with_issues": [4], "ocr_confidence_avg": 0.88,
+            "recommended_review_clauses": ["c-1"]
+          }
+        }
+        """;
+
+    @Test
+    @DisplayName("完整响应解析出全部字段，并按顺序回调条款")
+    void parse_readsAllSectionsAndEmitsClauses() throws IOException {
+        List<String> emitted = new ArrayList<>();
+
+        ComprehensiveClauseExtractionResult result = parser.parse(RESPONSE, clause -> emitted.add(clause.getClauseId()));
+
+        assertEquals(List.of("c-1", "c-2"), emitted);
+        assertEquals("t-1", result.getTaskInfo().getExtractionTaskId());
+        assertEquals(12, result.getTaskInfo().getProcessingTime());
+        assertEquals(8, result.getDocumentInfo().getTotalPages());
+        assertEquals("乙公司", result.getDocumentInfo().getParties().getPartyB());
+        assertEquals("1.1", result.getStructureInfo().getChapters().get(0).getSubsections().get(0).getTitle());
+        assertEquals(List.of(2, 3), result.getStructureInfo().getSpecialAreas().get(0).getPages());
+
+        ComprehensiveClauseExtractionResult.ExtractedClause first = result.getClauses().get(0);
+        assertEquals("验收后30日内付款", first.getContent());
+        assertEquals(0.93, first.getConfidenceScore());
+        assertEquals("30日", first.getExtractedEntities().getPaymentPeriod());
+        assertEquals("付款周期长", first.getRiskFactors().get(0).getFactor());
+        assertEquals(List.of(10, 20, 300, 40), first.getPositions().get(0).getBbox());
+        assertEquals(List.of("第一章"), first.getRelatedChapters());
+        assertNotNull(first.getExtractedAt());
+
+        ComprehensiveClauseExtractionResult.ExtractedClause second = result.getClauses().get(1);
+        assertEquals(1.0, second.getConfidenceScore());
+        assertNotNull(second.getExtractedEntities());
+        assertTrue(second.getPositions().isEmpty());
+
+        assertEquals(2, result.getQualityMetrics().getTotalClausesFound());
+        assertEquals(List.of(4), result.getQualityMetrics().getPagesWithIssues());
+        assertEquals(List.of("c-1"), result.getQualityMetrics().getRecommendedReviewClauses());
+    }
+
+    @Test
+    @DisplayName("类型不符与未知字段被跳过")
+    void parse_toleratesWrongTypesAndUnknownFields() throws IOException {
+        String response = """
+            {
+              "model_notes": {"nested": [1, {"deep": true}]},
+              "task_info": {"task_id": 42, "processing_time": "12", "document_quality": null},
+              "clauses": [
+                "not an object",
+                {"clause_id": "c-1", "confidence_score": "0.9", "positions": {"page": 1},
+                 "related_chapters": ["第一章", 2, null], "extra": [[1]]}
+              ],
+              "quality_metrics": {"total_clauses_found": 2.5, "pages_with_issues": [1, "2", 3.0, 4]}
+            }
+            """;
+
+        ComprehensiveClauseExtractionResult result = parser.parse(response);
+
+        assertNull(result.getTaskInfo().getExtractionTaskId());
+        assertNull(result.getTaskInfo().getProcessingTime());
+        assertEquals(1, result.getClauses().size());
+        ComprehensiveClauseExtractionResult.ExtractedClause clause = result.getClauses().get(0);
+        assertEquals("c-1", clause.getClauseId());
+        assertNull(clause.getConfidenceScore());
+        assertTrue(clause.getPositions().isEmpty());
+        assertEquals(List.of("第一章"), clause.getRelatedChapters());
+        assertNull(result.getQualityMetrics().getTotalClausesFound());
+        assertEquals(List.of(1, 4), result.getQualityMetrics().getPagesWithIssues());
+    }
+
+    @Test
+    @DisplayName("缺失的部分返回空对象与空列表")
+    void parse_missingSectionsYieldEmptyDefaults() throws IOException {
+        ComprehensiveClauseExtractionResult result = parser.parse("{}");
+
+        assertNotNull(result.getTaskInfo());
+        assertNotNull(result.getDocumentInfo().getParties());
+        assertTrue(result.getStructureInfo().getChapters().isEmpty());
+        assertTrue(result.getClauses().isEmpty());
+        assertTrue(result.getQualityMetrics().getPagesWithIssues().isEmpty());
+    }
+
+    @Test
+    @DisplayName("JSON格式错误时抛出异常")
+    void parse_rejectsMalformedJson() {
+        assertThrows(IOException.class, () -> parser.parse("{\"clauses\": [{\"clause_id\": \"c-1\""));
+        assertThrows(IOException.class, () -> parser.parse("```json\n{}\n```"));
+    }
+}
@@ -0,0 +1,121 @@
+package com.contract.management.infrastructure.service;
+
+import com.contract.common.constant.ContractType;
+import com.contract.management.infrastructure.dto.ContractClassificationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 分级合同分类引擎测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("分级合同分类引擎测试")
+class TieredContractClassifierTest {
+
+    private static final String FILE_UUID = "file-uuid";
+    private static final byte[] PDF = new byte[]{1, 2, 3};
+
+    private AIModelService aiModelService;
+    private FileProcessingService fileProcessingService;
+    private TieredContractClassifier classifier;
+
+    @BeforeEach
+    void setUp() {
+        aiModelService = mock(AIModelService.class);
+        fileProcessingService = mock(FileProcessingService.class);
+        classifier = new TieredContractClassifier(aiModelService, fileProcessingService,
+            new KeywordContractClassifier(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(classifier, "keywordConfidence", 0.85);
+        ReflectionTestUtils.setField(classifier, "textConfidence", 0.75);
+        ReflectionTestUtils.setField(classifier, "minTextChars", 20);
+    }
+
+    private static ContractClassificationResult aiResult(ContractType type, double confidence, boolean success) {
+        return ContractClassificationResult.builder()
+            .contractType(type)
+            .confidence(confidence)
+            .success(success)
+            .build();
+    }
+
+    @Test
+    @DisplayName("特征明显的电子版PDF由关键词分类直接得出结果，不调用大模型")
+    void classifyPdf_keywordHitSkipsModels() throws Exception {
+        String text = "房屋租赁合同\n出租人：张三\n承租人：李四\n租金每月三千元，租赁期一年，押金一个月租金。"
+            + "承租人应按时支付租金，出租人应保证房屋可正常使用。";
+
+        ContractClassificationResult result = classifier.classifyPdf(FILE_UUID, text, PDF);
+
+        assertEquals(ContractType.LEASE, result.getContractType());
+        assertEquals(KeywordContractClassifier.METHOD, result.getClassificationMethod());
+        assertTrue(result.getConfidence() >= 0.85);
+        verifyNoInteractions(aiModelService, fileProcessingService);
+    }
+
+    @Test
+    @DisplayName("文本大模型置信度足够时不渲染页面")
+    void classifyPdf_confidentTextResultSkipsVision() throws Exception {
+        String text = "本协议由甲乙双方在平等自愿的基础上协商一致签订，双方应遵守以下各项约定并履行相应义务。";
+        when(aiModelService.classifyByText(text)).thenReturn(aiResult(ContractType.SERVICE, 0.9, true));
+
+        ContractClassificationResult result = classifier.classifyPdf(FILE_UUID, text, PDF);
+
+        assertEquals(ContractType.SERVICE, result.getContractType());
+        assertEquals(TieredContractClassifier.TEXT_METHOD, result.getClassificationMethod());
+        verifyNoInteractions(fileProcessingService);
+        verify(aiModelService, never()).classifyByPDFImages(any());
+    }
+
+    @Test
+    @DisplayName("文本大模型置信度不足时升级到视觉模型")
+    void classifyPdf_lowConfidenceEscalatesToVision() throws Exception {
+        String text = "本协议由甲乙双方在平等自愿的基础上协商一致签订，双方应遵守以下各项约定并履行相应义务。";
+        List<byte[]> images = List.of(new byte[]{9});
+        when(aiModelService.classifyByText(text)).thenReturn(aiResult(ContractType.SERVICE, 0.5, true));
+        when(fileProcessingService.extractImagesFromPDF(FILE_UUID, PDF)).thenReturn(images);
+        when(aiModelService.classifyByPDFImages(images)).thenReturn(aiResult(ContractType.PURCHASE, 0.92, true));
+
+        ContractClassificationResult result = classifier.classifyPdf(FILE_UUID, text, PDF);
+
+        assertEquals(ContractType.PURCHASE, result.getContractType());
+        assertEquals(TieredContractClassifier.PDF_IMAGE_METHOD, result.getClassificationMethod());
+    }
+
+    @Test
+    @DisplayName("扫描件没有文字层时直接使用视觉模型")
+    void classifyPdf_scannedPdfGoesStraightToVision() throws Exception {
+        List<byte[]> images = List.of(new byte[]{9});
+        when(fileProcessingService.extractImagesFromPDF(FILE_UUID, PDF)).thenReturn(images);
+        when(aiModelService.classifyByPDFImages(images)).thenReturn(aiResult(ContractType.SALES, 0.88, true));
+
+        ContractClassificationResult result = classifier.classifyPdf(FILE_UUID, "  \n \f ", PDF);
+
+        assertEquals(ContractType.SALES, result.getContractType());
+        verify(aiModelService, never()).classifyByText(anyString());
+    }
+
+    @Test
+    @DisplayName("视觉模型失败时回退到低置信度的文本结果")
+    void classifyPdf_visionFailureFallsBackToTextResult() throws Exception {
+        String text = "本协议由甲乙双方在平等自愿的基础上协商一致签订，双方应遵守以下各项约定并履行相应义务。";
+        when(aiModelService.classifyByText(text)).thenReturn(aiResult(ContractType.SERVICE, 0.5, true));
+        when(fileProcessingService.extractImagesFromPDF(FILE_UUID, PDF)).thenReturn(List.of());
+        when(aiModelService.classifyByPDFImages(any())).thenReturn(aiResult(ContractType.OTHER, 0.0, false));
+
+        ContractClassificationResult result = classifier.classifyPdf(FILE_UUID, text, PDF);
+
+        assertEquals(ContractType.SERVICE, result.getContractType());
+        assertEquals(TieredContractClassifier.TEXT_METHOD, result.getClassificationMethod());
+    }
+}
@@ -0,0 +1,36 @@
+package com.contract.management.infrastructure.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 内容哈希工具类测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("内容哈希工具类测试")
+class ContentHasherTest {
+
+    @Test
+    @DisplayName("多段内容哈希区分分段边界")
+    void sha256_listIsBoundaryAware() {
+        String joined = ContentHasher.sha256(List.of("ab".getBytes(), "c".getBytes()));
+        String shifted = ContentHasher.sha256(List.of("a".getBytes(), "bc".getBytes()));
+
+        assertNotEquals(joined, shifted);
+        assertEquals(64, joined.length());
+    }
+
+    @Test
+    @DisplayName("文本按UTF-8编码计算哈希")
+    void sha256_textUsesUtf8() {
+        assertEquals(ContentHasher.sha256("合同".getBytes(StandardCharsets.UTF_8)), ContentHasher.sha256("合同"));
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", ContentHasher.sha256(""));
+    }
+}
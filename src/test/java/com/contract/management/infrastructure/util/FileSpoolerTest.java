@@ -0,0 +1,62 @@
+package com.contract.management.infrastructure.util;
+
+import com.contract.management.domain.exception.FileProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FileSpooler测试类
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+class FileSpoolerTest {
+
+    private FileSpooler fileSpooler;
+
+    @BeforeEach
+    void setUp() {
+        fileSpooler = new FileSpooler();
+        ReflectionTestUtils.setField(fileSpooler, "maxFileSize", 16L);
+        ReflectionTestUtils.setField(fileSpooler, "spoolDir", "");
+    }
+
+    @Test
+    void testSpoolWritesTempFileAndDeletesOnClose() throws Exception {
+        byte[] content = "contract".getBytes();
+        Path path;
+
+        try (FileSpooler.SpooledFile spooledFile = fileSpooler.spool(new ByteArrayInputStream(content), "a.pdf")) {
+            path = spooledFile.getPath();
+            assertEquals(content.length, spooledFile.getSize());
+            assertFalse(spooledFile.isEmpty());
+            assertTrue(path.toString().endsWith(".pdf"));
+            assertArrayEquals(content, Files.readAllBytes(path));
+            assertEquals(ContentHasher.sha256(content), spooledFile.getSha256());
+        }
+
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    void testSpoolRejectsOversizedFile() {
+        byte[] content = new byte[32];
+
+        assertThrows(FileProcessingException.class,
+            () -> fileSpooler.spool(new ByteArrayInputStream(content), "big.pdf"));
+    }
+
+    @Test
+    void testSpoolEmptyStream() {
+        try (FileSpooler.SpooledFile spooledFile = fileSpooler.spool(new ByteArrayInputStream(new byte[0]), null)) {
+            assertTrue(spooledFile.isEmpty());
+        }
+    }
+}
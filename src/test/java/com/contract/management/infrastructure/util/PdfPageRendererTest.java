@@ -0,0 +1,142 @@
+package com.contract.management.infrastructure.util;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PDF并行渲染引擎测试
+ *
+ * @author SaltyFish
+ * @since 1.0.0
+ */
+@DisplayName("PDF并行渲染引擎测试")
+class PdfPageRendererTest {
+
+    private static final PdfPageRenderer.RenderOptions OPTIONS =
+        PdfPageRenderer.RenderOptions.builder().dpi(36).imageFormat("PNG").build();
+
+    private byte[] pdfBytes;
+    private AtomicInteger loads;
+    private PdfPageRenderer renderer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pdfBytes = createPdf(8);
+        loads = new AtomicInteger();
+        renderer = new PdfPageRenderer(2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        renderer.shutdown();
+    }
+
+    private PdfPageRenderer.RenderSession openCounting() {
+        return renderer.open(() -> {
+            loads.incrementAndGet();
+            return Loader.loadPDF(pdfBytes);
+        });
+    }
+
+    @Test
+    @DisplayName("少量页面只解析一次文档")
+    void renderPages_parsesOnceForSmallRange() {
+        try (PdfPageRenderer.RenderSession session = openCounting()) {
+            assertEquals(8, session.getPageCount());
+
+            assertEquals(2, session.renderPages(0, 2, OPTIONS).size());
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("大区间并行渲染结果与串行渲染一致且按页码排列")
+    void renderPages_parallelMatchesSerial() {
+        PdfPageRenderer serialRenderer = new PdfPageRenderer(1, 1);
+        List<byte[]> serial = serialRenderer.renderAll(pdfBytes, OPTIONS);
+        serialRenderer.shutdown();
+
+        try (PdfPageRenderer.RenderSession session = openCounting()) {
+            List<byte[]> parallel = session.renderPages(0, Integer.MAX_VALUE, OPTIONS);
+
+            assertEquals(8, parallel.size());
+            for (int i = 0; i < serial.size(); i++) {
+                assertArrayEquals(serial.get(i), parallel.get(i), "第" + (i + 1) + "页");
+            }
+        }
+        // 每个工作线程最多解析一份文档，先完成的区间归还的文档可能被后启动的区间复用
+        assertTrue(loads.get() <= 2);
+    }
+
+    @Test
+    @DisplayName("同一会话内多次渲染复用已解析的文档")
+    void renderPages_reusesDocumentsAcrossCalls() {
+        try (PdfPageRenderer.RenderSession session = openCounting()) {
+            session.renderPages(0, 4, OPTIONS);
+            session.renderPages(4, 4, OPTIONS);
+            session.renderPages(6, 10, OPTIONS);
+        }
+
+        assertTrue(loads.get() <= 2);
+    }
+
+    @Test
+    @DisplayName("超出页数的区间返回空列表")
+    void renderPages_returnsEmptyBeyondLastPage() {
+        try (PdfPageRenderer.RenderSession session = openCounting()) {
+            assertTrue(session.renderPages(8, 2, OPTIONS).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("从本地文件打开会话渲染")
+    void open_rendersFromFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("contract.pdf");
+        Files.write(file, pdfBytes);
+
+        try (PdfPageRenderer.RenderSession session = renderer.open(file)) {
+            assertEquals(8, session.getPageCount());
+            assertEquals(3, session.renderPages(5, 3, OPTIONS).size());
+        }
+    }
+
+    private static byte[] createPdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int i = 0; i < pages; i++) {
+                PDPage page = new PDPage(PDRectangle.A4);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 24);
+                    content.newLineAtOffset(50, 700);
+                    content.showText("Page " + (i + 1));
+                    content.endText();
+                }
+            }
+            document.save(baos);
+            return baos.toByteArray();
+        }
+    }
+}
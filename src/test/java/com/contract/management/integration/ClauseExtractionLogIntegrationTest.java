@@ -3,13 +3,9 @@ package com.contract.management.integration;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doAnswer;
 
 import com.contract.management.application.service.OperationLogApplicationService;
 import com.contract.management.domain.model.OperationLog;
-import com.contract.management.domain.model.valueobject.ExtractionId;
 import com.contract.management.domain.service.ClauseExtractionDomainService;
 import com.contract.management.infrastructure.service.ClauseExtractionService;
 import org.junit.jupiter.api.Test;
@@ -19,7 +15,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * 条款抽取和操作日志集成测试
@@ -37,6 +32,9 @@ class ClauseExtractionLogIntegrationTest {
     @Autowired
     private ClauseExtractionDomainService clauseExtractionDomainService;
 
+    /**
+     * 任务创建后由工作节点领取执行，模拟抽取服务避免测试中真正调用模型
+     */
     @MockBean
     private ClauseExtractionService clauseExtractionService;
 
@@ -47,26 +45,13 @@ class ClauseExtractionLogIntegrationTest {
         Long userId = 1L;
         String fileUuid = "test-file-uuid";
 
-        // 模拟异步执行成功
-        doAnswer(invocation -> {
-            // 模拟异步执行
-            CompletableFuture.runAsync(() -> {
-                try {
-                    Thread.sleep(100); // 模拟处理时间
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            });
-            return null;
-        }).when(clauseExtractionService).extractClausesAsync(any(ExtractionId.class), eq(contractId), eq(fileUuid));
-
         // When - 执行条款抽取
         clauseExtractionDomainService.performExtractionAsync(contractId, userId, fileUuid);
 
         // Then - 验证日志记录
-        // 注意：由于异步执行，可能需要等待一段时间
+        // 注意：操作日志经异步缓冲批量写入，需要等待超过一个刷新间隔
         try {
-            Thread.sleep(200);
+            Thread.sleep(1000);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }